@@ -0,0 +1,108 @@
+package com.tsurugidb.iceaxe.bench;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+
+/**
+ * entity for benchmark.
+ */
+public class BenchEntity {
+
+    /** column name list */
+    public static final List<String> NAME_LIST = List.of("id", "count", "name", "amount", "score");
+    /** column type list */
+    public static final List<TgDataType> TYPE_LIST = List.of(TgDataType.INT, TgDataType.LONG, TgDataType.STRING, TgDataType.DECIMAL, TgDataType.DOUBLE);
+
+    /**
+     * create row list.
+     *
+     * @param size number of rows
+     * @return row list
+     */
+    public static List<List<Object>> createRowList(int size) {
+        var rowList = new ArrayList<List<Object>>(size);
+        for (int i = 0; i < size; i++) {
+            rowList.add(List.of(i, i * 10L, "name" + i, BigDecimal.valueOf(i, 2), i / 3d));
+        }
+        return rowList;
+    }
+
+    /**
+     * create result set.
+     *
+     * @param size number of rows
+     * @return result set
+     */
+    public static BenchResultSet createResultSet(int size) {
+        return new BenchResultSet(NAME_LIST, TYPE_LIST, createRowList(size));
+    }
+
+    private int id;
+    private long count;
+    private String name;
+    private BigDecimal amount;
+    private double score;
+
+    /**
+     * Creates a new instance.
+     */
+    public BenchEntity() {
+        // do nothing
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param id id
+     */
+    public BenchEntity(int id) {
+        this.id = id;
+        this.count = id * 10L;
+        this.name = "name" + id;
+        this.amount = BigDecimal.valueOf(id, 2);
+        this.score = id / 3d;
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public BigDecimal getAmount() {
+        return this.amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public double getScore() {
+        return this.score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,46 @@
+package com.tsurugidb.iceaxe.bench;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * completed FutureResponse for benchmark.
+ *
+ * @param <V> result type
+ */
+public class BenchFutureResponse<V> implements FutureResponse<V> {
+
+    private final V value;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param value result value
+     */
+    public BenchFutureResponse(V value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isDone() {
+        return true;
+    }
+
+    @Override
+    public V get() throws IOException, ServerException, InterruptedException {
+        return this.value;
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit) throws IOException, ServerException, InterruptedException {
+        return this.value;
+    }
+
+    @Override
+    public void close() throws IOException, ServerException, InterruptedException {
+        // do nothing
+    }
+}
@@ -0,0 +1,190 @@
+package com.tsurugidb.iceaxe.bench;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+import com.tsurugidb.tsubakuro.sql.io.DateTimeInterval;
+
+/**
+ * in-process ResultSet for benchmark.
+ * <p>
+ * The rows are held in memory, and {@link #nextRow()} starts over from the first row after the last row, so that the benchmark can read rows endlessly.
+ * </p>
+ */
+public class BenchResultSet implements ResultSet {
+
+    private final List<String> nameList;
+    private final List<TgDataType> typeList;
+    private final List<List<Object>> rowList;
+    private final ResultSetMetadata metadata;
+    private int rowIndex = -1;
+    private int index = -1;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param nameList column name list
+     * @param typeList column type list
+     * @param rowList  row list
+     */
+    public BenchResultSet(List<String> nameList, List<TgDataType> typeList, List<List<Object>> rowList) {
+        this.nameList = nameList;
+        this.typeList = typeList;
+        this.rowList = rowList;
+
+        var columnList = new ArrayList<Column>(typeList.size());
+        for (int i = 0; i < typeList.size(); i++) {
+            columnList.add(Column.newBuilder().setName(nameList.get(i)).setAtomType(typeList.get(i).getLowDataType()).build());
+        }
+        this.metadata = new ResultSetMetadata() {
+            @Override
+            public List<? extends Column> getColumns() {
+                return columnList;
+            }
+        };
+    }
+
+    /**
+     * get column name list.
+     *
+     * @return column name list
+     */
+    public List<String> getNameList() {
+        return this.nameList;
+    }
+
+    @Override
+    public ResultSetMetadata getMetadata() throws IOException, ServerException, InterruptedException {
+        return this.metadata;
+    }
+
+    @Override
+    public boolean nextRow() throws IOException, ServerException, InterruptedException {
+        this.index = -1;
+        if (++rowIndex >= rowList.size()) {
+            this.rowIndex = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean nextColumn() throws IOException, ServerException, InterruptedException {
+        return ++index < typeList.size();
+    }
+
+    private Object getValue() {
+        return rowList.get(rowIndex).get(index);
+    }
+
+    @Override
+    public boolean isNull() {
+        return getValue() == null;
+    }
+
+    @Override
+    public boolean fetchBooleanValue() throws IOException, ServerException, InterruptedException {
+        return (Boolean) getValue();
+    }
+
+    @Override
+    public int fetchInt4Value() throws IOException, ServerException, InterruptedException {
+        return (Integer) getValue();
+    }
+
+    @Override
+    public long fetchInt8Value() throws IOException, ServerException, InterruptedException {
+        return (Long) getValue();
+    }
+
+    @Override
+    public float fetchFloat4Value() throws IOException, ServerException, InterruptedException {
+        return (Float) getValue();
+    }
+
+    @Override
+    public double fetchFloat8Value() throws IOException, ServerException, InterruptedException {
+        return (Double) getValue();
+    }
+
+    @Override
+    public BigDecimal fetchDecimalValue() throws IOException, ServerException, InterruptedException {
+        return (BigDecimal) getValue();
+    }
+
+    @Override
+    public String fetchCharacterValue() throws IOException, ServerException, InterruptedException {
+        return (String) getValue();
+    }
+
+    @Override
+    public byte[] fetchOctetValue() throws IOException, ServerException, InterruptedException {
+        return (byte[]) getValue();
+    }
+
+    @Override
+    public boolean[] fetchBitValue() throws IOException, ServerException, InterruptedException {
+        return (boolean[]) getValue();
+    }
+
+    @Override
+    public LocalDate fetchDateValue() throws IOException, ServerException, InterruptedException {
+        return (LocalDate) getValue();
+    }
+
+    @Override
+    public LocalTime fetchTimeOfDayValue() throws IOException, ServerException, InterruptedException {
+        return (LocalTime) getValue();
+    }
+
+    @Override
+    public LocalDateTime fetchTimePointValue() throws IOException, ServerException, InterruptedException {
+        return (LocalDateTime) getValue();
+    }
+
+    @Override
+    public OffsetTime fetchTimeOfDayWithTimeZoneValue() throws IOException, ServerException, InterruptedException {
+        return (OffsetTime) getValue();
+    }
+
+    @Override
+    public OffsetDateTime fetchTimePointWithTimeZoneValue() throws IOException, ServerException, InterruptedException {
+        return (OffsetDateTime) getValue();
+    }
+
+    @Override
+    public DateTimeInterval fetchDateTimeIntervalValue() throws IOException, ServerException, InterruptedException {
+        return (DateTimeInterval) getValue();
+    }
+
+    @Override
+    public int beginArrayValue() throws IOException, ServerException, InterruptedException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void endArrayValue() throws IOException, ServerException, InterruptedException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int beginRowValue() throws IOException, ServerException, InterruptedException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void endRowValue() throws IOException, ServerException, InterruptedException {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,72 @@
+package com.tsurugidb.iceaxe.bench;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.sql.proto.SqlRequest.CommitStatus;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * session for benchmark.
+ * <p>
+ * The transactions are created without the server. commit and rollback complete immediately.
+ * </p>
+ */
+public class BenchSession extends TsurugiSession {
+
+    private static final AtomicInteger TRANSACTION_COUNT = new AtomicInteger(0);
+
+    /**
+     * in-process transaction.
+     */
+    private static class BenchTransaction implements Transaction {
+        private final String transactionId = "BENCH-" + TRANSACTION_COUNT.incrementAndGet();
+
+        @Override
+        public String getTransactionId() {
+            return this.transactionId;
+        }
+
+        @Override
+        public FutureResponse<Void> commit(CommitStatus status) throws IOException {
+            return new BenchFutureResponse<>(null);
+        }
+
+        @Override
+        public FutureResponse<Void> rollback() throws IOException {
+            return new BenchFutureResponse<>(null);
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+    }
+
+    /**
+     * Creates a new instance.
+     */
+    public BenchSession() {
+        super(null, TgSessionOption.of());
+    }
+
+    @Override
+    public TsurugiTransaction createTransaction(@Nonnull TgTxOption txOption, @Nullable Consumer<TsurugiTransaction> initializer) throws IOException, InterruptedException {
+        checkClose();
+
+        var transaction = new TsurugiTransaction(this, new BenchFutureResponse<>(new BenchTransaction()), txOption);
+        if (initializer != null) {
+            initializer.accept(transaction);
+        }
+        return transaction;
+    }
+}
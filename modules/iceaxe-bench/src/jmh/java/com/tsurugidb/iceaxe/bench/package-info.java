@@ -0,0 +1,4 @@
+/**
+ * Iceaxe benchmark utilities.
+ */
+package com.tsurugidb.iceaxe.bench;
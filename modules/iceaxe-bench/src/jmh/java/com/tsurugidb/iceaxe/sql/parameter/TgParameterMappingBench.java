@@ -0,0 +1,93 @@
+package com.tsurugidb.iceaxe.sql.parameter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.tsurugidb.iceaxe.bench.BenchEntity;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable.TgBindVariableBigDecimal;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable.TgBindVariableDouble;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable.TgBindVariableInteger;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable.TgBindVariableLong;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable.TgBindVariableString;
+import com.tsurugidb.iceaxe.sql.parameter.mapping.TgCompiledEntityParameterMapping;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+
+/**
+ * {@link TgParameterMapping} conversion benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TgParameterMappingBench {
+
+    private static final TgBindVariableInteger ID = TgBindVariable.ofInt("id");
+    private static final TgBindVariableLong COUNT = TgBindVariable.ofLong("count");
+    private static final TgBindVariableString NAME = TgBindVariable.ofString("name");
+    private static final TgBindVariableBigDecimal AMOUNT = TgBindVariable.ofDecimal("amount");
+    private static final TgBindVariableDouble SCORE = TgBindVariable.ofDouble("score");
+
+    private BenchEntity entity;
+    private TgBindParameters parameters;
+    private TgParameterMapping<BenchEntity> entityMapping;
+    private TgParameterMapping<TgBindParameters> variablesMapping;
+    private TgParameterMapping<BenchEntity> compiledMapping;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.entity = new BenchEntity(123);
+        this.parameters = createParameters();
+        this.entityMapping = TgParameterMapping.of(BenchEntity.class) //
+                .addInt("id", BenchEntity::getId) //
+                .addLong("count", BenchEntity::getCount) //
+                .addString("name", BenchEntity::getName) //
+                .addDecimal("amount", BenchEntity::getAmount) //
+                .addDouble("score", BenchEntity::getScore);
+        this.variablesMapping = TgParameterMapping.of(ID, COUNT, NAME, AMOUNT, SCORE);
+        this.compiledMapping = TgCompiledEntityParameterMapping.of(BenchEntity.class, ID, COUNT, NAME, AMOUNT, SCORE);
+    }
+
+    private TgBindParameters createParameters() {
+        return TgBindParameters.of() //
+                .addInt("id", entity.getId()) //
+                .addLong("count", entity.getCount()) //
+                .addString("name", entity.getName()) //
+                .addDecimal("amount", entity.getAmount()) //
+                .addDouble("score", entity.getScore());
+    }
+
+    @Benchmark
+    public List<Parameter> bindParameters() {
+        return createParameters().toLowParameterList();
+    }
+
+    @Benchmark
+    public List<Parameter> bindParametersPrepared() {
+        return parameters.toLowParameterList();
+    }
+
+    @Benchmark
+    public List<Parameter> bindVariables() {
+        var p = TgBindParameters.of(ID.bind(entity.getId()), COUNT.bind(entity.getCount()), NAME.bind(entity.getName()), AMOUNT.bind(entity.getAmount()), SCORE.bind(entity.getScore()));
+        return variablesMapping.toLowParameterList(p, IceaxeConvertUtil.INSTANCE);
+    }
+
+    @Benchmark
+    public List<Parameter> entity() {
+        return entityMapping.toLowParameterList(entity, IceaxeConvertUtil.INSTANCE);
+    }
+
+    @Benchmark
+    public List<Parameter> compiled() {
+        return compiledMapping.toLowParameterList(entity, IceaxeConvertUtil.INSTANCE);
+    }
+}
@@ -0,0 +1,81 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.tsurugidb.iceaxe.bench.BenchEntity;
+import com.tsurugidb.iceaxe.bench.BenchResultSet;
+import com.tsurugidb.iceaxe.sql.result.mapping.TgCompiledEntityResultMapping;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+
+/**
+ * {@link TgResultMapping} conversion benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TgResultMappingBench {
+
+    private BenchResultSet lowResultSet;
+    private TsurugiResultRecord record;
+
+    private TgResultMapping<BenchEntity> entityMapping;
+    private TgResultMapping<BenchEntity> entityMappingByName;
+    private TgResultMapping<BenchEntity> compiledMapping;
+    private TgResultMapping<TsurugiResultEntity> defaultMapping;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.lowResultSet = BenchEntity.createResultSet(1024);
+        this.record = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE);
+
+        this.entityMapping = TgResultMapping.of(() -> new BenchEntity()) //
+                .addInt(BenchEntity::setId) //
+                .addLong(BenchEntity::setCount) //
+                .addString(BenchEntity::setName) //
+                .addDecimal(BenchEntity::setAmount) //
+                .addDouble(BenchEntity::setScore);
+        this.entityMappingByName = TgResultMapping.of(() -> new BenchEntity()) //
+                .addDouble("score", BenchEntity::setScore) //
+                .addInt("id", BenchEntity::setId) //
+                .addString("name", BenchEntity::setName) //
+                .addLong("count", BenchEntity::setCount) //
+                .addDecimal("amount", BenchEntity::setAmount);
+        this.compiledMapping = TgCompiledEntityResultMapping.of(BenchEntity.class);
+        this.defaultMapping = TgResultMapping.DEFAULT;
+    }
+
+    private <R> R convert(TgResultMapping<R> mapping) throws Exception {
+        lowResultSet.nextRow();
+        record.reset();
+        return mapping.convert(record);
+    }
+
+    @Benchmark
+    public BenchEntity entity() throws Exception {
+        return convert(entityMapping);
+    }
+
+    @Benchmark
+    public BenchEntity entityByName() throws Exception {
+        return convert(entityMappingByName);
+    }
+
+    @Benchmark
+    public BenchEntity compiled() throws Exception {
+        return convert(compiledMapping);
+    }
+
+    @Benchmark
+    public TsurugiResultEntity resultEntity() throws Exception {
+        return convert(defaultMapping);
+    }
+}
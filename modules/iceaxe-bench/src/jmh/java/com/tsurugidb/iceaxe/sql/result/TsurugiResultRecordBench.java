@@ -0,0 +1,70 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.tsurugidb.iceaxe.bench.BenchEntity;
+import com.tsurugidb.iceaxe.bench.BenchResultSet;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+
+/**
+ * {@link TsurugiResultRecord} column access benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TsurugiResultRecordBench {
+
+    private BenchResultSet lowResultSet;
+    private TsurugiResultRecord record;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.lowResultSet = BenchEntity.createResultSet(1024);
+        this.record = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE);
+    }
+
+    private void nextRow() throws Exception {
+        lowResultSet.nextRow();
+        record.reset();
+    }
+
+    @Benchmark
+    public void next(Blackhole bh) throws Exception {
+        nextRow();
+        bh.consume(record.nextInt());
+        bh.consume(record.nextLong());
+        bh.consume(record.nextStringOrNull());
+        bh.consume(record.nextDecimalOrNull());
+        bh.consume(record.nextDouble());
+    }
+
+    @Benchmark
+    public void getByName(Blackhole bh) throws Exception {
+        nextRow();
+        bh.consume(record.getDouble("score"));
+        bh.consume(record.getInt("id"));
+        bh.consume(record.getStringOrNull("name"));
+        bh.consume(record.getLong("count"));
+        bh.consume(record.getDecimalOrNull("amount"));
+    }
+
+    @Benchmark
+    public void getByIndex(Blackhole bh) throws Exception {
+        nextRow();
+        bh.consume(record.getDouble(4));
+        bh.consume(record.getInt(0));
+        bh.consume(record.getStringOrNull(2));
+        bh.consume(record.getLong(1));
+        bh.consume(record.getDecimalOrNull(3));
+    }
+}
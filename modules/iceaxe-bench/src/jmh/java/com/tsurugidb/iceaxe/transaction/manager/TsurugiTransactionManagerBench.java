@@ -0,0 +1,100 @@
+package com.tsurugidb.iceaxe.transaction.manager;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.tsurugidb.iceaxe.bench.BenchSession;
+import com.tsurugidb.iceaxe.transaction.TgCommitType;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.event.TsurugiTransactionEventListener;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.manager.event.TsurugiTmEventListener;
+import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOption;
+import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOptionSupplier;
+import com.tsurugidb.iceaxe.transaction.manager.retry.TgTmRetryInstruction;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.tsubakuro.sql.SqlServiceCode;
+
+/**
+ * {@link TsurugiTransactionManager} benchmark.
+ * <p>
+ * Measures the overhead of the retry loop and the event listener dispatch, using transactions which complete without the server.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TsurugiTransactionManagerBench {
+
+    @Param({ "0", "2" })
+    private int retryCount;
+
+    @Param({ "0", "8" })
+    private int listenerCount;
+
+    private BenchSession session;
+    private TsurugiTransactionManager tm;
+    private long eventCount = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.session = new BenchSession();
+
+        var supplier = TgTmTxOptionSupplier.ofAlways(TgTxOption.ofOCC(), retryCount + 1);
+        supplier.setRetryPredicate((transaction, e) -> TgTmRetryInstruction.ofRetryable("bench"));
+        var setting = TgTmSetting.of(supplier);
+
+        var txListener = new TsurugiTransactionEventListener() {
+            @Override
+            public void commitStart(TsurugiTransaction transaction, TgCommitType commitType) {
+                eventCount++;
+            }
+        };
+
+        this.tm = session.createTransactionManager(setting);
+        for (int i = 0; i < listenerCount; i++) {
+            tm.addEventListener(new TsurugiTmEventListener() {
+                @Override
+                public void transactionStart(TsurugiTransactionManager tm, int iceaxeTmExecuteId, int attempt, TgTxOption txOption) {
+                    eventCount++;
+                }
+
+                @Override
+                public void transactionStarted(TsurugiTransaction transaction) {
+                    transaction.addEventListener(txListener);
+                }
+
+                @Override
+                public void transactionRetry(TsurugiTransaction transaction, Exception cause, TgTmTxOption nextTmOption) {
+                    eventCount++;
+                }
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        session.close();
+    }
+
+    @Benchmark
+    public int execute() throws Exception {
+        return tm.execute(transaction -> {
+            int attempt = transaction.getAttempt();
+            if (attempt < retryCount) {
+                throw new TsurugiTransactionException("bench", SqlServiceCode.CC_EXCEPTION, null);
+            }
+            return attempt;
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.tsurugidb.iceaxe.util;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link IceaxeConvertUtil} benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IceaxeConvertUtilBench {
+
+    private final IceaxeConvertUtil convertUtil = IceaxeConvertUtil.INSTANCE;
+
+    private Object intValue = 123;
+    private Object longValue = 123L;
+    private Object decimalValue = BigDecimal.valueOf(12345, 2);
+    private Object stringNumber = "123.45";
+    private Object dateTimeValue = LocalDateTime.of(2023, 4, 5, 6, 7, 8);
+
+    @Benchmark
+    public Integer intToInt() {
+        return convertUtil.toInt(intValue);
+    }
+
+    @Benchmark
+    public Integer longToInt() {
+        return convertUtil.toInt(longValue);
+    }
+
+    @Benchmark
+    public Long decimalToLong() {
+        return convertUtil.toLong(decimalValue);
+    }
+
+    @Benchmark
+    public BigDecimal stringToDecimal() {
+        return convertUtil.toDecimal(stringNumber);
+    }
+
+    @Benchmark
+    public String decimalToString() {
+        return convertUtil.toString(decimalValue);
+    }
+
+    @Benchmark
+    public LocalDate dateTimeToDate() {
+        return convertUtil.toDate(dateTimeValue);
+    }
+}
@@ -0,0 +1,76 @@
+package com.tsurugidb.iceaxe.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock.FutureResponseTestMock;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * test that commit on virtual threads does not pin the carrier threads.
+ * <p>
+ * run with {@code -Djdk.tracePinnedThreads=full}, which prints the stack trace when a virtual thread parks while holding a monitor.
+ * </p>
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class TsurugiTransactionPinningTest {
+
+    private static final String SQL = "update test set foo = 1";
+
+    @Test
+    void commit() throws Exception {
+        var out = new ByteArrayOutputStream();
+        var saveOut = System.out;
+        System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+        try (var session = new TsurugiSessionTestMock()) {
+            var release = new CountDownLatch(1);
+            session.setStatementResult(sql -> new FutureResponseTestMock<>(() -> {
+                release.await();
+                return null;
+            }));
+            session.setCommitResult(tx -> new FutureResponseTestMock<>(() -> {
+                release.await();
+                return null;
+            }));
+            var ps = session.createStatement(SQL);
+
+            var futureList = new ArrayList<Future<?>>();
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 16; i++) {
+                    futureList.add(executor.submit(() -> {
+                        try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                            // the result is closed (and waits for the server) in commit
+                            ps.execute(transaction);
+                            transaction.commit(TgCommitType.DEFAULT);
+                        }
+                        return null;
+                    }));
+                }
+
+                Thread.sleep(100);
+                release.countDown();
+                for (var future : futureList) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            System.setOut(saveOut);
+        }
+
+        String trace = out.toString(StandardCharsets.UTF_8);
+        assertFalse(trace.contains("<== monitors"), trace);
+    }
+}
@@ -13,9 +13,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TgSessionPoolOption;
 import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.session.TsurugiSessionPool;
 import com.tsurugidb.iceaxe.session.event.logging.file.TsurugiSessionTxFileLogConfig;
 import com.tsurugidb.iceaxe.session.event.logging.file.TsurugiSessionTxFileLogger;
+import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.tsubakuro.channel.common.connection.Connector;
 import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
 import com.tsurugidb.tsubakuro.channel.common.connection.NullCredential;
@@ -219,10 +222,49 @@ public class TsurugiConnector {
      * @throws IOException if an I/O error occurs during connection
      */
     public TsurugiSession createSession(Credential credential, TgSessionOption sessionOption) throws IOException {
-        LOG.trace("create session. credential={}, option={}", credential, sessionOption);
         var option = (sessionOption != null) ? sessionOption : TgSessionOption.of();
-        var lowSessionFuture = createLowSession(credential, option);
-        var session = new TsurugiSession(lowSessionFuture, option);
+        return doCreateSession(credential, option, TsurugiSession::new);
+    }
+
+    /**
+     * session generator.
+     */
+    @IceaxeInternal
+    @FunctionalInterface
+    public interface TsurugiSessionGenerator {
+        /**
+         * create session.
+         *
+         * @param lowSessionFuture future of session
+         * @param sessionOption    session option
+         * @return session
+         */
+        TsurugiSession generate(FutureResponse<? extends Session> lowSessionFuture, TgSessionOption sessionOption);
+    }
+
+    /**
+     * create session.
+     * <p>
+     * Unlike {@link #createSession(Credential, TgSessionOption)}, null means the default of this connector.
+     * </p>
+     *
+     * @param credential    credential. if null, use default credential
+     * @param sessionOption session option. if null, use default session option
+     * @param generator     session generator
+     * @return session
+     * @throws IOException if an I/O error occurs during connection
+     */
+    @IceaxeInternal
+    public TsurugiSession createSession(@Nullable Credential credential, @Nullable TgSessionOption sessionOption, TsurugiSessionGenerator generator) throws IOException {
+        var credential0 = (credential != null) ? credential : defaultCredential;
+        var option = (sessionOption != null) ? sessionOption : defaultSessionOption;
+        return doCreateSession(credential0, option, generator);
+    }
+
+    private TsurugiSession doCreateSession(Credential credential, TgSessionOption sessionOption, TsurugiSessionGenerator generator) throws IOException {
+        LOG.trace("create session. credential={}, option={}", credential, sessionOption);
+        var lowSessionFuture = createLowSession(credential, sessionOption);
+        var session = generator.generate(lowSessionFuture, sessionOption);
 
         if (this.txFileLogConfig != null) {
             session.addEventListener(new TsurugiSessionTxFileLogger(txFileLogConfig));
@@ -232,6 +274,30 @@ public class TsurugiConnector {
         return session;
     }
 
+    /**
+     * create session pool.
+     *
+     * @param poolOption session pool option
+     * @return session pool
+     * @throws IOException          if an I/O error occurs during connection of minimum sessions
+     * @throws InterruptedException if interrupted during connection of minimum sessions
+     */
+    public TsurugiSessionPool createSessionPool(TgSessionPoolOption poolOption) throws IOException, InterruptedException {
+        LOG.trace("create session pool. option={}", poolOption);
+        var pool = new TsurugiSessionPool(this, poolOption);
+        try {
+            pool.initialize();
+        } catch (Throwable e) {
+            try {
+                pool.close();
+            } catch (Throwable c) {
+                e.addSuppressed(c);
+            }
+            throw e;
+        }
+        return pool;
+    }
+
     /**
      * create low session.
      *
@@ -10,6 +10,10 @@ public enum IceaxeErrorCode implements DiagnosticCode {
     SESSION_ALREADY_CLOSED(IceaxeErrorCodeBlock.SESSION + 1, "session already closed"),
     /** low session error */
     SESSION_LOW_ERROR(IceaxeErrorCodeBlock.SESSION + 2, "low session error"),
+    /** session pool already closed */
+    SESSION_POOL_ALREADY_CLOSED(IceaxeErrorCodeBlock.SESSION + 3, "session pool already closed"),
+    /** session pool borrow timeout */
+    SESSION_POOL_BORROW_TIMEOUT(IceaxeErrorCodeBlock.SESSION + 4, "session pool borrow timeout"),
 
     /** transaction already closed */
     TX_ALREADY_CLOSED(IceaxeErrorCodeBlock.TRANSACTION + 1, "transaction already closed"),
@@ -0,0 +1,38 @@
+package com.tsurugidb.iceaxe.metadata;
+
+import java.io.IOException;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+
+/**
+ * Tsurugi table list helper with cache.
+ *
+ * @see TsurugiTableMetadataCache#getTableListHelper()
+ */
+public class TsurugiCachingTableListHelper extends TsurugiTableListHelper {
+
+    private final TsurugiTableMetadataCache cache;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param cache table metadata cache
+     */
+    protected TsurugiCachingTableListHelper(TsurugiTableMetadataCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * get table metadata cache.
+     *
+     * @return table metadata cache
+     */
+    public TsurugiTableMetadataCache getCache() {
+        return this.cache;
+    }
+
+    @Override
+    public TgTableList getTableList(TsurugiSession session) throws IOException, InterruptedException {
+        return cache.getTableList(() -> super.getTableList(session));
+    }
+}
@@ -0,0 +1,39 @@
+package com.tsurugidb.iceaxe.metadata;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+
+/**
+ * Tsurugi table metadata helper with cache.
+ *
+ * @see TsurugiTableMetadataCache#getTableMetadataHelper()
+ */
+public class TsurugiCachingTableMetadataHelper extends TsurugiTableMetadataHelper {
+
+    private final TsurugiTableMetadataCache cache;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param cache table metadata cache
+     */
+    protected TsurugiCachingTableMetadataHelper(TsurugiTableMetadataCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * get table metadata cache.
+     *
+     * @return table metadata cache
+     */
+    public TsurugiTableMetadataCache getCache() {
+        return this.cache;
+    }
+
+    @Override
+    public Optional<TgTableMetadata> findTableMetadata(TsurugiSession session, String tableName) throws IOException, InterruptedException {
+        return cache.findTableMetadata(tableName, () -> super.findTableMetadata(session, tableName));
+    }
+}
@@ -0,0 +1,278 @@
+package com.tsurugidb.iceaxe.metadata;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.TsurugiConnector;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.util.IceaxeDdlAwareCache;
+import com.tsurugidb.iceaxe.util.TgTimeValue;
+import com.tsurugidb.iceaxe.util.function.IoSupplier;
+
+/**
+ * cache of table metadata and table list.
+ * <p>
+ * The cache can be shared by the sessions of the same connector. (see {@link #install(TsurugiConnector)})<br>
+ * The entries expire after the time to live, and the entries of the table are invalidated when DDL is executed by the installed session.<br>
+ * They are invalidated again when the transaction which executed the DDL is committed or closed,
+ * because the metadata loaded before the commit may be the one before the DDL.
+ * </p>
+ *
+ * @see TsurugiCachingTableMetadataHelper
+ * @see TsurugiCachingTableListHelper
+ */
+@ThreadSafe
+public class TsurugiTableMetadataCache extends IceaxeDdlAwareCache {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiTableMetadataCache.class);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param timeToLive time to live
+     * @param maxSize    maximum number of cached table metadata
+     * @return cache
+     */
+    public static TsurugiTableMetadataCache of(TgTimeValue timeToLive, int maxSize) {
+        return new TsurugiTableMetadataCache(timeToLive, maxSize);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param time    time to live
+     * @param unit    time unit
+     * @param maxSize maximum number of cached table metadata
+     * @return cache
+     */
+    public static TsurugiTableMetadataCache of(long time, TimeUnit unit, int maxSize) {
+        return of(TgTimeValue.of(time, unit), maxSize);
+    }
+
+    private final int maxSize;
+    private final Map<String, CacheEntry<Optional<TgTableMetadata>>> metadataMap;
+    private CacheEntry<TgTableList> tableListEntry = null;
+
+    private final TsurugiCachingTableMetadataHelper tableMetadataHelper;
+    private final TsurugiCachingTableListHelper tableListHelper;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param timeToLive time to live
+     * @param maxSize    maximum number of cached table metadata
+     */
+    public TsurugiTableMetadataCache(TgTimeValue timeToLive, int maxSize) {
+        super(timeToLive);
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive. maxSize=" + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.metadataMap = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry<Optional<TgTableMetadata>>> eldest) {
+                return size() > TsurugiTableMetadataCache.this.maxSize;
+            }
+        };
+        this.tableMetadataHelper = new TsurugiCachingTableMetadataHelper(this);
+        this.tableListHelper = new TsurugiCachingTableListHelper(this);
+    }
+
+    /**
+     * install this cache to the sessions created by the connector.
+     *
+     * @param connector tsurugi connector
+     */
+    public void install(TsurugiConnector connector) {
+        connector.addEventListener(this::install);
+    }
+
+    /**
+     * install this cache to the session.
+     * <p>
+     * Sets the caching helpers to the session, and watches DDL executed by the session.
+     * </p>
+     *
+     * @param session tsurugi session
+     */
+    public void install(TsurugiSession session) {
+        session.setTableMetadataHelper(tableMetadataHelper);
+        session.setTableListHelper(tableListHelper);
+        watchDdl(session);
+    }
+
+    /**
+     * get table metadata helper using this cache.
+     *
+     * @return table metadata helper
+     */
+    public TsurugiCachingTableMetadataHelper getTableMetadataHelper() {
+        return this.tableMetadataHelper;
+    }
+
+    /**
+     * get table list helper using this cache.
+     *
+     * @return table list helper
+     */
+    public TsurugiCachingTableListHelper getTableListHelper() {
+        return this.tableListHelper;
+    }
+
+    /**
+     * get table metadata from cache, or load it.
+     *
+     * @param tableName table name
+     * @param loader    loader of table metadata
+     * @return table metadata
+     * @throws IOException          if an I/O error occurs while retrieving table metadata
+     * @throws InterruptedException if interrupted while retrieving table metadata
+     */
+    Optional<TgTableMetadata> findTableMetadata(String tableName, IoSupplier<Optional<TgTableMetadata>> loader) throws IOException, InterruptedException {
+        long startGeneration;
+        synchronized (this) {
+            var entry = metadataMap.get(tableName);
+            if (entry != null) {
+                if (!entry.isExpired(nanoTime())) {
+                    LOG.trace("table metadata cache hit. tableName={}", tableName);
+                    return entry.value();
+                }
+                metadataMap.remove(tableName);
+            }
+            startGeneration = getGeneration();
+        }
+
+        var value = loader.get();
+        synchronized (this) {
+            // do not cache the value which may have been loaded before DDL
+            if (getGeneration() == startGeneration) {
+                metadataMap.put(tableName, newEntry(value));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * get table list from cache, or load it.
+     *
+     * @param loader loader of table list
+     * @return table list
+     * @throws IOException          if an I/O error occurs while retrieving table list
+     * @throws InterruptedException if interrupted while retrieving table list
+     */
+    TgTableList getTableList(IoSupplier<TgTableList> loader) throws IOException, InterruptedException {
+        long startGeneration;
+        synchronized (this) {
+            var entry = this.tableListEntry;
+            if (entry != null) {
+                if (!entry.isExpired(nanoTime())) {
+                    LOG.trace("table list cache hit");
+                    return entry.value();
+                }
+                this.tableListEntry = null;
+            }
+            startGeneration = getGeneration();
+        }
+
+        var value = loader.get();
+        synchronized (this) {
+            if (getGeneration() == startGeneration) {
+                this.tableListEntry = newEntry(value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * invalidate table metadata.
+     * <p>
+     * The table name is compared ignoring case, because the case of the name in DDL may differ from the name used to get the metadata.
+     * </p>
+     *
+     * @param tableName table name
+     */
+    public synchronized void invalidate(String tableName) {
+        LOG.trace("table metadata cache invalidate. tableName={}", tableName);
+        nextGeneration();
+        metadataMap.keySet().removeIf(key -> key.equalsIgnoreCase(tableName));
+        this.tableListEntry = null;
+    }
+
+    /**
+     * invalidate all table metadata and table list.
+     */
+    public synchronized void invalidateAll() {
+        LOG.trace("table metadata cache invalidate all");
+        nextGeneration();
+        metadataMap.clear();
+        this.tableListEntry = null;
+    }
+
+    /**
+     * get number of cached table metadata.
+     *
+     * @return number of cached table metadata
+     */
+    public synchronized int size() {
+        return metadataMap.size();
+    }
+
+    private static final Pattern TABLE_DDL_PATTERN = Pattern.compile( //
+            "^\\s*(?:create|drop|alter)\\s+table\\s+(?:if\\s+(?:not\\s+)?exists\\s+)?(\"(?:[^\"]|\"\")+\"|[^\\s(;]+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INDEX_DDL_PATTERN = Pattern.compile( //
+            "^\\s*create\\s+(?:unique\\s+)?index\\s+.*?\\son\\s+(\"(?:[^\"]|\"\")+\"|[^\\s(;]+)", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    /**
+     * invalidate the table metadata affected by the SQL.
+     * <p>
+     * If the SQL is not DDL, do nothing. If the affected table cannot be determined, invalidate all.
+     * </p>
+     *
+     * @param sql SQL
+     */
+    @Override
+    protected void invalidateByDdl(@Nullable String sql) {
+        if (!isDdl(sql)) {
+            return;
+        }
+
+        var tableName = findDdlTableName(sql);
+        if (tableName != null) {
+            invalidate(tableName);
+        } else {
+            invalidateAll();
+        }
+    }
+
+    static @Nullable String findDdlTableName(String sql) {
+        var matcher = TABLE_DDL_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            matcher = INDEX_DDL_PATTERN.matcher(sql);
+            if (!matcher.find()) {
+                return null;
+            }
+        }
+
+        String name = matcher.group(1);
+        if (name.startsWith("\"")) {
+            return name.substring(1, name.length() - 1).replace("\"\"", "\"");
+        }
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(timeToLive=" + timeToLiveNanos + "ns, maxSize=" + maxSize + ")";
+    }
+}
@@ -1,4 +1,8 @@
 /**
  * Iceaxe classes.
+ * <p>
+ * The locks which may be held while waiting for the server (e.g. retrieving the low objects, commit and closing the children) are {@link java.util.concurrent.locks.ReentrantLock}
+ * instead of {@code synchronized}, so that a virtual thread waiting for the server is not pinned to its carrier thread.
+ * </p>
  */
 package com.tsurugidb.iceaxe;
\ No newline at end of file
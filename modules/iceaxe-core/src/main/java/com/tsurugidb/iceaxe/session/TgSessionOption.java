@@ -13,6 +13,8 @@ import com.tsurugidb.iceaxe.metadata.TsurugiTableListHelper;
 import com.tsurugidb.iceaxe.metadata.TsurugiTableMetadataHelper;
 import com.tsurugidb.iceaxe.sql.TsurugiSqlPrepared;
 import com.tsurugidb.iceaxe.sql.explain.TsurugiExplainHelper;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
 import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
 import com.tsurugidb.iceaxe.sql.result.TsurugiStatementResult;
 import com.tsurugidb.iceaxe.transaction.TgCommitType;
@@ -94,6 +96,7 @@ public class TgSessionOption {
     private String sessionLabel;
     private final Map<TgTimeoutKey, TgTimeValue> timeoutMap = Collections.synchronizedMap(new EnumMap<>(TgTimeoutKey.class));
     private TgCommitType commitType = TgCommitType.DEFAULT;
+    private int preparedStatementCacheSize = 0;
 
     /**
      * Tsurugi Session Option.
@@ -170,8 +173,37 @@ public class TgSessionOption {
         return this.commitType;
     }
 
+    /**
+     * set prepared statement cache size.
+     * <p>
+     * If positive, {@link TsurugiSession#createQuery(String, TgParameterMapping, TgResultMapping)} and {@link TsurugiSession#createStatement(String, TgParameterMapping)} return the cached
+     * (shared) SQL definition for the same SQL, the same placeholders (names and types) and the same instances of parameter mapping and result mapping.<br>
+     * So the mappings should be created once (e.g. constants) to share the SQL definition.<br>
+     * The least recently used one is closed when the number exceeds the size.
+     * </p>
+     *
+     * @param size maximum number of cached prepared statements. 0 means no cache
+     * @return this
+     */
+    public TgSessionOption setPreparedStatementCacheSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be 0 or more. size=" + size);
+        }
+        this.preparedStatementCacheSize = size;
+        return this;
+    }
+
+    /**
+     * get prepared statement cache size.
+     *
+     * @return maximum number of cached prepared statements
+     */
+    public int getPreparedStatementCacheSize() {
+        return this.preparedStatementCacheSize;
+    }
+
     @Override
     public String toString() {
-        return getClass().getSimpleName() + "{label=" + sessionLabel + ", timeout=" + timeoutMap + ", commitType=" + commitType + "}";
+        return getClass().getSimpleName() + "{label=" + sessionLabel + ", timeout=" + timeoutMap + ", commitType=" + commitType + ", preparedStatementCacheSize=" + preparedStatementCacheSize + "}";
     }
 }
@@ -0,0 +1,237 @@
+package com.tsurugidb.iceaxe.session;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.iceaxe.TsurugiConnector;
+import com.tsurugidb.iceaxe.util.TgTimeValue;
+import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
+
+/**
+ * Tsurugi Session Pool Option.
+ *
+ * @see TsurugiConnector#createSessionPool(TgSessionPoolOption)
+ */
+public class TgSessionPoolOption {
+
+    /**
+     * create session pool option.
+     *
+     * @return session pool option
+     */
+    public static TgSessionPoolOption of() {
+        return new TgSessionPoolOption();
+    }
+
+    /**
+     * create session pool option.
+     *
+     * @param minSize minimum number of sessions
+     * @param maxSize maximum number of sessions
+     * @return session pool option
+     */
+    public static TgSessionPoolOption of(int minSize, int maxSize) {
+        return new TgSessionPoolOption().setMinSize(minSize).setMaxSize(maxSize);
+    }
+
+    private Credential credential = null;
+    private TgSessionOption sessionOption = null;
+    private int minSize = 0;
+    private int maxSize = 8;
+    private TgTimeValue borrowTimeout = TgTimeValue.of(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    private TgTimeValue idleTimeout = null;
+    private TgTimeValue evictionInterval = null;
+    private boolean validateOnBorrow = true;
+
+    /**
+     * Tsurugi Session Pool Option.
+     */
+    public TgSessionPoolOption() {
+        // do nothing
+    }
+
+    /**
+     * set credential.
+     *
+     * @param credential credential. if null, use default credential of connector
+     * @return this
+     */
+    public TgSessionPoolOption setCredential(@Nullable Credential credential) {
+        this.credential = credential;
+        return this;
+    }
+
+    /**
+     * get credential.
+     *
+     * @return credential
+     */
+    public @Nullable Credential getCredential() {
+        return this.credential;
+    }
+
+    /**
+     * set session option.
+     *
+     * @param sessionOption session option. if null, use default session option of connector
+     * @return this
+     */
+    public TgSessionPoolOption setSessionOption(@Nullable TgSessionOption sessionOption) {
+        this.sessionOption = sessionOption;
+        return this;
+    }
+
+    /**
+     * get session option.
+     *
+     * @return session option
+     */
+    public @Nullable TgSessionOption getSessionOption() {
+        return this.sessionOption;
+    }
+
+    /**
+     * set minimum number of sessions.
+     * <p>
+     * sessions up to this size are connected when the pool is created, and are not evicted by idle-timeout.
+     * </p>
+     *
+     * @param size minimum number of sessions
+     * @return this
+     */
+    public TgSessionPoolOption setMinSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("minSize < 0. minSize=" + size);
+        }
+        this.minSize = size;
+        return this;
+    }
+
+    /**
+     * get minimum number of sessions.
+     *
+     * @return minimum number of sessions
+     */
+    public int getMinSize() {
+        return this.minSize;
+    }
+
+    /**
+     * set maximum number of sessions.
+     *
+     * @param size maximum number of sessions
+     * @return this
+     */
+    public TgSessionPoolOption setMaxSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0. maxSize=" + size);
+        }
+        this.maxSize = size;
+        return this;
+    }
+
+    /**
+     * get maximum number of sessions.
+     *
+     * @return maximum number of sessions
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * set borrow-timeout.
+     *
+     * @param time timeout time
+     * @param unit timeout unit
+     * @return this
+     */
+    public TgSessionPoolOption setBorrowTimeout(long time, TimeUnit unit) {
+        this.borrowTimeout = TgTimeValue.of(time, unit);
+        return this;
+    }
+
+    /**
+     * get borrow-timeout.
+     *
+     * @return timeout
+     */
+    public TgTimeValue getBorrowTimeout() {
+        return this.borrowTimeout;
+    }
+
+    /**
+     * set idle-timeout.
+     * <p>
+     * idle sessions exceeding this time are closed by {@link TsurugiSessionPool#evict()}.
+     * </p>
+     *
+     * @param time timeout time
+     * @param unit timeout unit
+     * @return this
+     */
+    public TgSessionPoolOption setIdleTimeout(long time, TimeUnit unit) {
+        this.idleTimeout = TgTimeValue.of(time, unit);
+        return this;
+    }
+
+    /**
+     * get idle-timeout.
+     *
+     * @return timeout. null if idle sessions are not evicted
+     */
+    public @Nullable TgTimeValue getIdleTimeout() {
+        return this.idleTimeout;
+    }
+
+    /**
+     * set eviction interval.
+     * <p>
+     * if set, {@link TsurugiSessionPool#evict()} is called periodically in background thread.
+     * </p>
+     *
+     * @param time interval time
+     * @param unit interval unit
+     * @return this
+     */
+    public TgSessionPoolOption setEvictionInterval(long time, TimeUnit unit) {
+        this.evictionInterval = TgTimeValue.of(time, unit);
+        return this;
+    }
+
+    /**
+     * get eviction interval.
+     *
+     * @return interval. null if eviction is not executed in background
+     */
+    public @Nullable TgTimeValue getEvictionInterval() {
+        return this.evictionInterval;
+    }
+
+    /**
+     * set whether to validate session on borrow.
+     *
+     * @param validate {@code true} if validate session by {@link TsurugiSession#isAlive()} on borrow
+     * @return this
+     */
+    public TgSessionPoolOption setValidateOnBorrow(boolean validate) {
+        this.validateOnBorrow = validate;
+        return this;
+    }
+
+    /**
+     * get whether to validate session on borrow.
+     *
+     * @return {@code true} if validate session on borrow
+     */
+    public boolean isValidateOnBorrow() {
+        return this.validateOnBorrow;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{credential=" + credential + ", sessionOption=" + sessionOption + ", minSize=" + minSize + ", maxSize=" + maxSize + ", borrowTimeout=" + borrowTimeout
+                + ", idleTimeout=" + idleTimeout + ", evictionInterval=" + evictionInterval + ", validateOnBorrow=" + validateOnBorrow + "}";
+    }
+}
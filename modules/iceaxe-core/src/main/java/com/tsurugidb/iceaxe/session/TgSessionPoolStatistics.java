@@ -0,0 +1,152 @@
+package com.tsurugidb.iceaxe.session;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * statistics of {@link TsurugiSessionPool}.
+ *
+ * @see TsurugiSessionPool#getStatistics()
+ */
+@Immutable
+public /* record */ class TgSessionPoolStatistics {
+
+    private final int activeCount;
+    private final int idleCount;
+    private final int waitingCount;
+    private final long borrowCount;
+    private final long borrowTimeoutCount;
+    private final long createCount;
+    private final long destroyCount;
+    private final long borrowWaitTotalNanos;
+    private final long borrowWaitMaxNanos;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param activeCount          number of borrowed sessions
+     * @param idleCount            number of idle sessions
+     * @param waitingCount         number of threads waiting to borrow
+     * @param borrowCount          number of borrows
+     * @param borrowTimeoutCount   number of borrow timeouts
+     * @param createCount          number of created sessions
+     * @param destroyCount         number of closed sessions
+     * @param borrowWaitTotalNanos total borrow wait time
+     * @param borrowWaitMaxNanos   max borrow wait time
+     */
+    public TgSessionPoolStatistics(int activeCount, int idleCount, int waitingCount, long borrowCount, long borrowTimeoutCount, long createCount, long destroyCount, long borrowWaitTotalNanos,
+            long borrowWaitMaxNanos) {
+        this.activeCount = activeCount;
+        this.idleCount = idleCount;
+        this.waitingCount = waitingCount;
+        this.borrowCount = borrowCount;
+        this.borrowTimeoutCount = borrowTimeoutCount;
+        this.createCount = createCount;
+        this.destroyCount = destroyCount;
+        this.borrowWaitTotalNanos = borrowWaitTotalNanos;
+        this.borrowWaitMaxNanos = borrowWaitMaxNanos;
+    }
+
+    /**
+     * get number of borrowed sessions.
+     *
+     * @return number of borrowed sessions
+     */
+    public int activeCount() {
+        return this.activeCount;
+    }
+
+    /**
+     * get number of idle sessions.
+     *
+     * @return number of idle sessions
+     */
+    public int idleCount() {
+        return this.idleCount;
+    }
+
+    /**
+     * get number of threads waiting to borrow.
+     *
+     * @return number of waiting threads
+     */
+    public int waitingCount() {
+        return this.waitingCount;
+    }
+
+    /**
+     * get number of borrows.
+     *
+     * @return number of borrows
+     */
+    public long borrowCount() {
+        return this.borrowCount;
+    }
+
+    /**
+     * get number of borrow timeouts.
+     *
+     * @return number of borrow timeouts
+     */
+    public long borrowTimeoutCount() {
+        return this.borrowTimeoutCount;
+    }
+
+    /**
+     * get number of created sessions.
+     *
+     * @return number of created sessions
+     */
+    public long createCount() {
+        return this.createCount;
+    }
+
+    /**
+     * get number of closed sessions.
+     *
+     * @return number of closed sessions
+     */
+    public long destroyCount() {
+        return this.destroyCount;
+    }
+
+    /**
+     * get total borrow wait time.
+     *
+     * @param unit time unit
+     * @return total borrow wait time
+     */
+    public long borrowWaitTotalTime(TimeUnit unit) {
+        return unit.convert(borrowWaitTotalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * get max borrow wait time.
+     *
+     * @param unit time unit
+     * @return max borrow wait time
+     */
+    public long borrowWaitMaxTime(TimeUnit unit) {
+        return unit.convert(borrowWaitMaxNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * get average borrow wait time.
+     *
+     * @param unit time unit
+     * @return average borrow wait time
+     */
+    public double borrowWaitAverageTime(TimeUnit unit) {
+        if (this.borrowCount == 0) {
+            return 0;
+        }
+        return (double) borrowWaitTotalNanos / borrowCount / unit.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return "[activeCount=" + activeCount + ", idleCount=" + idleCount + ", waitingCount=" + waitingCount + ", borrowCount=" + borrowCount + ", borrowTimeoutCount=" + borrowTimeoutCount
+                + ", createCount=" + createCount + ", destroyCount=" + destroyCount + ", borrowWaitTotalNanos=" + borrowWaitTotalNanos + ", borrowWaitMaxNanos=" + borrowWaitMaxNanos + "]";
+    }
+}
@@ -0,0 +1,81 @@
+package com.tsurugidb.iceaxe.session;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * Tsurugi Session managed by {@link TsurugiSessionPool}.
+ * <p>
+ * {@link #close()} returns the session to the pool instead of disconnecting.
+ * </p>
+ */
+class TsurugiPooledSession extends TsurugiSession {
+
+    private final TsurugiSessionPool ownerPool;
+    private final AtomicBoolean borrowed = new AtomicBoolean(false);
+    private long idleStartNanos;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param lowSessionFuture future of session
+     * @param sessionOption    session option
+     * @param pool             owner session pool
+     */
+    TsurugiPooledSession(FutureResponse<? extends Session> lowSessionFuture, TgSessionOption sessionOption, TsurugiSessionPool pool) {
+        super(lowSessionFuture, sessionOption);
+        this.ownerPool = pool;
+    }
+
+    void setBorrowed(boolean borrowed) {
+        this.borrowed.set(borrowed);
+    }
+
+    void setIdleStartNanos(long nanoTime) {
+        this.idleStartNanos = nanoTime;
+    }
+
+    long getIdleStartNanos() {
+        return this.idleStartNanos;
+    }
+
+    /**
+     * close the low session.
+     *
+     * @throws IOException          if an I/O error occurs while disposing the resources
+     * @throws InterruptedException if interrupted while disposing the resources
+     */
+    void closeLow() throws IOException, InterruptedException {
+        borrowed.set(false);
+        super.close();
+    }
+
+    /**
+     * return this session to the pool.
+     */
+    @Override
+    public void close() throws IOException, InterruptedException {
+        // only the first close returns the session, even if closed concurrently
+        if (!borrowed.compareAndSet(true, false)) {
+            return;
+        }
+        ownerPool.release(this);
+    }
+
+    @Override
+    public boolean isClosed() {
+        return !borrowed.get() || super.isClosed();
+    }
+
+    /**
+     * Returns the closed state of the low session.
+     *
+     * @return {@code true} if the low session has been closed
+     */
+    boolean isLowClosed() {
+        return super.isClosed();
+    }
+}
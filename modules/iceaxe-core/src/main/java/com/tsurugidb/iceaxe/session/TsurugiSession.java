@@ -5,7 +5,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
@@ -40,6 +46,7 @@ import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.iceaxe.util.IceaxeIoUtil;
 import com.tsurugidb.iceaxe.util.IceaxeTimeout;
 import com.tsurugidb.iceaxe.util.TgTimeValue;
+import com.tsurugidb.sql.proto.SqlRequest.Placeholder;
 import com.tsurugidb.tsubakuro.common.Session;
 import com.tsurugidb.tsubakuro.sql.SqlClient;
 import com.tsurugidb.tsubakuro.util.FutureResponse;
@@ -50,16 +57,43 @@ import com.tsurugidb.tsubakuro.util.FutureResponse;
 public class TsurugiSession implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(TsurugiSession.class);
 
+    /**
+     * default executor for asynchronous execution.
+     * <p>
+     * The threads block while waiting for the response of the server, so {@link ForkJoinPool#commonPool()} is not used.<br>
+     * The number of threads is bounded, and the idle threads are terminated.
+     * </p>
+     */
+    private static final class DefaultAsyncExecutorHolder {
+        private static final int THREAD_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger(0);
+        static final Executor EXECUTOR = createExecutor();
+
+        private static Executor createExecutor() {
+            var executor = new ThreadPoolExecutor(THREAD_SIZE, THREAD_SIZE, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                var thread = new Thread(runnable, "iceaxe-async-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
     private final TgSessionOption sessionOption;
     private FutureResponse<? extends Session> lowSessionFuture;
-    private Session lowSession;
+    private volatile Session lowSession;
     private Throwable lowFutureException = null;
-    private SqlClient lowSqlClient;
+    private volatile SqlClient lowSqlClient;
+    private final ReentrantLock lowLock = new ReentrantLock();
     private TsurugiTableListHelper tableListHelper = null;
     private TsurugiTableMetadataHelper tableMetadataHelper = null;
     private TsurugiExplainHelper explainHelper = null;
     private TsurugiTransactionStatusHelper txStatusHelper = null;
     private IceaxeConvertUtil convertUtil = null;
+    private Executor asyncExecutor = null;
+    private volatile TsurugiSqlPreparedCache psCache = null;
+    private final ReentrantLock psCacheLock = new ReentrantLock();
     private final IceaxeTimeout connectTimeout;
     private final IceaxeTimeout closeTimeout;
     private List<TsurugiSessionEventListener> eventListenerList = null;
@@ -106,6 +140,32 @@ public class TsurugiSession implements AutoCloseable {
         return this.convertUtil;
     }
 
+    /**
+     * set executor for asynchronous execution.
+     * <p>
+     * the executor thread waits for the response of the server.
+     * </p>
+     *
+     * @param executor executor. if null, use the default executor shared by sessions (bounded daemon threads, not {@link ForkJoinPool#commonPool()})
+     * @see TsurugiTransaction#executeStatementAsync(TsurugiSqlPreparedStatement, Object)
+     */
+    public void setAsyncExecutor(@Nullable Executor executor) {
+        this.asyncExecutor = executor;
+    }
+
+    /**
+     * get executor for asynchronous execution.
+     *
+     * @return executor
+     */
+    public @Nonnull Executor getAsyncExecutor() {
+        var executor = this.asyncExecutor;
+        if (executor == null) {
+            return DefaultAsyncExecutorHolder.EXECUTOR;
+        }
+        return executor;
+    }
+
     /**
      * set connect-timeout.
      *
@@ -193,15 +253,25 @@ public class TsurugiSession implements AutoCloseable {
      */
     @IceaxeInternal
 //  @ThreadSafe
-    public final synchronized SqlClient getLowSqlClient() throws IOException, InterruptedException {
-        if (this.lowSqlClient == null) {
-            var lowSession = getLowSession();
-            LOG.trace("SqlClient.attach start");
-            this.lowSqlClient = SqlClient.attach(lowSession);
-            LOG.trace("SqlClient.attach end");
-            applyCloseTimeout();
+    public final SqlClient getLowSqlClient() throws IOException, InterruptedException {
+        var client = this.lowSqlClient;
+        if (client != null) {
+            return client;
+        }
+
+        lowLock.lockInterruptibly();
+        try {
+            if (this.lowSqlClient == null) {
+                var lowSession = getLowSession();
+                LOG.trace("SqlClient.attach start");
+                this.lowSqlClient = SqlClient.attach(lowSession);
+                LOG.trace("SqlClient.attach end");
+                applyCloseTimeout();
+            }
+            return this.lowSqlClient;
+        } finally {
+            lowLock.unlock();
         }
-        return this.lowSqlClient;
     }
 
     /**
@@ -213,25 +283,35 @@ public class TsurugiSession implements AutoCloseable {
      */
     @IceaxeInternal
 //  @ThreadSafe
-    public final synchronized Session getLowSession() throws IOException, InterruptedException {
-        if (this.lowSession == null) {
-            if (this.lowFutureException != null) {
-                throw new TsurugiIOException(IceaxeErrorCode.SESSION_LOW_ERROR, lowFutureException);
-            }
+    public final Session getLowSession() throws IOException, InterruptedException {
+        var session = this.lowSession;
+        if (session != null) {
+            return session;
+        }
 
-            LOG.trace("lowSession get start");
-            try {
-                this.lowSession = IceaxeIoUtil.getAndCloseFuture(lowSessionFuture, connectTimeout);
-            } catch (Throwable e) {
-                this.lowFutureException = e;
-                throw e;
-            }
-            LOG.trace("lowSession get end");
+        lowLock.lockInterruptibly();
+        try {
+            if (this.lowSession == null) {
+                if (this.lowFutureException != null) {
+                    throw new TsurugiIOException(IceaxeErrorCode.SESSION_LOW_ERROR, lowFutureException);
+                }
 
-            this.lowSessionFuture = null;
-            applyCloseTimeout();
+                LOG.trace("lowSession get start");
+                try {
+                    this.lowSession = IceaxeIoUtil.getAndCloseFuture(lowSessionFuture, connectTimeout);
+                } catch (Throwable e) {
+                    this.lowFutureException = e;
+                    throw e;
+                }
+                LOG.trace("lowSession get end");
+
+                this.lowSessionFuture = null;
+                applyCloseTimeout();
+            }
+            return this.lowSession;
+        } finally {
+            lowLock.unlock();
         }
-        return this.lowSession;
     }
 
     /**
@@ -420,8 +500,18 @@ public class TsurugiSession implements AutoCloseable {
 //  @ThreadSafe
     public <P, R> TsurugiSqlPreparedQuery<P, R> createQuery(String sql, TgParameterMapping<P> parameterMapping, TgResultMapping<R> resultMapping) throws IOException, InterruptedException {
         checkClose();
-        LOG.trace("createQuery start. sql={}", sql);
         var lowPlaceholderList = parameterMapping.toLowPlaceholderList();
+        var cache = getPreparedStatementCache();
+        if (cache != null) {
+            var key = new TsurugiSqlPreparedCache.TgCacheKey(sql, lowPlaceholderList, parameterMapping, resultMapping);
+            return cache.get(key, () -> doCreateQuery(sql, lowPlaceholderList, parameterMapping, resultMapping));
+        }
+        return doCreateQuery(sql, lowPlaceholderList, parameterMapping, resultMapping);
+    }
+
+    private <P, R> TsurugiSqlPreparedQuery<P, R> doCreateQuery(String sql, List<Placeholder> lowPlaceholderList, TgParameterMapping<P> parameterMapping, TgResultMapping<R> resultMapping)
+            throws IOException, InterruptedException {
+        LOG.trace("createQuery start. sql={}", sql);
         var lowPreparedStatementFuture = getLowSqlClient().prepare(sql, lowPlaceholderList);
         LOG.trace("createQuery started");
         var ps = new TsurugiSqlPreparedQuery<>(this, sql, lowPreparedStatementFuture, parameterMapping, resultMapping);
@@ -458,8 +548,17 @@ public class TsurugiSession implements AutoCloseable {
 //  @ThreadSafe
     public <P> TsurugiSqlPreparedStatement<P> createStatement(String sql, TgParameterMapping<P> parameterMapping) throws IOException, InterruptedException {
         checkClose();
-        LOG.trace("createStatement start. sql={}", sql);
         var lowPlaceholderList = parameterMapping.toLowPlaceholderList();
+        var cache = getPreparedStatementCache();
+        if (cache != null) {
+            var key = new TsurugiSqlPreparedCache.TgCacheKey(sql, lowPlaceholderList, parameterMapping, null);
+            return cache.get(key, () -> doCreateStatement(sql, lowPlaceholderList, parameterMapping));
+        }
+        return doCreateStatement(sql, lowPlaceholderList, parameterMapping);
+    }
+
+    private <P> TsurugiSqlPreparedStatement<P> doCreateStatement(String sql, List<Placeholder> lowPlaceholderList, TgParameterMapping<P> parameterMapping) throws IOException, InterruptedException {
+        LOG.trace("createStatement start. sql={}", sql);
         var lowPreparedStatementFuture = getLowSqlClient().prepare(sql, lowPlaceholderList);
         LOG.trace("createStatement started");
         var ps = new TsurugiSqlPreparedStatement<>(this, sql, lowPreparedStatementFuture, parameterMapping);
@@ -467,6 +566,33 @@ public class TsurugiSession implements AutoCloseable {
         return ps;
     }
 
+    /**
+     * get prepared statement cache.
+     *
+     * @return cache. null if not cached
+     * @see TgSessionOption#setPreparedStatementCacheSize(int)
+     */
+    TsurugiSqlPreparedCache getPreparedStatementCache() {
+        var cache = this.psCache;
+        if (cache != null) {
+            return cache;
+        }
+
+        int size = sessionOption.getPreparedStatementCacheSize();
+        if (size <= 0) {
+            return null;
+        }
+        psCacheLock.lock();
+        try {
+            if (this.psCache == null) {
+                this.psCache = new TsurugiSqlPreparedCache(this, size);
+            }
+            return this.psCache;
+        } finally {
+            psCacheLock.unlock();
+        }
+    }
+
     /**
      * create transaction manager.
      *
@@ -562,6 +688,21 @@ public class TsurugiSession implements AutoCloseable {
         closeableSet.remove(closeable);
     }
 
+    /**
+     * close child objects only.
+     *
+     * @throws IOException          if an I/O error occurs while disposing the resources
+     * @throws InterruptedException if interrupted while disposing the resources
+     * @see TsurugiSessionPool
+     */
+    void closeChildren() throws IOException, InterruptedException {
+        LOG.trace("session closeChildren start");
+        IceaxeIoUtil.close(closeableSet, () -> {
+            // do nothing
+        });
+        LOG.trace("session closeChildren end");
+    }
+
     @Override
     public void close() throws IOException, InterruptedException {
         this.closed = true;
@@ -570,6 +711,10 @@ public class TsurugiSession implements AutoCloseable {
         Throwable occurred = null;
         try {
             IceaxeIoUtil.close(closeableSet, () -> {
+                var cache = this.psCache;
+                if (cache != null) {
+                    cache.close();
+                }
                 IceaxeIoUtil.close(lowSqlClient, lowSession, lowSessionFuture);
             });
         } catch (Throwable e) {
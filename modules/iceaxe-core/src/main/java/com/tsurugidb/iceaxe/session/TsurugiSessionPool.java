@@ -0,0 +1,527 @@
+package com.tsurugidb.iceaxe.session;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.TsurugiConnector;
+import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
+import com.tsurugidb.iceaxe.exception.TsurugiIOException;
+import com.tsurugidb.iceaxe.util.IceaxeInternal;
+import com.tsurugidb.iceaxe.util.TgTimeValue;
+
+/**
+ * Tsurugi Session Pool.
+ * <p>
+ * {@link TsurugiSession#close()} of the borrowed session returns the session to the pool.
+ * </p>
+ *
+ * <pre>
+ * try (var pool = connector.createSessionPool(TgSessionPoolOption.of(4, 16))) {
+ *     try (var session = pool.getSession()) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ *
+ * @see TsurugiConnector#createSessionPool(TgSessionPoolOption)
+ */
+@ThreadSafe
+public class TsurugiSessionPool implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiSessionPool.class);
+
+    private final TsurugiConnector ownerConnector;
+    private final TgSessionPoolOption poolOption;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition releaseCondition = lock.newCondition();
+    private final Deque<TsurugiPooledSession> idleDeque = new ArrayDeque<>();
+    private int totalCount = 0;
+    private int activeCount = 0;
+    private int waitingCount = 0;
+    private long borrowCount = 0;
+    private long borrowTimeoutCount = 0;
+    private long createCount = 0;
+    private long destroyCount = 0;
+    private long borrowWaitTotalNanos = 0;
+    private long borrowWaitMaxNanos = 0;
+    private ScheduledExecutorService evictionExecutor = null;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param connector  connector
+     * @param poolOption session pool option
+     */
+    @IceaxeInternal
+    public TsurugiSessionPool(TsurugiConnector connector, TgSessionPoolOption poolOption) {
+        this.ownerConnector = Objects.requireNonNull(connector);
+        this.poolOption = Objects.requireNonNull(poolOption);
+        if (poolOption.getMinSize() > poolOption.getMaxSize()) {
+            throw new IllegalArgumentException("minSize > maxSize. option=" + poolOption);
+        }
+    }
+
+    /**
+     * initialize.
+     * <p>
+     * connect sessions up to minSize, and start eviction thread.
+     * </p>
+     *
+     * @throws IOException          if an I/O error occurs during connection
+     * @throws InterruptedException if interrupted during connection
+     */
+    @IceaxeInternal
+    public void initialize() throws IOException, InterruptedException {
+        warmUp();
+
+        var interval = poolOption.getEvictionInterval();
+        if (interval != null) {
+            this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                var thread = new Thread(runnable, "iceaxe-session-pool-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            evictionExecutor.scheduleWithFixedDelay(this::evictInBackground, interval.value(), interval.value(), interval.unit());
+        }
+    }
+
+    private void evictInBackground() {
+        try {
+            evict();
+        } catch (InterruptedException e) {
+            LOG.debug("session pool eviction interrupted", e);
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            LOG.warn("session pool eviction error", e);
+        }
+    }
+
+    /**
+     * get session pool option.
+     *
+     * @return session pool option
+     */
+    public TgSessionPoolOption getPoolOption() {
+        return this.poolOption;
+    }
+
+    /**
+     * borrow session.
+     * <p>
+     * call {@link TsurugiSession#close()} to return the session to the pool.
+     * </p>
+     *
+     * @return session
+     * @throws IOException          if an I/O error occurs during connection, or timeout occurs
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public TsurugiSession getSession() throws IOException, InterruptedException {
+        return getSession(poolOption.getBorrowTimeout());
+    }
+
+    /**
+     * borrow session.
+     * <p>
+     * call {@link TsurugiSession#close()} to return the session to the pool.
+     * </p>
+     *
+     * @param time timeout time
+     * @param unit timeout unit
+     * @return session
+     * @throws IOException          if an I/O error occurs during connection, or timeout occurs
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public TsurugiSession getSession(long time, TimeUnit unit) throws IOException, InterruptedException {
+        return getSession(TgTimeValue.of(time, unit));
+    }
+
+    /**
+     * borrow session.
+     * <p>
+     * call {@link TsurugiSession#close()} to return the session to the pool.
+     * </p>
+     *
+     * @param timeout timeout
+     * @return session
+     * @throws IOException          if an I/O error occurs during connection, or timeout occurs
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public TsurugiSession getSession(TgTimeValue timeout) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        long remainingNanos = timeout.unit().toNanos(timeout.value());
+
+        for (;;) {
+            TsurugiPooledSession session;
+            boolean create = false;
+            lock.lockInterruptibly();
+            try {
+                for (;;) {
+                    checkClose();
+                    session = idleDeque.pollFirst();
+                    if (session != null) {
+                        break;
+                    }
+                    if (this.totalCount < poolOption.getMaxSize()) {
+                        this.totalCount++;
+                        create = true;
+                        break;
+                    }
+                    if (remainingNanos <= 0) {
+                        this.borrowTimeoutCount++;
+                        throw new TsurugiIOException(IceaxeErrorCode.SESSION_POOL_BORROW_TIMEOUT);
+                    }
+                    this.waitingCount++;
+                    try {
+                        remainingNanos = releaseCondition.awaitNanos(remainingNanos);
+                    } finally {
+                        this.waitingCount--;
+                    }
+                }
+                this.activeCount++;
+            } finally {
+                lock.unlock();
+            }
+
+            if (create) {
+                try {
+                    session = createSession();
+                } catch (Throwable e) {
+                    discard(null);
+                    throw e;
+                }
+            } else if (poolOption.isValidateOnBorrow() && !session.isAlive()) {
+                LOG.debug("session pool: discard dead session. session={}", session);
+                try {
+                    discard(session);
+                } catch (IOException e) {
+                    LOG.debug("session pool: close error of dead session", e);
+                }
+                remainingNanos = timeout.unit().toNanos(timeout.value()) - (System.nanoTime() - start);
+                continue;
+            }
+
+            session.setBorrowed(true);
+            long waitNanos = System.nanoTime() - start;
+            lock.lock();
+            try {
+                this.borrowCount++;
+                this.borrowWaitTotalNanos += waitNanos;
+                if (waitNanos > this.borrowWaitMaxNanos) {
+                    this.borrowWaitMaxNanos = waitNanos;
+                }
+            } finally {
+                lock.unlock();
+            }
+            LOG.trace("session pool: borrow. session={}", session);
+            return session;
+        }
+    }
+
+    private TsurugiPooledSession createSession() throws IOException {
+        LOG.trace("session pool: create session start");
+        var session = (TsurugiPooledSession) ownerConnector.createSession(poolOption.getCredential(), poolOption.getSessionOption(),
+                (lowSessionFuture, sessionOption) -> new TsurugiPooledSession(lowSessionFuture, sessionOption, this));
+        lock.lock();
+        try {
+            this.createCount++;
+        } finally {
+            lock.unlock();
+        }
+        LOG.trace("session pool: create session end. session={}", session);
+        return session;
+    }
+
+    /**
+     * return session to the pool.
+     *
+     * @param session session
+     * @throws IOException          if an I/O error occurs while disposing the child resources
+     * @throws InterruptedException if interrupted while disposing the child resources
+     */
+    void release(TsurugiPooledSession session) throws IOException, InterruptedException {
+        LOG.trace("session pool: release. session={}", session);
+        try {
+            session.closeChildren();
+        } catch (Throwable e) {
+            try {
+                discard(session);
+            } catch (Throwable c) {
+                e.addSuppressed(c);
+            }
+            throw e;
+        }
+
+        lock.lock();
+        try {
+            if (!this.closed && !session.isLowClosed()) {
+                this.activeCount--;
+                session.setIdleStartNanos(System.nanoTime());
+                idleDeque.addFirst(session);
+                releaseCondition.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        discard(session);
+    }
+
+    /**
+     * discard borrowed session.
+     *
+     * @param session session (null if failed to create)
+     * @throws IOException          if an I/O error occurs while disposing the resources
+     * @throws InterruptedException if interrupted while disposing the resources
+     */
+    private void discard(TsurugiPooledSession session) throws IOException, InterruptedException {
+        lock.lock();
+        try {
+            this.activeCount--;
+            this.totalCount--;
+            if (session != null) {
+                this.destroyCount++;
+            }
+            releaseCondition.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (session != null) {
+            session.closeLow();
+        }
+    }
+
+    /**
+     * connect sessions up to minSize.
+     *
+     * @throws IOException          if an I/O error occurs during connection
+     * @throws InterruptedException if interrupted during connection
+     */
+    public void warmUp() throws IOException, InterruptedException {
+        int size;
+        lock.lock();
+        try {
+            checkClose();
+            size = poolOption.getMinSize() - this.totalCount;
+            if (size <= 0) {
+                return;
+            }
+            this.totalCount += size;
+        } finally {
+            lock.unlock();
+        }
+        LOG.trace("session pool: warm-up start. size={}", size);
+
+        // start all handshakes before waiting for any of them
+        var list = new ArrayList<TsurugiPooledSession>(size);
+        Throwable occurred = null;
+        try {
+            for (int i = 0; i < size; i++) {
+                list.add(createSession());
+            }
+            for (var session : list) {
+                // wait for the handshake only. the SQL client is attached on first use
+                session.getLowSession();
+            }
+        } catch (Throwable e) {
+            occurred = e;
+            throw e;
+        } finally {
+            lock.lock();
+            try {
+                if (occurred == null && !this.closed) {
+                    long now = System.nanoTime();
+                    for (var session : list) {
+                        session.setIdleStartNanos(now);
+                        idleDeque.addLast(session);
+                    }
+                    releaseCondition.signalAll();
+                    list.clear();
+                } else {
+                    this.totalCount -= size;
+                    this.destroyCount += list.size();
+                }
+            } finally {
+                lock.unlock();
+            }
+            for (var session : list) {
+                try {
+                    session.closeLow();
+                } catch (Throwable e) {
+                    if (occurred != null) {
+                        occurred.addSuppressed(e);
+                    } else {
+                        LOG.debug("session pool: close error in warm-up", e);
+                    }
+                }
+            }
+        }
+        LOG.trace("session pool: warm-up end");
+    }
+
+    /**
+     * close idle sessions exceeding idle-timeout, and connect sessions up to minSize.
+     *
+     * @throws IOException          if an I/O error occurs during connection
+     * @throws InterruptedException if interrupted during connection
+     */
+    public void evict() throws IOException, InterruptedException {
+        var idleTimeout = poolOption.getIdleTimeout();
+        if (idleTimeout != null) {
+            long timeoutNanos = idleTimeout.unit().toNanos(idleTimeout.value());
+            var evictList = new ArrayList<TsurugiPooledSession>();
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                while (this.totalCount > poolOption.getMinSize()) {
+                    var session = idleDeque.peekLast();
+                    if (session == null || now - session.getIdleStartNanos() < timeoutNanos) {
+                        break;
+                    }
+                    idleDeque.pollLast();
+                    this.totalCount--;
+                    this.destroyCount++;
+                    evictList.add(session);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            for (var session : evictList) {
+                LOG.debug("session pool: evict idle session. session={}", session);
+                try {
+                    session.closeLow();
+                } catch (IOException e) {
+                    LOG.debug("session pool: close error in eviction", e);
+                }
+            }
+        }
+
+        if (!this.closed) {
+            warmUp();
+        }
+    }
+
+    /**
+     * get statistics.
+     *
+     * @return statistics
+     */
+    public TgSessionPoolStatistics getStatistics() {
+        lock.lock();
+        try {
+            return new TgSessionPoolStatistics(activeCount, idleDeque.size(), waitingCount, borrowCount, borrowTimeoutCount, createCount, destroyCount, borrowWaitTotalNanos, borrowWaitMaxNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * reset statistics.
+     * <p>
+     * active, idle and waiting counts are not reset.
+     * </p>
+     */
+    public void resetStatistics() {
+        lock.lock();
+        try {
+            this.borrowCount = 0;
+            this.borrowTimeoutCount = 0;
+            this.createCount = 0;
+            this.destroyCount = 0;
+            this.borrowWaitTotalNanos = 0;
+            this.borrowWaitMaxNanos = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * close all idle sessions.
+     * <p>
+     * borrowed sessions are closed when they are returned.
+     * </p>
+     */
+    @Override
+    public void close() throws IOException, InterruptedException {
+        LOG.trace("session pool close start");
+        this.closed = true;
+        if (this.evictionExecutor != null) {
+            evictionExecutor.shutdownNow();
+        }
+
+        List<TsurugiPooledSession> closeList;
+        lock.lock();
+        try {
+            closeList = new ArrayList<>(idleDeque);
+            idleDeque.clear();
+            this.totalCount -= closeList.size();
+            this.destroyCount += closeList.size();
+            releaseCondition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        Exception occurred = null;
+        for (var session : closeList) {
+            try {
+                session.closeLow();
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                if (occurred == null) {
+                    occurred = e;
+                } else {
+                    occurred.addSuppressed(e);
+                }
+            }
+        }
+        if (occurred != null) {
+            if (occurred instanceof IOException) {
+                throw (IOException) occurred;
+            }
+            if (occurred instanceof InterruptedException) {
+                throw (InterruptedException) occurred;
+            }
+            throw (RuntimeException) occurred;
+        }
+        LOG.trace("session pool close end");
+    }
+
+    /**
+     * Returns the closed state of the session pool.
+     *
+     * @return {@code true} if the session pool has been closed
+     * @see #close()
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * check close.
+     *
+     * @throws IOException if already closed
+     */
+    protected void checkClose() throws IOException {
+        if (isClosed()) {
+            throw new TsurugiIOException(IceaxeErrorCode.SESSION_POOL_ALREADY_CLOSED);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + getStatistics();
+    }
+}
@@ -0,0 +1,246 @@
+package com.tsurugidb.iceaxe.session;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPrepared;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPrepared.TsurugiSqlPreparedCacheOwner;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.util.IceaxeCloseableSet;
+import com.tsurugidb.iceaxe.util.IceaxeIoUtil;
+import com.tsurugidb.iceaxe.util.function.IoSupplier;
+import com.tsurugidb.sql.proto.SqlRequest.Placeholder;
+
+/**
+ * LRU cache of {@link TsurugiSqlPrepared} for {@link TsurugiSession}.
+ * <p>
+ * The cached SQL definitions are shared by the callers, and are closed when they are evicted and no caller uses them, or when the session is closed.<br>
+ * The mappings are bound to the SQL definition, so it is shared only by the callers which pass the same mapping instances.
+ * </p>
+ *
+ * @see TgSessionOption#setPreparedStatementCacheSize(int)
+ */
+@ThreadSafe
+class TsurugiSqlPreparedCache implements TsurugiSqlPreparedCacheOwner {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiSqlPreparedCache.class);
+
+    /**
+     * cache key.
+     * <p>
+     * The key is the SQL, the placeholders (names and types) and the identities of the parameter mapping and the result mapping.<br>
+     * The mappings are compared by identity, because two mappings with the same placeholders may convert the parameters or the records differently
+     * (e.g. {@code TgBindParameters} and an entity, or entity mappings of different classes).
+     * </p>
+     */
+    static final class TgCacheKey {
+        private final String sql;
+        private final List<Placeholder> lowPlaceholderList;
+        private final TgParameterMapping<?> parameterMapping;
+        private final TgResultMapping<?> resultMapping;
+
+        TgCacheKey(String sql, List<Placeholder> lowPlaceholderList, TgParameterMapping<?> parameterMapping, @Nullable TgResultMapping<?> resultMapping) {
+            this.sql = sql;
+            this.lowPlaceholderList = lowPlaceholderList;
+            this.parameterMapping = parameterMapping;
+            this.resultMapping = resultMapping;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, lowPlaceholderList, System.identityHashCode(parameterMapping), System.identityHashCode(resultMapping));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TgCacheKey)) {
+                return false;
+            }
+            var other = (TgCacheKey) obj;
+            return sql.equals(other.sql) && lowPlaceholderList.equals(other.lowPlaceholderList) && parameterMapping == other.parameterMapping && resultMapping == other.resultMapping;
+        }
+    }
+
+    private static final class CacheEntry {
+        private final TsurugiSqlPrepared<?> ps;
+        private int useCount = 0;
+        private boolean evicted = false;
+
+        CacheEntry(TsurugiSqlPrepared<?> ps) {
+            this.ps = ps;
+        }
+    }
+
+    private final TsurugiSession ownerSession;
+    private final int maxSize;
+    private final LinkedHashMap<TgCacheKey, CacheEntry> cacheMap = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<TsurugiSqlPrepared<?>, CacheEntry> entryMap = new IdentityHashMap<>();
+    private boolean closed = false;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param session session
+     * @param maxSize maximum number of cached SQL definitions
+     */
+    TsurugiSqlPreparedCache(TsurugiSession session, int maxSize) {
+        this.ownerSession = session;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * get SQL definition from cache, or create it.
+     * <p>
+     * The creation is done without holding the lock. If the same key is created concurrently, the first one is cached and the others are closed.
+     * </p>
+     *
+     * @param <T>     SQL definition type
+     * @param key     cache key
+     * @param factory factory of SQL definition
+     * @return SQL definition
+     * @throws IOException          if an I/O error occurs while creating or evicting the SQL definition
+     * @throws InterruptedException if interrupted while creating or evicting the SQL definition
+     */
+    <T extends TsurugiSqlPrepared<?>> T get(TgCacheKey key, IoSupplier<T> factory) throws IOException, InterruptedException {
+        synchronized (this) {
+            var ps = getCached(key);
+            if (ps != null) {
+                @SuppressWarnings("unchecked")
+                var r = (T) ps;
+                return r;
+            }
+        }
+
+        // prepare outside the lock, so that the other keys are not blocked while waiting for the server
+        T created = factory.get();
+
+        TsurugiSqlPrepared<?> ps;
+        TsurugiSqlPrepared<?> duplicate = null;
+        List<TsurugiSqlPrepared<?>> evictList = List.of();
+        synchronized (this) {
+            if (this.closed) {
+                return created;
+            }
+            ps = getCached(key);
+            if (ps != null) {
+                LOG.trace("cache created concurrently. sql={}", key.sql);
+                duplicate = created;
+            } else {
+                ownerSession.removeChild(created);
+                created.setCacheOwner(this);
+                var entry = new CacheEntry(created);
+                entry.useCount = 1;
+                cacheMap.put(key, entry);
+                entryMap.put(created, entry);
+                ps = created;
+
+                evictList = evict();
+            }
+        }
+
+        if (duplicate != null) {
+            duplicate.close();
+        }
+        if (!evictList.isEmpty()) {
+            IceaxeIoUtil.close(evictList.toArray(AutoCloseable[]::new));
+        }
+        @SuppressWarnings("unchecked")
+        var r = (T) ps;
+        return r;
+    }
+
+    private @Nullable TsurugiSqlPrepared<?> getCached(TgCacheKey key) {
+        var entry = cacheMap.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.useCount++;
+        LOG.trace("cache hit. sql={}", key.sql);
+        return entry.ps;
+    }
+
+    private List<TsurugiSqlPrepared<?>> evict() {
+        if (cacheMap.size() <= maxSize) {
+            return List.of();
+        }
+
+        var evictList = new ArrayList<TsurugiSqlPrepared<?>>();
+        for (var i = cacheMap.values().iterator(); cacheMap.size() > maxSize && i.hasNext();) {
+            var entry = i.next();
+            i.remove();
+            entry.evicted = true;
+            LOG.trace("cache evict. ps={}", entry.ps);
+            if (entry.useCount <= 0) {
+                entryMap.remove(entry.ps);
+                entry.ps.setCacheOwner(null);
+                evictList.add(entry.ps);
+            }
+        }
+        return evictList;
+    }
+
+    @Override
+    public synchronized boolean release(TsurugiSqlPrepared<?> ps) {
+        var entry = entryMap.get(ps);
+        if (entry == null) {
+            return true;
+        }
+        if (entry.useCount > 0) {
+            entry.useCount--;
+        }
+        if (entry.evicted && entry.useCount == 0) {
+            entryMap.remove(ps);
+            ps.setCacheOwner(null);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * get number of cached SQL definitions.
+     *
+     * @return number of cached SQL definitions
+     */
+    synchronized int size() {
+        return cacheMap.size();
+    }
+
+    /**
+     * close all SQL definitions.
+     *
+     * @throws IOException          if an I/O error occurs while disposing the resources
+     * @throws InterruptedException if interrupted while disposing the resources
+     */
+    void close() throws IOException, InterruptedException {
+        var closeableSet = new IceaxeCloseableSet();
+        synchronized (this) {
+            this.closed = true;
+            for (var ps : entryMap.keySet()) {
+                ps.setCacheOwner(null);
+                closeableSet.add(ps);
+            }
+            cacheMap.clear();
+            entryMap.clear();
+        }
+
+        LOG.trace("psCache close start");
+        IceaxeIoUtil.close(closeableSet, () -> {
+            // do nothing
+        });
+        LOG.trace("psCache close end");
+    }
+}
@@ -0,0 +1,228 @@
+package com.tsurugidb.iceaxe.session.event.logging.file;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.session.event.logging.file.TsurugiSessionTxFileLogConfig.TgTxFileLogOverflowPolicy;
+import com.tsurugidb.iceaxe.util.function.IoRunnable;
+
+/**
+ * queue of {@link TsurugiSessionTxFileLogAsyncWriter}.
+ * <p>
+ * The events are enqueued by the application threads, and formatted and written in batches by the writer thread.
+ * </p>
+ */
+@ThreadSafe
+class TsurugiSessionTxFileLogAsyncQueue {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiSessionTxFileLogAsyncQueue.class);
+
+    private static final int BATCH_SIZE = 256;
+
+    private static final class LogEvent {
+        private final TsurugiSessionTxFileLogWriter writer;
+        private final IoRunnable action;
+
+        LogEvent(TsurugiSessionTxFileLogWriter writer, IoRunnable action) {
+            this.writer = writer;
+            this.action = action;
+        }
+    }
+
+    private static final LogEvent STOP = new LogEvent(null, null);
+
+    private final TsurugiSessionTxFileLogConfig config;
+    private final BlockingQueue<LogEvent> queue;
+    private final int sampleThreshold;
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final LongAdder droppedCount = new LongAdder();
+    private final Thread thread;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param config transaction file log config
+     */
+    TsurugiSessionTxFileLogAsyncQueue(TsurugiSessionTxFileLogConfig config) {
+        int size = config.asyncQueueSize();
+        if (size <= 0) {
+            throw new IllegalArgumentException("asyncQueueSize must be positive. asyncQueueSize=" + size);
+        }
+        this.config = config;
+        this.queue = new ArrayBlockingQueue<>(size);
+        this.sampleThreshold = Math.max(size / 4, 1);
+
+        this.thread = new Thread(this::run, "iceaxe-tx-file-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * enqueue event.
+     *
+     * @param writer  writer
+     * @param action  action to write
+     * @param control {@code true} if the event must not be dropped (e.g. close)
+     * @return {@code true} if enqueued, {@code false} if dropped
+     */
+    boolean offer(TsurugiSessionTxFileLogWriter writer, IoRunnable action, boolean control) {
+        var event = new LogEvent(writer, action);
+        if (this.closed) {
+            execute(event);
+            return true;
+        }
+        if (control) {
+            putUninterruptibly(event);
+            return true;
+        }
+
+        switch (config.asyncOverflowPolicy()) {
+        case BLOCK:
+            try {
+                queue.put(event);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        case SAMPLE:
+            if (queue.remainingCapacity() < sampleThreshold) {
+                int interval = Math.max(config.asyncSampleInterval(), 1);
+                if (sampleCounter.getAndIncrement() % interval != 0) {
+                    break;
+                }
+            }
+            if (queue.offer(event)) {
+                return true;
+            }
+            break;
+        case DROP:
+        default:
+            if (queue.offer(event)) {
+                return true;
+            }
+            break;
+        }
+
+        droppedCount.increment();
+        return false;
+    }
+
+    private void putUninterruptibly(LogEvent event) {
+        boolean interrupted = false;
+        try {
+            for (;;) {
+                try {
+                    queue.put(event);
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        LOG.trace("tx file log writer start");
+        var batch = new ArrayList<LogEvent>(BATCH_SIZE);
+        Set<TsurugiSessionTxFileLogWriter> flushSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (boolean stop = false; !stop;) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                LOG.debug("tx file log writer interrupted", e);
+                break;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+
+            stop = executeBatch(batch, flushSet);
+            batch.clear();
+            flushSet.clear();
+        }
+        LOG.trace("tx file log writer end");
+    }
+
+    private boolean executeBatch(List<LogEvent> batch, Set<TsurugiSessionTxFileLogWriter> flushSet) {
+        boolean stop = false;
+        for (var event : batch) {
+            if (event == STOP) {
+                stop = true;
+                continue;
+            }
+            execute(event);
+            flushSet.add(event.writer);
+        }
+
+        if (config.autoFlush()) {
+            for (var writer : flushSet) {
+                writer.flush();
+            }
+        }
+        return stop;
+    }
+
+    private void execute(LogEvent event) {
+        try {
+            event.action.run();
+        } catch (InterruptedException e) {
+            LOG.warn("tx file log write interrupted", e);
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            LOG.warn("tx file log write error", e);
+        }
+    }
+
+    /**
+     * get number of dropped events.
+     *
+     * @return number of dropped events
+     */
+    long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * write the remaining events and stop the writer thread.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer thread to end
+     */
+    void close() throws InterruptedException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        putUninterruptibly(STOP);
+        thread.join();
+
+        // events enqueued after STOP
+        var list = new ArrayList<LogEvent>();
+        queue.drainTo(list);
+        for (var event : list) {
+            if (event != STOP) {
+                execute(event);
+            }
+        }
+
+        long dropped = getDroppedCount();
+        if (dropped > 0) {
+            LOG.debug("tx file log dropped events={}", dropped);
+        }
+    }
+}
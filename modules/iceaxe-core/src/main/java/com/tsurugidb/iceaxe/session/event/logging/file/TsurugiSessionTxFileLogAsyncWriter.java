@@ -0,0 +1,118 @@
+package com.tsurugidb.iceaxe.session.event.logging.file;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tsurugidb.iceaxe.util.function.IoRunnable;
+
+/**
+ * {@link TsurugiSessionTxFileLogger} asynchronous writer.
+ * <p>
+ * The events are formatted and written by the writer thread.<br>
+ * The arguments other than immutable values (such as String and Integer) are converted to String when the event occurs,
+ * because they may be changed before the writer thread formats them.
+ * </p>
+ *
+ * @see TsurugiSessionTxFileLogConfig#asyncQueueSize(int)
+ */
+public class TsurugiSessionTxFileLogAsyncWriter extends TsurugiSessionTxFileLogWriter {
+
+    private final TsurugiSessionTxFileLogAsyncQueue queue;
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param config transaction file log config
+     * @param file   file path
+     * @param queue  queue
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    TsurugiSessionTxFileLogAsyncWriter(TsurugiSessionTxFileLogConfig config, Path file, TsurugiSessionTxFileLogAsyncQueue queue) throws UncheckedIOException {
+        super(config, file);
+        this.queue = queue;
+    }
+
+    @Override
+    protected PrintWriter createPrintWriter(TsurugiSessionTxFileLogConfig config, Path file) throws IOException {
+        // flushed per batch by the writer thread
+        return new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), false);
+    }
+
+    private void offer(IoRunnable action) {
+        if (!queue.offer(this, action, false)) {
+            droppedCount.increment();
+        }
+    }
+
+    @Override
+    public void println(String format, Object... args) {
+        var now = ZonedDateTime.now();
+        var snapshot = snapshot(args);
+        offer(() -> super.println(now, String.format(format, snapshot)));
+    }
+
+    static Object[] snapshot(Object[] args) {
+        var result = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            var arg = args[i];
+            if (arg == null || isImmutable(arg)) {
+                result[i] = arg;
+            } else {
+                result[i] = String.valueOf(arg);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isImmutable(Object arg) {
+        // the values which can be formatted by %d or %s as is
+        return arg instanceof String || arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte //
+                || arg instanceof Boolean || arg instanceof Character || arg instanceof Double || arg instanceof Float || arg instanceof Enum;
+    }
+
+    @Override
+    public void println(Throwable t) {
+        if (t != null) {
+            offer(() -> super.println(t));
+        }
+    }
+
+    @Override
+    public void println(String text) {
+        var now = ZonedDateTime.now();
+        offer(() -> super.println(now, text));
+    }
+
+    @Override
+    public void writeExplain(int sqlId, String contents) throws IOException {
+        offer(() -> super.writeExplain(sqlId, contents));
+    }
+
+    /**
+     * get number of dropped events.
+     *
+     * @return number of dropped events
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    @Override
+    public void close() {
+        var now = ZonedDateTime.now();
+        queue.offer(this, () -> {
+            long dropped = getDroppedCount();
+            if (dropped > 0) {
+                super.println(now, String.format("[WARN] %s: dropped events=%d", TsurugiSessionTxFileLogger.class.getSimpleName(), dropped));
+            }
+            super.close();
+        }, true);
+    }
+}
@@ -64,6 +64,9 @@ public class TsurugiSessionTxFileLogConfig {
         setConfig("iceaxe.tx.log.record", s -> config.writeReadRecord(Boolean.parseBoolean(s))); // $NON-NLS-1$
         setConfig("iceaxe.tx.log.read_progress", s -> config.readProgress(Integer.parseInt(s))); // $NON-NLS-1$
         setConfig("iceaxe.tx.log.auto_flush", s -> config.autoFlush(Boolean.parseBoolean(s))); // $NON-NLS-1$
+        setConfig("iceaxe.tx.log.async_queue_size", s -> config.asyncQueueSize(Integer.parseInt(s))); // $NON-NLS-1$
+        setConfig("iceaxe.tx.log.async_overflow", s -> config.asyncOverflowPolicy(TgTxFileLogOverflowPolicy.valueOf(s.toUpperCase()))); // $NON-NLS-1$
+        setConfig("iceaxe.tx.log.async_sample_interval", s -> config.asyncSampleInterval(Integer.parseInt(s))); // $NON-NLS-1$
         return config;
     }
 
@@ -112,6 +115,18 @@ public class TsurugiSessionTxFileLogConfig {
         TM_TX;
     }
 
+    /**
+     * overflow policy of asynchronous write.
+     */
+    public enum TgTxFileLogOverflowPolicy {
+        /** wait until the queue has space */
+        BLOCK,
+        /** drop the event if the queue is full */
+        DROP,
+        /** enqueue only one of the events per sample interval if the queue is nearly full, and drop the event if the queue is full */
+        SAMPLE;
+    }
+
     private final Path outputDir;
     private TgTxFileLogSubDirType subDirType = TgTxFileLogSubDirType.TX;
     private boolean writeSqlFile = false;
@@ -122,6 +137,9 @@ public class TsurugiSessionTxFileLogConfig {
     private boolean writeReadRecord = false;
     private int readProgress = 0;
     private boolean autoFlush = false;
+    private int asyncQueueSize = 0; // <=0: 同期出力
+    private TgTxFileLogOverflowPolicy asyncOverflowPolicy = TgTxFileLogOverflowPolicy.BLOCK;
+    private int asyncSampleInterval = 10;
 
     /**
      * Creates a new instance.
@@ -323,9 +341,85 @@ public class TsurugiSessionTxFileLogConfig {
         return this.autoFlush;
     }
 
+    /**
+     * set queue size of asynchronous write.
+     * <p>
+     * If the size is positive, the events are enqueued and written to the file by the writer thread.<br>
+     * If the size is zero or negative, the events are written synchronously.
+     * </p>
+     *
+     * @param size queue size
+     * @return this
+     */
+    public TsurugiSessionTxFileLogConfig asyncQueueSize(int size) {
+        this.asyncQueueSize = size;
+        return this;
+    }
+
+    /**
+     * get queue size of asynchronous write.
+     *
+     * @return queue size
+     */
+    public int asyncQueueSize() {
+        return this.asyncQueueSize;
+    }
+
+    /**
+     * get whether to write asynchronously.
+     *
+     * @return {@code true} if write asynchronously
+     */
+    public boolean async() {
+        return this.asyncQueueSize > 0;
+    }
+
+    /**
+     * set overflow policy of asynchronous write.
+     *
+     * @param policy overflow policy
+     * @return this
+     */
+    public TsurugiSessionTxFileLogConfig asyncOverflowPolicy(TgTxFileLogOverflowPolicy policy) {
+        this.asyncOverflowPolicy = policy;
+        return this;
+    }
+
+    /**
+     * get overflow policy of asynchronous write.
+     *
+     * @return overflow policy
+     */
+    public TgTxFileLogOverflowPolicy asyncOverflowPolicy() {
+        return this.asyncOverflowPolicy;
+    }
+
+    /**
+     * set sample interval of asynchronous write.
+     *
+     * @param interval sample interval
+     * @return this
+     * @see TgTxFileLogOverflowPolicy#SAMPLE
+     */
+    public TsurugiSessionTxFileLogConfig asyncSampleInterval(int interval) {
+        this.asyncSampleInterval = interval;
+        return this;
+    }
+
+    /**
+     * get sample interval of asynchronous write.
+     *
+     * @return sample interval
+     * @see TgTxFileLogOverflowPolicy#SAMPLE
+     */
+    public int asyncSampleInterval() {
+        return this.asyncSampleInterval;
+    }
+
     @Override
     public String toString() {
         return "TsurugiSessionTxFileLogConfig [outputDir=" + outputDir + ", subDirType=" + subDirType + ", writeSqlFile=" + writeSqlFile + ", headerFormatter=" + headerFormatter + ", sqlMaxLength="
-                + sqlMaxLength + ", argMaxLength=" + argMaxLength + ", writeExplain=" + writeExplain + ", writeReadRecord=" + writeReadRecord + ", autoFlush=" + autoFlush + "]";
+                + sqlMaxLength + ", argMaxLength=" + argMaxLength + ", writeExplain=" + writeExplain + ", writeReadRecord=" + writeReadRecord + ", autoFlush=" + autoFlush
+                + ", asyncQueueSize=" + asyncQueueSize + ", asyncOverflowPolicy=" + asyncOverflowPolicy + ", asyncSampleInterval=" + asyncSampleInterval + "]";
     }
 }
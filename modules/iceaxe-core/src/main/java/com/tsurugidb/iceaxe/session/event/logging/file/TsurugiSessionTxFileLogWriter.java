@@ -86,8 +86,17 @@ public class TsurugiSessionTxFileLogWriter implements Closeable {
      * @param text the String value to be printed
      */
     public void println(String text) {
-        var now = ZonedDateTime.now();
-        writer.print(now.format(config.headerFormatter()));
+        println(ZonedDateTime.now(), text);
+    }
+
+    /**
+     * Prints a String.
+     *
+     * @param time the time of the event
+     * @param text the String value to be printed
+     */
+    protected void println(ZonedDateTime time, String text) {
+        writer.print(time.format(config.headerFormatter()));
         writer.print(' ');
         writer.println(text);
     }
@@ -104,6 +113,13 @@ public class TsurugiSessionTxFileLogWriter implements Closeable {
         Files.writeString(outputDir.resolve(fileName), contents, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Flushes the stream.
+     */
+    public void flush() {
+        writer.flush();
+    }
+
     @Override
     public void close() {
         writer.close();
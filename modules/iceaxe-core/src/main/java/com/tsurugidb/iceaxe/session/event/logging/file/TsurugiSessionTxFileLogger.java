@@ -12,6 +12,9 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.tsurugidb.iceaxe.session.TsurugiSession;
 import com.tsurugidb.iceaxe.session.event.logging.TgSessionSqlLog;
 import com.tsurugidb.iceaxe.session.event.logging.TgSessionTxLog;
@@ -32,6 +35,7 @@ import com.tsurugidb.iceaxe.util.function.IoSupplier;
  * Tsurugi transaction logger to file.
  */
 public class TsurugiSessionTxFileLogger extends TsurugiSessionTxLogger {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiSessionTxFileLogger.class);
 
     private static final DateTimeFormatter FILENAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSSSSS");
 
@@ -45,6 +49,7 @@ public class TsurugiSessionTxFileLogger extends TsurugiSessionTxLogger {
     /** transaction file log config */
     protected final TsurugiSessionTxFileLogConfig config;
     private final Map<Integer, TsurugiSessionTxFileLogWriter> writerMap = new ConcurrentHashMap<>();
+    private TsurugiSessionTxFileLogAsyncQueue asyncQueue = null;
 
     /**
      * Creates a new instance.
@@ -92,9 +97,40 @@ public class TsurugiSessionTxFileLogger extends TsurugiSessionTxLogger {
      */
     protected TsurugiSessionTxFileLogWriter createWriter(TgSessionTxLog txLog) {
         var file = config.outputDir().resolve(getLogFileName(txLog));
+        if (config.async()) {
+            return new TsurugiSessionTxFileLogAsyncWriter(config, file, getAsyncQueue());
+        }
         return new TsurugiSessionTxFileLogWriter(config, file);
     }
 
+    /**
+     * get queue of asynchronous write.
+     * <p>
+     * The writer thread is started when the first transaction starts.
+     * </p>
+     *
+     * @return queue
+     */
+    private synchronized TsurugiSessionTxFileLogAsyncQueue getAsyncQueue() {
+        if (this.asyncQueue == null) {
+            this.asyncQueue = new TsurugiSessionTxFileLogAsyncQueue(config);
+        }
+        return this.asyncQueue;
+    }
+
+    /**
+     * get number of events dropped by asynchronous write.
+     *
+     * @return number of dropped events
+     * @see TsurugiSessionTxFileLogConfig#asyncOverflowPolicy(TsurugiSessionTxFileLogConfig.TgTxFileLogOverflowPolicy)
+     */
+    public synchronized long getAsyncDroppedCount() {
+        if (this.asyncQueue == null) {
+            return 0;
+        }
+        return asyncQueue.getDroppedCount();
+    }
+
     /**
      * get log file name.
      *
@@ -484,5 +520,18 @@ public class TsurugiSessionTxFileLogger extends TsurugiSessionTxLogger {
             writer.close();
         }
         writerMap.clear();
+
+        TsurugiSessionTxFileLogAsyncQueue queue;
+        synchronized (this) {
+            queue = this.asyncQueue;
+        }
+        if (queue != null) {
+            try {
+                queue.close();
+            } catch (InterruptedException e) {
+                LOG.debug("tx file log writer close interrupted", e);
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 }
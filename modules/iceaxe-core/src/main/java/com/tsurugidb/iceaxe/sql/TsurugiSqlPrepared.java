@@ -3,7 +3,9 @@ package com.tsurugidb.iceaxe.sql;
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
+import javax.annotation.Nullable;
 import javax.annotation.OverridingMethodsMustInvokeSuper;
 
 import org.slf4j.Logger;
@@ -31,12 +33,28 @@ import com.tsurugidb.tsubakuro.util.FutureResponse;
 public abstract class TsurugiSqlPrepared<P> extends TsurugiSql {
     private final Logger log = LoggerFactory.getLogger(getClass());
 
+    /**
+     * cache of SQL definition (prepared).
+     */
+    @IceaxeInternal
+    public interface TsurugiSqlPreparedCacheOwner {
+        /**
+         * release the SQL definition.
+         *
+         * @param ps SQL definition
+         * @return true if the SQL definition should be closed
+         */
+        boolean release(TsurugiSqlPrepared<?> ps);
+    }
+
     private FutureResponse<PreparedStatement> lowPreparedStatementFuture;
     private Throwable lowFutureException = null;
-    private PreparedStatement lowPreparedStatement;
+    private volatile PreparedStatement lowPreparedStatement;
+    private final ReentrantLock lowLock = new ReentrantLock();
     private final TgParameterMapping<P> parameterMapping;
     private final IceaxeTimeout connectTimeout;
     private final IceaxeTimeout closeTimeout;
+    private volatile TsurugiSqlPreparedCacheOwner cacheOwner = null;
 
     /**
      * Creates a new instance.
@@ -118,25 +136,35 @@ public abstract class TsurugiSqlPrepared<P> extends TsurugiSql {
      */
     @IceaxeInternal
 //  @ThreadSafe
-    public final synchronized PreparedStatement getLowPreparedStatement() throws IOException, InterruptedException {
-        if (this.lowPreparedStatement == null) {
-            if (lowFutureException != null) {
-                throw new TsurugiIOException(IceaxeErrorCode.PS_LOW_ERROR, lowFutureException);
-            }
+    public final PreparedStatement getLowPreparedStatement() throws IOException, InterruptedException {
+        var lowPs = this.lowPreparedStatement;
+        if (lowPs != null) {
+            return lowPs;
+        }
 
-            log.trace("lowPs get start");
-            try {
-                this.lowPreparedStatement = IceaxeIoUtil.getAndCloseFuture(lowPreparedStatementFuture, connectTimeout);
-            } catch (Throwable e) {
-                this.lowFutureException = e;
-                throw e;
+        lowLock.lockInterruptibly();
+        try {
+            if (this.lowPreparedStatement == null) {
+                if (lowFutureException != null) {
+                    throw new TsurugiIOException(IceaxeErrorCode.PS_LOW_ERROR, lowFutureException);
+                }
+
+                log.trace("lowPs get start");
+                try {
+                    this.lowPreparedStatement = IceaxeIoUtil.getAndCloseFuture(lowPreparedStatementFuture, connectTimeout);
+                } catch (Throwable e) {
+                    this.lowFutureException = e;
+                    throw e;
+                }
+                log.trace("lowPs get end");
+
+                this.lowPreparedStatementFuture = null;
+                applyCloseTimeout();
             }
-            log.trace("lowPs get end");
-
-            this.lowPreparedStatementFuture = null;
-            applyCloseTimeout();
+            return this.lowPreparedStatement;
+        } finally {
+            lowLock.unlock();
         }
-        return this.lowPreparedStatement;
     }
 
     /**
@@ -167,9 +195,40 @@ public abstract class TsurugiSqlPrepared<P> extends TsurugiSql {
         return helper.explain(session, sql, parameter, lowPs, lowParameterList, getExplainConnectTimeout(), getExplainCloseTimeout());
     }
 
+    /**
+     * set the cache which holds this SQL definition.
+     *
+     * @param cacheOwner cache. null if not cached
+     */
+    @IceaxeInternal
+    public void setCacheOwner(@Nullable TsurugiSqlPreparedCacheOwner cacheOwner) {
+        this.cacheOwner = cacheOwner;
+    }
+
+    /**
+     * Returns whether this SQL definition is shared by cache.
+     *
+     * @return {@code true} if this SQL definition is cached
+     */
+    public boolean isCached() {
+        return this.cacheOwner != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If this SQL definition is cached, it is not closed until it is evicted from the cache.
+     * </p>
+     */
     @Override
     @OverridingMethodsMustInvokeSuper
     public void close() throws IOException, InterruptedException {
+        var cache = this.cacheOwner;
+        if (cache != null && !cache.release(this)) {
+            log.trace("lowPs close skip (cached)");
+            return;
+        }
+
         log.trace("lowPs close start");
         // not try-finally
         IceaxeIoUtil.close(lowPreparedStatement, lowPreparedStatementFuture);
@@ -0,0 +1,52 @@
+package com.tsurugidb.iceaxe.sql.explain;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.util.IceaxeTimeout;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+
+/**
+ * Tsurugi statement metadata helper with cache.
+ *
+ * @see TsurugiExplainCache#getExplainHelper()
+ */
+public class TsurugiCachingExplainHelper extends TsurugiExplainHelper {
+
+    private final TsurugiExplainCache cache;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param cache explain cache
+     */
+    protected TsurugiCachingExplainHelper(TsurugiExplainCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * get explain cache.
+     *
+     * @return explain cache
+     */
+    public TsurugiExplainCache getCache() {
+        return this.cache;
+    }
+
+    @Override
+    public TgStatementMetadata explain(TsurugiSession session, String source, IceaxeTimeout connectTimeout, IceaxeTimeout closeTimeout) throws IOException, InterruptedException {
+        var key = cache.createKey(source, null);
+        var lowStatementMetadata = cache.getStatementMetadata(key, () -> super.explain(session, source, connectTimeout, closeTimeout).lowStatementMetadata);
+        return newStatementMetadata(source, null, lowStatementMetadata);
+    }
+
+    @Override
+    public TgStatementMetadata explain(TsurugiSession session, String source, Object arguments, PreparedStatement lowPs, List<Parameter> lowParameter, IceaxeTimeout connectTimeout,
+            IceaxeTimeout closeTimeout) throws IOException, InterruptedException {
+        var key = cache.createKey(source, lowParameter);
+        var lowStatementMetadata = cache.getStatementMetadata(key, () -> super.explain(session, source, arguments, lowPs, lowParameter, connectTimeout, closeTimeout).lowStatementMetadata);
+        return newStatementMetadata(source, arguments, lowStatementMetadata);
+    }
+}
@@ -0,0 +1,242 @@
+package com.tsurugidb.iceaxe.sql.explain;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.TsurugiConnector;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.util.IceaxeDdlAwareCache;
+import com.tsurugidb.iceaxe.util.TgTimeValue;
+import com.tsurugidb.iceaxe.util.function.IoSupplier;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.tsubakuro.sql.StatementMetadata;
+
+/**
+ * cache of statement metadata (explain result).
+ * <p>
+ * The statement metadata is cached by the SQL and the signature of the parameters (names and value types, not the values).<br>
+ * The cache can be shared by the sessions of the same connector. (see {@link #install(TsurugiConnector)})<br>
+ * The entries expire after the time to live, and all entries are invalidated when DDL is executed by the installed session,
+ * because the execution plan may change by DDL of any table or index.<br>
+ * They are invalidated again when the transaction which executed the DDL is committed or closed,
+ * because the statement metadata loaded before the commit may be the one before the DDL.
+ * </p>
+ *
+ * @see TsurugiCachingExplainHelper
+ */
+@ThreadSafe
+public class TsurugiExplainCache extends IceaxeDdlAwareCache {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiExplainCache.class);
+
+    /**
+     * Creates a new instance (without time to live).
+     *
+     * @param maxSize maximum number of cached statement metadata
+     * @return cache
+     */
+    public static TsurugiExplainCache of(int maxSize) {
+        return new TsurugiExplainCache(null, maxSize);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param timeToLive time to live
+     * @param maxSize    maximum number of cached statement metadata
+     * @return cache
+     */
+    public static TsurugiExplainCache of(TgTimeValue timeToLive, int maxSize) {
+        return new TsurugiExplainCache(timeToLive, maxSize);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param time    time to live
+     * @param unit    time unit
+     * @param maxSize maximum number of cached statement metadata
+     * @return cache
+     */
+    public static TsurugiExplainCache of(long time, TimeUnit unit, int maxSize) {
+        return of(TgTimeValue.of(time, unit), maxSize);
+    }
+
+    private final int maxSize;
+    private final Map<String, CacheEntry<StatementMetadata>> metadataMap;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    private final TsurugiCachingExplainHelper explainHelper;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param timeToLive time to live ({@code null} if the entries do not expire)
+     * @param maxSize    maximum number of cached statement metadata
+     */
+    public TsurugiExplainCache(@Nullable TgTimeValue timeToLive, int maxSize) {
+        super(timeToLive);
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive. maxSize=" + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.metadataMap = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry<StatementMetadata>> eldest) {
+                return size() > TsurugiExplainCache.this.maxSize;
+            }
+        };
+        this.explainHelper = new TsurugiCachingExplainHelper(this);
+    }
+
+    /**
+     * install this cache to the sessions created by the connector.
+     *
+     * @param connector tsurugi connector
+     */
+    public void install(TsurugiConnector connector) {
+        connector.addEventListener(this::install);
+    }
+
+    /**
+     * install this cache to the session.
+     * <p>
+     * Sets the caching helper to the session, and watches DDL executed by the session.
+     * </p>
+     *
+     * @param session tsurugi session
+     */
+    public void install(TsurugiSession session) {
+        session.setExplainHelper(explainHelper);
+        watchDdl(session);
+    }
+
+    /**
+     * get explain helper using this cache.
+     *
+     * @return explain helper
+     */
+    public TsurugiCachingExplainHelper getExplainHelper() {
+        return this.explainHelper;
+    }
+
+    /**
+     * create cache key.
+     *
+     * @param source       SQL
+     * @param lowParameter list of parameter ({@code null} if not prepared)
+     * @return cache key
+     */
+    protected String createKey(String source, @Nullable List<Parameter> lowParameter) {
+        if (lowParameter == null || lowParameter.isEmpty()) {
+            return source;
+        }
+
+        var sb = new StringBuilder(source.length() + lowParameter.size() * 16);
+        sb.append(source);
+        for (var parameter : lowParameter) {
+            sb.append('\0').append(parameter.getName()).append(':').append(parameter.getValueCase());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * get statement metadata from cache, or load it.
+     *
+     * @param key    cache key
+     * @param loader loader of statement metadata
+     * @return low statement metadata
+     * @throws IOException          if an I/O error occurs while retrieving statement metadata
+     * @throws InterruptedException if interrupted while retrieving statement metadata
+     */
+    StatementMetadata getStatementMetadata(String key, IoSupplier<StatementMetadata> loader) throws IOException, InterruptedException {
+        long startGeneration;
+        synchronized (this) {
+            var entry = metadataMap.get(key);
+            if (entry != null) {
+                if (!entry.isExpired(nanoTime())) {
+                    LOG.trace("explain cache hit. key={}", key);
+                    this.hitCount++;
+                    return entry.value();
+                }
+                metadataMap.remove(key);
+            }
+            this.missCount++;
+            startGeneration = getGeneration();
+        }
+
+        var value = loader.get();
+        synchronized (this) {
+            // do not cache the value which may have been loaded before DDL
+            if (getGeneration() == startGeneration) {
+                metadataMap.put(key, newEntry(value));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * invalidate all statement metadata.
+     */
+    public synchronized void invalidateAll() {
+        LOG.trace("explain cache invalidate all");
+        nextGeneration();
+        metadataMap.clear();
+    }
+
+    /**
+     * get number of cached statement metadata.
+     *
+     * @return number of cached statement metadata
+     */
+    public synchronized int size() {
+        return metadataMap.size();
+    }
+
+    /**
+     * get number of cache hits.
+     *
+     * @return number of cache hits
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * get number of cache misses.
+     *
+     * @return number of cache misses
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * invalidate the statement metadata if the SQL is DDL.
+     *
+     * @param sql SQL
+     */
+    @Override
+    protected void invalidateByDdl(@Nullable String sql) {
+        if (!isDdl(sql)) {
+            return;
+        }
+        invalidateAll();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(timeToLive=" + timeToLiveNanos + "ns, maxSize=" + maxSize + ")";
+    }
+}
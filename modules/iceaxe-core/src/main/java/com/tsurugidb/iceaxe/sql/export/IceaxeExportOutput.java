@@ -0,0 +1,170 @@
+package com.tsurugidb.iceaxe.sql.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * output of export.
+ * <p>
+ * Writes to the file through a reusable direct buffer, so the file is written in large sequential writes.
+ * </p>
+ */
+@NotThreadSafe
+class IceaxeExportOutput implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long byteCount = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param file       output file
+     * @param bufferSize buffer size
+     * @throws IOException if an I/O error occurs while opening the file
+     */
+    IceaxeExportOutput(Path file, int bufferSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * get buffer which has the remaining space.
+     *
+     * @param size required size (must not exceed the buffer size)
+     * @return buffer
+     * @throws IOException if an I/O error occurs while writing the file
+     */
+    public ByteBuffer ensure(int size) throws IOException {
+        if (buffer.remaining() < size) {
+            flush();
+        }
+        return this.buffer;
+    }
+
+    /**
+     * put byte.
+     *
+     * @param value value
+     * @throws IOException if an I/O error occurs while writing the file
+     */
+    public void put(byte value) throws IOException {
+        ensure(1).put(value);
+    }
+
+    /**
+     * put bytes.
+     *
+     * @param value value
+     * @throws IOException if an I/O error occurs while writing the file
+     */
+    public void put(byte[] value) throws IOException {
+        put(ByteBuffer.wrap(value));
+    }
+
+    /**
+     * put bytes.
+     *
+     * @param src source
+     * @throws IOException if an I/O error occurs while writing the file
+     */
+    public void put(ByteBuffer src) throws IOException {
+        if (src.remaining() <= buffer.remaining()) {
+            buffer.put(src);
+            return;
+        }
+
+        flush();
+        if (src.remaining() <= buffer.remaining()) {
+            buffer.put(src);
+            return;
+        }
+        while (src.hasRemaining()) {
+            this.byteCount += channel.write(src);
+        }
+    }
+
+    /**
+     * put ASCII string.
+     *
+     * @param value value
+     * @throws IOException if an I/O error occurs while writing the file
+     */
+    public void putAscii(String value) throws IOException {
+        int length = value.length();
+        for (int i = 0; i < length;) {
+            var buf = ensure(1);
+            int n = Math.min(length - i, buf.remaining());
+            for (int end = i + n; i < end; i++) {
+                buf.put((byte) value.charAt(i));
+            }
+        }
+    }
+
+    /**
+     * put decimal digits of the value.
+     *
+     * @param value value
+     * @throws IOException if an I/O error occurs while writing the file
+     */
+    public void putDigits(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            putAscii(Long.toString(value));
+            return;
+        }
+
+        var buf = ensure(20);
+        if (value < 0) {
+            buf.put((byte) '-');
+            value = -value;
+        }
+        int length = 1;
+        for (long n = value / 10; n != 0; n /= 10) {
+            length++;
+        }
+        int position = buf.position();
+        for (int i = position + length - 1; i >= position; i--) {
+            buf.put(i, (byte) ('0' + (value % 10)));
+            value /= 10;
+        }
+        buf.position(position + length);
+    }
+
+    /**
+     * write the buffer to the file.
+     *
+     * @throws IOException if an I/O error occurs while writing the file
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            this.byteCount += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * get number of bytes written to the file.
+     *
+     * @return number of bytes
+     */
+    public long getByteCount() {
+        return this.byteCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
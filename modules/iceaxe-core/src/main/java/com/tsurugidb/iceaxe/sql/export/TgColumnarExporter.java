@@ -0,0 +1,337 @@
+package com.tsurugidb.iceaxe.sql.export;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+
+/**
+ * columnar binary exporter.
+ * <p>
+ * Writes the rows in batches, and each batch holds the values column by column (like Arrow IPC). All numbers are little-endian.
+ * </p>
+ *
+ * <pre>
+ * file     = "ICXC" version(int32) columnCount(int32) column-header* batch* 0(int32)
+ * column-header = nameLength(int32) name(UTF-8) atomType(int32)
+ * batch    = rowCount(int32) column-body*
+ * column-body = nullBitmap((rowCount + 7) / 8 bytes, LSB first) values
+ * values (fixed size)    = value * rowCount (the value of null is zero)
+ * values (variable size) = offset(int32) * (rowCount + 1) data
+ * </pre>
+ * <table>
+ * <caption>value format</caption>
+ * <tr><th>type</th><th>format</th></tr>
+ * <tr><td>BOOLEAN</td><td>int8 (0 or 1)</td></tr>
+ * <tr><td>INT4, INT8, FLOAT4, FLOAT8</td><td>int32, int64, float32, float64</td></tr>
+ * <tr><td>DATE</td><td>epoch day (int64)</td></tr>
+ * <tr><td>TIME_OF_DAY</td><td>nano of day (int64)</td></tr>
+ * <tr><td>TIME_POINT</td><td>epoch second (int64) nano (int32)</td></tr>
+ * <tr><td>TIME_OF_DAY_WITH_TIME_ZONE</td><td>nano of day (int64) offset second (int32)</td></tr>
+ * <tr><td>TIME_POINT_WITH_TIME_ZONE</td><td>epoch second (int64) nano (int32) offset second (int32)</td></tr>
+ * <tr><td>DATETIME_INTERVAL</td><td>year (int32) month (int32) day (int32) nanosecond (int64)</td></tr>
+ * <tr><td>DECIMAL</td><td>variable: scale (int32) unscaled value (two's-complement, big-endian)</td></tr>
+ * <tr><td>CHARACTER</td><td>variable: UTF-8</td></tr>
+ * <tr><td>OCTET</td><td>variable: bytes</td></tr>
+ * <tr><td>BIT</td><td>variable: number of bits (int32) bits (LSB first)</td></tr>
+ * </table>
+ * <p>
+ * The column buffers are reused between the batches.
+ * </p>
+ */
+public class TgColumnarExporter extends TgQueryExporter {
+
+    /** format version */
+    public static final int VERSION = 1;
+
+    private static final byte[] MAGIC = { 'I', 'C', 'X', 'C' };
+    private static final int MAX_BATCH_DATA_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Creates a new instance.
+     *
+     * @return columnar exporter
+     */
+    public static TgColumnarExporter of() {
+        return new TgColumnarExporter();
+    }
+
+    private int batchSize = 4096;
+
+    /**
+     * Creates a new instance.
+     */
+    public TgColumnarExporter() {
+        // do nothing
+    }
+
+    @Override
+    public TgColumnarExporter bufferSize(int size) {
+        super.bufferSize(size);
+        return this;
+    }
+
+    /**
+     * set maximum number of rows in a batch.
+     *
+     * @param size number of rows
+     * @return this
+     */
+    public TgColumnarExporter batchSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size < 1 (size=" + size + ")");
+        }
+        this.batchSize = size;
+        return this;
+    }
+
+    private static class ColumnBuffer {
+        private final AtomType lowType;
+        private final int fixedSize;
+        private final byte[] nullBits;
+        private ByteBuffer data;
+        private final ByteBuffer offsets;
+
+        ColumnBuffer(AtomType lowType, int batchSize) {
+            this.lowType = lowType;
+            this.fixedSize = fixedSize(lowType);
+            this.nullBits = new byte[(batchSize + 7) / 8];
+            if (fixedSize > 0) {
+                this.data = allocate(fixedSize * batchSize);
+                this.offsets = null;
+            } else {
+                this.data = allocate(1024);
+                this.offsets = allocate(Integer.BYTES * (batchSize + 1));
+            }
+        }
+
+        void clear() {
+            Arrays.fill(nullBits, (byte) 0);
+            data.clear();
+            if (offsets != null) {
+                offsets.clear();
+                offsets.putInt(0);
+            }
+        }
+
+        ByteBuffer ensure(int size) {
+            if (data.remaining() < size) {
+                var newData = allocate(Math.max(data.capacity() * 2, data.position() + size));
+                data.flip();
+                newData.put(data);
+                this.data = newData;
+            }
+            return this.data;
+        }
+
+        void endValue() {
+            if (offsets != null) {
+                offsets.putInt(data.position());
+            }
+        }
+    }
+
+    private static ByteBuffer allocate(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int fixedSize(AtomType lowType) {
+        switch (lowType) {
+        case BOOLEAN:
+            return 1;
+        case INT4:
+        case FLOAT4:
+            return Integer.BYTES;
+        case INT8:
+        case FLOAT8:
+        case DATE:
+        case TIME_OF_DAY:
+            return Long.BYTES;
+        case TIME_POINT:
+        case TIME_OF_DAY_WITH_TIME_ZONE:
+            return Long.BYTES + Integer.BYTES;
+        case TIME_POINT_WITH_TIME_ZONE:
+            return Long.BYTES + Integer.BYTES * 2;
+        case DATETIME_INTERVAL:
+            return Integer.BYTES * 3 + Long.BYTES;
+        case DECIMAL:
+        case CHARACTER:
+        case OCTET:
+        case BIT:
+            return 0;
+        default:
+            throw new UnsupportedOperationException("unsupported type error. lowType=" + lowType);
+        }
+    }
+
+    @Override
+    void checkColumns(List<? extends Column> lowColumnList) {
+        for (var lowColumn : lowColumnList) {
+            fixedSize(lowColumn.getAtomType());
+        }
+    }
+
+    @Override
+    long write(ResultSet lowResultSet, LowRowCursor cursor, List<? extends Column> lowColumnList, IceaxeExportOutput out)
+            throws IOException, ServerException, InterruptedException, TsurugiTransactionException {
+        int size = lowColumnList.size();
+        var columns = new ColumnBuffer[size];
+        for (int i = 0; i < size; i++) {
+            columns[i] = new ColumnBuffer(lowColumnList.get(i).getAtomType(), batchSize);
+        }
+        writeHeader(out, lowColumnList, columns);
+
+        var encoder = StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        long rowCount = 0;
+        int batchRowCount = 0;
+        boolean fullData = false;
+        for (var column : columns) {
+            column.clear();
+        }
+        while (cursor.nextRow()) {
+            for (int i = 0; i < size; i++) {
+                nextColumn(lowResultSet, i);
+                var column = columns[i];
+                if (lowResultSet.isNull()) {
+                    column.nullBits[batchRowCount >>> 3] |= 1 << (batchRowCount & 7);
+                    if (column.fixedSize > 0) {
+                        var data = column.data;
+                        int position = data.position();
+                        for (int j = 0; j < column.fixedSize; j++) {
+                            data.put(position + j, (byte) 0);
+                        }
+                        data.position(position + column.fixedSize);
+                    }
+                } else {
+                    putValue(column, lowResultSet, encoder);
+                }
+                column.endValue();
+                if (column.data.position() >= MAX_BATCH_DATA_SIZE) {
+                    fullData = true;
+                }
+            }
+            rowCount++;
+            batchRowCount++;
+
+            if (batchRowCount >= batchSize || fullData) {
+                writeBatch(out, columns, batchRowCount);
+                batchRowCount = 0;
+                fullData = false;
+            }
+        }
+        if (batchRowCount > 0) {
+            writeBatch(out, columns, batchRowCount);
+        }
+        out.ensure(Integer.BYTES).putInt(0);
+        return rowCount;
+    }
+
+    private static void writeHeader(IceaxeExportOutput out, List<? extends Column> lowColumnList, ColumnBuffer[] columns) throws IOException {
+        out.put(MAGIC);
+        out.ensure(Integer.BYTES * 2).putInt(VERSION).putInt(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            var name = getColumnName(lowColumnList.get(i), i).getBytes(StandardCharsets.UTF_8);
+            out.ensure(Integer.BYTES).putInt(name.length);
+            out.put(name);
+            out.ensure(Integer.BYTES).putInt(columns[i].lowType.getNumber());
+        }
+    }
+
+    private static void writeBatch(IceaxeExportOutput out, ColumnBuffer[] columns, int rowCount) throws IOException {
+        out.ensure(Integer.BYTES).putInt(rowCount);
+        for (var column : columns) {
+            out.put(ByteBuffer.wrap(column.nullBits, 0, (rowCount + 7) / 8));
+            if (column.offsets != null) {
+                out.put(column.offsets.flip());
+            }
+            out.put(column.data.flip());
+            column.clear();
+        }
+    }
+
+    private static void putValue(ColumnBuffer column, ResultSet lowResultSet, CharsetEncoder encoder) throws IOException, ServerException, InterruptedException {
+        switch (column.lowType) {
+        case BOOLEAN:
+            column.data.put((byte) (lowResultSet.fetchBooleanValue() ? 1 : 0));
+            break;
+        case INT4:
+            column.data.putInt(lowResultSet.fetchInt4Value());
+            break;
+        case INT8:
+            column.data.putLong(lowResultSet.fetchInt8Value());
+            break;
+        case FLOAT4:
+            column.data.putFloat(lowResultSet.fetchFloat4Value());
+            break;
+        case FLOAT8:
+            column.data.putDouble(lowResultSet.fetchFloat8Value());
+            break;
+        case DATE:
+            column.data.putLong(lowResultSet.fetchDateValue().toEpochDay());
+            break;
+        case TIME_OF_DAY:
+            column.data.putLong(lowResultSet.fetchTimeOfDayValue().toNanoOfDay());
+            break;
+        case TIME_POINT:
+            var dateTime = lowResultSet.fetchTimePointValue();
+            column.data.putLong(dateTime.toEpochSecond(ZoneOffset.UTC)).putInt(dateTime.getNano());
+            break;
+        case TIME_OF_DAY_WITH_TIME_ZONE:
+            var offsetTime = lowResultSet.fetchTimeOfDayWithTimeZoneValue();
+            column.data.putLong(offsetTime.toLocalTime().toNanoOfDay()).putInt(offsetTime.getOffset().getTotalSeconds());
+            break;
+        case TIME_POINT_WITH_TIME_ZONE:
+            var offsetDateTime = lowResultSet.fetchTimePointWithTimeZoneValue();
+            column.data.putLong(offsetDateTime.toEpochSecond()).putInt(offsetDateTime.getNano()).putInt(offsetDateTime.getOffset().getTotalSeconds());
+            break;
+        case DATETIME_INTERVAL:
+            var interval = lowResultSet.fetchDateTimeIntervalValue();
+            column.data.putInt(interval.getYear()).putInt(interval.getMonth()).putInt(interval.getDay()).putLong(interval.getNanoseconds());
+            break;
+        case DECIMAL:
+            var decimal = lowResultSet.fetchDecimalValue();
+            var unscaled = decimal.unscaledValue().toByteArray();
+            column.ensure(Integer.BYTES + unscaled.length).putInt(decimal.scale()).put(unscaled);
+            break;
+        case CHARACTER:
+            var string = lowResultSet.fetchCharacterValue();
+            var data = column.ensure(string.length() * 3);
+            encoder.reset();
+            encoder.encode(CharBuffer.wrap(string), data, true);
+            encoder.flush(data);
+            break;
+        case OCTET:
+            var bytes = lowResultSet.fetchOctetValue();
+            column.ensure(bytes.length).put(bytes);
+            break;
+        case BIT:
+            var bits = lowResultSet.fetchBitValue();
+            var buf = column.ensure(Integer.BYTES + (bits.length + 7) / 8);
+            buf.putInt(bits.length);
+            for (int i = 0; i < bits.length; i += 8) {
+                int b = 0;
+                for (int j = 0; j < 8 && i + j < bits.length; j++) {
+                    if (bits[i + j]) {
+                        b |= 1 << j;
+                    }
+                }
+                buf.put((byte) b);
+            }
+            break;
+        default:
+            throw new UnsupportedOperationException("unsupported type error. lowType=" + column.lowType);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.tsurugidb.iceaxe.sql.export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+
+/**
+ * CSV exporter.
+ * <p>
+ * Writes the rows in CSV (RFC 4180). The values are quoted only if they contain the separator, double quote or line break,
+ * or they are empty or equal to the null value (so that they are distinguished from null).<br>
+ * Integer values are written as digits without creating String, BYTES is written in hexadecimal and BITS as '0'/'1'.
+ * </p>
+ *
+ * <pre>
+ * var exporter = TgCsvExporter.of().header(true);
+ * var result = exporter.export(transaction, ps, Path.of("/tmp/foo.csv"));
+ * </pre>
+ */
+public class TgCsvExporter extends TgQueryExporter {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Creates a new instance.
+     *
+     * @return CSV exporter
+     */
+    public static TgCsvExporter of() {
+        return new TgCsvExporter();
+    }
+
+    private boolean header = true;
+    private char separator = ',';
+    private String nullValue = "";
+    private String lineSeparator = "\r\n";
+
+    /**
+     * Creates a new instance.
+     */
+    public TgCsvExporter() {
+        // do nothing
+    }
+
+    @Override
+    public TgCsvExporter bufferSize(int size) {
+        super.bufferSize(size);
+        return this;
+    }
+
+    /**
+     * set whether to write the header (column names).
+     *
+     * @param header {@code true} if write the header
+     * @return this
+     */
+    public TgCsvExporter header(boolean header) {
+        this.header = header;
+        return this;
+    }
+
+    /**
+     * set separator.
+     *
+     * @param separator separator (ASCII)
+     * @return this
+     */
+    public TgCsvExporter separator(char separator) {
+        if (separator >= 0x80 || separator == '"' || separator == '\r' || separator == '\n') {
+            throw new IllegalArgumentException("invalid separator. separator=" + separator);
+        }
+        this.separator = separator;
+        return this;
+    }
+
+    /**
+     * set string for null value.
+     *
+     * @param nullValue string for null
+     * @return this
+     */
+    public TgCsvExporter nullValue(String nullValue) {
+        this.nullValue = nullValue;
+        return this;
+    }
+
+    /**
+     * set line separator.
+     *
+     * @param lineSeparator line separator
+     * @return this
+     */
+    public TgCsvExporter lineSeparator(String lineSeparator) {
+        this.lineSeparator = lineSeparator;
+        return this;
+    }
+
+    @Override
+    long write(ResultSet lowResultSet, LowRowCursor cursor, List<? extends Column> lowColumnList, IceaxeExportOutput out)
+            throws IOException, ServerException, InterruptedException, TsurugiTransactionException {
+        int size = lowColumnList.size();
+        var lowTypes = new AtomType[size];
+        for (int i = 0; i < size; i++) {
+            lowTypes[i] = lowColumnList.get(i).getAtomType();
+        }
+        byte sep = (byte) this.separator;
+        byte[] nullBytes = nullValue.getBytes(StandardCharsets.UTF_8);
+        byte[] lineBytes = lineSeparator.getBytes(StandardCharsets.UTF_8);
+
+        if (this.header) {
+            for (int i = 0; i < size; i++) {
+                if (i != 0) {
+                    out.put(sep);
+                }
+                putString(out, getColumnName(lowColumnList.get(i), i));
+            }
+            out.put(lineBytes);
+        }
+
+        long rowCount = 0;
+        while (cursor.nextRow()) {
+            for (int i = 0; i < size; i++) {
+                if (i != 0) {
+                    out.put(sep);
+                }
+                nextColumn(lowResultSet, i);
+                if (lowResultSet.isNull()) {
+                    out.put(nullBytes);
+                } else {
+                    putValue(out, lowResultSet, lowTypes[i]);
+                }
+            }
+            out.put(lineBytes);
+            rowCount++;
+        }
+        return rowCount;
+    }
+
+    private void putValue(IceaxeExportOutput out, ResultSet lowResultSet, AtomType lowType) throws IOException, ServerException, InterruptedException {
+        switch (lowType) {
+        case BOOLEAN:
+            out.putAscii(lowResultSet.fetchBooleanValue() ? "true" : "false");
+            break;
+        case INT4:
+            out.putDigits(lowResultSet.fetchInt4Value());
+            break;
+        case INT8:
+            out.putDigits(lowResultSet.fetchInt8Value());
+            break;
+        case FLOAT4:
+            out.putAscii(Float.toString(lowResultSet.fetchFloat4Value()));
+            break;
+        case FLOAT8:
+            out.putAscii(Double.toString(lowResultSet.fetchFloat8Value()));
+            break;
+        case DECIMAL:
+            out.putAscii(lowResultSet.fetchDecimalValue().toPlainString());
+            break;
+        case CHARACTER:
+            putString(out, lowResultSet.fetchCharacterValue());
+            break;
+        case OCTET:
+            putHex(out, lowResultSet.fetchOctetValue());
+            break;
+        case BIT:
+            putBits(out, lowResultSet.fetchBitValue());
+            break;
+        case DATE:
+            out.putAscii(lowResultSet.fetchDateValue().toString());
+            break;
+        case TIME_OF_DAY:
+            out.putAscii(lowResultSet.fetchTimeOfDayValue().toString());
+            break;
+        case TIME_POINT:
+            out.putAscii(lowResultSet.fetchTimePointValue().toString());
+            break;
+        case TIME_OF_DAY_WITH_TIME_ZONE:
+            out.putAscii(lowResultSet.fetchTimeOfDayWithTimeZoneValue().toString());
+            break;
+        case TIME_POINT_WITH_TIME_ZONE:
+            out.putAscii(lowResultSet.fetchTimePointWithTimeZoneValue().toString());
+            break;
+        case DATETIME_INTERVAL:
+            putString(out, lowResultSet.fetchDateTimeIntervalValue().toString());
+            break;
+        default:
+            throw new UnsupportedOperationException("unsupported type error. lowType=" + lowType);
+        }
+    }
+
+    private void putString(IceaxeExportOutput out, String value) throws IOException {
+        int length = value.length();
+        boolean quote = length == 0 || value.equals(nullValue);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == separator || c == '"' || c == '\r' || c == '\n') {
+                quote = true;
+                break;
+            }
+        }
+
+        if (quote) {
+            out.put((byte) '"');
+        }
+        for (int i = 0; i < length; i++) {
+            var buf = out.ensure(6);
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c == '"') {
+                    buf.put((byte) '"');
+                }
+                buf.put((byte) c);
+            } else if (c < 0x800) {
+                buf.put((byte) (0xc0 | (c >> 6)));
+                buf.put((byte) (0x80 | (c & 0x3f)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                buf.put((byte) (0xf0 | (cp >> 18)));
+                buf.put((byte) (0x80 | ((cp >> 12) & 0x3f)));
+                buf.put((byte) (0x80 | ((cp >> 6) & 0x3f)));
+                buf.put((byte) (0x80 | (cp & 0x3f)));
+            } else if (Character.isSurrogate(c)) {
+                buf.put((byte) '?');
+            } else {
+                buf.put((byte) (0xe0 | (c >> 12)));
+                buf.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+                buf.put((byte) (0x80 | (c & 0x3f)));
+            }
+        }
+        if (quote) {
+            out.put((byte) '"');
+        }
+    }
+
+    private static void putHex(IceaxeExportOutput out, byte[] value) throws IOException {
+        if (value.length == 0) {
+            putEmpty(out);
+            return;
+        }
+        for (byte b : value) {
+            var buf = out.ensure(2);
+            buf.put(HEX[(b >> 4) & 0xf]);
+            buf.put(HEX[b & 0xf]);
+        }
+    }
+
+    private static void putBits(IceaxeExportOutput out, boolean[] value) throws IOException {
+        if (value.length == 0) {
+            putEmpty(out);
+            return;
+        }
+        for (boolean b : value) {
+            out.put((byte) (b ? '1' : '0'));
+        }
+    }
+
+    private static void putEmpty(IceaxeExportOutput out) throws IOException {
+        var buf = out.ensure(2);
+        buf.put((byte) '"');
+        buf.put((byte) '"');
+    }
+}
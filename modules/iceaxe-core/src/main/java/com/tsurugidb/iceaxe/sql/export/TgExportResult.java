@@ -0,0 +1,106 @@
+package com.tsurugidb.iceaxe.sql.export;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * export result.
+ */
+public class TgExportResult {
+
+    private final Path file;
+    private final long rowCount;
+    private final long byteCount;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param file         output file
+     * @param rowCount     number of rows
+     * @param byteCount    number of bytes
+     * @param elapsedNanos elapsed time [ns]
+     */
+    public TgExportResult(Path file, long rowCount, long byteCount, long elapsedNanos) {
+        this.file = file;
+        this.rowCount = rowCount;
+        this.byteCount = byteCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * get output file.
+     *
+     * @return file
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * get number of rows.
+     *
+     * @return number of rows
+     */
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * get number of bytes.
+     *
+     * @return number of bytes
+     */
+    public long getByteCount() {
+        return this.byteCount;
+    }
+
+    /**
+     * get elapsed time.
+     *
+     * @return elapsed time [ns]
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * get elapsed time.
+     *
+     * @return elapsed time [ms]
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * get throughput.
+     *
+     * @return rows per second
+     */
+    public double getRowsPerSecond() {
+        return perSecond(rowCount);
+    }
+
+    /**
+     * get throughput.
+     *
+     * @return bytes per second
+     */
+    public double getBytesPerSecond() {
+        return perSecond(byteCount);
+    }
+
+    private double perSecond(long count) {
+        if (this.elapsedNanos <= 0) {
+            return 0;
+        }
+        return count * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TgExportResult(file=%s, rowCount=%d, byteCount=%d, elapsed=%dms, rows/s=%.1f, bytes/s=%.1f)", //
+                file, rowCount, byteCount, getElapsedMillis(), getRowsPerSecond(), getBytesPerSecond());
+    }
+}
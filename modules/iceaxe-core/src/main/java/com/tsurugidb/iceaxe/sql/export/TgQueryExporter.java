@@ -0,0 +1,204 @@
+package com.tsurugidb.iceaxe.sql.export;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlQuery;
+import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+
+/**
+ * query exporter.
+ * <p>
+ * Writes the rows of the query result to the file directly from the low ResultSet (the result mapping is not used).<br>
+ * The rows are read through {@link TsurugiQueryResult}, so the read count is updated and
+ * {@link com.tsurugidb.iceaxe.sql.result.event.TsurugiQueryResultEventListener#endResult(TsurugiQueryResult) endResult} is called,
+ * but {@link com.tsurugidb.iceaxe.sql.result.event.TsurugiQueryResultEventListener#readRecord(TsurugiQueryResult, Object) readRecord} is not.
+ * </p>
+ *
+ * @see TgCsvExporter
+ * @see TgColumnarExporter
+ */
+public abstract class TgQueryExporter {
+    private static final Logger LOG = LoggerFactory.getLogger(TgQueryExporter.class);
+
+    /** default buffer size */
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * row cursor.
+     */
+    @FunctionalInterface
+    interface LowRowCursor {
+        /**
+         * Advances to the next row.
+         *
+         * @return {@code false} if there are no more rows
+         * @throws IOException                 if an I/O error occurs while retrieving the rows
+         * @throws ServerException             if server error occurs while retrieving the rows
+         * @throws InterruptedException        if interrupted while retrieving the rows
+         * @throws TsurugiTransactionException if server error occurs while retrieving the rows
+         */
+        boolean nextRow() throws IOException, ServerException, InterruptedException, TsurugiTransactionException;
+    }
+
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    TgQueryExporter() {
+        // do nothing
+    }
+
+    /**
+     * set buffer size.
+     *
+     * @param size buffer size [byte]
+     * @return this
+     */
+    public TgQueryExporter bufferSize(int size) {
+        if (size < 64) {
+            throw new IllegalArgumentException("size < 64 (size=" + size + ")");
+        }
+        this.bufferSize = size;
+        return this;
+    }
+
+    /**
+     * get buffer size.
+     *
+     * @return buffer size [byte]
+     */
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+
+    /**
+     * execute query and export.
+     *
+     * @param transaction transaction
+     * @param ps          SQL definition
+     * @param file        output file
+     * @return export result
+     * @throws IOException                 if an I/O error occurs while execute query or writing the file
+     * @throws InterruptedException        if interrupted while execute query
+     * @throws TsurugiTransactionException if server error occurs while execute query
+     */
+    public TgExportResult export(TsurugiTransaction transaction, TsurugiSqlQuery<?> ps, Path file) throws IOException, InterruptedException, TsurugiTransactionException {
+        try (var result = ps.execute(transaction)) {
+            return export(result, file);
+        }
+    }
+
+    /**
+     * execute query and export.
+     *
+     * @param <P>         parameter type
+     * @param transaction transaction
+     * @param ps          SQL definition
+     * @param parameter   SQL parameter
+     * @param file        output file
+     * @return export result
+     * @throws IOException                 if an I/O error occurs while execute query or writing the file
+     * @throws InterruptedException        if interrupted while execute query
+     * @throws TsurugiTransactionException if server error occurs while execute query
+     */
+    public <P> TgExportResult export(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<P, ?> ps, P parameter, Path file)
+            throws IOException, InterruptedException, TsurugiTransactionException {
+        try (var result = ps.execute(transaction, parameter)) {
+            return export(result, file);
+        }
+    }
+
+    /**
+     * export query result.
+     * <p>
+     * The query result must not be read before.
+     * </p>
+     *
+     * @param result query result
+     * @param file   output file
+     * @return export result
+     * @throws IOException                 if an I/O error occurs while retrieving the rows or writing the file
+     * @throws InterruptedException        if interrupted while retrieving the rows
+     * @throws TsurugiTransactionException if server error occurs while retrieving the rows
+     */
+    public TgExportResult export(TsurugiQueryResult<?> result, Path file) throws IOException, InterruptedException, TsurugiTransactionException {
+        var lowResultSet = result.getLowResultSet();
+        try {
+            return exportLow(lowResultSet, result::nextLowRow, file);
+        } catch (ServerException e) {
+            throw result.fillToTsurugiException(new TsurugiTransactionException(e));
+        }
+    }
+
+    TgExportResult exportLow(ResultSet lowResultSet, Path file) throws IOException, ServerException, InterruptedException, TsurugiTransactionException {
+        return exportLow(lowResultSet, lowResultSet::nextRow, file);
+    }
+
+    private TgExportResult exportLow(ResultSet lowResultSet, LowRowCursor cursor, Path file) throws IOException, ServerException, InterruptedException, TsurugiTransactionException {
+        LOG.trace("export start. file={}", file);
+        long start = System.nanoTime();
+
+        var lowColumnList = lowResultSet.getMetadata().getColumns();
+        checkColumns(lowColumnList);
+        long rowCount;
+        long byteCount;
+        try (var out = new IceaxeExportOutput(file, bufferSize)) {
+            rowCount = write(lowResultSet, cursor, lowColumnList, out);
+            out.flush();
+            byteCount = out.getByteCount();
+        }
+
+        var result = new TgExportResult(file, rowCount, byteCount, System.nanoTime() - start);
+        LOG.debug("export end. {}", result);
+        return result;
+    }
+
+    /**
+     * check columns before the output file is opened.
+     *
+     * @param lowColumnList columns
+     * @throws UnsupportedOperationException if the column type is not supported
+     */
+    void checkColumns(List<? extends Column> lowColumnList) {
+        // do nothing
+    }
+
+    /**
+     * write rows.
+     *
+     * @param lowResultSet  low ResultSet
+     * @param cursor        row cursor of the low ResultSet
+     * @param lowColumnList columns
+     * @param out           output
+     * @return number of rows
+     * @throws IOException                 if an I/O error occurs while retrieving the rows or writing the file
+     * @throws ServerException             if server error occurs while retrieving the rows
+     * @throws InterruptedException        if interrupted while retrieving the rows
+     * @throws TsurugiTransactionException if server error occurs while retrieving the rows
+     */
+    abstract long write(ResultSet lowResultSet, LowRowCursor cursor, List<? extends Column> lowColumnList, IceaxeExportOutput out)
+            throws IOException, ServerException, InterruptedException, TsurugiTransactionException;
+
+    static void nextColumn(ResultSet lowResultSet, int index) throws IOException, ServerException, InterruptedException {
+        if (!lowResultSet.nextColumn()) {
+            throw new IllegalStateException("column not found. index=" + index);
+        }
+    }
+
+    static String getColumnName(Column lowColumn, int index) {
+        var lowName = lowColumn.getName();
+        if (lowName == null || lowName.isEmpty()) {
+            return "@#" + index;
+        }
+        return lowName;
+    }
+}
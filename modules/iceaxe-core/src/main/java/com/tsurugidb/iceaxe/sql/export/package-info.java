@@ -0,0 +1,4 @@
+/**
+ * Iceaxe query export classes.
+ */
+package com.tsurugidb.iceaxe.sql.export;
@@ -0,0 +1,309 @@
+package com.tsurugidb.iceaxe.sql.load;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+
+/**
+ * CSV parser of a segment.
+ * <p>
+ * Parses the records in the buffer into {@link TgBindParameters}.
+ * </p>
+ */
+@NotThreadSafe
+class IceaxeCsvSegmentParser implements Iterator<TgBindParameters> {
+
+    private final ByteBuffer buffer;
+    private final byte separator;
+    private final String nullValue;
+    private final String[] names;
+    private final TgDataType[] types;
+    private final int segmentIndex;
+    private final List<String> fieldList = new ArrayList<>();
+    private byte[] scratch = new byte[256];
+    private long rowCount = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param buffer       source (from position to limit)
+     * @param separator    separator
+     * @param nullValue    string for null
+     * @param names        bind variable names
+     * @param types        data types
+     * @param segmentIndex segment index (for error message)
+     */
+    IceaxeCsvSegmentParser(ByteBuffer buffer, char separator, String nullValue, String[] names, TgDataType[] types, int segmentIndex) {
+        this.buffer = buffer;
+        this.separator = (byte) separator;
+        this.nullValue = nullValue;
+        this.names = names;
+        this.types = types;
+        this.segmentIndex = segmentIndex;
+    }
+
+    /**
+     * get number of parsed records.
+     *
+     * @return number of records
+     */
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+        // skip empty lines
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get(buffer.position());
+            if (b != '\r' && b != '\n') {
+                return true;
+            }
+            buffer.position(buffer.position() + 1);
+        }
+        return false;
+    }
+
+    @Override
+    public TgBindParameters next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        parseRecord(fieldList);
+        this.rowCount++;
+        if (fieldList.size() != names.length) {
+            throw new IllegalArgumentException(errorMessage("column size mismatch. expected=" + names.length + ", actual=" + fieldList.size(), -1));
+        }
+
+        var parameter = TgBindParameters.of();
+        for (int i = 0; i < names.length; i++) {
+            String value = fieldList.get(i);
+            try {
+                add(parameter, names[i], types[i], value);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(errorMessage("parse error. value=" + value, i), e);
+            }
+        }
+        return parameter;
+    }
+
+    private String errorMessage(String message, int column) {
+        var sb = new StringBuilder(message).append(". segment=").append(segmentIndex).append(", record=").append(rowCount);
+        if (column >= 0) {
+            sb.append(", column=").append(column);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * parse record.
+     *
+     * @param fieldList list to store the fields (null if the field is null value)
+     */
+    void parseRecord(List<String> fieldList) {
+        fieldList.clear();
+        for (;;) {
+            int length = 0;
+            boolean quoted = false;
+            if (buffer.hasRemaining() && buffer.get(buffer.position()) == '"') {
+                quoted = true;
+                buffer.position(buffer.position() + 1);
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    if (b == '"') {
+                        if (buffer.hasRemaining() && buffer.get(buffer.position()) == '"') {
+                            buffer.position(buffer.position() + 1);
+                        } else {
+                            break;
+                        }
+                    }
+                    length = put(length, b);
+                }
+            }
+
+            boolean endOfRecord = true;
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                if (b == separator) {
+                    endOfRecord = false;
+                    break;
+                }
+                if (b == '\n') {
+                    break;
+                }
+                if (!quoted) {
+                    length = put(length, b);
+                }
+            }
+            if (endOfRecord && !quoted && length > 0 && scratch[length - 1] == '\r') {
+                length--;
+            }
+
+            var value = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            fieldList.add((!quoted && value.equals(nullValue)) ? null : value);
+            if (endOfRecord) {
+                return;
+            }
+        }
+    }
+
+    private int put(int length, byte b) {
+        if (length == scratch.length) {
+            this.scratch = Arrays.copyOf(scratch, length * 2);
+        }
+        scratch[length] = b;
+        return length + 1;
+    }
+
+    static void add(TgBindParameters parameter, String name, TgDataType type, @Nullable String value) {
+        if (value == null) {
+            addNull(parameter, name, type);
+            return;
+        }
+
+        switch (type) {
+        case BOOLEAN:
+            parameter.addBoolean(name, parseBoolean(value));
+            break;
+        case INT:
+            parameter.addInt(name, Integer.parseInt(value));
+            break;
+        case LONG:
+            parameter.addLong(name, Long.parseLong(value));
+            break;
+        case FLOAT:
+            parameter.addFloat(name, Float.parseFloat(value));
+            break;
+        case DOUBLE:
+            parameter.addDouble(name, Double.parseDouble(value));
+            break;
+        case DECIMAL:
+            parameter.addDecimal(name, new BigDecimal(value));
+            break;
+        case STRING:
+            parameter.addString(name, value);
+            break;
+        case BYTES:
+            parameter.addBytes(name, parseHex(value));
+            break;
+        case BITS:
+            var bits = new boolean[value.length()];
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = value.charAt(i) == '1';
+            }
+            parameter.addBits(name, bits);
+            break;
+        case DATE:
+            parameter.addDate(name, LocalDate.parse(value));
+            break;
+        case TIME:
+            parameter.addTime(name, LocalTime.parse(value));
+            break;
+        case DATE_TIME:
+            parameter.addDateTime(name, LocalDateTime.parse(value));
+            break;
+        case OFFSET_TIME:
+            parameter.addOffsetTime(name, OffsetTime.parse(value));
+            break;
+        case OFFSET_DATE_TIME:
+        case ZONED_DATE_TIME:
+            parameter.addOffsetDateTime(name, OffsetDateTime.parse(value));
+            break;
+        default:
+            throw new UnsupportedOperationException("unsupported type error. type=" + type);
+        }
+    }
+
+    private static void addNull(TgBindParameters parameter, String name, TgDataType type) {
+        switch (type) {
+        case BOOLEAN:
+            parameter.addBoolean(name, (Boolean) null);
+            break;
+        case INT:
+            parameter.addInt(name, (Integer) null);
+            break;
+        case LONG:
+            parameter.addLong(name, (Long) null);
+            break;
+        case FLOAT:
+            parameter.addFloat(name, (Float) null);
+            break;
+        case DOUBLE:
+            parameter.addDouble(name, (Double) null);
+            break;
+        case DECIMAL:
+            parameter.addDecimal(name, null);
+            break;
+        case STRING:
+            parameter.addString(name, null);
+            break;
+        case BYTES:
+            parameter.addBytes(name, null);
+            break;
+        case BITS:
+            parameter.addBits(name, null);
+            break;
+        case DATE:
+            parameter.addDate(name, null);
+            break;
+        case TIME:
+            parameter.addTime(name, null);
+            break;
+        case DATE_TIME:
+            parameter.addDateTime(name, null);
+            break;
+        case OFFSET_TIME:
+            parameter.addOffsetTime(name, null);
+            break;
+        case OFFSET_DATE_TIME:
+        case ZONED_DATE_TIME:
+            parameter.addOffsetDateTime(name, null);
+            break;
+        default:
+            throw new UnsupportedOperationException("unsupported type error. type=" + type);
+        }
+    }
+
+    private static boolean parseBoolean(String value) {
+        if (value.equalsIgnoreCase("true") || value.equals("1")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("false") || value.equals("0")) {
+            return false;
+        }
+        throw new IllegalArgumentException("invalid boolean (expected true, false, 1 or 0)");
+    }
+
+    private static byte[] parseHex(String value) {
+        if (value.length() % 2 != 0) {
+            throw new IllegalArgumentException("odd length of hex string");
+        }
+        var bytes = new byte[value.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int hi = Character.digit(value.charAt(i * 2), 16);
+            int lo = Character.digit(value.charAt(i * 2 + 1), 16);
+            if (hi < 0 || lo < 0) {
+                throw new IllegalArgumentException("invalid hex string");
+            }
+            bytes[i] = (byte) ((hi << 4) | lo);
+        }
+        return bytes;
+    }
+}
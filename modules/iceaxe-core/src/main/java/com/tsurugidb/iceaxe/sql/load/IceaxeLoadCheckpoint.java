@@ -0,0 +1,149 @@
+package com.tsurugidb.iceaxe.sql.load;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.zip.CRC32;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * checkpoint of bulk load.
+ * <p>
+ * The checkpoint file is a text file. The first line identifies the input (see {@link #inputKey(Path, FileChannel)}) and the segment size,
+ * and each following line is the index of the segment which has been committed.
+ * </p>
+ */
+@ThreadSafe
+class IceaxeLoadCheckpoint implements Closeable {
+
+    private static final String HEADER_PREFIX = "iceaxe-load-checkpoint";
+    private static final int FINGERPRINT_SIZE = 64 * 1024;
+
+    /**
+     * get key of the input file.
+     * <p>
+     * The key consists of the file size, the last modified time, and the CRC32 of the first and the last 64KiB of the file.
+     * </p>
+     *
+     * @param inputFile    input file
+     * @param inputChannel channel of the input file
+     * @return key
+     * @throws IOException if an I/O error occurs while reading the input file
+     */
+    public static String inputKey(Path inputFile, FileChannel inputChannel) throws IOException {
+        long fileSize = inputChannel.size();
+        var crc = new CRC32();
+        var buffer = ByteBuffer.allocate((int) Math.min(FINGERPRINT_SIZE, fileSize));
+        updateCrc(crc, inputChannel, 0, buffer);
+        if (fileSize > FINGERPRINT_SIZE) {
+            updateCrc(crc, inputChannel, Math.max(FINGERPRINT_SIZE, fileSize - FINGERPRINT_SIZE), buffer);
+        }
+        return "fileSize=" + fileSize + " lastModified=" + Files.getLastModifiedTime(inputFile).toMillis() + " crc32=" + Long.toHexString(crc.getValue());
+    }
+
+    private static void updateCrc(CRC32 crc, FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position + buffer.position());
+            if (n < 0) {
+                break;
+            }
+        }
+        crc.update(buffer.flip());
+    }
+
+    /**
+     * open checkpoint file.
+     *
+     * @param file        checkpoint file
+     * @param inputKey    key of the input file ({@link #inputKey(Path, FileChannel)})
+     * @param segmentSize segment size
+     * @return checkpoint
+     * @throws IOException           if an I/O error occurs while reading the checkpoint file
+     * @throws IllegalStateException if the checkpoint file is created by another input
+     */
+    public static IceaxeLoadCheckpoint open(Path file, String inputKey, long segmentSize) throws IOException {
+        String header = HEADER_PREFIX + " " + inputKey + " segmentSize=" + segmentSize;
+        var completed = new BitSet();
+        boolean exists = Files.exists(file);
+        if (exists) {
+            var lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !lines.get(0).equals(header)) {
+                throw new IllegalStateException("checkpoint mismatch. file=" + file + ", expected=" + header);
+            }
+            for (var line : lines.subList(1, lines.size())) {
+                if (!line.isEmpty()) {
+                    completed.set(Integer.parseInt(line));
+                }
+            }
+        }
+
+        var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        var checkpoint = new IceaxeLoadCheckpoint(file, channel, completed);
+        if (!exists) {
+            checkpoint.write(header);
+        }
+        return checkpoint;
+    }
+
+    private final Path file;
+    private final FileChannel channel;
+    private final BitSet completed;
+
+    IceaxeLoadCheckpoint(Path file, FileChannel channel, BitSet completed) {
+        this.file = file;
+        this.channel = channel;
+        this.completed = completed;
+    }
+
+    /**
+     * whether the segment has been committed.
+     *
+     * @param segmentIndex segment index
+     * @return {@code true} if committed
+     */
+    public synchronized boolean isCompleted(int segmentIndex) {
+        return completed.get(segmentIndex);
+    }
+
+    /**
+     * record the segment as committed.
+     *
+     * @param segmentIndex segment index
+     * @throws IOException if an I/O error occurs while writing the checkpoint file
+     */
+    public synchronized void complete(int segmentIndex) throws IOException {
+        completed.set(segmentIndex);
+        write(Integer.toString(segmentIndex));
+    }
+
+    private void write(String line) throws IOException {
+        var buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * close and delete the checkpoint file.
+     *
+     * @throws IOException if an I/O error occurs while deleting the checkpoint file
+     */
+    public void delete() throws IOException {
+        close();
+        Files.deleteIfExists(file);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,493 @@
+package com.tsurugidb.iceaxe.sql.load;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.metadata.TgTableMetadata;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * CSV bulk loader.
+ * <p>
+ * Memory-maps the CSV file, splits it into line-aligned segments, and loads the segments into the table in parallel.<br>
+ * Each segment is parsed into {@link TgBindParameters} typed by the {@link TgTableMetadata} of the table,
+ * and inserted by {@link TsurugiTransaction#executeBatchChunked(TsurugiSqlPreparedStatement, java.util.Iterator, int, int)} in one transaction
+ * (executed by {@link TsurugiTransactionManager}, so the segment is retried as a whole).
+ * </p>
+ * <p>
+ * If a checkpoint file is specified, the committed segments are recorded, and the segments already committed are skipped when the load is executed again.
+ * If the CSV file has been changed (size, last modified time, or the head and tail of the content), the checkpoint file is rejected.
+ * When a segment fails, the remaining segments are not started and the exception is thrown after the running segments end.
+ * The checkpoint file is deleted when all segments are loaded.
+ * </p>
+ * <p>
+ * The segments are split at line breaks, so the quoted values must not contain line breaks.
+ * The UTF-8 BOM at the beginning of the file is skipped.
+ * </p>
+ *
+ * <pre>
+ * var loader = TgCsvLoader.of("foo").parallelism(8);
+ * var result = loader.load(session, Path.of("/tmp/foo.csv"), Path.of("/tmp/foo.csv.checkpoint"));
+ * </pre>
+ */
+public class TgCsvLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(TgCsvLoader.class);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param tableName table name
+     * @return CSV loader
+     */
+    public static TgCsvLoader of(String tableName) {
+        return new TgCsvLoader(tableName);
+    }
+
+    private final String tableName;
+    private boolean header = true;
+    private List<String> columnNameList = null;
+    private char separator = ',';
+    private String nullValue = "";
+    private long segmentSize = 32 * 1024 * 1024;
+    private int parallelism = 4;
+    private int chunkSize = 1000;
+    private int maxPendingChunks = 4;
+    private TgTmSetting tmSetting = null;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param tableName table name
+     */
+    public TgCsvLoader(String tableName) {
+        this.tableName = tableName;
+    }
+
+    /**
+     * set whether the first line is the header (column names).
+     *
+     * @param header {@code true} if the first line is the header
+     * @return this
+     */
+    public TgCsvLoader header(boolean header) {
+        this.header = header;
+        return this;
+    }
+
+    /**
+     * set column names.
+     * <p>
+     * If not set, the header or all columns of the table (in the order of the table definition) are used.
+     * </p>
+     *
+     * @param columnNames column names
+     * @return this
+     */
+    public TgCsvLoader columnNames(List<String> columnNames) {
+        this.columnNameList = List.copyOf(columnNames);
+        return this;
+    }
+
+    /**
+     * set separator.
+     *
+     * @param separator separator (ASCII)
+     * @return this
+     */
+    public TgCsvLoader separator(char separator) {
+        if (separator >= 0x80 || separator == '"' || separator == '\r' || separator == '\n') {
+            throw new IllegalArgumentException("invalid separator. separator=" + separator);
+        }
+        this.separator = separator;
+        return this;
+    }
+
+    /**
+     * set string for null value.
+     * <p>
+     * The unquoted value equal to this string is null.
+     * </p>
+     *
+     * @param nullValue string for null
+     * @return this
+     */
+    public TgCsvLoader nullValue(String nullValue) {
+        this.nullValue = nullValue;
+        return this;
+    }
+
+    /**
+     * set segment size.
+     *
+     * @param size segment size [byte] (a segment is extended to the end of the line)
+     * @return this
+     */
+    public TgCsvLoader segmentSize(long size) {
+        if (size < 1 || size > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("size out of range. size=" + size);
+        }
+        this.segmentSize = size;
+        return this;
+    }
+
+    /**
+     * set number of segments loaded concurrently.
+     *
+     * @param parallelism number of segments
+     * @return this
+     */
+    public TgCsvLoader parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism < 1 (parallelism=" + parallelism + ")");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * set batch size.
+     *
+     * @param chunkSize        number of rows in one batch request
+     * @param maxPendingChunks maximum number of batch requests in flight for each segment
+     * @return this
+     */
+    public TgCsvLoader batch(int chunkSize, int maxPendingChunks) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize < 1 (chunkSize=" + chunkSize + ")");
+        }
+        if (maxPendingChunks < 1) {
+            throw new IllegalArgumentException("maxPendingChunks < 1 (maxPendingChunks=" + maxPendingChunks + ")");
+        }
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = maxPendingChunks;
+        return this;
+    }
+
+    /**
+     * set transaction manager setting.
+     * <p>
+     * If not set, OCC (3 attempts) then LTX which write preserves the table is used.
+     * </p>
+     *
+     * @param setting transaction manager setting
+     * @return this
+     */
+    public TgCsvLoader tmSetting(TgTmSetting setting) {
+        this.tmSetting = setting;
+        return this;
+    }
+
+    /**
+     * load CSV file.
+     *
+     * @param session session
+     * @param file    CSV file
+     * @return load result
+     * @throws IOException          if an I/O error occurs while loading
+     * @throws InterruptedException if interrupted while loading
+     */
+    public TgLoadResult load(TsurugiSession session, Path file) throws IOException, InterruptedException {
+        return load(session, file, null);
+    }
+
+    /**
+     * load CSV file.
+     *
+     * @param session        session
+     * @param file           CSV file
+     * @param checkpointFile checkpoint file (null: no checkpoint)
+     * @return load result
+     * @throws IOException          if an I/O error occurs while loading
+     * @throws InterruptedException if interrupted while loading
+     */
+    public TgLoadResult load(TsurugiSession session, Path file, @Nullable Path checkpointFile) throws IOException, InterruptedException {
+        LOG.trace("load start. table={}, file={}", tableName, file);
+        long start = System.nanoTime();
+
+        var metadata = session.findTableMetadata(tableName).orElseThrow(() -> new IllegalArgumentException("table not found. tableName=" + tableName));
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long dataStart = bomSize(channel);
+            List<String> names = this.columnNameList;
+            if (this.header) {
+                var headerList = new ArrayList<String>();
+                dataStart = readHeader(channel, dataStart, headerList);
+                if (names == null) {
+                    names = headerList;
+                }
+            }
+            var columnList = resolveColumns(metadata, names);
+            var segmentList = splitSegments(channel, dataStart, fileSize, segmentSize);
+
+            var checkpoint = (checkpointFile != null) ? IceaxeLoadCheckpoint.open(checkpointFile, IceaxeLoadCheckpoint.inputKey(file, channel), segmentSize) : null;
+            TgLoadResult result;
+            try {
+                result = loadSegments(session, file, channel, columnList, segmentList, checkpoint, start);
+            } catch (Throwable e) {
+                if (checkpoint != null) {
+                    try {
+                        checkpoint.close();
+                    } catch (Throwable c) {
+                        e.addSuppressed(c);
+                    }
+                }
+                throw e;
+            }
+            if (checkpoint != null) {
+                checkpoint.delete();
+            }
+
+            LOG.debug("load end. table={}, {}", tableName, result);
+            return result;
+        }
+    }
+
+    static long bomSize(FileChannel channel) throws IOException {
+        var buffer = ByteBuffer.allocate(3);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                return 0;
+            }
+        }
+        if ((buffer.get(0) & 0xff) == 0xef && (buffer.get(1) & 0xff) == 0xbb && (buffer.get(2) & 0xff) == 0xbf) {
+            return 3;
+        }
+        return 0;
+    }
+
+    private long readHeader(FileChannel channel, long bomSize, List<String> headerList) throws IOException {
+        var buffer = ByteBuffer.allocate(8192);
+        long position = 0;
+        long end = -1;
+        while (end < 0) {
+            buffer.clear();
+            int n = channel.read(buffer, position);
+            if (n <= 0) {
+                end = position;
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                if (buffer.get(i) == '\n') {
+                    end = position + i + 1;
+                    break;
+                }
+            }
+            position += n;
+        }
+        if (end > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("header too long");
+        }
+
+        var headerBuffer = channel.map(MapMode.READ_ONLY, 0, end);
+        headerBuffer.position((int) bomSize);
+        var parser = new IceaxeCsvSegmentParser(headerBuffer, separator, "\0", null, null, -1);
+        if (parser.hasNext()) {
+            parser.parseRecord(headerList);
+        }
+        return end;
+    }
+
+    private static class TgLoadColumn {
+        final String name;
+        final TgDataType type;
+
+        TgLoadColumn(String name, TgDataType type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+    private List<TgLoadColumn> resolveColumns(TgTableMetadata metadata, @Nullable List<String> names) {
+        var lowColumnList = metadata.getLowColumnList();
+        var list = new ArrayList<TgLoadColumn>();
+        if (names == null) {
+            for (var lowColumn : lowColumnList) {
+                list.add(new TgLoadColumn(lowColumn.getName(), TgDataType.of(lowColumn.getAtomType())));
+            }
+            return list;
+        }
+
+        for (var name : names) {
+            var lowColumn = lowColumnList.stream().filter(c -> c.getName().equalsIgnoreCase(name.trim())).findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("column not found. tableName=" + tableName + ", column=" + name));
+            list.add(new TgLoadColumn(lowColumn.getName(), TgDataType.of(lowColumn.getAtomType())));
+        }
+        return list;
+    }
+
+    /**
+     * split file into segments.
+     *
+     * @param channel     file
+     * @param dataStart   start position of data
+     * @param fileSize    file size
+     * @param segmentSize segment size
+     * @return start positions of segments (the last element is the file size)
+     * @throws IOException if an I/O error occurs while reading the file
+     */
+    static List<Long> splitSegments(FileChannel channel, long dataStart, long fileSize, long segmentSize) throws IOException {
+        var list = new ArrayList<Long>();
+        var buffer = ByteBuffer.allocate(8192);
+        long start = dataStart;
+        while (start < fileSize) {
+            list.add(start);
+            long position = start + segmentSize;
+            long next = fileSize;
+            while (position < fileSize) {
+                buffer.clear();
+                int n = channel.read(buffer, position);
+                if (n <= 0) {
+                    break;
+                }
+                int i = 0;
+                while (i < n && buffer.get(i) != '\n') {
+                    i++;
+                }
+                if (i < n) {
+                    next = position + i + 1;
+                    break;
+                }
+                position += n;
+            }
+            start = next;
+        }
+        list.add(fileSize);
+        return list;
+    }
+
+    private TgLoadResult loadSegments(TsurugiSession session, Path file, FileChannel channel, List<TgLoadColumn> columnList, List<Long> segmentList, @Nullable IceaxeLoadCheckpoint checkpoint,
+            long startNanos) throws IOException, InterruptedException {
+        int size = columnList.size();
+        var names = new String[size];
+        var types = new TgDataType[size];
+        var variables = TgBindVariables.of();
+        for (int i = 0; i < size; i++) {
+            names[i] = "c" + i;
+            types[i] = columnList.get(i).type;
+            variables.add(names[i], types[i]);
+        }
+        var sql = "insert into " + tableName + "(" + columnList.stream().map(c -> c.name).collect(Collectors.joining(", ")) + ") values(" + variables.getSqlNames() + ")";
+
+        var setting = this.tmSetting;
+        if (setting == null) {
+            setting = TgTmSetting.ofOccLtx(3, TgTxOption.ofLTX(tableName), 1);
+        }
+        var tm = session.createTransactionManager(setting);
+
+        var rowCount = new AtomicLong();
+        var byteCount = new AtomicLong();
+        var failed = new AtomicBoolean(false);
+        int skipped = 0;
+        try (var ps = session.createStatement(sql, TgParameterMapping.of(variables))) {
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+            var futureList = new ArrayList<Future<?>>();
+            try {
+                for (int i = 0; i < segmentList.size() - 1; i++) {
+                    if (checkpoint != null && checkpoint.isCompleted(i)) {
+                        skipped++;
+                        continue;
+                    }
+                    int segmentIndex = i;
+                    long start = segmentList.get(i);
+                    long length = segmentList.get(i + 1) - start;
+                    futureList.add(executor.submit(() -> {
+                        if (failed.get()) {
+                            return null;
+                        }
+                        try {
+                            var buffer = channel.map(MapMode.READ_ONLY, start, length);
+                            long rows = tm.execute(transaction -> {
+                                var parser = new IceaxeCsvSegmentParser(buffer.duplicate(), separator, nullValue, names, types, segmentIndex);
+                                transaction.executeBatchChunked(ps, parser, chunkSize, maxPendingChunks);
+                                return parser.getRowCount();
+                            });
+                            if (checkpoint != null) {
+                                checkpoint.complete(segmentIndex);
+                            }
+                            rowCount.addAndGet(rows);
+                            byteCount.addAndGet(length);
+                            LOG.trace("segment loaded. segment={}, rows={}", segmentIndex, rows);
+                            return null;
+                        } catch (Throwable e) {
+                            failed.set(true);
+                            throw e;
+                        }
+                    }));
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            Throwable occurred = null;
+            for (var future : futureList) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    failed.set(true);
+                    executor.shutdownNow();
+                    throw e;
+                } catch (ExecutionException e) {
+                    var cause = e.getCause();
+                    if (occurred == null) {
+                        occurred = cause;
+                    } else {
+                        occurred.addSuppressed(cause);
+                    }
+                }
+            }
+            if (occurred != null) {
+                LOG.debug("load failed. table={}, loadedRows={}", tableName, rowCount.get(), occurred);
+                if (occurred instanceof IOException) {
+                    throw (IOException) occurred;
+                }
+                if (occurred instanceof InterruptedException) {
+                    throw (InterruptedException) occurred;
+                }
+                if (occurred instanceof RuntimeException) {
+                    throw (RuntimeException) occurred;
+                }
+                if (occurred instanceof Error) {
+                    throw (Error) occurred;
+                }
+                throw new IllegalStateException(occurred.getMessage(), occurred);
+            }
+        }
+
+        int segmentCount = segmentList.size() - 1;
+        return new TgLoadResult(file, rowCount.get(), byteCount.get(), segmentCount, skipped, System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "TgCsvLoader(table=%s, segmentSize=%d, parallelism=%d, chunkSize=%d, maxPendingChunks=%d)", //
+                tableName, segmentSize, parallelism, chunkSize, maxPendingChunks);
+    }
+}
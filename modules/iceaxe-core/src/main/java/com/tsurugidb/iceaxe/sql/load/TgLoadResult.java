@@ -0,0 +1,130 @@
+package com.tsurugidb.iceaxe.sql.load;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bulk load result.
+ */
+public class TgLoadResult {
+
+    private final Path file;
+    private final long rowCount;
+    private final long byteCount;
+    private final int segmentCount;
+    private final int skippedSegmentCount;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param file                input file
+     * @param rowCount            number of rows loaded
+     * @param byteCount           number of bytes loaded
+     * @param segmentCount        number of segments
+     * @param skippedSegmentCount number of segments skipped by the checkpoint
+     * @param elapsedNanos        elapsed time [ns]
+     */
+    public TgLoadResult(Path file, long rowCount, long byteCount, int segmentCount, int skippedSegmentCount, long elapsedNanos) {
+        this.file = file;
+        this.rowCount = rowCount;
+        this.byteCount = byteCount;
+        this.segmentCount = segmentCount;
+        this.skippedSegmentCount = skippedSegmentCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * get input file.
+     *
+     * @return file
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * get number of rows loaded.
+     *
+     * @return number of rows (not including the rows of the skipped segments)
+     */
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * get number of bytes loaded.
+     *
+     * @return number of bytes (not including the bytes of the skipped segments)
+     */
+    public long getByteCount() {
+        return this.byteCount;
+    }
+
+    /**
+     * get number of segments.
+     *
+     * @return number of segments
+     */
+    public int getSegmentCount() {
+        return this.segmentCount;
+    }
+
+    /**
+     * get number of segments skipped by the checkpoint.
+     *
+     * @return number of segments
+     */
+    public int getSkippedSegmentCount() {
+        return this.skippedSegmentCount;
+    }
+
+    /**
+     * get elapsed time.
+     *
+     * @return elapsed time [ns]
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * get elapsed time.
+     *
+     * @return elapsed time [ms]
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * get throughput.
+     *
+     * @return rows per second
+     */
+    public double getRowsPerSecond() {
+        return perSecond(rowCount);
+    }
+
+    /**
+     * get throughput.
+     *
+     * @return bytes per second
+     */
+    public double getBytesPerSecond() {
+        return perSecond(byteCount);
+    }
+
+    private double perSecond(long count) {
+        if (this.elapsedNanos <= 0) {
+            return 0;
+        }
+        return count * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TgLoadResult(file=%s, rowCount=%d, byteCount=%d, segment=%d, skipped=%d, elapsed=%dms, rows/s=%.1f, bytes/s=%.1f)", //
+                file, rowCount, byteCount, segmentCount, skippedSegmentCount, getElapsedMillis(), getRowsPerSecond(), getBytesPerSecond());
+    }
+}
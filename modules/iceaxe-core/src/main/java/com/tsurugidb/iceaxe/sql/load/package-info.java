@@ -0,0 +1,4 @@
+/**
+ * Iceaxe bulk load classes.
+ */
+package com.tsurugidb.iceaxe.sql.load;
@@ -0,0 +1,406 @@
+package com.tsurugidb.iceaxe.sql.parameter.mapping;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.RoundingMode;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.parameter.IceaxeLowParameterUtil;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable.TgBindVariableBigDecimal;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.iceaxe.util.IceaxeInternal;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.sql.proto.SqlRequest.Placeholder;
+import com.tsurugidb.tsubakuro.sql.Placeholders;
+
+/**
+ * Tsurugi Parameter Mapping for Entity (compiled).
+ * <p>
+ * The getters of the entity class are resolved from the bind variable names when the mapping is created, and are bound by {@link LambdaMetafactory}.<br>
+ * The parameters are encoded directly into a pre-sized {@link Parameter} list without {@link com.tsurugidb.iceaxe.sql.parameter.TgBindParameter TgBindParameter},
+ * and primitive getters (e.g. {@code int getFoo()}) of the same type as the bind variable are called without boxing.
+ * </p>
+ * <p>
+ * A bind variable is mapped to the getter of the same property name ignoring case and underscores (e.g. variable {@code foo_bar} to {@code getFooBar} or {@code isFooBar}).
+ * </p>
+ *
+ * <pre>
+ * var parameterMapping = TgCompiledEntityParameterMapping.of(TestEntity.class, FOO, BAR, ZZZ);
+ * </pre>
+ *
+ * @param <P> parameter type (e.g. Entity)
+ */
+@ThreadSafe
+public class TgCompiledEntityParameterMapping<P> extends TgParameterMapping<P> {
+
+    /**
+     * create Parameter Mapping.
+     *
+     * @param <P>         parameter type
+     * @param entityClass entity class
+     * @param variables   bind variables
+     * @return Parameter Mapping
+     * @throws IllegalArgumentException if the entity class has no accessible getter of the bind variable
+     */
+    public static <P> TgCompiledEntityParameterMapping<P> of(Class<P> entityClass, TgBindVariable<?>... variables) {
+        return new TgCompiledEntityParameterMapping<>(entityClass, Arrays.asList(variables));
+    }
+
+    /**
+     * create Parameter Mapping.
+     *
+     * @param <P>         parameter type
+     * @param entityClass entity class
+     * @param variables   bind variables
+     * @return Parameter Mapping
+     * @throws IllegalArgumentException if the entity class has no accessible getter of the bind variable
+     */
+    public static <P> TgCompiledEntityParameterMapping<P> of(Class<P> entityClass, TgBindVariables variables) {
+        var list = new ArrayList<TgBindVariable<?>>();
+        for (var lowPlaceholder : variables.toLowPlaceholderList()) {
+            String name = lowPlaceholder.getName();
+            list.add(createVariable(name, variables.getDataType(name)));
+        }
+        return new TgCompiledEntityParameterMapping<>(entityClass, list);
+    }
+
+    private static TgBindVariable<?> createVariable(String name, TgDataType type) {
+        switch (type) {
+        case BOOLEAN:
+            return TgBindVariable.ofBoolean(name);
+        case INT:
+            return TgBindVariable.ofInt(name);
+        case LONG:
+            return TgBindVariable.ofLong(name);
+        case FLOAT:
+            return TgBindVariable.ofFloat(name);
+        case DOUBLE:
+            return TgBindVariable.ofDouble(name);
+        case DECIMAL:
+            return TgBindVariable.ofDecimal(name);
+        case STRING:
+            return TgBindVariable.ofString(name);
+        case BYTES:
+            return TgBindVariable.ofBytes(name);
+        case BITS:
+            return TgBindVariable.ofBits(name);
+        case DATE:
+            return TgBindVariable.ofDate(name);
+        case TIME:
+            return TgBindVariable.ofTime(name);
+        case DATE_TIME:
+            return TgBindVariable.ofDateTime(name);
+        case OFFSET_TIME:
+            return TgBindVariable.ofOffsetTime(name);
+        case OFFSET_DATE_TIME:
+            return TgBindVariable.ofOffsetDateTime(name);
+        case ZONED_DATE_TIME:
+            return TgBindVariable.ofZonedDateTime(name);
+        default:
+            throw new UnsupportedOperationException("unsupported type error. type=" + type);
+        }
+    }
+
+    /**
+     * parameter encoder.
+     *
+     * @param <P> parameter type
+     */
+    @FunctionalInterface
+    protected interface TgParameterEncoder<P> {
+        /**
+         * encode the value of entity to parameter.
+         *
+         * @param entity      entity
+         * @param convertUtil convert type utility
+         * @return parameter
+         */
+        Parameter encode(P entity, IceaxeConvertUtil convertUtil);
+    }
+
+    /**
+     * getter of boolean.
+     *
+     * @param <P> entity type
+     */
+    @IceaxeInternal
+    @FunctionalInterface
+    public interface ToBooleanFunction<P> {
+        /**
+         * get value.
+         *
+         * @param entity entity
+         * @return value
+         */
+        boolean applyAsBoolean(P entity);
+    }
+
+    /**
+     * getter of float.
+     *
+     * @param <P> entity type
+     */
+    @IceaxeInternal
+    @FunctionalInterface
+    public interface ToFloatFunction<P> {
+        /**
+         * get value.
+         *
+         * @param entity entity
+         * @return value
+         */
+        float applyAsFloat(P entity);
+    }
+
+    private final Class<P> entityClass;
+    private final List<Placeholder> lowPlaceholderList;
+    private final TgParameterEncoder<P>[] encoders;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param entityClass entity class
+     * @param variables   bind variables
+     * @throws IllegalArgumentException if the entity class has no accessible getter of the bind variable
+     */
+    public TgCompiledEntityParameterMapping(Class<P> entityClass, List<? extends TgBindVariable<?>> variables) {
+        this.entityClass = entityClass;
+
+        var getterMap = findGetter(entityClass);
+        var lookup = getLookup();
+        int size = variables.size();
+        var placeholderList = new ArrayList<Placeholder>(size);
+        @SuppressWarnings("unchecked")
+        TgParameterEncoder<P>[] encoders = new TgParameterEncoder[size];
+        for (int i = 0; i < size; i++) {
+            var variable = variables.get(i);
+            var method = getterMap.get(normalizeName(variable.name()));
+            if (method == null) {
+                throw new IllegalArgumentException("not found getter. class=" + entityClass.getName() + ", variable=" + variable);
+            }
+            placeholderList.add(Placeholders.of(variable.name(), variable.type().getLowDataType()));
+            encoders[i] = createEncoder(lookup, method, variable);
+        }
+        this.lowPlaceholderList = List.copyOf(placeholderList);
+        this.encoders = encoders;
+    }
+
+    @Override
+    public TgCompiledEntityParameterMapping<P> setConvertUtil(IceaxeConvertUtil convertUtil) {
+        return (TgCompiledEntityParameterMapping<P>) super.setConvertUtil(convertUtil);
+    }
+
+    /**
+     * get entity class.
+     *
+     * @return entity class
+     */
+    public Class<P> getEntityClass() {
+        return this.entityClass;
+    }
+
+    private static Map<String, Method> findGetter(Class<?> entityClass) {
+        var map = new HashMap<String, Method>();
+        for (var method : entityClass.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 0) {
+                continue;
+            }
+            var returnType = method.getReturnType();
+            if (returnType == void.class || method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+            var name = method.getName();
+            String key;
+            if (name.startsWith("get") && name.length() > 3) {
+                key = normalizeName(name.substring(3));
+            } else if (name.startsWith("is") && name.length() > 2 && (returnType == boolean.class || returnType == Boolean.class)) {
+                key = normalizeName(name.substring(2));
+            } else {
+                continue;
+            }
+            map.putIfAbsent(key, method);
+        }
+        return map;
+    }
+
+    private static String normalizeName(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * create parameter encoder.
+     *
+     * @param lookup   lookup
+     * @param method   getter method
+     * @param variable bind variable
+     * @return parameter encoder
+     */
+    protected TgParameterEncoder<P> createEncoder(Lookup lookup, Method method, TgBindVariable<?> variable) {
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("getter is not accessible. method=" + method, e);
+        }
+        var name = variable.name();
+        var type = variable.type();
+        var valueType = method.getReturnType();
+
+        // primitive fast path
+        if (valueType == boolean.class && type == TgDataType.BOOLEAN) {
+            ToBooleanFunction<P> getter = createLambda(lookup, handle, ToBooleanFunction.class, valueType);
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, getter.applyAsBoolean(entity));
+        }
+        if (valueType == int.class && type == TgDataType.INT) {
+            ToIntFunction<P> getter = createLambda(lookup, handle, ToIntFunction.class, valueType);
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, getter.applyAsInt(entity));
+        }
+        if (valueType == long.class && type == TgDataType.LONG) {
+            ToLongFunction<P> getter = createLambda(lookup, handle, ToLongFunction.class, valueType);
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, getter.applyAsLong(entity));
+        }
+        if (valueType == float.class && type == TgDataType.FLOAT) {
+            ToFloatFunction<P> getter = createLambda(lookup, handle, ToFloatFunction.class, valueType);
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, getter.applyAsFloat(entity));
+        }
+        if (valueType == double.class && type == TgDataType.DOUBLE) {
+            ToDoubleFunction<P> getter = createLambda(lookup, handle, ToDoubleFunction.class, valueType);
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, getter.applyAsDouble(entity));
+        }
+
+        Function<P, Object> getter = createLambda(lookup, handle, Function.class, boxedType(valueType));
+        switch (type) {
+        case BOOLEAN:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toBoolean(getter.apply(entity)));
+        case INT:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toInt(getter.apply(entity)));
+        case LONG:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toLong(getter.apply(entity)));
+        case FLOAT:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toFloat(getter.apply(entity)));
+        case DOUBLE:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toDouble(getter.apply(entity)));
+        case DECIMAL:
+            if (variable instanceof TgBindVariableBigDecimal) {
+                var decimalVariable = (TgBindVariableBigDecimal) variable;
+                int scale = decimalVariable.scale();
+                RoundingMode mode = decimalVariable.roundingMode();
+                if (mode != null) {
+                    return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, TgBindVariableBigDecimal.roundValue(convertUtil.toDecimal(getter.apply(entity)), scale, mode));
+                }
+            }
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toDecimal(getter.apply(entity)));
+        case STRING:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toString(getter.apply(entity)));
+        case BYTES:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toBytes(getter.apply(entity)));
+        case BITS:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toBits(getter.apply(entity)));
+        case DATE:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toDate(getter.apply(entity)));
+        case TIME:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toTime(getter.apply(entity)));
+        case DATE_TIME:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toDateTime(getter.apply(entity)));
+        case OFFSET_TIME:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toOffsetTime(getter.apply(entity)));
+        case OFFSET_DATE_TIME:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, convertUtil.toOffsetDateTime(getter.apply(entity)));
+        case ZONED_DATE_TIME:
+            return (entity, convertUtil) -> IceaxeLowParameterUtil.create(name, toZonedDateTime(getter.apply(entity), convertUtil));
+        default:
+            throw new UnsupportedOperationException("unsupported type error. type=" + type);
+        }
+    }
+
+    private static ZonedDateTime toZonedDateTime(Object value, IceaxeConvertUtil convertUtil) {
+        if (value instanceof ZonedDateTime) {
+            // keep the zone of the entity, as TgEntityParameterMapping.addZonedDateTime() does
+            return (ZonedDateTime) value;
+        }
+        return convertUtil.toZonedDateTime(value, ZoneId.systemDefault());
+    }
+
+    private static Class<?> boxedType(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private Lookup getLookup() {
+        try {
+            return MethodHandles.privateLookupIn(entityClass, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return MethodHandles.lookup();
+        }
+    }
+
+    private <F> F createLambda(Lookup lookup, MethodHandle handle, Class<?> interfaceClass, Class<?> valueType) {
+        var samMethod = findSamMethod(interfaceClass);
+        var samType = MethodType.methodType(samMethod.getReturnType(), samMethod.getParameterTypes());
+        var instantiatedType = MethodType.methodType(valueType, entityClass);
+        try {
+            var site = LambdaMetafactory.metafactory(lookup, samMethod.getName(), MethodType.methodType(interfaceClass), samType, handle, instantiatedType);
+            @SuppressWarnings("unchecked")
+            var lambda = (F) site.getTarget().invoke();
+            return lambda;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("getter bind error. method=" + handle, e);
+        }
+    }
+
+    private static Method findSamMethod(Class<?> interfaceClass) {
+        for (var method : interfaceClass.getMethods()) {
+            if (Modifier.isAbstract(method.getModifiers())) {
+                return method;
+            }
+        }
+        throw new AssertionError(interfaceClass);
+    }
+
+    @Override
+    public List<Placeholder> toLowPlaceholderList() {
+        return this.lowPlaceholderList;
+    }
+
+//  @ThreadSafe
+    @Override
+    public List<Parameter> toLowParameterList(P parameter, IceaxeConvertUtil convertUtil) {
+        var encoders = this.encoders;
+        var list = new ArrayList<Parameter>(encoders.length);
+        for (var encoder : encoders) {
+            list.add(encoder.encode(parameter, convertUtil));
+        }
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + entityClass.getName() + "}";
+    }
+}
@@ -0,0 +1,202 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+import com.tsurugidb.tsubakuro.sql.io.DateTimeInterval;
+
+/**
+ * ResultSet which replays column values already fetched from the low ResultSet.
+ * <p>
+ * Used to convert records apart from the low ResultSet (e.g. on another thread).<br>
+ * The column values are buffered as scalar values, so array and row values are not supported.
+ * </p>
+ */
+@NotThreadSafe
+class IceaxeBufferedResultSet implements ResultSet {
+
+    private final ResultSetMetadata lowMetadata;
+    private final Iterator<Object[]> rowIterator;
+    private Object[] values = null;
+    private int index = -1;
+
+    /**
+     * Creates a new instance.
+     * <p>
+     * The current row is set by {@link #setValues(Object[])}.
+     * </p>
+     *
+     * @param lowMetadata metadata of the low ResultSet
+     */
+    IceaxeBufferedResultSet(ResultSetMetadata lowMetadata) {
+        this(lowMetadata, List.of());
+    }
+
+    /**
+     * Creates a new instance.
+     * <p>
+     * The rows are read by {@link #nextRow()}.
+     * </p>
+     *
+     * @param lowMetadata metadata of the low ResultSet
+     * @param rowList     column values of each row
+     */
+    IceaxeBufferedResultSet(ResultSetMetadata lowMetadata, List<Object[]> rowList) {
+        this.lowMetadata = lowMetadata;
+        this.rowIterator = rowList.iterator();
+    }
+
+    /**
+     * set column values of the current row.
+     *
+     * @param values column values
+     */
+    void setValues(Object[] values) {
+        this.values = values;
+        this.index = -1;
+    }
+
+    @Override
+    public ResultSetMetadata getMetadata() throws IOException, ServerException, InterruptedException {
+        return this.lowMetadata;
+    }
+
+    @Override
+    public boolean nextRow() throws IOException, ServerException, InterruptedException {
+        this.index = -1;
+        if (rowIterator.hasNext()) {
+            this.values = rowIterator.next();
+            return true;
+        }
+        this.values = null;
+        return false;
+    }
+
+    @Override
+    public boolean nextColumn() throws IOException, ServerException, InterruptedException {
+        if (this.values == null) {
+            throw new IllegalStateException("no current row");
+        }
+        if (index + 1 < values.length) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private Object getValue() {
+        return values[index];
+    }
+
+    @Override
+    public boolean isNull() {
+        return getValue() == null;
+    }
+
+    @Override
+    public boolean fetchBooleanValue() throws IOException, ServerException, InterruptedException {
+        return (Boolean) getValue();
+    }
+
+    @Override
+    public int fetchInt4Value() throws IOException, ServerException, InterruptedException {
+        return (Integer) getValue();
+    }
+
+    @Override
+    public long fetchInt8Value() throws IOException, ServerException, InterruptedException {
+        return (Long) getValue();
+    }
+
+    @Override
+    public float fetchFloat4Value() throws IOException, ServerException, InterruptedException {
+        return (Float) getValue();
+    }
+
+    @Override
+    public double fetchFloat8Value() throws IOException, ServerException, InterruptedException {
+        return (Double) getValue();
+    }
+
+    @Override
+    public BigDecimal fetchDecimalValue() throws IOException, ServerException, InterruptedException {
+        return (BigDecimal) getValue();
+    }
+
+    @Override
+    public String fetchCharacterValue() throws IOException, ServerException, InterruptedException {
+        return (String) getValue();
+    }
+
+    @Override
+    public byte[] fetchOctetValue() throws IOException, ServerException, InterruptedException {
+        return (byte[]) getValue();
+    }
+
+    @Override
+    public boolean[] fetchBitValue() throws IOException, ServerException, InterruptedException {
+        return (boolean[]) getValue();
+    }
+
+    @Override
+    public LocalDate fetchDateValue() throws IOException, ServerException, InterruptedException {
+        return (LocalDate) getValue();
+    }
+
+    @Override
+    public LocalTime fetchTimeOfDayValue() throws IOException, ServerException, InterruptedException {
+        return (LocalTime) getValue();
+    }
+
+    @Override
+    public LocalDateTime fetchTimePointValue() throws IOException, ServerException, InterruptedException {
+        return (LocalDateTime) getValue();
+    }
+
+    @Override
+    public OffsetTime fetchTimeOfDayWithTimeZoneValue() throws IOException, ServerException, InterruptedException {
+        return (OffsetTime) getValue();
+    }
+
+    @Override
+    public OffsetDateTime fetchTimePointWithTimeZoneValue() throws IOException, ServerException, InterruptedException {
+        return (OffsetDateTime) getValue();
+    }
+
+    @Override
+    public DateTimeInterval fetchDateTimeIntervalValue() throws IOException, ServerException, InterruptedException {
+        return (DateTimeInterval) getValue();
+    }
+
+    @Override
+    public int beginArrayValue() throws IOException, ServerException, InterruptedException {
+        throw new UnsupportedOperationException("array value is not supported by buffered result set");
+    }
+
+    @Override
+    public void endArrayValue() throws IOException, ServerException, InterruptedException {
+        throw new UnsupportedOperationException("array value is not supported by buffered result set");
+    }
+
+    @Override
+    public int beginRowValue() throws IOException, ServerException, InterruptedException {
+        throw new UnsupportedOperationException("row value is not supported by buffered result set");
+    }
+
+    @Override
+    public void endRowValue() throws IOException, ServerException, InterruptedException {
+        throw new UnsupportedOperationException("row value is not supported by buffered result set");
+    }
+}
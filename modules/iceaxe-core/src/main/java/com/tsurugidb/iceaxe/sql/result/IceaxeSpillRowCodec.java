@@ -0,0 +1,249 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.tsurugidb.tsubakuro.sql.io.DateTimeInterval;
+
+/**
+ * binary row format for {@link TsurugiResultSpillList}.
+ * <p>
+ * A row is the length of the row (int) followed by the column values.<br>
+ * Each value is a tag (byte) followed by the fixed size value, or the length (int) and the bytes for variable size value.
+ * </p>
+ */
+@NotThreadSafe
+class IceaxeSpillRowCodec {
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_FALSE = 1;
+    private static final byte TAG_TRUE = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_DECIMAL = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_BYTES = 9;
+    private static final byte TAG_BITS = 10;
+    private static final byte TAG_DATE = 11;
+    private static final byte TAG_TIME = 12;
+    private static final byte TAG_DATE_TIME = 13;
+    private static final byte TAG_OFFSET_TIME = 14;
+    private static final byte TAG_OFFSET_DATE_TIME = 15;
+    private static final byte TAG_DATE_TIME_INTERVAL = 16;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+    /**
+     * encode row.
+     *
+     * @param values column values
+     * @return buffer (flipped. valid until the next call)
+     * @throws UnsupportedOperationException if the value type is not supported
+     */
+    public ByteBuffer encode(Object[] values) {
+        buffer.clear();
+        buffer.putInt(0);
+        for (var value : values) {
+            encodeValue(value);
+        }
+        buffer.putInt(0, buffer.position() - Integer.BYTES);
+        buffer.flip();
+        return buffer;
+    }
+
+    private void encodeValue(Object value) {
+        if (value == null) {
+            ensure(1).put(TAG_NULL);
+        } else if (value instanceof Boolean) {
+            ensure(1).put(((Boolean) value) ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Integer) {
+            ensure(1 + Integer.BYTES).put(TAG_INT).putInt((Integer) value);
+        } else if (value instanceof Long) {
+            ensure(1 + Long.BYTES).put(TAG_LONG).putLong((Long) value);
+        } else if (value instanceof Float) {
+            ensure(1 + Float.BYTES).put(TAG_FLOAT).putFloat((Float) value);
+        } else if (value instanceof Double) {
+            ensure(1 + Double.BYTES).put(TAG_DOUBLE).putDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            var decimal = (BigDecimal) value;
+            ensure(1 + Integer.BYTES).put(TAG_DECIMAL).putInt(decimal.scale());
+            putBytes(decimal.unscaledValue().toByteArray());
+        } else if (value instanceof String) {
+            ensure(1).put(TAG_STRING);
+            putBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            ensure(1).put(TAG_BYTES);
+            putBytes((byte[]) value);
+        } else if (value instanceof boolean[]) {
+            var bits = (boolean[]) value;
+            var bytes = new byte[(bits.length + 7) / 8];
+            for (int i = 0; i < bits.length; i++) {
+                if (bits[i]) {
+                    bytes[i >>> 3] |= 1 << (i & 7);
+                }
+            }
+            ensure(1 + Integer.BYTES).put(TAG_BITS).putInt(bits.length);
+            putBytes(bytes);
+        } else if (value instanceof LocalDate) {
+            ensure(1 + Long.BYTES).put(TAG_DATE).putLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            ensure(1 + Long.BYTES).put(TAG_TIME).putLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            var dateTime = (LocalDateTime) value;
+            ensure(1 + Long.BYTES * 2).put(TAG_DATE_TIME).putLong(dateTime.toLocalDate().toEpochDay()).putLong(dateTime.toLocalTime().toNanoOfDay());
+        } else if (value instanceof OffsetTime) {
+            var time = (OffsetTime) value;
+            ensure(1 + Long.BYTES + Integer.BYTES).put(TAG_OFFSET_TIME).putLong(time.toLocalTime().toNanoOfDay()).putInt(time.getOffset().getTotalSeconds());
+        } else if (value instanceof OffsetDateTime) {
+            var dateTime = (OffsetDateTime) value;
+            ensure(1 + Long.BYTES * 2 + Integer.BYTES).put(TAG_OFFSET_DATE_TIME).putLong(dateTime.toLocalDate().toEpochDay()).putLong(dateTime.toLocalTime().toNanoOfDay())
+                    .putInt(dateTime.getOffset().getTotalSeconds());
+        } else if (value instanceof DateTimeInterval) {
+            var interval = (DateTimeInterval) value;
+            ensure(1 + Integer.BYTES * 3 + Long.BYTES).put(TAG_DATE_TIME_INTERVAL).putInt(interval.getYear()).putInt(interval.getMonth()).putInt(interval.getDay())
+                    .putLong(interval.getNanoseconds());
+        } else {
+            throw new UnsupportedOperationException("unsupported type to spill. type=" + value.getClass().getName());
+        }
+    }
+
+    private void putBytes(byte[] bytes) {
+        ensure(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes);
+    }
+
+    private ByteBuffer ensure(int size) {
+        if (buffer.remaining() < size) {
+            int capacity = Math.max(buffer.capacity() * 2, buffer.position() + size);
+            var newBuffer = ByteBuffer.allocate(capacity);
+            buffer.flip();
+            newBuffer.put(buffer);
+            this.buffer = newBuffer;
+        }
+        return buffer;
+    }
+
+    /**
+     * decode row.
+     *
+     * @param src        source (position is moved to the next row)
+     * @param columnSize number of columns
+     * @return column values
+     */
+    public static Object[] decode(ByteBuffer src, int columnSize) {
+        src.getInt(); // row length
+        var values = new Object[columnSize];
+        for (int i = 0; i < columnSize; i++) {
+            values[i] = decodeValue(src);
+        }
+        return values;
+    }
+
+    private static Object decodeValue(ByteBuffer src) {
+        byte tag = src.get();
+        switch (tag) {
+        case TAG_NULL:
+            return null;
+        case TAG_FALSE:
+            return Boolean.FALSE;
+        case TAG_TRUE:
+            return Boolean.TRUE;
+        case TAG_INT:
+            return src.getInt();
+        case TAG_LONG:
+            return src.getLong();
+        case TAG_FLOAT:
+            return src.getFloat();
+        case TAG_DOUBLE:
+            return src.getDouble();
+        case TAG_DECIMAL:
+            int scale = src.getInt();
+            return new BigDecimal(new BigInteger(getBytes(src)), scale);
+        case TAG_STRING:
+            return new String(getBytes(src), StandardCharsets.UTF_8);
+        case TAG_BYTES:
+            return getBytes(src);
+        case TAG_BITS:
+            int length = src.getInt();
+            var bytes = getBytes(src);
+            var bits = new boolean[length];
+            for (int i = 0; i < length; i++) {
+                bits[i] = (bytes[i >>> 3] & (1 << (i & 7))) != 0;
+            }
+            return bits;
+        case TAG_DATE:
+            return LocalDate.ofEpochDay(src.getLong());
+        case TAG_TIME:
+            return LocalTime.ofNanoOfDay(src.getLong());
+        case TAG_DATE_TIME:
+            return LocalDateTime.of(LocalDate.ofEpochDay(src.getLong()), LocalTime.ofNanoOfDay(src.getLong()));
+        case TAG_OFFSET_TIME:
+            return OffsetTime.of(LocalTime.ofNanoOfDay(src.getLong()), ZoneOffset.ofTotalSeconds(src.getInt()));
+        case TAG_OFFSET_DATE_TIME:
+            var date = LocalDate.ofEpochDay(src.getLong());
+            var time = LocalTime.ofNanoOfDay(src.getLong());
+            return OffsetDateTime.of(date, time, ZoneOffset.ofTotalSeconds(src.getInt()));
+        case TAG_DATE_TIME_INTERVAL:
+            int year = src.getInt();
+            int month = src.getInt();
+            int day = src.getInt();
+            return new DateTimeInterval(year, month, day, src.getLong());
+        default:
+            throw new IllegalStateException("unknown tag. tag=" + tag);
+        }
+    }
+
+    private static byte[] getBytes(ByteBuffer src) {
+        var bytes = new byte[src.getInt()];
+        src.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * skip row.
+     *
+     * @param src source (position is moved to the next row)
+     */
+    public static void skip(ByteBuffer src) {
+        int length = src.getInt();
+        src.position(src.position() + length);
+    }
+
+    /**
+     * estimate heap size of the converted row.
+     *
+     * @param values column values
+     * @return size [byte]
+     */
+    public static long estimateHeapSize(Object[] values) {
+        long size = 16 + 8L * values.length;
+        for (var value : values) {
+            if (value == null || value instanceof Boolean) {
+                continue;
+            }
+            if (value instanceof String) {
+                size += 40 + ((String) value).length();
+            } else if (value instanceof byte[]) {
+                size += 16 + ((byte[]) value).length;
+            } else if (value instanceof boolean[]) {
+                size += 16 + ((boolean[]) value).length;
+            } else if (value instanceof BigDecimal) {
+                size += 64 + ((BigDecimal) value).unscaledValue().bitLength() / 8;
+            } else {
+                size += 24;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,386 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+
+/**
+ * column batch of query result.
+ * <p>
+ * The values of up to {@link #capacity()} rows are held in primitive arrays for each column (e.g. {@code int[]} for INT, {@code long[]} for LONG),
+ * and in {@code Object[]} for the other types (e.g. {@link java.math.BigDecimal}, {@link String}).<br>
+ * The arrays are reused between batches, so the values must be read before the next batch is fetched.
+ * The array elements after {@link #size()} are undefined.
+ * </p>
+ *
+ * <pre>
+ * var batch = TgResultColumnBatch.of(1024);
+ * while (result.fetchColumnBatch(batch) &gt; 0) {
+ *     long[] values = batch.getLongs(0);
+ *     for (int i = 0; i &lt; batch.size(); i++) {
+ *         if (!batch.isNull(0, i)) {
+ *             sum += values[i];
+ *         }
+ *     }
+ * }
+ * </pre>
+ *
+ * @see TsurugiQueryResult#fetchColumnBatch(TgResultColumnBatch)
+ */
+@NotThreadSafe
+public class TgResultColumnBatch {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity maximum number of rows in a batch
+     * @return column batch
+     */
+    public static TgResultColumnBatch of(int capacity) {
+        return new TgResultColumnBatch(capacity);
+    }
+
+    private static final class Column {
+        private final TgDataType type;
+        private final long[] nullBits;
+        private boolean[] booleanValues;
+        private int[] intValues;
+        private long[] longValues;
+        private float[] floatValues;
+        private double[] doubleValues;
+        private Object[] objectValues;
+
+        Column(TgDataType type, int capacity) {
+            this.type = type;
+            this.nullBits = new long[(capacity + 63) >>> 6];
+            switch (type) {
+            case BOOLEAN:
+                this.booleanValues = new boolean[capacity];
+                break;
+            case INT:
+                this.intValues = new int[capacity];
+                break;
+            case LONG:
+                this.longValues = new long[capacity];
+                break;
+            case FLOAT:
+                this.floatValues = new float[capacity];
+                break;
+            case DOUBLE:
+                this.doubleValues = new double[capacity];
+                break;
+            default:
+                this.objectValues = new Object[capacity];
+                break;
+            }
+        }
+    }
+
+    private final int capacity;
+    private TsurugiResultRecord record;
+    private List<String> nameList = List.of();
+    private Column[] columns = new Column[0];
+    private int size = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity maximum number of rows in a batch
+     */
+    public TgResultColumnBatch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive. capacity=" + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * get maximum number of rows in a batch.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * get number of rows in this batch.
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * get number of columns.
+     *
+     * @return number of columns
+     */
+    public int getColumnSize() {
+        return columns.length;
+    }
+
+    /**
+     * get column names.
+     *
+     * @return list of column name
+     */
+    public List<String> getNameList() {
+        return this.nameList;
+    }
+
+    /**
+     * get data type.
+     *
+     * @param column column index
+     * @return data type
+     * @throws IndexOutOfBoundsException if column is out of range
+     */
+    public TgDataType getType(int column) {
+        return columns[column].type;
+    }
+
+    /**
+     * get whether the value is null.
+     *
+     * @param column column index
+     * @param row    row index in this batch
+     * @return {@code true} if the value is null
+     * @throws IndexOutOfBoundsException if column or row is out of range
+     */
+    public boolean isNull(int column, int row) {
+        Objects.checkIndex(row, size);
+        return (columns[column].nullBits[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * get values of BOOLEAN column.
+     *
+     * @param column column index
+     * @return values (false if null)
+     * @throws IllegalStateException if the column is not BOOLEAN
+     */
+    public boolean[] getBooleans(int column) {
+        return requireArray(columns[column].booleanValues, column, TgDataType.BOOLEAN);
+    }
+
+    /**
+     * get values of INT column.
+     *
+     * @param column column index
+     * @return values (0 if null)
+     * @throws IllegalStateException if the column is not INT
+     */
+    public int[] getInts(int column) {
+        return requireArray(columns[column].intValues, column, TgDataType.INT);
+    }
+
+    /**
+     * get values of LONG column.
+     *
+     * @param column column index
+     * @return values (0 if null)
+     * @throws IllegalStateException if the column is not LONG
+     */
+    public long[] getLongs(int column) {
+        return requireArray(columns[column].longValues, column, TgDataType.LONG);
+    }
+
+    /**
+     * get values of FLOAT column.
+     *
+     * @param column column index
+     * @return values (0 if null)
+     * @throws IllegalStateException if the column is not FLOAT
+     */
+    public float[] getFloats(int column) {
+        return requireArray(columns[column].floatValues, column, TgDataType.FLOAT);
+    }
+
+    /**
+     * get values of DOUBLE column.
+     *
+     * @param column column index
+     * @return values (0 if null)
+     * @throws IllegalStateException if the column is not DOUBLE
+     */
+    public double[] getDoubles(int column) {
+        return requireArray(columns[column].doubleValues, column, TgDataType.DOUBLE);
+    }
+
+    /**
+     * get values of the column other than BOOLEAN, INT, LONG, FLOAT and DOUBLE.
+     *
+     * @param column column index
+     * @return values (null if null)
+     * @throws IllegalStateException if the column is a primitive type
+     */
+    public Object[] getObjects(int column) {
+        return requireArray(columns[column].objectValues, column, null);
+    }
+
+    /**
+     * get value.
+     *
+     * @param column column index
+     * @param row    row index in this batch
+     * @return value
+     * @throws IndexOutOfBoundsException if column or row is out of range
+     */
+    public @Nullable Object getValue(int column, int row) {
+        if (isNull(column, row)) {
+            return null;
+        }
+        var c = columns[column];
+        switch (c.type) {
+        case BOOLEAN:
+            return c.booleanValues[row];
+        case INT:
+            return c.intValues[row];
+        case LONG:
+            return c.longValues[row];
+        case FLOAT:
+            return c.floatValues[row];
+        case DOUBLE:
+            return c.doubleValues[row];
+        default:
+            return c.objectValues[row];
+        }
+    }
+
+    private <T> T requireArray(@Nullable T array, int column, @Nullable TgDataType expectedType) {
+        if (array == null) {
+            var type = columns[column].type;
+            throw new IllegalStateException("column type mismatch. column=" + column + ", type=" + type + ", expected=" + ((expectedType != null) ? expectedType : "object"));
+        }
+        return array;
+    }
+
+    // read
+
+    /**
+     * clear this batch for the record.
+     *
+     * @param record record
+     * @throws IOException                 if an I/O error occurs while retrieving metadata
+     * @throws InterruptedException        if interrupted while retrieving metadata
+     * @throws TsurugiTransactionException if server error occurs while retrieving metadata
+     */
+    void clear(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+        if (this.record != record) {
+            initialize(record);
+        }
+        int words = (size + 63) >>> 6;
+        for (var column : columns) {
+            Arrays.fill(column.nullBits, 0, words, 0L);
+            if (column.objectValues != null) {
+                Arrays.fill(column.objectValues, 0, size, null);
+            }
+        }
+        this.size = 0;
+    }
+
+    private void initialize(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+        var nameList = record.getNameList();
+        int columnSize = nameList.size();
+        var newColumns = new Column[columnSize];
+        for (int i = 0; i < columnSize; i++) {
+            var type = record.getType(i);
+            // reuse the buffer of the previous result if the type is the same
+            if (i < columns.length && columns[i].type == type) {
+                newColumns[i] = columns[i];
+            } else {
+                newColumns[i] = new Column(type, capacity);
+            }
+        }
+        this.record = record;
+        this.nameList = nameList;
+        this.columns = newColumns;
+    }
+
+    /**
+     * Returns whether this batch is full.
+     *
+     * @return {@code true} if full
+     */
+    boolean isFull() {
+        return size >= capacity;
+    }
+
+    /**
+     * read the current row of the record.
+     *
+     * @param record record
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     */
+    void read(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+        int row = this.size;
+        for (int i = 0; i < columns.length; i++) {
+            var c = columns[i];
+            if (record.isNull(i)) {
+                c.nullBits[row >>> 6] |= 1L << row;
+                setDefault(c, row);
+                continue;
+            }
+            switch (c.type) {
+            case BOOLEAN:
+                c.booleanValues[row] = record.getBoolean(i);
+                break;
+            case INT:
+                c.intValues[row] = record.getInt(i);
+                break;
+            case LONG:
+                c.longValues[row] = record.getLong(i);
+                break;
+            case FLOAT:
+                c.floatValues[row] = record.getFloat(i);
+                break;
+            case DOUBLE:
+                c.doubleValues[row] = record.getDouble(i);
+                break;
+            default:
+                c.objectValues[row] = record.getValue(i);
+                break;
+            }
+        }
+        this.size = row + 1;
+    }
+
+    private static void setDefault(Column c, int row) {
+        switch (c.type) {
+        case BOOLEAN:
+            c.booleanValues[row] = false;
+            break;
+        case INT:
+            c.intValues[row] = 0;
+            break;
+        case LONG:
+            c.longValues[row] = 0;
+            break;
+        case FLOAT:
+            c.floatValues[row] = 0;
+            break;
+        case DOUBLE:
+            c.doubleValues[row] = 0;
+            break;
+        default:
+            c.objectValues[row] = null;
+            break;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TgResultColumnBatch(capacity=" + capacity + ", size=" + size + ", columns=" + nameList + ")";
+    }
+}
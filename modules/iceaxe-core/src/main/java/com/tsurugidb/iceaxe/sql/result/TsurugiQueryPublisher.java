@@ -0,0 +1,335 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlQuery;
+import com.tsurugidb.iceaxe.transaction.TgCommitType;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.function.TsurugiTransactionTask;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * {@link Flow.Publisher} of query result.
+ * <p>
+ * The query is executed when the subscriber requests the first record, and the records are read from the low ResultSet only as many as requested.<br>
+ * The records are read and converted on the executor, and the executor thread is released while there is no demand, so a thread per query is not required.
+ * </p>
+ * <p>
+ * The query result is closed when the publisher completes, fails or is cancelled.<br>
+ * If the publisher is created by {@code ofNewTransaction}, the publisher also owns the transaction:
+ * the transaction is committed on completion, rolled back on error or cancel, and closed.
+ * </p>
+ * <p>
+ * The publisher is unicast. It can be subscribed only once.
+ * </p>
+ *
+ * @param <R> result type
+ */
+@ThreadSafe
+public class TsurugiQueryPublisher<R> implements Flow.Publisher<R> {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiQueryPublisher.class);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param <R>         result type
+     * @param transaction transaction (not closed by the publisher)
+     * @param ps          SQL definition
+     * @param executor    executor to read records
+     * @return publisher
+     */
+    public static <R> TsurugiQueryPublisher<R> of(TsurugiTransaction transaction, TsurugiSqlQuery<R> ps, Executor executor) {
+        return new TsurugiQueryPublisher<>(transaction, null, null, ps::execute, executor);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param <P>         parameter type
+     * @param <R>         result type
+     * @param transaction transaction (not closed by the publisher)
+     * @param ps          SQL definition
+     * @param parameter   SQL parameter
+     * @param executor    executor to read records
+     * @return publisher
+     */
+    public static <P, R> TsurugiQueryPublisher<R> of(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<P, R> ps, P parameter, Executor executor) {
+        return new TsurugiQueryPublisher<>(transaction, null, null, tx -> ps.execute(tx, parameter), executor);
+    }
+
+    /**
+     * Creates a new instance which executes the query in a new transaction.
+     *
+     * @param <P>       parameter type
+     * @param <R>       result type
+     * @param session   session
+     * @param txOption  transaction option
+     * @param ps        SQL definition
+     * @param parameter SQL parameter
+     * @param executor  executor to read records
+     * @return publisher
+     */
+    public static <P, R> TsurugiQueryPublisher<R> ofNewTransaction(TsurugiSession session, TgTxOption txOption, TsurugiSqlPreparedQuery<P, R> ps, P parameter, Executor executor) {
+        return new TsurugiQueryPublisher<>(null, session, txOption, tx -> ps.execute(tx, parameter), executor);
+    }
+
+    private final TsurugiTransaction transaction;
+    private final TsurugiSession session;
+    private final TgTxOption txOption;
+    private final TsurugiTransactionTask<TsurugiQueryResult<R>> executeQuery;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param transaction  transaction (null: create new transaction)
+     * @param session      session (used if transaction is null)
+     * @param txOption     transaction option (used if transaction is null)
+     * @param executeQuery function to execute query
+     * @param executor     executor to read records
+     */
+    protected TsurugiQueryPublisher(@Nullable TsurugiTransaction transaction, @Nullable TsurugiSession session, @Nullable TgTxOption txOption,
+            TsurugiTransactionTask<TsurugiQueryResult<R>> executeQuery, Executor executor) {
+        if (transaction == null) {
+            Objects.requireNonNull(session, "session is null");
+            Objects.requireNonNull(txOption, "txOption is null");
+        }
+        this.transaction = transaction;
+        this.session = session;
+        this.txOption = txOption;
+        this.executeQuery = Objects.requireNonNull(executeQuery);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    // do nothing
+                }
+
+                @Override
+                public void cancel() {
+                    // do nothing
+                }
+            });
+            subscriber.onError(new IllegalStateException("publisher already subscribed"));
+            return;
+        }
+
+        var subscription = new TsurugiQuerySubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * subscription of {@link TsurugiQueryPublisher}.
+     */
+    protected class TsurugiQuerySubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super R> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        private volatile Throwable requestError = null;
+
+        // accessed only in run()
+        private boolean done = false;
+        private TsurugiTransaction ownTransaction;
+        private TsurugiQueryResult<R> result;
+        private Iterator<R> iterator;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param subscriber subscriber
+         */
+        protected TsurugiQuerySubscription(Flow.Subscriber<? super R> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.requestError = new IllegalArgumentException("request must be positive. n=" + n);
+            } else {
+                demand.getAndAccumulate(n, (current, add) -> {
+                    long sum = current + add;
+                    return (sum < 0) ? Long.MAX_VALUE : sum;
+                });
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("publisher schedule rejected", e);
+                    this.requestError = e;
+                    run();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (this.done) {
+                return;
+            }
+            if (this.cancelled) {
+                finish(false, null);
+                return;
+            }
+            var error = this.requestError;
+            if (error != null) {
+                finish(false, error);
+                return;
+            }
+
+            try {
+                if (this.iterator == null) {
+                    if (demand.get() == 0) {
+                        return;
+                    }
+                    open();
+                }
+
+                while (demand.get() > 0) {
+                    if (this.cancelled) {
+                        finish(false, null);
+                        return;
+                    }
+                    if (!iterator.hasNext()) {
+                        finish(true, null);
+                        return;
+                    }
+                    R record = iterator.next();
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    try {
+                        subscriber.onNext(record);
+                    } catch (Throwable e) {
+                        LOG.warn("subscriber.onNext error (cancel)", e);
+                        this.cancelled = true;
+                    }
+                }
+            } catch (Throwable e) {
+                finish(false, e);
+            }
+        }
+
+        private void open() throws Exception {
+            var tx = transaction;
+            if (tx == null) {
+                tx = session.createTransaction(txOption);
+                this.ownTransaction = tx;
+            }
+            this.result = executeQuery.run(tx);
+            this.iterator = result.iterator();
+        }
+
+        private void finish(boolean success, @Nullable Throwable error) {
+            this.done = true;
+
+            Throwable occurred = error;
+            try {
+                close(success && error == null);
+            } catch (Throwable e) {
+                if (occurred != null) {
+                    occurred.addSuppressed(e);
+                } else {
+                    occurred = e;
+                }
+            }
+
+            if (occurred != null) {
+                if (!this.cancelled) {
+                    subscriber.onError(occurred);
+                } else {
+                    LOG.debug("publisher close error after cancel", occurred);
+                }
+            } else if (success) {
+                subscriber.onComplete();
+            }
+        }
+
+        private void close(boolean commit) throws Exception {
+            Throwable occurred = null;
+            if (this.result != null) {
+                try {
+                    result.close();
+                } catch (Throwable e) {
+                    occurred = e;
+                }
+            }
+
+            var tx = this.ownTransaction;
+            if (tx != null) {
+                try {
+                    if (commit && occurred == null) {
+                        tx.commit(TgCommitType.DEFAULT);
+                    } else {
+                        tx.rollback();
+                    }
+                } catch (Throwable e) {
+                    if (occurred != null) {
+                        occurred.addSuppressed(e);
+                    } else {
+                        occurred = e;
+                    }
+                } finally {
+                    try {
+                        tx.close();
+                    } catch (Throwable e) {
+                        if (occurred != null) {
+                            occurred.addSuppressed(e);
+                        } else {
+                            occurred = e;
+                        }
+                    }
+                }
+            }
+
+            if (occurred != null) {
+                if (occurred instanceof Exception) {
+                    throw (Exception) occurred;
+                }
+                throw (Error) occurred;
+            }
+        }
+    }
+}
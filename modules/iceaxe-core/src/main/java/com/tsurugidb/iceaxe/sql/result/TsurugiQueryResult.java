@@ -2,20 +2,37 @@ package com.tsurugidb.iceaxe.sql.result;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
 import com.tsurugidb.iceaxe.sql.TsurugiSql;
 import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
 import com.tsurugidb.iceaxe.sql.TsurugiSqlQuery;
@@ -33,6 +50,7 @@ import com.tsurugidb.iceaxe.util.function.TsurugiTransactionConsumer;
 import com.tsurugidb.sql.proto.SqlCommon.Column;
 import com.tsurugidb.tsubakuro.exception.ServerException;
 import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
 import com.tsurugidb.tsubakuro.util.FutureResponse;
 
 /**
@@ -47,8 +65,9 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
     private static final Logger LOG = LoggerFactory.getLogger(TsurugiQueryResult.class);
 
     private FutureResponse<ResultSet> lowResultSetFuture;
-    private ResultSet lowResultSet;
-    private boolean calledGetLowResultSet = false;
+    private volatile ResultSet lowResultSet;
+    private volatile boolean calledGetLowResultSet = false;
+    private final ReentrantLock lowLock = new ReentrantLock();
     private final TgResultMapping<R> resultMapping;
     private final IceaxeConvertUtil convertUtil;
     private final IceaxeTimeout connectTimeout;
@@ -56,8 +75,15 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
     private List<TsurugiQueryResultEventListener<R>> eventListenerList = null;
     private int readCount = 0;
     private TsurugiResultRecord record;
+    private volatile Map<String, Integer> columnIndexMap;
+    private int parallelConvertChunkSize = 0;
+    private int parallelConvertParallelism;
+    private Executor parallelConvertExecutor;
+    private long spillMaxHeapBytes = -1;
+    private Path spillDirectory;
     private Optional<Boolean> hasNextRow = Optional.empty();
     private boolean calledEndEvent = false;
+    private boolean deferEndEvent = false;
 
     /**
      * Creates a new instance.
@@ -132,6 +158,78 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
         applyCloseTimeout();
     }
 
+    /**
+     * set parallel convert.
+     * <p>
+     * The records are converted on {@link TsurugiSession#getAsyncExecutor()}.
+     * </p>
+     *
+     * @param chunkSize   number of records converted in one task
+     * @param parallelism maximum number of tasks in progress
+     * @see #setParallelConvert(int, int, Executor)
+     */
+    public void setParallelConvert(int chunkSize, int parallelism) {
+        setParallelConvert(chunkSize, parallelism, null);
+    }
+
+    /**
+     * set parallel convert.
+     * <p>
+     * If set, {@link #whileEach(TsurugiTransactionConsumer)}, {@link #getRecordList()} and {@link #forEach(Consumer)} read the column values sequentially,
+     * and convert them to R by {@link TgResultMapping} on the executor in chunks of chunkSize records.<br>
+     * The order of the records is preserved, and the action is called on the caller thread.<br>
+     * The result mapping must be thread-safe.
+     * </p>
+     *
+     * @param chunkSize   number of records converted in one task
+     * @param parallelism maximum number of tasks in progress
+     * @param executor    executor to convert records. if null, {@link TsurugiSession#getAsyncExecutor()} is used
+     */
+    public void setParallelConvert(int chunkSize, int parallelism, @Nullable Executor executor) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive. chunkSize=" + chunkSize);
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive. parallelism=" + parallelism);
+        }
+        this.parallelConvertChunkSize = chunkSize;
+        this.parallelConvertParallelism = parallelism;
+        this.parallelConvertExecutor = executor;
+    }
+
+    /**
+     * set spill of record list.
+     *
+     * @param maxHeapBytes maximum bytes of the records kept on heap
+     * @see #setRecordListSpill(long, Path)
+     */
+    public void setRecordListSpill(long maxHeapBytes) {
+        setRecordListSpill(maxHeapBytes, null);
+    }
+
+    /**
+     * set spill of record list.
+     * <p>
+     * If set, {@link #getRecordList()} returns {@link TsurugiResultSpillList}, which keeps the records on heap up to maxHeapBytes (estimated)
+     * and writes the remaining records to a temporary file.<br>
+     * The spilled records are converted to R when they are accessed, and {@link TsurugiQueryResultEventListener#readRecord(TsurugiQueryResult, Object)} is not called for them.<br>
+     * The caller should close the returned list to delete the temporary file.
+     * </p>
+     * <p>
+     * To use with {@link TsurugiTransaction#executeAndGetList(TsurugiSqlQuery)}, call this method in {@link com.tsurugidb.iceaxe.sql.event.TsurugiSqlQueryEventListener#executeQueryStarted}.
+     * </p>
+     *
+     * @param maxHeapBytes maximum bytes of the records kept on heap
+     * @param directory    directory of the temporary file. if null, the default temporary-file directory is used
+     */
+    public void setRecordListSpill(long maxHeapBytes, @Nullable Path directory) {
+        if (maxHeapBytes < 0) {
+            throw new IllegalArgumentException("maxHeapBytes must not be negative. maxHeapBytes=" + maxHeapBytes);
+        }
+        this.spillMaxHeapBytes = maxHeapBytes;
+        this.spillDirectory = directory;
+    }
+
     /**
      * add event listener.
      *
@@ -170,22 +268,32 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
      * @throws TsurugiTransactionException if server error occurs while retrieving result set
      */
     @IceaxeInternal
-    public final synchronized ResultSet getLowResultSet() throws IOException, InterruptedException, TsurugiTransactionException {
-        this.calledGetLowResultSet = true;
-        if (this.lowResultSet == null) {
-            LOG.trace("lowResultSet get start");
-            try {
-                this.lowResultSet = IceaxeIoUtil.getAndCloseFutureInTransaction(lowResultSetFuture, connectTimeout);
-            } catch (TsurugiTransactionException e) {
-                fillToTsurugiException(e);
-                throw e;
-            }
-            LOG.trace("lowResultSet get end");
+    public final ResultSet getLowResultSet() throws IOException, InterruptedException, TsurugiTransactionException {
+        var rs = this.lowResultSet;
+        if (rs != null) {
+            return rs;
+        }
+
+        lowLock.lockInterruptibly();
+        try {
+            this.calledGetLowResultSet = true;
+            if (this.lowResultSet == null) {
+                LOG.trace("lowResultSet get start");
+                try {
+                    this.lowResultSet = IceaxeIoUtil.getAndCloseFutureInTransaction(lowResultSetFuture, connectTimeout);
+                } catch (TsurugiTransactionException e) {
+                    fillToTsurugiException(e);
+                    throw e;
+                }
+                LOG.trace("lowResultSet get end");
 
-            this.lowResultSetFuture = null;
-            applyCloseTimeout();
+                this.lowResultSetFuture = null;
+                applyCloseTimeout();
+            }
+            return this.lowResultSet;
+        } finally {
+            lowLock.unlock();
         }
-        return this.lowResultSet;
     }
 
     /**
@@ -216,12 +324,34 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
         if (this.hasNextRow.isEmpty() || hasNextRow.get().booleanValue() != exists) {
             this.hasNextRow = Optional.of(exists);
         }
-        if (!exists) {
+        if (!exists && !this.deferEndEvent) {
             callEndEvent();
         }
         return exists;
     }
 
+    /**
+     * Advances to the next row which is read directly from {@link ResultSet}.
+     * <p>
+     * The read count is incremented, and {@link TsurugiQueryResultEventListener#endResult(TsurugiQueryResult)} is called when there are no more rows.<br>
+     * The row is not converted to R, so {@link TsurugiQueryResultEventListener#readRecord(TsurugiQueryResult, Object)} is not called.
+     * </p>
+     *
+     * @return {@code false} if there are no more rows
+     * @throws IOException                 if an I/O error occurs while retrieving result set
+     * @throws InterruptedException        if interrupted while retrieving result set
+     * @throws TsurugiTransactionException if server error occurs while retrieving result set
+     * @see #getLowResultSet()
+     */
+    @IceaxeInternal
+    public boolean nextLowRow() throws IOException, InterruptedException, TsurugiTransactionException {
+        boolean exists = nextLowRecord();
+        if (exists) {
+            this.readCount++;
+        }
+        return exists;
+    }
+
     private void callEndEvent() {
         if (this.calledEndEvent) {
             return;
@@ -314,6 +444,42 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
         }
     }
 
+    /**
+     * get column index.
+     * <p>
+     * The index is resolved from the column metadata only once per this result.
+     * </p>
+     *
+     * @param name column name
+     * @return column index
+     * @throws IOException                 if an I/O error occurs while retrieving metadata
+     * @throws InterruptedException        if interrupted while retrieving metadata
+     * @throws TsurugiTransactionException if server error occurs while retrieving metadata
+     * @throws IllegalArgumentException    if not found column
+     * @see TsurugiResultRecord#getInt(int)
+     */
+    public int getColumnIndex(String name) throws IOException, InterruptedException, TsurugiTransactionException {
+        if (this.columnIndexMap == null) {
+            try {
+                var nameList = getNameList(this, getLowResultSet());
+                var map = new HashMap<String, Integer>(nameList.size() * 2);
+                int i = 0;
+                for (var columnName : nameList) {
+                    map.putIfAbsent(columnName, i++);
+                }
+                this.columnIndexMap = map;
+            } catch (Throwable e) {
+                event(e, listener -> listener.readException(this, e));
+                throw e;
+            }
+        }
+        var index = columnIndexMap.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("not found column. name=" + name);
+        }
+        return index;
+    }
+
     static List<String> getNameList(TsurugiQueryResult<?> rs, ResultSet lowResultSet) throws IOException, InterruptedException, TsurugiTransactionException {
         var lowColumnList = getLowColumnList(rs, lowResultSet);
         var size = lowColumnList.size();
@@ -354,6 +520,11 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
      * @throws TsurugiTransactionException if server error occurs while retrieving record
      */
     public void whileEach(TsurugiTransactionConsumer<R> action) throws IOException, InterruptedException, TsurugiTransactionException {
+        if (this.parallelConvertChunkSize > 0) {
+            whileEachParallel(action);
+            return;
+        }
+
         var record = getRecord();
         while (nextLowRecord()) {
             record.reset();
@@ -363,6 +534,138 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
         }
     }
 
+    /**
+     * Performs the given action for each record with parallel convert.
+     *
+     * @param action The action to be performed for each record
+     * @throws IOException                 if an I/O error occurs while retrieving record
+     * @throws InterruptedException        if interrupted while retrieving record
+     * @throws TsurugiTransactionException if server error occurs while retrieving record
+     * @see #setParallelConvert(int, int, Executor)
+     */
+    protected void whileEachParallel(TsurugiTransactionConsumer<R> action) throws IOException, InterruptedException, TsurugiTransactionException {
+        var executor = this.parallelConvertExecutor;
+        if (executor == null) {
+            executor = getTransaction().getSession().getAsyncExecutor();
+        }
+
+        var record = getRecord();
+        ResultSetMetadata lowMetadata;
+        int columnSize;
+        try {
+            lowMetadata = getLowResultSet().getMetadata();
+            columnSize = lowMetadata.getColumns().size();
+        } catch (ServerException e) {
+            event(e, listener -> listener.readException(this, e));
+            throw fillToTsurugiException(new TsurugiTransactionException(e));
+        }
+
+        var taskList = new ArrayDeque<CompletableFuture<List<R>>>(parallelConvertParallelism);
+        var cancelled = new AtomicBoolean(false);
+        // endResult is called after the readRecord of the last chunk
+        this.deferEndEvent = true;
+        try {
+            var rowList = new ArrayList<Object[]>(parallelConvertChunkSize);
+            while (nextLowRecord()) {
+                record.reset();
+                rowList.add(fetchRowValues(record, columnSize));
+                if (rowList.size() >= parallelConvertChunkSize) {
+                    submitConvert(taskList, lowMetadata, rowList, executor, cancelled, action);
+                    rowList = new ArrayList<>(parallelConvertChunkSize);
+                }
+            }
+            if (!rowList.isEmpty()) {
+                submitConvert(taskList, lowMetadata, rowList, executor, cancelled, action);
+            }
+            while (!taskList.isEmpty()) {
+                acceptConvertedList(taskList.poll(), action);
+            }
+        } catch (Throwable e) {
+            // the tasks not started are skipped, and the tasks in progress stop at the next record
+            cancelled.set(true);
+            for (var task : taskList) {
+                task.cancel(false);
+            }
+            throw e;
+        } finally {
+            this.deferEndEvent = false;
+        }
+        callEndEvent();
+    }
+
+    private void submitConvert(ArrayDeque<CompletableFuture<List<R>>> taskList, ResultSetMetadata lowMetadata, List<Object[]> rowList, Executor executor, AtomicBoolean cancelled,
+            TsurugiTransactionConsumer<R> action) throws IOException, InterruptedException, TsurugiTransactionException {
+        if (taskList.size() >= parallelConvertParallelism) {
+            acceptConvertedList(taskList.poll(), action);
+        }
+        taskList.add(convertAsync(lowMetadata, rowList, executor, cancelled));
+    }
+
+    private Object[] fetchRowValues(TsurugiResultRecord record, int columnSize) throws IOException, InterruptedException, TsurugiTransactionException {
+        try {
+            var values = new Object[columnSize];
+            for (int i = 0; record.moveCurrentColumnNext(); i++) {
+                values[i] = record.fetchCurrentColumnValue();
+            }
+            return values;
+        } catch (Throwable e) {
+            event(e, listener -> listener.readException(this, e));
+            throw e;
+        }
+    }
+
+    private CompletableFuture<List<R>> convertAsync(ResultSetMetadata lowMetadata, List<Object[]> rowList, Executor executor, AtomicBoolean cancelled) {
+        return CompletableFuture.supplyAsync(() -> {
+            var lowResultSet = new IceaxeBufferedResultSet(lowMetadata, rowList);
+            var record = new TsurugiResultRecord(this, lowResultSet, convertUtil);
+            var list = new ArrayList<R>(rowList.size());
+            try {
+                while (lowResultSet.nextRow()) {
+                    if (cancelled.get()) {
+                        throw new CancellationException("parallel convert cancelled");
+                    }
+                    record.reset();
+                    list.add(resultMapping.convert(record));
+                }
+            } catch (IOException | InterruptedException | TsurugiTransactionException | ServerException e) {
+                throw new CompletionException(e);
+            }
+            return list;
+        }, executor);
+    }
+
+    private void acceptConvertedList(CompletableFuture<List<R>> task, TsurugiTransactionConsumer<R> action) throws IOException, InterruptedException, TsurugiTransactionException {
+        List<R> list;
+        try {
+            list = task.get();
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            event(cause, listener -> listener.readException(this, cause));
+            if (cause instanceof TsurugiTransactionException) {
+                throw fillToTsurugiException((TsurugiTransactionException) cause);
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause.getMessage(), cause);
+        }
+
+        for (R result : list) {
+            this.readCount++;
+            event(null, listener -> listener.readRecord(this, result));
+            action.accept(result);
+        }
+    }
+
     /**
      * get record list.
      *
@@ -372,7 +675,16 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
      * @throws TsurugiTransactionException if server error occurs while retrieving record
      */
     public List<R> getRecordList() throws IOException, InterruptedException, TsurugiTransactionException {
+        if (this.spillMaxHeapBytes >= 0) {
+            return getRecordSpillList();
+        }
+
         var list = new ArrayList<R>();
+        if (this.parallelConvertChunkSize > 0) {
+            whileEachParallel(list::add);
+            return list;
+        }
+
         var record = getRecord();
         while (nextLowRecord()) {
             record.reset();
@@ -383,6 +695,102 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
         return list;
     }
 
+    /**
+     * get record list with spill.
+     *
+     * @return list of record
+     * @throws IOException                 if an I/O error occurs while retrieving record
+     * @throws InterruptedException        if interrupted while retrieving record
+     * @throws TsurugiTransactionException if server error occurs while retrieving record
+     * @see #setRecordListSpill(long, Path)
+     */
+    protected TsurugiResultSpillList<R> getRecordSpillList() throws IOException, InterruptedException, TsurugiTransactionException {
+        var record = getRecord();
+        ResultSetMetadata lowMetadata;
+        try {
+            lowMetadata = getLowResultSet().getMetadata();
+        } catch (ServerException e) {
+            event(e, listener -> listener.readException(this, e));
+            throw fillToTsurugiException(new TsurugiTransactionException(e));
+        }
+        int columnSize = lowMetadata.getColumns().size();
+
+        var list = new TsurugiResultSpillList<>(this, lowMetadata, resultMapping, convertUtil, spillMaxHeapBytes, spillDirectory);
+        try {
+            while (nextLowRecord()) {
+                record.reset();
+                var values = fetchRowValues(record, columnSize);
+                R result;
+                try {
+                    result = list.addRow(values);
+                } catch (TsurugiTransactionException e) {
+                    event(e, listener -> listener.readException(this, e));
+                    fillToTsurugiException(e);
+                    throw e;
+                } catch (Throwable e) {
+                    event(e, listener -> listener.readException(this, e));
+                    throw e;
+                }
+                this.readCount++;
+                if (result != null) {
+                    event(null, listener -> listener.readRecord(this, result));
+                }
+            }
+            list.endRow();
+        } catch (Throwable e) {
+            list.close();
+            throw e;
+        }
+        return list;
+    }
+
+    /**
+     * read the next rows into the column batch.
+     * <p>
+     * The values are read directly into the arrays of the batch without converting the rows to R (the result mapping is not used).<br>
+     * The batch can be reused for the next call, and the values of the previous call are overwritten.
+     * </p>
+     * <p>
+     * {@link TsurugiQueryResultEventListener#readRecord(TsurugiQueryResult, Object)} is not called for each row,
+     * and {@link TsurugiQueryResultEventListener#readColumnBatch(TsurugiQueryResult, TgResultColumnBatch)} is called for each batch instead.
+     * </p>
+     *
+     * @param batch column batch
+     * @return number of rows read (0 if there are no more rows)
+     * @throws IOException                 if an I/O error occurs while retrieving record
+     * @throws InterruptedException        if interrupted while retrieving record
+     * @throws TsurugiTransactionException if server error occurs while retrieving record
+     * @see TgResultColumnBatch
+     */
+    public int fetchColumnBatch(TgResultColumnBatch batch) throws IOException, InterruptedException, TsurugiTransactionException {
+        var record = getRecord();
+        try {
+            batch.clear(record);
+        } catch (Throwable e) {
+            event(e, listener -> listener.readException(this, e));
+            throw e;
+        }
+
+        while (!batch.isFull() && nextLowRecord()) {
+            record.reset();
+            try {
+                batch.read(record);
+            } catch (TsurugiTransactionException e) {
+                event(e, listener -> listener.readException(this, e));
+                fillToTsurugiException(e);
+                throw e;
+            } catch (Throwable e) {
+                event(e, listener -> listener.readException(this, e));
+                throw e;
+            }
+            this.readCount++;
+        }
+        if (batch.size() > 0) {
+            event(null, listener -> listener.readColumnBatch(this, batch));
+        }
+        return batch.size();
+    }
+
     /**
      * get one record.
      *
@@ -520,6 +928,11 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
     @Override
     public void forEach(Consumer<? super R> action) {
         try {
+            if (this.parallelConvertChunkSize > 0) {
+                whileEachParallel(action::accept);
+                return;
+            }
+
             var record = getRecord();
             while (nextLowRecord()) {
                 record.reset();
@@ -536,6 +949,76 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
         }
     }
 
+    /**
+     * get record stream.
+     * <p>
+     * The records are read lazily as the stream is consumed. This result is closed when the stream is closed.
+     * </p>
+     *
+     * <pre>
+     * try (var stream = result.stream()) {
+     *     stream.forEach(entity -> ...);
+     * }
+     * </pre>
+     *
+     * @return stream of record
+     * @throws UncheckedIOException               if an I/O error occurs while retrieving record
+     * @throws InterruptedRuntimeException        if interrupted while retrieving record
+     * @throws TsurugiTransactionRuntimeException if server error occurs while retrieving record
+     */
+    public Stream<R> stream() {
+        var spliterator = Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(this::closeForStream);
+    }
+
+    /**
+     * get record stream with prefetch.
+     * <p>
+     * The records are read and converted on {@link TsurugiSession#getAsyncExecutor()} in batches of prefetchSize, while the consumer processes the previous batch.<br>
+     * This result is closed when the stream is closed.
+     * </p>
+     *
+     * @param prefetchSize number of records to prefetch
+     * @return stream of record
+     * @see #stream(int, Executor)
+     */
+    public Stream<R> stream(int prefetchSize) {
+        var executor = getTransaction().getSession().getAsyncExecutor();
+        return stream(prefetchSize, executor);
+    }
+
+    /**
+     * get record stream with prefetch.
+     * <p>
+     * The records are read and converted on the executor in batches of prefetchSize, while the consumer processes the previous batch.<br>
+     * At most about 3 &times; prefetchSize records are held (the batch being consumed, one prefetched batch and the batch being read), so memory usage does not depend on the number of records.<br>
+     * This result is closed when the stream is closed. The event listeners are called on the executor thread.
+     * </p>
+     *
+     * @param prefetchSize number of records to prefetch
+     * @param executor     executor to read records
+     * @return stream of record
+     */
+    public Stream<R> stream(int prefetchSize, Executor executor) {
+        var spliterator = new TsurugiQueryResultPrefetchSpliterator<>(this, prefetchSize, executor);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            spliterator.close();
+            closeForStream();
+        });
+    }
+
+    private void closeForStream() {
+        try {
+            close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            throw new InterruptedRuntimeException(e);
+        } catch (TsurugiTransactionException e) {
+            throw new TsurugiTransactionRuntimeException(e);
+        }
+    }
+
     // close
 
     @Override
@@ -0,0 +1,221 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import java.lang.ref.Cleaner;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.util.InterruptedRuntimeException;
+
+/**
+ * Spliterator for {@link TsurugiQueryResult} which prefetches records on background.
+ * <p>
+ * The records are read and converted in batches on the executor while the consumer processes the current batch.<br>
+ * The producer waits while one batch is waiting in the queue (backpressure).
+ * So at most three batches (about 3 &times; prefetchSize records) are held: the batch being consumed, the batch waiting in the queue, and the batch being read.
+ * </p>
+ * <p>
+ * The producer stops when this spliterator is closed, or when this spliterator becomes unreachable without close.
+ * </p>
+ *
+ * @param <R> result type
+ * @see TsurugiQueryResult#stream(int)
+ */
+@NotThreadSafe
+class TsurugiQueryResultPrefetchSpliterator<R> implements Spliterator<R> {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiQueryResultPrefetchSpliterator.class);
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private static final class Batch<R> {
+        private final List<R> recordList;
+        private final boolean last;
+        private final Throwable occurred;
+
+        Batch(List<R> recordList, boolean last, Throwable occurred) {
+            this.recordList = recordList;
+            this.last = last;
+            this.occurred = occurred;
+        }
+    }
+
+    /**
+     * background reader.
+     * <p>
+     * The producer does not refer to the spliterator, so that the spliterator can become unreachable while the producer is waiting.
+     * </p>
+     *
+     * @param <R> result type
+     */
+    private static final class Producer<R> implements Runnable {
+        private final TsurugiQueryResult<R> ownerResult;
+        private final int prefetchSize;
+        private final BlockingQueue<Batch<R>> queue = new ArrayBlockingQueue<>(1);
+        private volatile boolean cancelled = false;
+
+        Producer(TsurugiQueryResult<R> result, int prefetchSize) {
+            this.ownerResult = result;
+            this.prefetchSize = prefetchSize;
+        }
+
+        @Override
+        public void run() {
+            LOG.trace("prefetch start");
+            try {
+                var iterator = ownerResult.iterator();
+                boolean hasNext = iterator.hasNext();
+                while (!this.cancelled) {
+                    var list = new ArrayList<R>(prefetchSize);
+                    while (hasNext && list.size() < prefetchSize) {
+                        list.add(iterator.next());
+                        hasNext = iterator.hasNext();
+                    }
+                    if (!offer(new Batch<>(list, !hasNext, null))) {
+                        break;
+                    }
+                    if (!hasNext) {
+                        break;
+                    }
+                }
+            } catch (Throwable e) {
+                LOG.trace("prefetch error", e);
+                try {
+                    offer(new Batch<>(List.of(), true, e));
+                } catch (InterruptedException ie) {
+                    e.addSuppressed(ie);
+                }
+            }
+            LOG.trace("prefetch end. cancelled={}", cancelled);
+        }
+
+        /**
+         * put the batch to the queue.
+         *
+         * @param batch batch
+         * @return {@code false} if cancelled
+         * @throws InterruptedException if interrupted while waiting
+         */
+        private boolean offer(Batch<R> batch) throws InterruptedException {
+            while (!this.cancelled) {
+                if (queue.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void cancel() {
+            this.cancelled = true;
+        }
+    }
+
+    private final Producer<R> producer;
+    private final Executor executor;
+    private final Cleaner.Cleanable cleanable;
+    private CompletableFuture<Void> producerFuture = null;
+    private Iterator<R> currentIterator = Collections.emptyIterator();
+    private boolean finished = false;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param result       query result
+     * @param prefetchSize number of records in one batch
+     * @param executor     executor to read records
+     */
+    TsurugiQueryResultPrefetchSpliterator(TsurugiQueryResult<R> result, int prefetchSize, Executor executor) {
+        if (prefetchSize <= 0) {
+            throw new IllegalArgumentException("prefetchSize must be positive. prefetchSize=" + prefetchSize);
+        }
+        var producer = new Producer<>(result, prefetchSize);
+        this.producer = producer;
+        this.executor = executor;
+        this.cleanable = CLEANER.register(this, producer::cancel);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        while (!currentIterator.hasNext()) {
+            if (this.finished) {
+                return false;
+            }
+            takeBatch();
+        }
+        action.accept(currentIterator.next());
+        return true;
+    }
+
+    private void takeBatch() {
+        if (this.producerFuture == null) {
+            this.producerFuture = CompletableFuture.runAsync(producer, executor);
+        }
+
+        Batch<R> batch;
+        try {
+            batch = producer.queue.take();
+        } catch (InterruptedException e) {
+            throw new InterruptedRuntimeException(e);
+        }
+        if (batch.last) {
+            this.finished = true;
+        }
+        var e = batch.occurred;
+        if (e != null) {
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        this.currentIterator = batch.recordList.iterator();
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+
+    /**
+     * stop prefetch and wait for the background reading to end.
+     */
+    void close() {
+        cleanable.clean();
+        producer.queue.clear();
+        var future = this.producerFuture;
+        if (future != null) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                LOG.debug("prefetch close error", e);
+            }
+        }
+    }
+}
@@ -35,7 +35,7 @@ import com.tsurugidb.tsubakuro.sql.ResultSet;
  * Tsurugi Result Record for {@link TsurugiQueryResult}.
  *
  * <p>
- * The methods of this class are classified into the following three groups. If you use a certain group of methods, you basically cannot use the other group's methods.
+ * The methods of this class are classified into the following four groups. If you use a certain group of methods, you basically cannot use the other group's methods.
  * </p>
  * <h2><code>current column</code> group</h2>
  * <p>
@@ -74,6 +74,19 @@ import com.tsurugidb.tsubakuro.sql.ResultSet;
  * entity.setZzz(record.nextString());
  * </pre>
  *
+ * <h2><code>index</code> group</h2>
+ * <p>
+ * Get the value by specifying the column index.<br>
+ * The values are read into a buffer reused between records, so primitive values are not boxed.<br>
+ * Accessing a column reads the preceding columns of the record into the buffer too, so the columns can be accessed in any order.
+ * </p>
+ *
+ * <pre>
+ * int fooIndex = record.getColumnIndex("foo"); // resolve once
+ * ...
+ * entity.setFoo(record.getInt(fooIndex));
+ * </pre>
+ *
  * <p>
  * This class is linked with {@link TsurugiQueryResult} and the instance is shared among multiple records.<br>
  * Therefore, this instance must not be held by the user program for the purpose of holding the value of the record.<br>
@@ -126,6 +139,11 @@ public class TsurugiResultRecord {
     private final IceaxeConvertUtil convertUtil;
     private int currentColumnIndex;
     private Map<String, TsurugiResultColumnValue> columnMap;
+    private AtomType[] indexLowTypes;
+    private boolean[] indexNullValues;
+    private long[] indexLongValues;
+    private double[] indexDoubleValues;
+    private Object[] indexObjectValues;
 
     /**
      * Creates a new instance.
@@ -2292,6 +2310,308 @@ public class TsurugiResultRecord {
         return convertUtil.toZonedDateTime(lowValue, zone);
     }
 
+    /*
+     * get by index
+     */
+
+    /**
+     * get column index.
+     *
+     * @param name column name
+     * @return column index
+     * @throws IOException                 if an I/O error occurs while retrieving metadata
+     * @throws InterruptedException        if interrupted while retrieving metadata
+     * @throws TsurugiTransactionException if server error occurs while retrieving metadata
+     * @throws IllegalArgumentException    if not found column
+     * @see TsurugiQueryResult#getColumnIndex(String)
+     */
+    public int getColumnIndex(String name) throws IOException, InterruptedException, TsurugiTransactionException {
+        return ownerResult.getColumnIndex(name);
+    }
+
+    /**
+     * read column values into the index buffer up to the specified column.
+     *
+     * @param index column index
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @throws IndexOutOfBoundsException   if index is out of range
+     */
+    protected void fetchIndexColumn(int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        if (this.indexLowTypes == null) {
+            var lowColumnList = TsurugiQueryResult.getLowColumnList(ownerResult, lowResultSet);
+            int size = lowColumnList.size();
+            var lowTypes = new AtomType[size];
+            for (int i = 0; i < size; i++) {
+                lowTypes[i] = lowColumnList.get(i).getAtomType();
+            }
+            this.indexNullValues = new boolean[size];
+            this.indexLongValues = new long[size];
+            this.indexDoubleValues = new double[size];
+            this.indexObjectValues = new Object[size];
+            this.indexLowTypes = lowTypes;
+        }
+        Objects.checkIndex(index, indexLowTypes.length);
+
+        while (currentColumnIndex < index) {
+            nextColumn();
+            int i = this.currentColumnIndex;
+            if (lowResultSet.isNull()) {
+                indexNullValues[i] = true;
+                indexObjectValues[i] = null;
+                continue;
+            }
+            indexNullValues[i] = false;
+            try {
+                switch (indexLowTypes[i]) {
+                case BOOLEAN:
+                    indexLongValues[i] = lowResultSet.fetchBooleanValue() ? 1 : 0;
+                    break;
+                case INT4:
+                    indexLongValues[i] = lowResultSet.fetchInt4Value();
+                    break;
+                case INT8:
+                    indexLongValues[i] = lowResultSet.fetchInt8Value();
+                    break;
+                case FLOAT4:
+                    indexDoubleValues[i] = lowResultSet.fetchFloat4Value();
+                    break;
+                case FLOAT8:
+                    indexDoubleValues[i] = lowResultSet.fetchFloat8Value();
+                    break;
+                default:
+                    indexObjectValues[i] = fetchCurrentColumnValue();
+                    break;
+                }
+            } catch (ServerException e) {
+                throw ownerResult.fillToTsurugiException(new TsurugiTransactionException(e));
+            }
+        }
+    }
+
+    private void requireNonNull(int index, String getterName) {
+        if (indexNullValues[index]) {
+            throw new NullPointerException(MessageFormat.format("TsurugiResultRecord.{0}({1}) is null", getterName, index));
+        }
+    }
+
+    /**
+     * get whether the column value is null.
+     *
+     * @param index column index
+     * @return true if the column value is null
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @throws IndexOutOfBoundsException   if index is out of range
+     */
+    public boolean isNull(int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        fetchIndexColumn(index);
+        return indexNullValues[index];
+    }
+
+    /**
+     * get value.
+     *
+     * @param index column index
+     * @return value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @throws IndexOutOfBoundsException   if index is out of range
+     */
+    public @Nullable Object getValue(int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        fetchIndexColumn(index);
+        if (indexNullValues[index]) {
+            return null;
+        }
+        switch (indexLowTypes[index]) {
+        case BOOLEAN:
+            return indexLongValues[index] != 0;
+        case INT4:
+            return (int) indexLongValues[index];
+        case INT8:
+            return indexLongValues[index];
+        case FLOAT4:
+            return (float) indexDoubleValues[index];
+        case FLOAT8:
+            return indexDoubleValues[index];
+        default:
+            return indexObjectValues[index];
+        }
+    }
+
+    /**
+     * get data type.
+     *
+     * @param index column index
+     * @return data type
+     * @throws IOException                 if an I/O error occurs while retrieving metadata
+     * @throws InterruptedException        if interrupted while retrieving metadata
+     * @throws TsurugiTransactionException if server error occurs while retrieving metadata
+     * @throws IndexOutOfBoundsException   if index is out of range
+     */
+    public @Nonnull TgDataType getType(int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        var lowColumn = getLowColumn(index);
+        var lowType = lowColumn.getAtomType();
+        return TgDataType.of(lowType);
+    }
+
+    /**
+     * get column value as boolean.
+     *
+     * @param index column index
+     * @return column value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @throws IndexOutOfBoundsException   if index is out of range
+     * @throws NullPointerException        if value is null
+     */
+    public boolean getBoolean(int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        fetchIndexColumn(index);
+        requireNonNull(index, "getBoolean");
+        if (indexLowTypes[index] == AtomType.BOOLEAN) {
+            return indexLongValues[index] != 0;
+        }
+        return convertUtil.toBoolean(getValue(index));
+    }
+
+    /**
+     * get column value as int.
+     *
+     * @param index column index
+     * @return column value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @throws IndexOutOfBoundsException   if index is out of range
+     * @throws NullPointerException        if value is null
+     */
+    public int getInt(int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        fetchIndexColumn(index);
+        requireNonNull(index, "getInt");
+        switch (indexLowTypes[index]) {
+        case INT4:
+        case INT8:
+            return (int) indexLongValues[index];
+        case FLOAT4:
+        case FLOAT8:
+            return (int) indexDoubleValues[index];
+        default:
+            return convertUtil.toInt(getValue(index));
+        }
+    }
+
+    /**
+     * get column value as long.
+     *
+     * @param index column index
+     * @return column value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @throws IndexOutOfBoundsException   if index is out of range
+     * @throws NullPointerException        if value is null
+     */
+    public long getLong(int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        fetchIndexColumn(index);
+        requireNonNull(index, "getLong");
+        switch (indexLowTypes[index]) {
+        case INT4:
+        case INT8:
+            return indexLongValues[index];
+        case FLOAT4:
+        case FLOAT8:
+            return (long) indexDoubleValues[index];
+        default:
+            return convertUtil.toLong(getValue(index));
+        }
+    }
+
+    /**
+     * get column value as float.
+     *
+     * @param index column index
+     * @return column value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @throws IndexOutOfBoundsException   if index is out of range
+     * @throws NullPointerException        if value is null
+     */
+    public float getFloat(int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        fetchIndexColumn(index);
+        requireNonNull(index, "getFloat");
+        switch (indexLowTypes[index]) {
+        case INT4:
+        case INT8:
+            return indexLongValues[index];
+        case FLOAT4:
+        case FLOAT8:
+            return (float) indexDoubleValues[index];
+        default:
+            return convertUtil.toFloat(getValue(index));
+        }
+    }
+
+    /**
+     * get column value as double.
+     *
+     * @param index column index
+     * @return column value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @throws IndexOutOfBoundsException   if index is out of range
+     * @throws NullPointerException        if value is null
+     */
+    public double getDouble(int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        fetchIndexColumn(index);
+        requireNonNull(index, "getDouble");
+        switch (indexLowTypes[index]) {
+        case INT4:
+        case INT8:
+            return indexLongValues[index];
+        case FLOAT4:
+        case FLOAT8:
+            return indexDoubleValues[index];
+        default:
+            return convertUtil.toDouble(getValue(index));
+        }
+    }
+
+    /**
+     * get column value as decimal.
+     *
+     * @param index column index
+     * @return column value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @throws IndexOutOfBoundsException   if index is out of range
+     */
+    public @Nullable BigDecimal getDecimalOrNull(int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        var lowValue = getValue(index);
+        return convertUtil.toDecimal(lowValue);
+    }
+
+    /**
+     * get column value as String.
+     *
+     * @param index column index
+     * @return column value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @throws IndexOutOfBoundsException   if index is out of range
+     */
+    public @Nullable String getStringOrNull(int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        var lowValue = getValue(index);
+        return convertUtil.toString(lowValue);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" + lowResultSet + "}";
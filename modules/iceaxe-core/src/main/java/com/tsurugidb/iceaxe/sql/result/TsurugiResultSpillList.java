@@ -0,0 +1,357 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionRuntimeException;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.iceaxe.util.InterruptedRuntimeException;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+
+/**
+ * record list which spills the records to a temporary file.
+ * <p>
+ * The records are kept on heap (converted to R) up to the heap limit, and the remaining records are written to a temporary file in a binary row format.<br>
+ * The spilled records are read through a memory-mapped file and converted to R by {@link TgResultMapping} each time they are accessed,
+ * so the list can be read after the transaction is closed. Sequential access (e.g. iterator) decodes each row once.
+ * </p>
+ * <p>
+ * The list is unmodifiable. The temporary file is deleted by {@link #close()} (or when the list is garbage collected).
+ * </p>
+ * <p>
+ * Note: Java has no API to unmap a memory-mapped file explicitly, so the mapped segments are released when they are garbage collected, not by {@link #close()}.
+ * Until then, the virtual address space (and the disk space of the deleted file on some platforms) remains in use.
+ * </p>
+ *
+ * @param <R> result type
+ * @see TsurugiQueryResult#setRecordListSpill(long, Path)
+ */
+@NotThreadSafe
+public class TsurugiResultSpillList<R> extends AbstractList<R> implements RandomAccess, Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiResultSpillList.class);
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final int SEGMENT_SIZE = 1 << 30;
+    private static final int ROW_INDEX_SHIFT = 6;
+    private static final int ROW_INDEX_MASK = (1 << ROW_INDEX_SHIFT) - 1;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static class SpillFile implements Runnable {
+        private final Path path;
+        private final FileChannel channel;
+
+        SpillFile(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+
+        @Override
+        public void run() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOG.warn("spill file close error. path={}", path, e);
+            }
+        }
+    }
+
+    private final TgResultMapping<R> resultMapping;
+    private final long maxHeapBytes;
+    private final Path directory;
+    private final int columnSize;
+    private final IceaxeBufferedResultSet lowResultSet;
+    private final TsurugiResultRecord record;
+
+    private final List<R> heapList = new ArrayList<>();
+    private long heapBytes = 0;
+
+    private SpillFile spillFile;
+    private Cleaner.Cleanable cleanable;
+    private IceaxeSpillRowCodec codec;
+    private ByteBuffer writeBuffer;
+    private long writePosition = 0;
+    private long[] segmentStarts = { 0 };
+    private int segmentCount = 1;
+    private long[] rowIndex = new long[16];
+    private int spillSize = 0;
+    private MappedByteBuffer[] segments;
+    private boolean closed = false;
+
+    private int lastIndex = -1;
+    private long nextPosition = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param ownerResult   query result
+     * @param lowMetadata   metadata of the low ResultSet
+     * @param resultMapping result mapping
+     * @param convertUtil   convert type utility
+     * @param maxHeapBytes  maximum bytes of the records kept on heap
+     * @param directory     directory of the temporary file (null: default temporary-file directory)
+     */
+    TsurugiResultSpillList(TsurugiQueryResult<?> ownerResult, ResultSetMetadata lowMetadata, TgResultMapping<R> resultMapping, IceaxeConvertUtil convertUtil, long maxHeapBytes,
+            @Nullable Path directory) {
+        this.resultMapping = resultMapping;
+        this.maxHeapBytes = maxHeapBytes;
+        this.directory = directory;
+        this.columnSize = lowMetadata.getColumns().size();
+        this.lowResultSet = new IceaxeBufferedResultSet(lowMetadata);
+        this.record = new TsurugiResultRecord(ownerResult, lowResultSet, convertUtil);
+    }
+
+    /**
+     * add row.
+     *
+     * @param values column values
+     * @return record if kept on heap, null if spilled
+     * @throws IOException                 if an I/O error occurs while writing the temporary file
+     * @throws InterruptedException        if interrupted while converting record
+     * @throws TsurugiTransactionException if server error occurs while converting record
+     */
+    @Nullable
+    R addRow(Object[] values) throws IOException, InterruptedException, TsurugiTransactionException {
+        if (this.spillSize == 0) {
+            long size = IceaxeSpillRowCodec.estimateHeapSize(values);
+            if (heapBytes + size <= maxHeapBytes) {
+                this.heapBytes += size;
+                R result = convert(values);
+                heapList.add(result);
+                return result;
+            }
+            openSpillFile();
+        }
+
+        writeRow(codec.encode(values));
+        return null;
+    }
+
+    private void openSpillFile() throws IOException {
+        var path = (directory != null) ? Files.createTempFile(directory, "iceaxe-spill-", ".tmp") : Files.createTempFile("iceaxe-spill-", ".tmp");
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (Throwable e) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (Throwable d) {
+                e.addSuppressed(d);
+            }
+            throw e;
+        }
+        LOG.debug("spill file created. path={}, heapSize={}", path, heapList.size());
+
+        this.spillFile = new SpillFile(path, channel);
+        this.cleanable = CLEANER.register(this, spillFile);
+        this.codec = new IceaxeSpillRowCodec();
+        this.writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+    }
+
+    private void writeRow(ByteBuffer row) throws IOException {
+        int rowSize = row.remaining();
+        long segmentStart = segmentStarts[segmentCount - 1];
+        if (writePosition - segmentStart + rowSize > SEGMENT_SIZE && writePosition > segmentStart) {
+            if (segmentCount == segmentStarts.length) {
+                this.segmentStarts = Arrays.copyOf(segmentStarts, segmentCount * 2);
+            }
+            segmentStarts[segmentCount++] = writePosition;
+        }
+        if ((spillSize & ROW_INDEX_MASK) == 0) {
+            int n = spillSize >>> ROW_INDEX_SHIFT;
+            if (n == rowIndex.length) {
+                this.rowIndex = Arrays.copyOf(rowIndex, n * 2);
+            }
+            rowIndex[n] = writePosition;
+        }
+
+        if (rowSize > writeBuffer.remaining()) {
+            flush();
+        }
+        if (rowSize > writeBuffer.remaining()) {
+            while (row.hasRemaining()) {
+                spillFile.channel.write(row);
+            }
+        } else {
+            writeBuffer.put(row);
+        }
+        this.writePosition += rowSize;
+        this.spillSize++;
+    }
+
+    private void flush() throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            spillFile.channel.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+
+    /**
+     * end adding rows.
+     *
+     * @throws IOException if an I/O error occurs while mapping the temporary file
+     */
+    void endRow() throws IOException {
+        if (this.spillFile == null) {
+            return;
+        }
+
+        flush();
+        this.writeBuffer = null;
+        this.segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long start = segmentStarts[i];
+            long end = (i + 1 < segmentCount) ? segmentStarts[i + 1] : writePosition;
+            segments[i] = spillFile.channel.map(MapMode.READ_ONLY, start, end - start);
+        }
+        LOG.debug("spill file mapped. path={}, spillSize={}, fileSize={}", spillFile.path, spillSize, writePosition);
+    }
+
+    /**
+     * get number of records kept on heap.
+     *
+     * @return number of records
+     */
+    public int getHeapSize() {
+        return heapList.size();
+    }
+
+    /**
+     * get number of records spilled to the temporary file.
+     *
+     * @return number of records
+     */
+    public int getSpillSize() {
+        return this.spillSize;
+    }
+
+    /**
+     * get size of the temporary file.
+     *
+     * @return size [byte]
+     */
+    public long getSpillBytes() {
+        return this.writePosition;
+    }
+
+    @Override
+    public int size() {
+        return heapList.size() + spillSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException              if the spilled record is accessed after close
+     * @throws UncheckedIOException               if an I/O error occurs while converting record
+     * @throws InterruptedRuntimeException        if interrupted while converting record
+     * @throws TsurugiTransactionRuntimeException if server error occurs while converting record
+     */
+    @Override
+    public R get(int index) {
+        Objects.checkIndex(index, size());
+        int heapSize = heapList.size();
+        if (index < heapSize) {
+            return heapList.get(index);
+        }
+        return getSpill(index - heapSize);
+    }
+
+    private R getSpill(int index) {
+        if (this.closed) {
+            throw new IllegalStateException("spill list already closed");
+        }
+        if (this.segments == null) {
+            throw new IllegalStateException("spill list is being written");
+        }
+
+        long position;
+        if (index == lastIndex + 1) {
+            position = this.nextPosition;
+        } else {
+            position = rowIndex[index >>> ROW_INDEX_SHIFT];
+            for (int i = index & ~ROW_INDEX_MASK; i < index; i++) {
+                int segmentIndex = findSegment(position);
+                var buffer = seek(segmentIndex, position);
+                IceaxeSpillRowCodec.skip(buffer);
+                position = segmentStarts[segmentIndex] + buffer.position();
+            }
+        }
+
+        int segmentIndex = findSegment(position);
+        var buffer = seek(segmentIndex, position);
+        var values = IceaxeSpillRowCodec.decode(buffer, columnSize);
+        this.lastIndex = index;
+        this.nextPosition = segmentStarts[segmentIndex] + buffer.position();
+
+        try {
+            return convert(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            throw new InterruptedRuntimeException(e);
+        } catch (TsurugiTransactionException e) {
+            throw new TsurugiTransactionRuntimeException(e);
+        }
+    }
+
+    private int findSegment(long position) {
+        int index = Arrays.binarySearch(segmentStarts, 0, segmentCount, position);
+        return (index >= 0) ? index : -index - 2;
+    }
+
+    private ByteBuffer seek(int segmentIndex, long position) {
+        var buffer = segments[segmentIndex];
+        buffer.position((int) (position - segmentStarts[segmentIndex]));
+        return buffer;
+    }
+
+    private R convert(Object[] values) throws IOException, InterruptedException, TsurugiTransactionException {
+        lowResultSet.setValues(values);
+        record.reset();
+        return resultMapping.convert(record);
+    }
+
+    /**
+     * delete the temporary file.
+     * <p>
+     * The records kept on heap can be accessed after close.<br>
+     * The mapped segments are not unmapped here; they are released when garbage collected.
+     * </p>
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.segments = null;
+        if (this.cleanable != null) {
+            cleanable.clean();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiResultSpillList(heapSize=" + heapList.size() + ", spillSize=" + spillSize + ", spillBytes=" + writePosition + ")";
+    }
+}
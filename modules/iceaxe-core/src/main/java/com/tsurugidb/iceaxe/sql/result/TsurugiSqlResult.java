@@ -73,6 +73,15 @@ public abstract class TsurugiSqlResult implements AutoCloseable {
         return this.iceaxeSqlExecuteId;
     }
 
+    /**
+     * get transaction.
+     *
+     * @return transaction
+     */
+    protected TsurugiTransaction getTransaction() {
+        return this.ownerTransaction;
+    }
+
     /**
      * fill information in exception.
      *
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -34,7 +35,8 @@ import com.tsurugidb.tsubakuro.util.FutureResponse;
 public class TsurugiStatementResult extends TsurugiSqlResult {
     private static final Logger LOG = LoggerFactory.getLogger(TsurugiStatementResult.class);
 
-    private FutureResponse<Void> lowResultFuture;
+    private volatile FutureResponse<Void> lowResultFuture;
+    private final ReentrantLock lowLock = new ReentrantLock();
     private final IceaxeTimeout checkTimeout;
     private final IceaxeTimeout closeTimeout;
     private List<TsurugiStatementResultEventListener> eventListenerList = null;
@@ -142,27 +144,36 @@ public class TsurugiStatementResult extends TsurugiSqlResult {
      * @throws InterruptedException        if interrupted while retrieving result
      * @throws TsurugiTransactionException if server error occurs while retrieving result
      */
-    protected final synchronized void checkLowResult() throws IOException, InterruptedException, TsurugiTransactionException {
-        if (this.lowResultFuture != null) {
-            LOG.trace("lowResult get start");
-            Throwable occurred = null;
-            try {
-                IceaxeIoUtil.getAndCloseFutureInTransaction(lowResultFuture, checkTimeout);
-            } catch (TsurugiTransactionException e) {
-                occurred = e;
-                fillToTsurugiException(e);
-                throw e;
-            } catch (Throwable e) {
-                occurred = e;
-                throw e;
-            } finally {
-                this.lowResultFuture = null;
-                applyCloseTimeout();
+    protected final void checkLowResult() throws IOException, InterruptedException, TsurugiTransactionException {
+        if (this.lowResultFuture == null) {
+            return;
+        }
 
-                var finalOccurred = occurred;
-                event(occurred, listener -> listener.endResult(this, finalOccurred));
+        lowLock.lockInterruptibly();
+        try {
+            if (this.lowResultFuture != null) {
+                LOG.trace("lowResult get start");
+                Throwable occurred = null;
+                try {
+                    IceaxeIoUtil.getAndCloseFutureInTransaction(lowResultFuture, checkTimeout);
+                } catch (TsurugiTransactionException e) {
+                    occurred = e;
+                    fillToTsurugiException(e);
+                    throw e;
+                } catch (Throwable e) {
+                    occurred = e;
+                    throw e;
+                } finally {
+                    this.lowResultFuture = null;
+                    applyCloseTimeout();
+
+                    var finalOccurred = occurred;
+                    event(occurred, listener -> listener.endResult(this, finalOccurred));
+                }
+                LOG.trace("lowResult get end");
             }
-            LOG.trace("lowResult get end");
+        } finally {
+            lowLock.unlock();
         }
     }
 
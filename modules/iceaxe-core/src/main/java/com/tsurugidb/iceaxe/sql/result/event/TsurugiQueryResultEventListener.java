@@ -2,6 +2,7 @@ package com.tsurugidb.iceaxe.sql.result.event;
 
 import javax.annotation.Nullable;
 
+import com.tsurugidb.iceaxe.sql.result.TgResultColumnBatch;
 import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
 
 /**
@@ -21,6 +22,20 @@ public interface TsurugiQueryResultEventListener<R> {
         // do override
     }
 
+    /**
+     * called when read records into the column batch.
+     * <p>
+     * {@link #readRecord(TsurugiQueryResult, Object)} is not called for the records read by {@link TsurugiQueryResult#fetchColumnBatch(TgResultColumnBatch)},
+     * because they are not converted to R.
+     * </p>
+     *
+     * @param result SQL result
+     * @param batch  column batch (not empty)
+     */
+    default void readColumnBatch(TsurugiQueryResult<R> result, TgResultColumnBatch batch) {
+        // do override
+    }
+
     /**
      * called when occurs exception.
      *
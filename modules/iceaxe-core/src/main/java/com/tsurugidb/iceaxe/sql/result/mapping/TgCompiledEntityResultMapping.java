@@ -0,0 +1,434 @@
+package com.tsurugidb.iceaxe.sql.result.mapping;
+
+import java.io.IOException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.sql.result.TsurugiResultRecord;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+
+/**
+ * Tsurugi Result Mapping for Entity (compiled).
+ * <p>
+ * The setters of the entity class are resolved from the column names and types of the query result, and are composed into one {@link MethodHandle} per column layout.<br>
+ * The column values are read by index from {@link TsurugiResultRecord}, so primitive setters (e.g. {@code setFoo(int)}) are called without boxing.
+ * </p>
+ * <p>
+ * A column is mapped to the setter of the same property name ignoring case and underscores (e.g. column {@code foo_bar} to {@code setFooBar}).<br>
+ * If there are several setters for a column, the setter whose parameter type matches the column type is used. If it is not decided uniquely, {@link IllegalArgumentException} is thrown.<br>
+ * Columns without a setter are ignored. If a column value is null, the primitive setter is not called.<br>
+ * A ZonedDateTime setter receives the value in the system default time zone.
+ * If a column has only setters of unsupported types, {@link IllegalArgumentException} is thrown when the setters for the column layout are composed.
+ * </p>
+ *
+ * <pre>
+ * var resultMapping = TgCompiledEntityResultMapping.of(TestEntity.class);
+ * </pre>
+ *
+ * @param <R> result type (e.g. Entity)
+ */
+@ThreadSafe
+public class TgCompiledEntityResultMapping<R> extends TgResultMapping<R> {
+
+    /**
+     * create Result Mapping.
+     *
+     * @param <R>         result type
+     * @param entityClass entity class (must have a public no-argument constructor)
+     * @return Result Mapping
+     * @throws IllegalArgumentException if the entity class has no accessible no-argument constructor
+     */
+    public static <R> TgCompiledEntityResultMapping<R> of(Class<R> entityClass) {
+        return new TgCompiledEntityResultMapping<>(entityClass, createEntitySupplier(entityClass));
+    }
+
+    /**
+     * create Result Mapping.
+     *
+     * @param <R>            result type
+     * @param entityClass    entity class
+     * @param entitySupplier supplier of R
+     * @return Result Mapping
+     */
+    public static <R> TgCompiledEntityResultMapping<R> of(Class<R> entityClass, Supplier<R> entitySupplier) {
+        return new TgCompiledEntityResultMapping<>(entityClass, entitySupplier);
+    }
+
+    /** type of column setter and row setter: {@code (Object entity, TsurugiResultRecord record)void} */
+    protected static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, TsurugiResultRecord.class);
+
+    private static final MethodHandle IS_NULL;
+    private static final Map<Class<?>, MethodHandle> GETTER_MAP;
+    static {
+        var lookup = MethodHandles.lookup();
+        IS_NULL = findGetter(lookup, TsurugiResultRecord.class, "isNull", boolean.class);
+
+        var map = new HashMap<Class<?>, MethodHandle>();
+        map.put(boolean.class, findGetter(lookup, TsurugiResultRecord.class, "getBoolean", boolean.class));
+        map.put(int.class, findGetter(lookup, TsurugiResultRecord.class, "getInt", int.class));
+        map.put(long.class, findGetter(lookup, TsurugiResultRecord.class, "getLong", long.class));
+        map.put(float.class, findGetter(lookup, TsurugiResultRecord.class, "getFloat", float.class));
+        map.put(double.class, findGetter(lookup, TsurugiResultRecord.class, "getDouble", double.class));
+        map.put(Boolean.class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getBooleanOrNull", Boolean.class));
+        map.put(Integer.class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getIntOrNull", Integer.class));
+        map.put(Long.class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getLongOrNull", Long.class));
+        map.put(Float.class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getFloatOrNull", Float.class));
+        map.put(Double.class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getDoubleOrNull", Double.class));
+        map.put(BigDecimal.class, findGetter(lookup, TsurugiResultRecord.class, "getDecimalOrNull", BigDecimal.class));
+        map.put(String.class, findGetter(lookup, TsurugiResultRecord.class, "getStringOrNull", String.class));
+        map.put(byte[].class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getBytesOrNull", byte[].class));
+        map.put(boolean[].class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getBitsOrNull", boolean[].class));
+        map.put(LocalDate.class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getDateOrNull", LocalDate.class));
+        map.put(LocalTime.class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getTimeOrNull", LocalTime.class));
+        map.put(LocalDateTime.class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getDateTimeOrNull", LocalDateTime.class));
+        map.put(OffsetTime.class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getOffsetTimeOrNull", OffsetTime.class));
+        map.put(OffsetDateTime.class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getOffsetDateTimeOrNull", OffsetDateTime.class));
+        map.put(ZonedDateTime.class, findGetter(lookup, TgCompiledEntityResultMapping.class, "getZonedDateTimeOrNull", ZonedDateTime.class));
+        GETTER_MAP = map;
+    }
+
+    /**
+     * find getter.
+     *
+     * @param lookup     lookup
+     * @param ownerClass TsurugiResultRecord (instance method) or this class (static method)
+     * @param name       method name
+     * @param type       value type
+     * @return getter {@code (TsurugiResultRecord record, int index)type}
+     */
+    private static MethodHandle findGetter(Lookup lookup, Class<?> ownerClass, String name, Class<?> type) {
+        try {
+            if (ownerClass == TsurugiResultRecord.class) {
+                return lookup.findVirtual(ownerClass, name, MethodType.methodType(type, int.class));
+            }
+            return lookup.findStatic(ownerClass, name, MethodType.methodType(type, TsurugiResultRecord.class, int.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * column layout of a query result.
+     */
+    private static final class ColumnLayout {
+        private final List<String> nameList;
+        private final List<TgDataType> typeList;
+
+        ColumnLayout(List<String> nameList, List<TgDataType> typeList) {
+            this.nameList = nameList;
+            this.typeList = typeList;
+        }
+
+        @Override
+        public int hashCode() {
+            return nameList.hashCode() * 31 + typeList.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ColumnLayout)) {
+                return false;
+            }
+            var other = (ColumnLayout) obj;
+            return nameList.equals(other.nameList) && typeList.equals(other.typeList);
+        }
+    }
+
+    /**
+     * row setter bound to the record of a query result.
+     */
+    private static final class BoundRowSetter {
+        private final TsurugiResultRecord record;
+        private final MethodHandle rowSetter;
+
+        BoundRowSetter(TsurugiResultRecord record, MethodHandle rowSetter) {
+            this.record = record;
+            this.rowSetter = rowSetter;
+        }
+    }
+
+    private final Class<R> entityClass;
+    private final Supplier<R> entitySupplier;
+    private final Map<String, List<Method>> setterMap;
+    private final Map<String, List<Method>> unsupportedSetterMap;
+    private final Map<ColumnLayout, MethodHandle> rowSetterMap = new ConcurrentHashMap<>();
+    private volatile BoundRowSetter lastRowSetter;
+
+    /**
+     * Tsurugi Result Mapping.
+     *
+     * @param entityClass    entity class
+     * @param entitySupplier supplier of R
+     */
+    public TgCompiledEntityResultMapping(Class<R> entityClass, Supplier<R> entitySupplier) {
+        this.entityClass = entityClass;
+        this.entitySupplier = entitySupplier;
+        this.setterMap = findSetter(entityClass, true);
+        this.unsupportedSetterMap = findSetter(entityClass, false);
+    }
+
+    @Override
+    public TgCompiledEntityResultMapping<R> setConvertUtil(IceaxeConvertUtil convertUtil) {
+        return (TgCompiledEntityResultMapping<R>) super.setConvertUtil(convertUtil);
+    }
+
+    /**
+     * get entity class.
+     *
+     * @return entity class
+     */
+    public Class<R> getEntityClass() {
+        return this.entityClass;
+    }
+
+    private static Map<String, List<Method>> findSetter(Class<?> entityClass, boolean supported) {
+        var map = new HashMap<String, List<Method>>();
+        for (var method : entityClass.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge()) {
+                continue;
+            }
+            var name = method.getName();
+            if (!name.startsWith("set") || name.length() <= 3 || method.getParameterCount() != 1) {
+                continue;
+            }
+            if (GETTER_MAP.containsKey(method.getParameterTypes()[0]) != supported) {
+                continue;
+            }
+            var key = normalizeName(name.substring(3));
+            map.computeIfAbsent(key, k -> new ArrayList<>()).add(method);
+        }
+        // getMethods() returns the methods in no particular order
+        var comparator = Comparator.comparing(Method::getName).thenComparing(method -> method.getParameterTypes()[0].getName());
+        for (var list : map.values()) {
+            list.sort(comparator);
+        }
+        return map;
+    }
+
+    private static String normalizeName(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+//  @ThreadSafe
+    @Override
+    protected R convert(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+        var bound = this.lastRowSetter;
+        if (bound == null || bound.record != record) {
+            bound = new BoundRowSetter(record, getRowSetter(record));
+            this.lastRowSetter = bound;
+        }
+
+        R entity = entitySupplier.get();
+        try {
+            bound.rowSetter.invokeExact((Object) entity, record);
+        } catch (IOException | InterruptedException | TsurugiTransactionException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+        return entity;
+    }
+
+    private MethodHandle getRowSetter(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+        var nameList = record.getNameList();
+        var typeList = new ArrayList<TgDataType>(nameList.size());
+        for (int i = 0; i < nameList.size(); i++) {
+            typeList.add(record.getType(i));
+        }
+        var layout = new ColumnLayout(nameList, typeList);
+        return rowSetterMap.computeIfAbsent(layout, this::compile);
+    }
+
+    /**
+     * compose the column setters into one row setter.
+     *
+     * @param layout column layout
+     * @return row setter {@link #SETTER_TYPE}
+     */
+    private MethodHandle compile(ColumnLayout layout) {
+        var columnSetterList = new ArrayList<MethodHandle>();
+        int index = 0;
+        for (var name : layout.nameList) {
+            var key = normalizeName(name);
+            var methodList = setterMap.get(key);
+            if (methodList != null) {
+                var method = selectSetter(methodList, name, layout.typeList.get(index));
+                columnSetterList.add(createColumnSetter(method, index));
+            } else if (unsupportedSetterMap.containsKey(key)) {
+                throw new IllegalArgumentException("unsupported setter type. column=" + name + ", setters=" + unsupportedSetterMap.get(key));
+            }
+            index++;
+        }
+
+        // (entity, record) -> { setter0(entity, record); setter1(entity, record); ... }
+        var rowSetter = MethodHandles.empty(SETTER_TYPE);
+        for (int i = columnSetterList.size() - 1; i >= 0; i--) {
+            rowSetter = MethodHandles.foldArguments(rowSetter, columnSetterList.get(i));
+        }
+        return rowSetter;
+    }
+
+    private static Method selectSetter(List<Method> methodList, String name, TgDataType type) {
+        if (methodList.size() == 1) {
+            return methodList.get(0);
+        }
+
+        Method found = null;
+        for (var method : methodList) {
+            if (TgDataType.of(method.getParameterTypes()[0]) == type) {
+                if (found != null) {
+                    found = null;
+                    break;
+                }
+                found = method;
+            }
+        }
+        if (found == null) {
+            throw new IllegalArgumentException("ambiguous setter. column=" + name + ", type=" + type + ", setters=" + methodList);
+        }
+        return found;
+    }
+
+    /**
+     * create column setter.
+     *
+     * @param method setter method
+     * @param index  column index
+     * @return column setter {@link #SETTER_TYPE}
+     */
+    protected MethodHandle createColumnSetter(Method method, int index) {
+        var lookup = getLookup();
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("setter is not accessible. method=" + method, e);
+        }
+        var valueType = method.getParameterTypes()[0];
+
+        // (Object entity, valueType value)void. the return value of the setter is discarded
+        var setter = handle.asType(MethodType.methodType(void.class, Object.class, valueType));
+        // (TsurugiResultRecord record)valueType
+        var getter = MethodHandles.insertArguments(GETTER_MAP.get(valueType), 1, index);
+        var columnSetter = MethodHandles.filterArguments(setter, 1, getter);
+
+        if (valueType.isPrimitive()) {
+            var isNull = MethodHandles.dropArguments(MethodHandles.insertArguments(IS_NULL, 1, index), 0, Object.class);
+            columnSetter = MethodHandles.guardWithTest(isNull, MethodHandles.empty(SETTER_TYPE), columnSetter);
+        }
+        return columnSetter;
+    }
+
+    // getters called from the column setters
+
+    private static Boolean getBooleanOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.isNull(index) ? null : record.getBoolean(index);
+    }
+
+    private static Integer getIntOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.isNull(index) ? null : record.getInt(index);
+    }
+
+    private static Long getLongOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.isNull(index) ? null : record.getLong(index);
+    }
+
+    private static Float getFloatOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.isNull(index) ? null : record.getFloat(index);
+    }
+
+    private static Double getDoubleOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.isNull(index) ? null : record.getDouble(index);
+    }
+
+    private static byte[] getBytesOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.getConvertUtil().toBytes(record.getValue(index));
+    }
+
+    private static boolean[] getBitsOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.getConvertUtil().toBits(record.getValue(index));
+    }
+
+    private static LocalDate getDateOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.getConvertUtil().toDate(record.getValue(index));
+    }
+
+    private static LocalTime getTimeOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.getConvertUtil().toTime(record.getValue(index));
+    }
+
+    private static LocalDateTime getDateTimeOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.getConvertUtil().toDateTime(record.getValue(index));
+    }
+
+    private static OffsetTime getOffsetTimeOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.getConvertUtil().toOffsetTime(record.getValue(index));
+    }
+
+    private static OffsetDateTime getOffsetDateTimeOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.getConvertUtil().toOffsetDateTime(record.getValue(index));
+    }
+
+    private static ZonedDateTime getZonedDateTimeOrNull(TsurugiResultRecord record, int index) throws IOException, InterruptedException, TsurugiTransactionException {
+        return record.getConvertUtil().toZonedDateTime(record.getValue(index), ZoneId.systemDefault());
+    }
+
+    private Lookup getLookup() {
+        try {
+            return MethodHandles.privateLookupIn(entityClass, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return MethodHandles.lookup();
+        }
+    }
+
+    private static <R> Supplier<R> createEntitySupplier(Class<R> entityClass) {
+        try {
+            var lookup = MethodHandles.privateLookupIn(entityClass, MethodHandles.lookup());
+            var constructor = lookup.findConstructor(entityClass, MethodType.methodType(void.class));
+            var site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class), MethodType.methodType(Object.class), constructor, MethodType.methodType(entityClass));
+            @SuppressWarnings("unchecked")
+            var supplier = (Supplier<R>) site.getTarget().invoke();
+            return supplier;
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("not found no-argument constructor. class=" + entityClass.getName(), e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("constructor bind error. class=" + entityClass.getName(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + entityClass.getName() + "}";
+    }
+}
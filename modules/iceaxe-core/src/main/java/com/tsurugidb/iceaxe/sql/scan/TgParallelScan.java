@@ -0,0 +1,626 @@
+package com.tsurugidb.iceaxe.sql.scan;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.TsurugiConnector;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.sql.result.TsurugiResultEntity;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.util.function.TsurugiTransactionConsumer;
+
+/**
+ * range-partitioned parallel scan.
+ * <p>
+ * Splits the key space into partitions, and executes the query of each partition in its own transaction (RTX by default) on multiple sessions.<br>
+ * The SQL template contains {@value #RANGE} in the where clause, which is replaced by the range condition of the partition
+ * ({@code key >= :key_lower and key < :key_upper}. The first partition has no lower bound and the last partition has no upper bound).
+ * </p>
+ * <p>
+ * The partition bounds are given by {@link #bounds(List)}, or computed from the minimum and maximum of the key (INT or LONG) by {@link #sample(String, int)}.
+ * </p>
+ * <p>
+ * The rows are passed to the consumer on the calling thread in batches read by the sessions.
+ * If {@link #ordered(boolean)} is true, the rows are passed in the order of the partitions (so the rows are ordered by the key if the SQL template has {@code order by key}).
+ * </p>
+ * <p>
+ * The key column must not be null (e.g. primary key).<br>
+ * A partition is retried by the transaction manager setting only before its rows are passed to the consumer.
+ * If the partition fails after that, the scan fails with {@link IllegalStateException} instead of retrying, because the rows which were already passed cannot be taken back.
+ * </p>
+ *
+ * <pre>
+ * var scan = TgParallelScan.of("select * from foo where {range}", TgBindVariable.ofLong("id")).sample("foo", 16).sessions(8);
+ * var result = scan.scan(connector, entity -&gt; ...);
+ * </pre>
+ *
+ * @param <K> key type
+ * @param <R> result type
+ */
+public class TgParallelScan<K, R> {
+    private static final Logger LOG = LoggerFactory.getLogger(TgParallelScan.class);
+
+    /** range condition in the SQL template */
+    public static final String RANGE = "{range}";
+
+    /**
+     * Creates a new instance.
+     *
+     * @param <K>         key type
+     * @param sqlTemplate SQL template
+     * @param key         key column
+     * @return parallel scan
+     */
+    public static <K> TgParallelScan<K, TsurugiResultEntity> of(String sqlTemplate, TgBindVariable<K> key) {
+        return new TgParallelScan<>(sqlTemplate, key, TgResultMapping.DEFAULT);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param <K>           key type
+     * @param <R>           result type
+     * @param sqlTemplate   SQL template
+     * @param key           key column
+     * @param resultMapping result mapping
+     * @return parallel scan
+     */
+    public static <K, R> TgParallelScan<K, R> of(String sqlTemplate, TgBindVariable<K> key, TgResultMapping<R> resultMapping) {
+        return new TgParallelScan<>(sqlTemplate, key, resultMapping);
+    }
+
+    private final String sqlTemplate;
+    private final TgBindVariable<K> lowerVariable;
+    private final TgBindVariable<K> upperVariable;
+    private final String keyName;
+    private final TgResultMapping<R> resultMapping;
+    private List<K> boundList = null;
+    private String sampleTableName = null;
+    private int samplePartitions = 0;
+    private int sessionCount = 4;
+    private boolean ordered = false;
+    private int batchSize = 1000;
+    private int queueSize = 4;
+    private TgTmSetting tmSetting = null;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sqlTemplate   SQL template
+     * @param key           key column
+     * @param resultMapping result mapping
+     */
+    public TgParallelScan(String sqlTemplate, TgBindVariable<K> key, TgResultMapping<R> resultMapping) {
+        if (!sqlTemplate.contains(RANGE)) {
+            throw new IllegalArgumentException("sqlTemplate does not contain " + RANGE + ". sql=" + sqlTemplate);
+        }
+        this.sqlTemplate = sqlTemplate;
+        this.keyName = key.name();
+        this.lowerVariable = key.clone(keyName + "_lower");
+        this.upperVariable = key.clone(keyName + "_upper");
+        this.resultMapping = Objects.requireNonNull(resultMapping);
+    }
+
+    /**
+     * set partition bounds.
+     * <p>
+     * The number of partitions is the number of bounds + 1.
+     * </p>
+     *
+     * @param bounds bounds (ascending order)
+     * @return this
+     */
+    public TgParallelScan<K, R> bounds(List<K> bounds) {
+        this.boundList = List.copyOf(bounds);
+        this.sampleTableName = null;
+        return this;
+    }
+
+    /**
+     * set partitions computed from the minimum and maximum of the key.
+     * <p>
+     * The range between the minimum and maximum is split evenly. The key must be INT or LONG.
+     * </p>
+     *
+     * @param tableName  table name
+     * @param partitions number of partitions
+     * @return this
+     */
+    public TgParallelScan<K, R> sample(String tableName, int partitions) {
+        var type = lowerVariable.type();
+        if (type != TgDataType.INT && type != TgDataType.LONG) {
+            throw new IllegalStateException("sample requires INT or LONG key. type=" + type);
+        }
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions < 1 (partitions=" + partitions + ")");
+        }
+        this.sampleTableName = Objects.requireNonNull(tableName);
+        this.samplePartitions = partitions;
+        this.boundList = null;
+        return this;
+    }
+
+    /**
+     * set number of sessions.
+     *
+     * @param sessions number of sessions (partitions scanned concurrently)
+     * @return this
+     */
+    public TgParallelScan<K, R> sessions(int sessions) {
+        if (sessions < 1) {
+            throw new IllegalArgumentException("sessions < 1 (sessions=" + sessions + ")");
+        }
+        this.sessionCount = sessions;
+        return this;
+    }
+
+    /**
+     * set whether the rows are passed in the order of the partitions.
+     *
+     * @param ordered {@code true} if ordered
+     * @return this
+     */
+    public TgParallelScan<K, R> ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * set buffer size.
+     *
+     * @param batchSize number of rows passed from a session at once
+     * @param queueSize number of batches buffered for each session
+     * @return this
+     */
+    public TgParallelScan<K, R> buffer(int batchSize, int queueSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize < 1 (batchSize=" + batchSize + ")");
+        }
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("queueSize < 1 (queueSize=" + queueSize + ")");
+        }
+        this.batchSize = batchSize;
+        this.queueSize = queueSize;
+        return this;
+    }
+
+    /**
+     * set transaction manager setting.
+     * <p>
+     * If not set, RTX (1 attempt) is used.<br>
+     * The partition is not retried after its rows are passed to the consumer.
+     * </p>
+     *
+     * @param setting transaction manager setting
+     * @return this
+     */
+    public TgParallelScan<K, R> tmSetting(TgTmSetting setting) {
+        this.tmSetting = setting;
+        return this;
+    }
+
+    /**
+     * scan.
+     * <p>
+     * Creates the sessions by the connector, and closes them at the end.
+     * </p>
+     *
+     * @param connector connector
+     * @param consumer  consumer of rows (called on the calling thread)
+     * @return scan result
+     * @throws IOException          if an I/O error occurs while scanning
+     * @throws InterruptedException if interrupted while scanning
+     */
+    public TgScanResult scan(TsurugiConnector connector, Consumer<? super R> consumer) throws IOException, InterruptedException {
+        var sessionList = new ArrayList<TsurugiSession>(sessionCount);
+        try {
+            for (int i = 0; i < sessionCount; i++) {
+                sessionList.add(connector.createSession());
+            }
+            return scan(sessionList, consumer);
+        } finally {
+            Throwable occurred = null;
+            for (var session : sessionList) {
+                try {
+                    session.close();
+                } catch (Throwable e) {
+                    if (occurred == null) {
+                        occurred = e;
+                    } else {
+                        occurred.addSuppressed(e);
+                    }
+                }
+            }
+            if (occurred != null) {
+                LOG.warn("session close error", occurred);
+            }
+        }
+    }
+
+    /**
+     * scan.
+     * <p>
+     * The number of sessions is the size of the session list.
+     * </p>
+     *
+     * @param sessionList sessions (not closed)
+     * @param consumer    consumer of rows (called on the calling thread)
+     * @return scan result
+     * @throws IOException          if an I/O error occurs while scanning
+     * @throws InterruptedException if interrupted while scanning
+     */
+    public TgScanResult scan(List<TsurugiSession> sessionList, Consumer<? super R> consumer) throws IOException, InterruptedException {
+        if (sessionList.isEmpty()) {
+            throw new IllegalArgumentException("sessionList is empty");
+        }
+        LOG.trace("scan start. sql={}", sqlTemplate);
+        long start = System.nanoTime();
+
+        var partitionList = createPartitions(sessionList.get(0));
+        var context = new ScanContext(partitionList.size(), sessionList.size());
+        ExecutorService executor = Executors.newFixedThreadPool(sessionList.size());
+        long rowCount;
+        try {
+            for (var session : sessionList) {
+                executor.execute(() -> scanWorker(session, partitionList, context));
+            }
+            rowCount = consume(context, partitionList.size(), consumer);
+        } catch (Throwable e) {
+            context.cancel(null);
+            throw e;
+        } finally {
+            executor.shutdown();
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                LOG.trace("scan wait for workers");
+            }
+        }
+
+        var result = new TgScanResult(rowCount, partitionList.size(), sessionList.size(), System.nanoTime() - start);
+        LOG.debug("scan end. {}", result);
+        return result;
+    }
+
+    private static class Partition<K> {
+        final int index;
+        final K lower;
+        final K upper;
+
+        Partition(int index, @Nullable K lower, @Nullable K upper) {
+            this.index = index;
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        int kind() {
+            return ((lower != null) ? 1 : 0) | ((upper != null) ? 2 : 0);
+        }
+    }
+
+    private List<Partition<K>> createPartitions(TsurugiSession session) throws IOException, InterruptedException {
+        var bounds = this.boundList;
+        if (bounds == null) {
+            bounds = (sampleTableName != null) ? sampleBounds(session) : List.of();
+        }
+
+        var list = new ArrayList<Partition<K>>(bounds.size() + 1);
+        K lower = null;
+        for (var bound : bounds) {
+            list.add(new Partition<>(list.size(), lower, bound));
+            lower = bound;
+        }
+        list.add(new Partition<>(list.size(), lower, null));
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<K> sampleBounds(TsurugiSession session) throws IOException, InterruptedException {
+        var sql = "select min(" + keyName + ") as scan_min, max(" + keyName + ") as scan_max from " + sampleTableName;
+        var setting = (this.tmSetting != null) ? tmSetting : TgTmSetting.of(TgTxOption.ofRTX());
+        var entity = session.createTransactionManager(setting).executeAndFindRecord(sql).orElse(null);
+        if (entity == null) {
+            return List.of();
+        }
+        Long min = entity.getLongOrNull("scan_min");
+        Long max = entity.getLongOrNull("scan_max");
+        if (min == null || max == null) {
+            return List.of();
+        }
+
+        var points = splitPoints(min, max, samplePartitions);
+        LOG.debug("scan sampled. table={}, min={}, max={}, bounds={}", sampleTableName, min, max, points);
+        var list = new ArrayList<K>(points.size());
+        boolean isInt = lowerVariable.type() == TgDataType.INT;
+        for (long point : points) {
+            Object value = isInt ? (Object) Integer.valueOf((int) point) : (Object) Long.valueOf(point);
+            list.add((K) value);
+        }
+        return list;
+    }
+
+    /**
+     * split the key range evenly.
+     *
+     * @param min        minimum key
+     * @param max        maximum key
+     * @param partitions number of partitions
+     * @return bounds (ascending order, at most partitions - 1 elements)
+     */
+    static List<Long> splitPoints(long min, long max, int partitions) {
+        var list = new ArrayList<Long>();
+        var base = BigInteger.valueOf(min);
+        var range = BigInteger.valueOf(max).subtract(base).add(BigInteger.ONE);
+        var count = BigInteger.valueOf(partitions);
+        long last = min;
+        for (int i = 1; i < partitions; i++) {
+            long point = base.add(range.multiply(BigInteger.valueOf(i)).divide(count)).longValueExact();
+            if (point > last) {
+                list.add(point);
+                last = point;
+            }
+        }
+        return list;
+    }
+
+    /**
+     * create SQL of the partition.
+     *
+     * @param sqlTemplate SQL template
+     * @param keyName     key column name
+     * @param lower       lower bound variable (null: no lower bound)
+     * @param upper       upper bound variable (null: no upper bound)
+     * @return SQL
+     */
+    static String expandSql(String sqlTemplate, String keyName, @Nullable TgBindVariable<?> lower, @Nullable TgBindVariable<?> upper) {
+        String condition;
+        if (lower != null && upper != null) {
+            condition = "(" + keyName + " >= " + lower.sqlName() + " and " + keyName + " < " + upper.sqlName() + ")";
+        } else if (lower != null) {
+            condition = keyName + " >= " + lower.sqlName();
+        } else if (upper != null) {
+            condition = keyName + " < " + upper.sqlName();
+        } else {
+            condition = keyName + " is not null";
+        }
+        return sqlTemplate.replace(RANGE, condition);
+    }
+
+    private class ScanContext {
+        final AtomicInteger nextPartition = new AtomicInteger();
+        final List<BlockingQueue<List<R>>> queueList;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        volatile boolean cancelled = false;
+
+        ScanContext(int partitionCount, int sessionCount) {
+            if (ordered) {
+                this.queueList = new ArrayList<>(partitionCount);
+                for (int i = 0; i < partitionCount; i++) {
+                    queueList.add(new ArrayBlockingQueue<>(queueSize));
+                }
+            } else {
+                this.queueList = List.of(new ArrayBlockingQueue<>(queueSize * sessionCount));
+            }
+        }
+
+        BlockingQueue<List<R>> queue(int partitionIndex) {
+            return ordered ? queueList.get(partitionIndex) : queueList.get(0);
+        }
+
+        void cancel(@Nullable Throwable cause) {
+            if (cause != null && !failure.compareAndSet(null, cause)) {
+                var first = failure.get();
+                if (first != cause) {
+                    first.addSuppressed(cause);
+                }
+            }
+            this.cancelled = true;
+        }
+
+        void put(BlockingQueue<List<R>> queue, List<R> batch) throws InterruptedException {
+            while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                if (this.cancelled) {
+                    throw new CancellationException("scan cancelled");
+                }
+            }
+        }
+    }
+
+    private final List<R> endOfPartition = new ArrayList<>(0);
+
+    private void scanWorker(TsurugiSession session, List<Partition<K>> partitionList, ScanContext context) {
+        @SuppressWarnings("unchecked")
+        TsurugiSqlPreparedQuery<TgBindParameters, R>[] psCache = new TsurugiSqlPreparedQuery[4];
+        try {
+            var setting = (this.tmSetting != null) ? tmSetting : TgTmSetting.of(TgTxOption.ofRTX());
+            var tm = session.createTransactionManager(setting);
+            for (;;) {
+                int index = context.nextPartition.getAndIncrement();
+                if (index >= partitionList.size() || context.cancelled) {
+                    break;
+                }
+
+                var partition = partitionList.get(index);
+                var queue = context.queue(index);
+                var ps = getPreparedQuery(session, psCache, partition.kind());
+                var parameter = TgBindParameters.of();
+                if (partition.lower != null) {
+                    parameter.add(lowerVariable.bind(partition.lower));
+                }
+                if (partition.upper != null) {
+                    parameter.add(upperVariable.bind(partition.upper));
+                }
+
+                var sender = new BatchSender(context, queue);
+                long rows = tm.execute(transaction -> {
+                    sender.begin(partition);
+                    try (var result = ps.execute(transaction, parameter)) {
+                        result.whileEach(sender);
+                        return sender.end();
+                    }
+                });
+                LOG.trace("partition scanned. partition={}, rows={}", partition.index, rows);
+                context.put(queue, endOfPartition);
+            }
+        } catch (CancellationException e) {
+            LOG.trace("scan worker cancelled");
+        } catch (Throwable e) {
+            LOG.debug("scan worker error", e);
+            context.cancel(e);
+            wakeUp(context);
+        } finally {
+            for (var ps : psCache) {
+                if (ps != null) {
+                    try {
+                        ps.close();
+                    } catch (Throwable e) {
+                        LOG.warn("ps close error", e);
+                    }
+                }
+            }
+        }
+    }
+
+    private class BatchSender implements TsurugiTransactionConsumer<R> {
+        private final ScanContext context;
+        private final BlockingQueue<List<R>> queue;
+        private List<R> batch;
+        private long rowCount;
+        private boolean sent = false;
+
+        BatchSender(ScanContext context, BlockingQueue<List<R>> queue) {
+            this.context = context;
+            this.queue = queue;
+        }
+
+        void begin(Partition<K> partition) {
+            if (this.sent) {
+                // the rows of the previous attempt have been passed to the consumer, and passing them again would duplicate them
+                throw new IllegalStateException("partition retried after its rows were passed to the consumer. partition=" + partition.index);
+            }
+            // the rows of the previous attempt which are not sent are discarded
+            this.batch = new ArrayList<>(batchSize);
+            this.rowCount = 0;
+        }
+
+        @Override
+        public void accept(R record) throws InterruptedException {
+            batch.add(record);
+            this.rowCount++;
+            if (batch.size() >= batchSize) {
+                send();
+                this.batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        long end() throws InterruptedException {
+            if (!batch.isEmpty()) {
+                send();
+            }
+            return this.rowCount;
+        }
+
+        private void send() throws InterruptedException {
+            this.sent = true;
+            context.put(queue, batch);
+        }
+    }
+
+    private void wakeUp(ScanContext context) {
+        // the consumer may wait for a partition which is not scanned by the cancelled workers
+        for (var queue : context.queueList) {
+            queue.offer(endOfPartition);
+        }
+    }
+
+    private TsurugiSqlPreparedQuery<TgBindParameters, R> getPreparedQuery(TsurugiSession session, TsurugiSqlPreparedQuery<TgBindParameters, R>[] psCache, int kind)
+            throws IOException, InterruptedException {
+        var ps = psCache[kind];
+        if (ps == null) {
+            var lower = ((kind & 1) != 0) ? lowerVariable : null;
+            var upper = ((kind & 2) != 0) ? upperVariable : null;
+            var variables = TgBindVariables.of();
+            if (lower != null) {
+                variables.add(lower);
+            }
+            if (upper != null) {
+                variables.add(upper);
+            }
+            var sql = expandSql(sqlTemplate, keyName, lower, upper);
+            ps = session.createQuery(sql, TgParameterMapping.of(variables), resultMapping);
+            psCache[kind] = ps;
+        }
+        return ps;
+    }
+
+    private long consume(ScanContext context, int partitionCount, Consumer<? super R> consumer) throws IOException, InterruptedException {
+        long rowCount = 0;
+        int queueIndex = 0;
+        for (int remaining = partitionCount; remaining > 0;) {
+            var batch = context.queueList.get(queueIndex).take();
+            checkFailure(context);
+            if (batch == endOfPartition) {
+                remaining--;
+                if (ordered && remaining > 0) {
+                    queueIndex++;
+                }
+                continue;
+            }
+            for (var row : batch) {
+                consumer.accept(row);
+            }
+            rowCount += batch.size();
+        }
+        return rowCount;
+    }
+
+    private void checkFailure(ScanContext context) throws IOException, InterruptedException {
+        var occurred = context.failure.get();
+        if (occurred == null) {
+            return;
+        }
+        if (occurred instanceof IOException) {
+            throw (IOException) occurred;
+        }
+        if (occurred instanceof InterruptedException) {
+            throw (InterruptedException) occurred;
+        }
+        if (occurred instanceof RuntimeException) {
+            throw (RuntimeException) occurred;
+        }
+        if (occurred instanceof Error) {
+            throw (Error) occurred;
+        }
+        throw new IllegalStateException(occurred.getMessage(), occurred);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "TgParallelScan(sql=%s, sessions=%d, ordered=%b, batchSize=%d, queueSize=%d)", //
+                sqlTemplate, sessionCount, ordered, batchSize, queueSize);
+    }
+}
@@ -0,0 +1,92 @@
+package com.tsurugidb.iceaxe.sql.scan;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * parallel scan result.
+ */
+public class TgScanResult {
+
+    private final long rowCount;
+    private final int partitionCount;
+    private final int sessionCount;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param rowCount       number of rows scanned
+     * @param partitionCount number of partitions
+     * @param sessionCount   number of sessions
+     * @param elapsedNanos   elapsed time [ns]
+     */
+    public TgScanResult(long rowCount, int partitionCount, int sessionCount, long elapsedNanos) {
+        this.rowCount = rowCount;
+        this.partitionCount = partitionCount;
+        this.sessionCount = sessionCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * get number of rows scanned.
+     *
+     * @return number of rows
+     */
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * get number of partitions.
+     *
+     * @return number of partitions
+     */
+    public int getPartitionCount() {
+        return this.partitionCount;
+    }
+
+    /**
+     * get number of sessions.
+     *
+     * @return number of sessions
+     */
+    public int getSessionCount() {
+        return this.sessionCount;
+    }
+
+    /**
+     * get elapsed time.
+     *
+     * @return elapsed time [ns]
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * get elapsed time.
+     *
+     * @return elapsed time [ms]
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * get throughput.
+     *
+     * @return rows per second
+     */
+    public double getRowsPerSecond() {
+        if (this.elapsedNanos <= 0) {
+            return 0;
+        }
+        return rowCount * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TgScanResult(rowCount=%d, partition=%d, session=%d, elapsed=%dms, rows/s=%.1f)", //
+                rowCount, partitionCount, sessionCount, getElapsedMillis(), getRowsPerSecond());
+    }
+}
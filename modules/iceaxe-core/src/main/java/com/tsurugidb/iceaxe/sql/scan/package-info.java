@@ -0,0 +1,4 @@
+/**
+ * Iceaxe parallel scan classes.
+ */
+package com.tsurugidb.iceaxe.sql.scan;
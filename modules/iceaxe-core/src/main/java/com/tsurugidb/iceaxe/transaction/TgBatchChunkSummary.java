@@ -0,0 +1,71 @@
+package com.tsurugidb.iceaxe.transaction;
+
+import java.util.Iterator;
+
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+
+/**
+ * summary of {@link TsurugiTransaction#executeBatchChunked(TsurugiSqlPreparedStatement, Iterator, int, int)}.
+ * <p>
+ * This is passed to the event listener as the parameter instead of the parameter source.<br>
+ * The counts are updated while executing.
+ * </p>
+ */
+public final class TgBatchChunkSummary {
+
+    private final int chunkSize;
+    private final int maxPendingChunks;
+    private volatile int chunkCount = 0;
+    private volatile long parameterCount = 0;
+
+    TgBatchChunkSummary(int chunkSize, int maxPendingChunks) {
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = maxPendingChunks;
+    }
+
+    void addChunk(int size) {
+        this.chunkCount++;
+        this.parameterCount += size;
+    }
+
+    /**
+     * get chunk size.
+     *
+     * @return number of parameters in one batch request
+     */
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * get maximum number of pending chunks.
+     *
+     * @return maximum number of batch requests in flight
+     */
+    public int getMaxPendingChunks() {
+        return this.maxPendingChunks;
+    }
+
+    /**
+     * get number of chunks sent.
+     *
+     * @return chunk count
+     */
+    public int getChunkCount() {
+        return this.chunkCount;
+    }
+
+    /**
+     * get number of parameters sent.
+     *
+     * @return parameter count
+     */
+    public long getParameterCount() {
+        return this.parameterCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TgBatchChunkSummary(chunkSize=" + chunkSize + ", maxPendingChunks=" + maxPendingChunks + ", chunkCount=" + chunkCount + ", parameterCount=" + parameterCount + ")";
+    }
+}
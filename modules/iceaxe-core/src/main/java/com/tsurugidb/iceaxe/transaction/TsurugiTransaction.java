@@ -1,13 +1,23 @@
 package com.tsurugidb.iceaxe.transaction;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -20,12 +30,15 @@ import com.tsurugidb.iceaxe.exception.TsurugiIOException;
 import com.tsurugidb.iceaxe.session.TgSessionOption;
 import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
 import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.TsurugiSql;
 import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
 import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
 import com.tsurugidb.iceaxe.sql.TsurugiSqlQuery;
 import com.tsurugidb.iceaxe.sql.TsurugiSqlStatement;
 import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
+import com.tsurugidb.iceaxe.sql.result.TsurugiSqlResult;
 import com.tsurugidb.iceaxe.sql.result.TsurugiStatementResult;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransactionPipeline.TgPipelineResult;
 import com.tsurugidb.iceaxe.transaction.event.TsurugiTransactionEventListener;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
 import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
@@ -38,6 +51,8 @@ import com.tsurugidb.iceaxe.util.IceaxeTimeout;
 import com.tsurugidb.iceaxe.util.TgTimeValue;
 import com.tsurugidb.iceaxe.util.function.IoFunction;
 import com.tsurugidb.iceaxe.util.function.TsurugiTransactionConsumer;
+import com.tsurugidb.iceaxe.util.function.TsurugiTransactionFunction;
+import com.tsurugidb.iceaxe.util.function.TsurugiTransactionSupplier;
 import com.tsurugidb.tsubakuro.sql.Transaction;
 import com.tsurugidb.tsubakuro.util.FutureResponse;
 
@@ -55,8 +70,9 @@ public class TsurugiTransaction implements AutoCloseable {
     private FutureResponse<Transaction> lowTransactionFuture;
     private final TgTxOption txOption;
     private Throwable lowFutureException = null;
-    private Transaction lowTransaction;
-    private boolean calledGetLowTransaction = false;
+    private volatile Transaction lowTransaction;
+    private volatile boolean calledGetLowTransaction = false;
+    private final ReentrantLock lowLock = new ReentrantLock();
     private String transactionId = null;
     private TsurugiTransactionManager ownerTm = null;
     private int iceaxeTmExecuteId = 0;
@@ -66,9 +82,11 @@ public class TsurugiTransaction implements AutoCloseable {
     private final IceaxeTimeout rollbackTimeout;
     private final IceaxeTimeout closeTimeout;
     private List<TsurugiTransactionEventListener> eventListenerList = null;
-    private boolean committed = false;
-    private boolean rollbacked = false;
+    private volatile boolean committed = false;
+    private volatile boolean rollbacked = false;
     private final IceaxeCloseableSet closeableSet = new IceaxeCloseableSet();
+    private final List<TsurugiTransactionPipeline> pipelineList = new CopyOnWriteArrayList<>();
+    private final List<AsyncTask<?>> asyncTaskList = new CopyOnWriteArrayList<>();
     private volatile boolean closed = false;
 
     /**
@@ -317,31 +335,44 @@ public class TsurugiTransaction implements AutoCloseable {
      */
     @IceaxeInternal
 //  @ThreadSafe
-    public final synchronized Transaction getLowTransaction() throws IOException, InterruptedException {
-        this.calledGetLowTransaction = true;
-        if (this.lowTransaction == null) {
-            if (this.lowFutureException != null) {
-                throw new TsurugiIOException(IceaxeErrorCode.TX_LOW_ERROR, lowFutureException);
-            }
+    public final Transaction getLowTransaction() throws IOException, InterruptedException {
+        var transaction = this.lowTransaction;
+        if (transaction != null) {
+            return transaction;
+        }
 
-            LOG.trace("lowTransaction get start");
-            event(null, listener -> listener.lowTransactionGetStart(this));
-            try {
-                this.lowTransaction = IceaxeIoUtil.getAndCloseFuture(lowTransactionFuture, beginTimeout);
-            } catch (Throwable e) {
-                this.lowFutureException = e;
-                event(e, listener -> listener.lowTransactionGetEnd(this, null, e));
-                throw e;
-            }
-            LOG.trace("lowTransaction get end");
+        lowLock.lockInterruptibly();
+        try {
+            this.calledGetLowTransaction = true;
+            if (this.lowTransaction == null) {
+                if (this.lowFutureException != null) {
+                    throw new TsurugiIOException(IceaxeErrorCode.TX_LOW_ERROR, lowFutureException);
+                }
 
-            this.lowTransactionFuture = null;
-            applyCloseTimeout();
+                LOG.trace("lowTransaction get start");
+                event(null, listener -> listener.lowTransactionGetStart(this));
+                Transaction lowTx;
+                try {
+                    lowTx = IceaxeIoUtil.getAndCloseFuture(lowTransactionFuture, beginTimeout);
+                } catch (Throwable e) {
+                    this.lowFutureException = e;
+                    event(e, listener -> listener.lowTransactionGetEnd(this, null, e));
+                    throw e;
+                }
+                LOG.trace("lowTransaction get end");
+
+                this.lowTransactionFuture = null;
+                this.transactionId = lowTx.getTransactionId();
+                // publish after transactionId is set, because other threads read it without the lock
+                this.lowTransaction = lowTx;
+                applyCloseTimeout();
 
-            this.transactionId = lowTransaction.getTransactionId();
-            event(null, listener -> listener.lowTransactionGetEnd(this, transactionId, null));
+                event(null, listener -> listener.lowTransactionGetEnd(this, transactionId, null));
+            }
+            return this.lowTransaction;
+        } finally {
+            lowLock.unlock();
         }
-        return this.lowTransaction;
     }
 
     /**
@@ -383,6 +414,16 @@ public class TsurugiTransaction implements AutoCloseable {
         EXECUTE_FIND_RECORD("executeAndFindRecord"),
         /** execute and get count */
         EXECUTE_GET_COUNT("executeAndGetCount"),
+        /** execute query asynchronously */
+        EXECUTE_QUERY_ASYNC("executeQueryAsync"),
+        /** execute statement asynchronously */
+        EXECUTE_STATEMENT_ASYNC("executeStatementAsync"),
+        /** execute batch asynchronously */
+        EXECUTE_BATCH_ASYNC("executeBatchAsync"),
+        /** execute batch in chunks */
+        EXECUTE_BATCH_CHUNKED("executeBatchChunked"),
+        /** execute in pipeline */
+        EXECUTE_PIPELINE("executePipeline"),
         /** commit */
         COMMIT("commit"),
         /** rollback */
@@ -939,6 +980,378 @@ public class TsurugiTransaction implements AutoCloseable {
         }
     }
 
+    /**
+     * execute batch in chunks.
+     * <p>
+     * The parameters are split into chunks of chunkSize, and each chunk is sent as one batch request.<br>
+     * The next chunk is read from the parameters while the previous chunks are executing, and at most maxPendingChunks requests are in flight.<br>
+     * Only one chunk of parameters is held in memory at a time, so the parameters can be read lazily from a large source.<br>
+     * If a chunk fails, the parameters are not read any more and the exception is thrown.
+     * </p>
+     * <p>
+     * The event listener receives {@link TgBatchChunkSummary} as the parameter.
+     * </p>
+     *
+     * @param <P>              parameter type
+     * @param ps               SQL definition
+     * @param parameters       SQL parameters
+     * @param chunkSize        number of parameters in one batch request
+     * @param maxPendingChunks maximum number of batch requests in flight
+     * @return row count (sum of the row count of each chunk. -1 if the row count of any chunk is unknown)
+     * @throws IOException                 if an I/O error occurs while execute batch
+     * @throws InterruptedException        if interrupted while execute batch
+     * @throws TsurugiTransactionException if server error occurs while execute batch
+     */
+    public <P> long executeBatchChunked(TsurugiSqlPreparedStatement<P> ps, Iterator<? extends P> parameters, int chunkSize, int maxPendingChunks)
+            throws IOException, InterruptedException, TsurugiTransactionException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive. chunkSize=" + chunkSize);
+        }
+        if (maxPendingChunks <= 0) {
+            throw new IllegalArgumentException("maxPendingChunks must be positive. maxPendingChunks=" + maxPendingChunks);
+        }
+
+        var method = TgTxMethod.EXECUTE_BATCH_CHUNKED;
+        int txExecuteId = getNewIceaxeTxExecuteId();
+        var summary = new TgBatchChunkSummary(chunkSize, maxPendingChunks);
+        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, summary));
+
+        var pendingList = new ArrayDeque<TsurugiStatementResult>(maxPendingChunks);
+        Throwable occurred = null;
+        try {
+            long count = 0;
+            while (parameters.hasNext()) {
+                var chunk = new ArrayList<P>(chunkSize);
+                while (chunk.size() < chunkSize && parameters.hasNext()) {
+                    chunk.add(parameters.next());
+                }
+
+                if (pendingList.size() >= maxPendingChunks) {
+                    count = addUpdateCount(count, pendingList.poll());
+                }
+                pendingList.add(ps.executeBatch(this, chunk));
+                summary.addChunk(chunk.size());
+            }
+            while (!pendingList.isEmpty()) {
+                count = addUpdateCount(count, pendingList.poll());
+            }
+            return count;
+        } catch (TsurugiTransactionException e) {
+            occurred = e;
+            e.setTxMethod(method, txExecuteId);
+            throw e;
+        } catch (Throwable e) {
+            occurred = e;
+            throw e;
+        } finally {
+            for (var rs : pendingList) {
+                try {
+                    rs.close();
+                } catch (Throwable e) {
+                    if (occurred != null) {
+                        occurred.addSuppressed(e);
+                    } else {
+                        LOG.debug("executeBatchChunked close error", e);
+                    }
+                }
+            }
+            var finalOccurred = occurred;
+            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, summary, null, finalOccurred));
+        }
+    }
+
+    /**
+     * execute batch in chunks.
+     *
+     * @param <P>              parameter type
+     * @param ps               SQL definition
+     * @param parameters       SQL parameters (closed after execution)
+     * @param chunkSize        number of parameters in one batch request
+     * @param maxPendingChunks maximum number of batch requests in flight
+     * @return row count (sum of the row count of each chunk. -1 if the row count of any chunk is unknown)
+     * @throws IOException                 if an I/O error occurs while execute batch
+     * @throws InterruptedException        if interrupted while execute batch
+     * @throws TsurugiTransactionException if server error occurs while execute batch
+     * @see #executeBatchChunked(TsurugiSqlPreparedStatement, Iterator, int, int)
+     */
+    public <P> long executeBatchChunked(TsurugiSqlPreparedStatement<P> ps, Stream<? extends P> parameters, int chunkSize, int maxPendingChunks)
+            throws IOException, InterruptedException, TsurugiTransactionException {
+        try (parameters) {
+            return executeBatchChunked(ps, parameters.iterator(), chunkSize, maxPendingChunks);
+        }
+    }
+
+    private static long addUpdateCount(long count, TsurugiStatementResult rs) throws IOException, InterruptedException, TsurugiTransactionException {
+        try (rs) {
+            int n = rs.getUpdateCount();
+            if (count < 0 || n < 0) {
+                return -1;
+            }
+            return count + n;
+        }
+    }
+
+    // execute asynchronously
+
+    /**
+     * execute query asynchronously.
+     * <p>
+     * the request is sent before returning, and the records are read on {@link TsurugiSession#getAsyncExecutor()}.
+     * </p>
+     *
+     * @param <R> result type
+     * @param ps  SQL definition
+     * @return future of list of record
+     * @throws IOException                 if an I/O error occurs while execute query
+     * @throws InterruptedException        if interrupted while execute query
+     * @throws TsurugiTransactionException if server error occurs while execute query
+     */
+    public <R> CompletableFuture<List<R>> executeQueryAsync(TsurugiSqlQuery<R> ps) throws IOException, InterruptedException, TsurugiTransactionException {
+        return executeAsync(TgTxMethod.EXECUTE_QUERY_ASYNC, ps, null, () -> ps.execute(this), TsurugiQueryResult::getRecordList);
+    }
+
+    /**
+     * execute query asynchronously.
+     * <p>
+     * the request is sent before returning, and the records are read on {@link TsurugiSession#getAsyncExecutor()}.
+     * </p>
+     *
+     * @param <P>       parameter type
+     * @param <R>       result type
+     * @param ps        SQL definition
+     * @param parameter SQL parameter
+     * @return future of list of record
+     * @throws IOException                 if an I/O error occurs while execute query
+     * @throws InterruptedException        if interrupted while execute query
+     * @throws TsurugiTransactionException if server error occurs while execute query
+     */
+    public <P, R> CompletableFuture<List<R>> executeQueryAsync(TsurugiSqlPreparedQuery<P, R> ps, P parameter) throws IOException, InterruptedException, TsurugiTransactionException {
+        return executeAsync(TgTxMethod.EXECUTE_QUERY_ASYNC, ps, parameter, () -> ps.execute(this, parameter), TsurugiQueryResult::getRecordList);
+    }
+
+    /**
+     * execute statement asynchronously.
+     * <p>
+     * the request is sent before returning, and the result is checked on {@link TsurugiSession#getAsyncExecutor()}.
+     * </p>
+     *
+     * @param ps SQL definition
+     * @return future of row count
+     * @throws IOException                 if an I/O error occurs while execute statement
+     * @throws InterruptedException        if interrupted while execute statement
+     * @throws TsurugiTransactionException if server error occurs while execute statement
+     */
+    public CompletableFuture<Integer> executeStatementAsync(TsurugiSqlStatement ps) throws IOException, InterruptedException, TsurugiTransactionException {
+        return executeAsync(TgTxMethod.EXECUTE_STATEMENT_ASYNC, ps, null, () -> ps.execute(this), TsurugiStatementResult::getUpdateCount);
+    }
+
+    /**
+     * execute statement asynchronously.
+     * <p>
+     * the request is sent before returning, and the result is checked on {@link TsurugiSession#getAsyncExecutor()}.
+     * </p>
+     *
+     * @param <P>       parameter type
+     * @param ps        SQL definition
+     * @param parameter SQL parameter
+     * @return future of row count
+     * @throws IOException                 if an I/O error occurs while execute statement
+     * @throws InterruptedException        if interrupted while execute statement
+     * @throws TsurugiTransactionException if server error occurs while execute statement
+     */
+    public <P> CompletableFuture<Integer> executeStatementAsync(TsurugiSqlPreparedStatement<P> ps, P parameter) throws IOException, InterruptedException, TsurugiTransactionException {
+        return executeAsync(TgTxMethod.EXECUTE_STATEMENT_ASYNC, ps, parameter, () -> ps.execute(this, parameter), TsurugiStatementResult::getUpdateCount);
+    }
+
+    /**
+     * execute batch asynchronously.
+     * <p>
+     * the request is sent before returning, and the result is checked on {@link TsurugiSession#getAsyncExecutor()}.
+     * </p>
+     *
+     * @param <P>           parameter type
+     * @param ps            SQL definition
+     * @param parameterList SQL parameter
+     * @return future of row count
+     * @throws IOException                 if an I/O error occurs while execute batch
+     * @throws InterruptedException        if interrupted while execute batch
+     * @throws TsurugiTransactionException if server error occurs while execute batch
+     */
+    public <P> CompletableFuture<Integer> executeBatchAsync(TsurugiSqlPreparedStatement<P> ps, Collection<P> parameterList) throws IOException, InterruptedException, TsurugiTransactionException {
+        return executeAsync(TgTxMethod.EXECUTE_BATCH_ASYNC, ps, parameterList, () -> ps.executeBatch(this, parameterList), TsurugiStatementResult::getUpdateCount);
+    }
+
+    private <S extends TsurugiSqlResult, R> CompletableFuture<R> executeAsync(TgTxMethod method, TsurugiSql ps, Object parameter, TsurugiTransactionSupplier<S> executor,
+            TsurugiTransactionFunction<S, R> resultFunction) throws IOException, InterruptedException, TsurugiTransactionException {
+        int txExecuteId = getNewIceaxeTxExecuteId();
+        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+
+        S result;
+        try {
+            result = executor.get();
+        } catch (TsurugiTransactionException e) {
+            e.setTxMethod(method, txExecuteId);
+            event(e, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, null, e));
+            throw e;
+        } catch (Throwable e) {
+            event(e, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, null, e));
+            throw e;
+        }
+
+        var task = new AsyncTask<R>(() -> {
+            Throwable occurred = null;
+            try (var rs = result) {
+                return resultFunction.apply(rs);
+            } catch (TsurugiTransactionException e) {
+                occurred = e;
+                e.setTxMethod(method, txExecuteId);
+                throw e;
+            } catch (Throwable e) {
+                occurred = e;
+                throw e;
+            } finally {
+                var finalOccurred = occurred;
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, result, finalOccurred));
+            }
+        });
+        asyncTaskList.add(task);
+        // the failed task is kept, so that it fails the commit
+        task.future.thenRun(() -> asyncTaskList.remove(task));
+        try {
+            ownerSession.getAsyncExecutor().execute(task);
+        } catch (RejectedExecutionException e) {
+            // run on commit
+            LOG.debug("async task rejected. run on commit", e);
+        }
+        // a copy, so that cancel by the caller does not hide the task from commit
+        return task.future.copy();
+    }
+
+    /**
+     * task executed asynchronously.
+     * <p>
+     * The task runs once, either on the async executor or on the thread which commits the transaction if it has not started yet.
+     * </p>
+     *
+     * @param <R> result type
+     */
+    private static final class AsyncTask<R> implements Runnable {
+        private final TsurugiTransactionSupplier<R> supplier;
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        final CompletableFuture<R> future = new CompletableFuture<>();
+
+        AsyncTask(TsurugiTransactionSupplier<R> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                future.complete(supplier.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(e);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        void await() throws IOException, InterruptedException, TsurugiTransactionException {
+            run();
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                var c = e.getCause();
+                if (c instanceof IOException) {
+                    throw (IOException) c;
+                } else if (c instanceof InterruptedException) {
+                    throw (InterruptedException) c;
+                } else if (c instanceof TsurugiTransactionException) {
+                    throw (TsurugiTransactionException) c;
+                } else if (c instanceof RuntimeException) {
+                    throw (RuntimeException) c;
+                } else if (c instanceof Error) {
+                    throw (Error) c;
+                }
+                throw new IOException(c.getMessage(), c);
+            }
+        }
+    }
+
+    private void awaitAsync() throws IOException, InterruptedException, TsurugiTransactionException {
+        for (var task : asyncTaskList) {
+            task.await();
+        }
+    }
+
+    // execute in pipeline
+
+    /**
+     * create pipeline.
+     * <p>
+     * The pending results of the pipeline are resolved before commit.
+     * </p>
+     *
+     * @return pipeline
+     * @throws IOException if already closed
+     * @see TsurugiTransactionPipeline
+     */
+    public TsurugiTransactionPipeline createPipeline() throws IOException {
+        checkClose();
+        var pipeline = new TsurugiTransactionPipeline(this);
+        pipelineList.add(pipeline);
+        return pipeline;
+    }
+
+    void removePipeline(TsurugiTransactionPipeline pipeline) {
+        pipelineList.remove(pipeline);
+    }
+
+    <S extends TsurugiSqlResult, R> TgPipelineResult<R> executePipeline(TsurugiSql ps, Object parameter, TsurugiTransactionSupplier<S> executor, TsurugiTransactionFunction<S, R> resultFunction)
+            throws IOException, InterruptedException, TsurugiTransactionException {
+        var method = TgTxMethod.EXECUTE_PIPELINE;
+        int txExecuteId = getNewIceaxeTxExecuteId();
+        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+
+        S result;
+        try {
+            result = executor.get();
+        } catch (TsurugiTransactionException e) {
+            e.setTxMethod(method, txExecuteId);
+            event(e, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, null, e));
+            throw e;
+        } catch (Throwable e) {
+            event(e, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, null, e));
+            throw e;
+        }
+
+        return new TgPipelineResult<>(txExecuteId, () -> {
+            Throwable occurred = null;
+            try (var rs = result) {
+                return resultFunction.apply(rs);
+            } catch (TsurugiTransactionException e) {
+                occurred = e;
+                e.setTxMethod(method, txExecuteId);
+                throw e;
+            } catch (Throwable e) {
+                occurred = e;
+                throw e;
+            } finally {
+                var finalOccurred = occurred;
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, result, finalOccurred));
+            }
+        });
+    }
+
+    private void awaitPipeline() throws IOException, InterruptedException, TsurugiTransactionException {
+        for (var pipeline : pipelineList) {
+            pipeline.await();
+        }
+    }
+
     /**
      * transaction task.
      *
@@ -983,7 +1396,7 @@ public class TsurugiTransaction implements AutoCloseable {
      * @throws InterruptedException if interrupted while retrieving transaction
      */
 //  @ThreadSafe
-    public final synchronized boolean available() throws IOException, InterruptedException {
+    public final boolean available() throws IOException, InterruptedException {
         if (isClosed()) {
             return false;
         }
@@ -1009,13 +1422,25 @@ public class TsurugiTransaction implements AutoCloseable {
 
     /**
      * do commit.
+     * <p>
+     * The pending asynchronous executions and pipelines are resolved before commit, and their error fails the commit.
+     * </p>
      *
      * @param commitType commit type
      * @throws IOException                 if an I/O error occurs while commit
      * @throws InterruptedException        if interrupted while commit
      * @throws TsurugiTransactionException if server error occurs while commit
      */
-    public synchronized void commit(TgCommitType commitType) throws IOException, InterruptedException, TsurugiTransactionException {
+    public void commit(TgCommitType commitType) throws IOException, InterruptedException, TsurugiTransactionException {
+        lowLock.lockInterruptibly();
+        try {
+            doCommit(commitType);
+        } finally {
+            lowLock.unlock();
+        }
+    }
+
+    private void doCommit(TgCommitType commitType) throws IOException, InterruptedException, TsurugiTransactionException {
         checkClose();
         if (this.committed) {
             return;
@@ -1023,6 +1448,8 @@ public class TsurugiTransaction implements AutoCloseable {
         if (this.rollbacked) {
             throw new IllegalStateException("rollback has already been called");
         }
+        awaitAsync();
+        awaitPipeline();
 
         LOG.trace("transaction commit start. commitType={}", commitType);
         event(null, listener -> listener.commitStart(this, commitType));
@@ -1048,6 +1475,29 @@ public class TsurugiTransaction implements AutoCloseable {
         LOG.trace("transaction commit end");
     }
 
+    /**
+     * do commit asynchronously.
+     * <p>
+     * commit is executed on {@link TsurugiSession#getAsyncExecutor()}.
+     * </p>
+     *
+     * @param commitType commit type
+     * @return future of commit
+     * @see #commit(TgCommitType)
+     */
+    public CompletableFuture<Void> commitAsync(TgCommitType commitType) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                commit(commitType);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (IOException | TsurugiTransactionException e) {
+                throw new CompletionException(e);
+            }
+        }, ownerSession.getAsyncExecutor());
+    }
+
     /**
      * do rollback.
      *
@@ -1055,7 +1505,16 @@ public class TsurugiTransaction implements AutoCloseable {
      * @throws InterruptedException        if interrupted while rollback
      * @throws TsurugiTransactionException if server error occurs while rollback
      */
-    public synchronized void rollback() throws IOException, InterruptedException, TsurugiTransactionException {
+    public void rollback() throws IOException, InterruptedException, TsurugiTransactionException {
+        lowLock.lockInterruptibly();
+        try {
+            doRollback();
+        } finally {
+            lowLock.unlock();
+        }
+    }
+
+    private void doRollback() throws IOException, InterruptedException, TsurugiTransactionException {
         checkClose();
         if (this.committed || this.rollbacked) {
             return;
@@ -1105,7 +1564,7 @@ public class TsurugiTransaction implements AutoCloseable {
      *
      * @return {@code true} if committed
      */
-    public synchronized boolean isCommitted() {
+    public boolean isCommitted() {
         return this.committed;
     }
 
@@ -1114,7 +1573,7 @@ public class TsurugiTransaction implements AutoCloseable {
      *
      * @return {@code true} if rollbacked
      */
-    public synchronized boolean isRollbacked() {
+    public boolean isRollbacked() {
         return this.rollbacked;
     }
 
@@ -0,0 +1,402 @@
+package com.tsurugidb.iceaxe.transaction;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlStatement;
+import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
+import com.tsurugidb.iceaxe.sql.result.TsurugiStatementResult;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction.TgTxMethod;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.util.function.TsurugiTransactionSupplier;
+
+/**
+ * Tsurugi transaction pipeline.
+ * <p>
+ * The statements and queries are sent to the server without waiting for the result of the previous one,
+ * and the results are resolved in the order of submission by {@link #await()}.<br>
+ * The pending results are resolved before {@link TsurugiTransaction#commit(TgCommitType)}, so an error of any statement fails the commit.
+ * </p>
+ * <p>
+ * Each statement is notified to {@link com.tsurugidb.iceaxe.transaction.event.TsurugiTransactionEventListener TsurugiTransactionEventListener} as {@link TgTxMethod#EXECUTE_PIPELINE}
+ * with its own iceaxeTxExecuteId, and the exception of the statement is attributed to it.
+ * </p>
+ * <p>
+ * The pipeline is thread safe, because its pending results are resolved by the thread which commits the transaction
+ * (it may differ from the thread which executes the statements, e.g. {@link TsurugiTransaction#commitAsync(TgCommitType)}).
+ * </p>
+ *
+ * <pre>
+ * try (var pipeline = transaction.createPipeline()) {
+ *     var result1 = pipeline.executeStatement(insertPs, entity1);
+ *     var result2 = pipeline.executeStatement(insertPs, entity2);
+ *     pipeline.await();
+ *     int count = result1.get() + result2.get();
+ * }
+ * </pre>
+ *
+ * @see TsurugiTransaction#createPipeline()
+ */
+@ThreadSafe
+public class TsurugiTransactionPipeline implements AutoCloseable {
+
+    /**
+     * result of the statement in pipeline.
+     *
+     * @param <R> result type
+     */
+    @ThreadSafe
+    public static final class TgPipelineResult<R> {
+        private final int iceaxeTxExecuteId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile boolean done = false;
+        private TsurugiTransactionSupplier<R> resolver;
+        private R value;
+        private Throwable occurred;
+
+        TgPipelineResult(int iceaxeTxExecuteId, TsurugiTransactionSupplier<R> resolver) {
+            this.iceaxeTxExecuteId = iceaxeTxExecuteId;
+            this.resolver = resolver;
+        }
+
+        /**
+         * get iceaxe tx executeId.
+         *
+         * @return iceaxe tx executeId
+         */
+        public int getIceaxeTxExecuteId() {
+            return this.iceaxeTxExecuteId;
+        }
+
+        /**
+         * Returns whether the result has been resolved.
+         *
+         * @return {@code true} if resolved
+         */
+        public boolean isDone() {
+            return this.done;
+        }
+
+        void resolve() throws IOException, InterruptedException, TsurugiTransactionException {
+            lock.lock();
+            try {
+                if (!this.done) {
+                    var r = this.resolver;
+                    this.resolver = null;
+                    try {
+                        this.value = r.get();
+                    } catch (Throwable e) {
+                        this.occurred = e;
+                        throw e;
+                    } finally {
+                        this.done = true;
+                    }
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            rethrow();
+        }
+
+        /**
+         * get result.
+         * <p>
+         * If the result has not been resolved yet, it is resolved (and the previous results in the pipeline are not).
+         * </p>
+         *
+         * @return result
+         * @throws IOException                 if an I/O error occurs while execute
+         * @throws InterruptedException        if interrupted while execute
+         * @throws TsurugiTransactionException if server error occurs while execute
+         */
+        public R get() throws IOException, InterruptedException, TsurugiTransactionException {
+            resolve();
+            return this.value;
+        }
+
+        /**
+         * get exception of the statement.
+         *
+         * @return exception ({@code null} if not occurred or not resolved)
+         */
+        public @Nullable Throwable getException() {
+            if (!this.done) {
+                return null;
+            }
+            return this.occurred;
+        }
+
+        private void rethrow() throws IOException, InterruptedException, TsurugiTransactionException {
+            var e = getException();
+            if (e == null) {
+                return;
+            }
+            if (e instanceof IOException) {
+                throw (IOException) e;
+            } else if (e instanceof InterruptedException) {
+                throw (InterruptedException) e;
+            } else if (e instanceof TsurugiTransactionException) {
+                throw (TsurugiTransactionException) e;
+            } else if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            } else if (e instanceof Error) {
+                throw (Error) e;
+            }
+            throw new IOException(e.getMessage(), e);
+        }
+
+        @Override
+        public String toString() {
+            return "TgPipelineResult(iceaxeTxExecuteId=" + iceaxeTxExecuteId + ", done=" + isDone() + ")";
+        }
+    }
+
+    private final TsurugiTransaction ownerTransaction;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<TgPipelineResult<?>> pendingList = new ArrayList<>();
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param transaction transaction
+     */
+    TsurugiTransactionPipeline(TsurugiTransaction transaction) {
+        this.ownerTransaction = transaction;
+    }
+
+    /**
+     * get transaction.
+     *
+     * @return transaction
+     */
+    public TsurugiTransaction getTransaction() {
+        return this.ownerTransaction;
+    }
+
+    /**
+     * execute statement.
+     *
+     * @param ps SQL definition
+     * @return result of row count
+     * @throws IOException                 if an I/O error occurs while execute statement
+     * @throws InterruptedException        if interrupted while execute statement
+     * @throws TsurugiTransactionException if server error occurs while execute statement
+     */
+    public TgPipelineResult<Integer> executeStatement(TsurugiSqlStatement ps) throws IOException, InterruptedException, TsurugiTransactionException {
+        checkClose();
+        var tx = this.ownerTransaction;
+        return add(tx.executePipeline(ps, null, () -> ps.execute(tx), TsurugiStatementResult::getUpdateCount));
+    }
+
+    /**
+     * execute statement.
+     *
+     * @param <P>       parameter type
+     * @param ps        SQL definition
+     * @param parameter SQL parameter
+     * @return result of row count
+     * @throws IOException                 if an I/O error occurs while execute statement
+     * @throws InterruptedException        if interrupted while execute statement
+     * @throws TsurugiTransactionException if server error occurs while execute statement
+     */
+    public <P> TgPipelineResult<Integer> executeStatement(TsurugiSqlPreparedStatement<P> ps, P parameter) throws IOException, InterruptedException, TsurugiTransactionException {
+        checkClose();
+        var tx = this.ownerTransaction;
+        return add(tx.executePipeline(ps, parameter, () -> ps.execute(tx, parameter), TsurugiStatementResult::getUpdateCount));
+    }
+
+    /**
+     * execute batch.
+     *
+     * @param <P>           parameter type
+     * @param ps            SQL definition
+     * @param parameterList SQL parameter
+     * @return result of row count
+     * @throws IOException                 if an I/O error occurs while execute batch
+     * @throws InterruptedException        if interrupted while execute batch
+     * @throws TsurugiTransactionException if server error occurs while execute batch
+     */
+    public <P> TgPipelineResult<Integer> executeBatch(TsurugiSqlPreparedStatement<P> ps, Collection<P> parameterList) throws IOException, InterruptedException, TsurugiTransactionException {
+        checkClose();
+        var tx = this.ownerTransaction;
+        return add(tx.executePipeline(ps, parameterList, () -> ps.executeBatch(tx, parameterList), TsurugiStatementResult::getUpdateCount));
+    }
+
+    /**
+     * execute query.
+     *
+     * @param <R> result type
+     * @param ps  SQL definition
+     * @return result of list of record
+     * @throws IOException                 if an I/O error occurs while execute query
+     * @throws InterruptedException        if interrupted while execute query
+     * @throws TsurugiTransactionException if server error occurs while execute query
+     */
+    public <R> TgPipelineResult<List<R>> executeQuery(TsurugiSqlQuery<R> ps) throws IOException, InterruptedException, TsurugiTransactionException {
+        checkClose();
+        var tx = this.ownerTransaction;
+        return add(tx.executePipeline(ps, null, () -> ps.execute(tx), TsurugiQueryResult::getRecordList));
+    }
+
+    /**
+     * execute query.
+     *
+     * @param <P>       parameter type
+     * @param <R>       result type
+     * @param ps        SQL definition
+     * @param parameter SQL parameter
+     * @return result of list of record
+     * @throws IOException                 if an I/O error occurs while execute query
+     * @throws InterruptedException        if interrupted while execute query
+     * @throws TsurugiTransactionException if server error occurs while execute query
+     */
+    public <P, R> TgPipelineResult<List<R>> executeQuery(TsurugiSqlPreparedQuery<P, R> ps, P parameter) throws IOException, InterruptedException, TsurugiTransactionException {
+        checkClose();
+        var tx = this.ownerTransaction;
+        return add(tx.executePipeline(ps, parameter, () -> ps.execute(tx, parameter), TsurugiQueryResult::getRecordList));
+    }
+
+    private <R> TgPipelineResult<R> add(TgPipelineResult<R> result) {
+        lock.lock();
+        try {
+            pendingList.add(result);
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+
+    private List<TgPipelineResult<?>> getPendingList() {
+        lock.lock();
+        try {
+            return new ArrayList<>(pendingList);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * get number of pending results.
+     *
+     * @return number of pending results
+     */
+    public int getPendingSize() {
+        int count = 0;
+        for (var result : getPendingList()) {
+            if (!result.isDone()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * resolve all results.
+     * <p>
+     * All results are resolved even if an error occurs, and the first exception is thrown (the others are added as suppressed).<br>
+     * If another thread is resolving a result, this method waits for it.
+     * </p>
+     *
+     * @throws IOException                 if an I/O error occurs while execute
+     * @throws InterruptedException        if interrupted while execute
+     * @throws TsurugiTransactionException if server error occurs while execute
+     */
+    public void await() throws IOException, InterruptedException, TsurugiTransactionException {
+        Throwable occurred = null;
+        var list = getPendingList();
+        for (var result : list) {
+            if (result.isDone()) {
+                continue;
+            }
+            try {
+                result.resolve();
+            } catch (Throwable e) {
+                if (occurred == null) {
+                    occurred = e;
+                } else {
+                    occurred.addSuppressed(e);
+                }
+            }
+        }
+        lock.lock();
+        try {
+            pendingList.removeIf(TgPipelineResult::isDone);
+        } finally {
+            lock.unlock();
+        }
+
+        if (occurred != null) {
+            if (occurred instanceof IOException) {
+                throw (IOException) occurred;
+            } else if (occurred instanceof InterruptedException) {
+                throw (InterruptedException) occurred;
+            } else if (occurred instanceof TsurugiTransactionException) {
+                throw (TsurugiTransactionException) occurred;
+            } else if (occurred instanceof RuntimeException) {
+                throw (RuntimeException) occurred;
+            } else if (occurred instanceof Error) {
+                throw (Error) occurred;
+            }
+            throw new IOException(occurred.getMessage(), occurred);
+        }
+    }
+
+    /**
+     * resolve all results and close.
+     *
+     * @throws IOException                 if an I/O error occurs while execute
+     * @throws InterruptedException        if interrupted while execute
+     * @throws TsurugiTransactionException if server error occurs while execute
+     */
+    @Override
+    public void close() throws IOException, InterruptedException, TsurugiTransactionException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            if (!ownerTransaction.isClosed() && !ownerTransaction.isRollbacked()) {
+                await();
+            }
+        } finally {
+            lock.lock();
+            try {
+                pendingList.clear();
+            } finally {
+                lock.unlock();
+            }
+            ownerTransaction.removePipeline(this);
+        }
+    }
+
+    /**
+     * Returns the closed state of the pipeline.
+     *
+     * @return {@code true} if the pipeline has been closed
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    private void checkClose() {
+        if (this.closed) {
+            throw new IllegalStateException("pipeline already closed");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiTransactionPipeline(iceaxeTxId=" + ownerTransaction.getIceaxeTxId() + ", pending=" + getPendingSize() + ")";
+    }
+}
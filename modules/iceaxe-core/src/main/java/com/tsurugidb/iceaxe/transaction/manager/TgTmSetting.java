@@ -16,6 +16,8 @@ import com.tsurugidb.iceaxe.transaction.manager.event.TsurugiTmEventListener;
 import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOption;
 import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOptionList;
 import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOptionSupplier;
+import com.tsurugidb.iceaxe.transaction.manager.option.TgTmWritePreserveInference;
+import com.tsurugidb.iceaxe.transaction.manager.retry.TgTmRetryBackoff;
 import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.iceaxe.util.TgTimeValue;
@@ -124,12 +126,28 @@ public class TgTmSetting {
         return of(supplier);
     }
 
+    /**
+     * create TransactionManager Settings.
+     *
+     * @param occSize   occ size
+     * @param ltxOption transaction option for LTX or RTX
+     * @param ltxSize   ltx size
+     * @return TransactionManager Settings (the supplier is added as the event listener)
+     * @see com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOptionAdaptiveOccLtx
+     */
+    public static TgTmSetting ofAdaptiveOccLtx(int occSize, TgTxOption ltxOption, int ltxSize) {
+        var supplier = TgTmTxOptionSupplier.ofAdaptiveOccLtx(occSize, ltxOption, ltxSize);
+        return of(supplier).addEventListener(supplier);
+    }
+
     private TgTmTxOptionSupplier txOptionSupplier;
     private String transactionLabel = null;
     private TgCommitType commitType;
     private TgTimeValue beginTimeout;
     private TgTimeValue commitTimeout;
     private TgTimeValue rollbackTimeout;
+    private TgTmRetryBackoff retryBackoff = null;
+    private TgTmWritePreserveInference writePreserveInference = null;
     private List<TsurugiTmEventListener> eventListenerList = null;
 
     /**
@@ -182,7 +200,7 @@ public class TgTmSetting {
     /**
      * get first transaction option.
      *
-     * @param executeInfo {@link TgTmTxOptionSupplier#createExecuteInfo(int)}
+     * @param executeInfo {@link TgTmTxOptionSupplier#createExecuteInfo(int, String)}
      * @return transaction option
      * @throws IOException          if an I/O error occurs while retrieving transaction status
      * @throws InterruptedException if interrupted while retrieving transaction status
@@ -194,15 +212,15 @@ public class TgTmSetting {
             throw new IllegalStateException(MessageFormat.format("tmOption is not execute. tmOption={0}", tmOption));
         }
         if (txOption.label() == null && this.transactionLabel != null) {
-            return txOption.clone(transactionLabel);
+            txOption = txOption.clone(transactionLabel);
         }
-        return txOption;
+        return applyWritePreserveInference(txOption);
     }
 
     /**
      * get transaction option.
      *
-     * @param executeInfo {@link TgTmTxOptionSupplier#createExecuteInfo(int)}
+     * @param executeInfo {@link TgTmTxOptionSupplier#createExecuteInfo(int, String)}
      * @param attempt     attempt number
      * @param transaction transaction
      * @param exception   transaction exception
@@ -218,13 +236,25 @@ public class TgTmSetting {
         var tmOption = txOptionSupplier.get(executeInfo, attempt, transaction, exception);
         if (tmOption.isExecute()) {
             var txOption = tmOption.getTransactionOption();
-            if (txOption.label() == null && this.transactionLabel != null) {
-                return TgTmTxOption.execute(txOption.clone(transactionLabel), tmOption.getRetryInstruction());
+            var newTxOption = txOption;
+            if (newTxOption.label() == null && this.transactionLabel != null) {
+                newTxOption = newTxOption.clone(transactionLabel);
+            }
+            newTxOption = applyWritePreserveInference(newTxOption);
+            if (newTxOption != txOption) {
+                return TgTmTxOption.execute(newTxOption, tmOption.getRetryInstruction());
             }
         }
         return tmOption;
     }
 
+    private TgTxOption applyWritePreserveInference(TgTxOption txOption) {
+        if (this.writePreserveInference == null) {
+            return txOption;
+        }
+        return writePreserveInference.apply(txOption);
+    }
+
     /**
      * set commit type.
      *
@@ -384,6 +414,83 @@ public class TgTmSetting {
         return this;
     }
 
+    /**
+     * set retry backoff.
+     *
+     * @param backoff retry backoff
+     */
+    public void setRetryBackoff(@Nullable TgTmRetryBackoff backoff) {
+        this.retryBackoff = backoff;
+    }
+
+    /**
+     * set retry backoff.
+     *
+     * @param backoff retry backoff
+     * @return this
+     */
+    public TgTmSetting retryBackoff(@Nullable TgTmRetryBackoff backoff) {
+        setRetryBackoff(backoff);
+        return this;
+    }
+
+    /**
+     * get retry backoff.
+     *
+     * @return retry backoff ({@code null} if not specified)
+     */
+    public @Nullable TgTmRetryBackoff getRetryBackoff() {
+        return this.retryBackoff;
+    }
+
+    /**
+     * get delay before the retry.
+     *
+     * @param attempt            attempt number of the retry transaction
+     * @param previousDelayNanos previous delay [ns]
+     * @return delay [ns]
+     */
+    @IceaxeInternal
+    public long getRetryDelayNanos(int attempt, long previousDelayNanos) {
+        if (this.retryBackoff == null) {
+            return 0;
+        }
+        return Math.max(retryBackoff.getDelayNanos(attempt, previousDelayNanos), 0);
+    }
+
+    /**
+     * set write preserve inference.
+     *
+     * @param inference write preserve inference
+     */
+    public void setWritePreserveInference(@Nullable TgTmWritePreserveInference inference) {
+        this.writePreserveInference = inference;
+    }
+
+    /**
+     * set write preserve inference.
+     * <p>
+     * The tables written by the transactions are added to the write preserve of the following LTX of the same label.
+     * The LTX without write preserve is executed as OCC until the tables of the label are known.
+     * </p>
+     *
+     * @param inference write preserve inference
+     * @return this
+     */
+    public TgTmSetting writePreserveInference(@Nullable TgTmWritePreserveInference inference) {
+        setWritePreserveInference(inference);
+        return this;
+    }
+
+    /**
+     * get write preserve inference.
+     *
+     * @return write preserve inference ({@code null} if not specified)
+     */
+    public @Nullable TgTmWritePreserveInference getWritePreserveInference() {
+        return this.writePreserveInference;
+    }
+
     /**
      * add event listener.
      *
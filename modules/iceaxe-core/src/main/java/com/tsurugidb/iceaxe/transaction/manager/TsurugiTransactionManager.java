@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
@@ -35,6 +36,7 @@ import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
 import com.tsurugidb.iceaxe.transaction.status.TgTxStatus;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.iceaxe.util.InterruptedRuntimeException;
+import com.tsurugidb.iceaxe.util.TgTimeValue;
 import com.tsurugidb.iceaxe.util.function.TsurugiTransactionConsumer;
 
 /**
@@ -113,6 +115,10 @@ public class TsurugiTransactionManager {
                     action.accept(listener);
                 }
             }
+            var inference = setting.getWritePreserveInference();
+            if (inference != null) {
+                action.accept(inference);
+            }
         } catch (Throwable e) {
             if (occurred != null) {
                 e.addSuppressed(occurred);
@@ -187,13 +193,14 @@ public class TsurugiTransactionManager {
         }
 
         final int tmExecuteId = EXECUTE_COUNT.incrementAndGet();
-        final Object executeInfo = setting.getTransactionOptionSupplier().createExecuteInfo(tmExecuteId);
+        final Object executeInfo = setting.getTransactionOptionSupplier().createExecuteInfo(tmExecuteId, setting.transactionLabel());
 
         var txOption = setting.getFirstTransactionOption(executeInfo);
         {
             var finalTxOption = txOption;
             event(setting, null, listener -> listener.executeStart(this, tmExecuteId, finalTxOption));
         }
+        var retryState = new RetryState();
         for (int attempt = 0;; attempt++) {
             if (LOG.isTraceEnabled()) {
                 LOG.trace("tm.execute iceaxeTmExecuteId={}, attempt={}, tx={}", tmExecuteId, attempt, txOption);
@@ -201,6 +208,14 @@ public class TsurugiTransactionManager {
 
             final int finalAttempt = attempt;
             final var finalTxOption = txOption;
+            if (retryState.delayNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(retryState.delayNanos);
+                } catch (Throwable e) {
+                    event(setting, e, listener -> listener.executeEndFail(this, tmExecuteId, finalTxOption, null, e));
+                    throw e;
+                }
+            }
             event(setting, null, listener -> listener.transactionStart(this, tmExecuteId, finalAttempt, finalTxOption));
 
             TsurugiTransaction lastTransaction = null;
@@ -226,12 +241,12 @@ public class TsurugiTransactionManager {
                     return r;
                 } catch (TsurugiTransactionException e) {
                     event(setting, e, listener -> listener.transactionException(transaction, e));
-                    txOption = processTransactionException(setting, executeInfo, transaction, e, txOption, e);
+                    txOption = processTransactionException(setting, executeInfo, transaction, e, txOption, e, retryState);
                     continue;
                 } catch (TsurugiTransactionRuntimeException e) {
                     event(setting, e, listener -> listener.transactionException(transaction, e));
                     var c = e.getCause();
-                    txOption = processTransactionException(setting, executeInfo, transaction, e, txOption, c);
+                    txOption = processTransactionException(setting, executeInfo, transaction, e, txOption, c, retryState);
                     continue;
                 } catch (Exception e) {
                     event(setting, e, listener -> listener.transactionException(transaction, e));
@@ -244,7 +259,7 @@ public class TsurugiTransactionManager {
                         }
                         throw e;
                     }
-                    txOption = processTransactionException(setting, executeInfo, transaction, e, txOption, c);
+                    txOption = processTransactionException(setting, executeInfo, transaction, e, txOption, c, retryState);
                     continue;
                 } catch (Throwable e) {
                     LOG.trace("tm.execute error", e);
@@ -271,8 +286,12 @@ public class TsurugiTransactionManager {
         return null;
     }
 
-    private TgTxOption processTransactionException(TgTmSetting setting, Object executeInfo, TsurugiTransaction transaction, Exception cause, TgTxOption txOption, TsurugiTransactionException exception)
-            throws IOException, InterruptedException {
+    private static final class RetryState {
+        private long delayNanos = 0;
+    }
+
+    private TgTxOption processTransactionException(TgTmSetting setting, Object executeInfo, TsurugiTransaction transaction, Exception cause, TgTxOption txOption, TsurugiTransactionException exception,
+            RetryState retryState) throws IOException, InterruptedException {
         boolean calledRollback = false;
         try {
             int attempt = transaction.getAttempt();
@@ -294,10 +313,13 @@ public class TsurugiTransactionManager {
                 }
 
                 var nextOption = nextTmOption.getTransactionOption();
+                long delayNanos = setting.getRetryDelayNanos(attempt + 1, retryState.delayNanos);
+                retryState.delayNanos = delayNanos;
                 if (LOG.isTraceEnabled()) {
-                    LOG.trace("tm.execute retry{}. e={}, nextTx={}", attempt + 1, exception.getMessage(), nextTmOption);
+                    LOG.trace("tm.execute retry{}. e={}, nextTx={}, backoff={}ns", attempt + 1, exception.getMessage(), nextTmOption, delayNanos);
                 }
-                event(setting, cause, listener -> listener.transactionRetry(transaction, cause, nextTmOption));
+                var backoff = TgTimeValue.of(delayNanos, TimeUnit.NANOSECONDS);
+                event(setting, cause, listener -> listener.transactionRetry(transaction, cause, nextTmOption, backoff));
                 return nextOption;
             }
 
@@ -3,9 +3,12 @@ package com.tsurugidb.iceaxe.transaction.manager.event;
 import javax.annotation.Nullable;
 
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
 import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
 import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOption;
+import com.tsurugidb.iceaxe.transaction.manager.retry.TgTmRetryBackoff;
 import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.util.TgTimeValue;
 
 /**
  * {@link TsurugiTransactionManager} event listener.
@@ -75,6 +78,22 @@ public interface TsurugiTmEventListener {
         // do override
     }
 
+    /**
+     * called when transaction retry.
+     * <p>
+     * The default implementation calls {@link #transactionRetry(TsurugiTransaction, Exception, TgTmTxOption)}.
+     * </p>
+     *
+     * @param transaction  transaction
+     * @param cause        exception
+     * @param nextTmOption next transaction option
+     * @param backoff      delay before the retry transaction starts
+     * @see TgTmSetting#retryBackoff(TgTmRetryBackoff)
+     */
+    default void transactionRetry(TsurugiTransaction transaction, Exception cause, TgTmTxOption nextTmOption, TgTimeValue backoff) {
+        transactionRetry(transaction, cause, nextTmOption);
+    }
+
     /**
      * called when transaction retry over.
      *
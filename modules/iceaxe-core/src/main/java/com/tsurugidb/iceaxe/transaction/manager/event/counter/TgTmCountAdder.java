@@ -0,0 +1,197 @@
+package com.tsurugidb.iceaxe.transaction.manager.event.counter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * {@link TgTmCount} implemented by LongAdder.
+ * <p>
+ * The increment does not contend between threads, so this is suitable for counting from many threads.<br>
+ * The count is not an atomic snapshot while incremented concurrently.
+ * </p>
+ *
+ * @see TgTmCountAtomic
+ */
+@ThreadSafe
+public class TgTmCountAdder implements TgTmCountUpdater {
+
+    private final LongAdder executeCount = new LongAdder();
+    private final LongAdder transactionCount = new LongAdder();
+    private final LongAdder exceptionCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder retryOverCount = new LongAdder();
+    private final LongAdder beforeCommitCount = new LongAdder();
+    private final LongAdder commitCount = new LongAdder();
+    private final LongAdder rollbackCount = new LongAdder();
+    private final LongAdder successCommitCount = new LongAdder();
+    private final LongAdder successRollbackCount = new LongAdder();
+    private final LongAdder failCount = new LongAdder();
+
+    /**
+     * increment execute count.
+     */
+    @Override
+    public void incrementExecuteCount() {
+        executeCount.increment();
+    }
+
+    /**
+     * increment transaction count.
+     */
+    @Override
+    public void incrementTransactionCount() {
+        transactionCount.increment();
+    }
+
+    /**
+     * increment exception count.
+     */
+    @Override
+    public void incrementExceptionCount() {
+        exceptionCount.increment();
+    }
+
+    /**
+     * increment retry count.
+     */
+    @Override
+    public void incrementRetryCount() {
+        retryCount.increment();
+    }
+
+    /**
+     * increment retry-over count.
+     */
+    @Override
+    public void incrementRetryOverCount() {
+        retryOverCount.increment();
+    }
+
+    /**
+     * increment before-commit count.
+     */
+    @Override
+    public void incrementBeforeCommitCount() {
+        beforeCommitCount.increment();
+    }
+
+    /**
+     * increment commit count.
+     */
+    @Override
+    public void incrementCommitCount() {
+        commitCount.increment();
+    }
+
+    /**
+     * increment rollback count.
+     */
+    @Override
+    public void incrementRollbackCount() {
+        rollbackCount.increment();
+    }
+
+    /**
+     * increment success(commit) count.
+     */
+    @Override
+    public void incrementSuccessCommitCount() {
+        successCommitCount.increment();
+    }
+
+    /**
+     * increment success(rollback) count.
+     */
+    @Override
+    public void incrementSuccessRollbackCount() {
+        successRollbackCount.increment();
+    }
+
+    /**
+     * increment fail count.
+     */
+    @Override
+    public void incrementFailCount() {
+        failCount.increment();
+    }
+
+    @Override
+    public int executeCount() {
+        return (int) executeCount.sum();
+    }
+
+    @Override
+    public int transactionCount() {
+        return (int) transactionCount.sum();
+    }
+
+    @Override
+    public int execptionCount() {
+        return (int) exceptionCount.sum();
+    }
+
+    @Override
+    public int retryCount() {
+        return (int) retryCount.sum();
+    }
+
+    @Override
+    public int retryOverCount() {
+        return (int) retryOverCount.sum();
+    }
+
+    @Override
+    public int beforeCommitCount() {
+        return (int) beforeCommitCount.sum();
+    }
+
+    @Override
+    public int commitCount() {
+        return (int) commitCount.sum();
+    }
+
+    @Override
+    public int rollbackCount() {
+        return (int) rollbackCount.sum();
+    }
+
+    @Override
+    public int successCommitCount() {
+        return (int) successCommitCount.sum();
+    }
+
+    @Override
+    public int successRollbackCount() {
+        return (int) successRollbackCount.sum();
+    }
+
+    @Override
+    public int failCount() {
+        return (int) failCount.sum();
+    }
+
+    /**
+     * clear count.
+     */
+    public void clear() {
+        executeCount.reset();
+        transactionCount.reset();
+        exceptionCount.reset();
+        retryCount.reset();
+        retryOverCount.reset();
+        beforeCommitCount.reset();
+        commitCount.reset();
+        rollbackCount.reset();
+        successCommitCount.reset();
+        successRollbackCount.reset();
+        failCount.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "[executeCount=" + executeCount + ", transactionCount=" + transactionCount + ", exceptionCount=" + exceptionCount + ", retryCount=" + retryCount + ", retryOverCount=" + retryOverCount
+                + ", beforeCommitCount=" + beforeCommitCount + ", commitCount=" + commitCount + ", rollbackCount=" + rollbackCount + ", successCommitCount=" + successCommitCount
+                + ", successRollbackCount=" + successRollbackCount + ", failCount=" + failCount + "]";
+    }
+}
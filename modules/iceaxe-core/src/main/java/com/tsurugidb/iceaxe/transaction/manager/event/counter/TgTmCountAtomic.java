@@ -8,7 +8,7 @@ import javax.annotation.concurrent.ThreadSafe;
  * {@link TgTmCount} implemented by AtomicInteger.
  */
 @ThreadSafe
-public class TgTmCountAtomic implements TgTmCount {
+public class TgTmCountAtomic implements TgTmCountUpdater {
 
     private final AtomicInteger executeCount = new AtomicInteger(0);
     private final AtomicInteger transactionCount = new AtomicInteger(0);
@@ -25,6 +25,7 @@ public class TgTmCountAtomic implements TgTmCount {
     /**
      * increment execute count.
      */
+    @Override
     public void incrementExecuteCount() {
         executeCount.incrementAndGet();
     }
@@ -32,6 +33,7 @@ public class TgTmCountAtomic implements TgTmCount {
     /**
      * increment transaction count.
      */
+    @Override
     public void incrementTransactionCount() {
         transactionCount.incrementAndGet();
     }
@@ -39,6 +41,7 @@ public class TgTmCountAtomic implements TgTmCount {
     /**
      * increment exception count.
      */
+    @Override
     public void incrementExceptionCount() {
         exceptionCount.incrementAndGet();
     }
@@ -46,6 +49,7 @@ public class TgTmCountAtomic implements TgTmCount {
     /**
      * increment retry count.
      */
+    @Override
     public void incrementRetryCount() {
         retryCount.incrementAndGet();
     }
@@ -53,6 +57,7 @@ public class TgTmCountAtomic implements TgTmCount {
     /**
      * increment retry-over count.
      */
+    @Override
     public void incrementRetryOverCount() {
         retryOverCount.incrementAndGet();
     }
@@ -60,6 +65,7 @@ public class TgTmCountAtomic implements TgTmCount {
     /**
      * increment before-commit count.
      */
+    @Override
     public void incrementBeforeCommitCount() {
         beforeCommitCount.incrementAndGet();
     }
@@ -67,6 +73,7 @@ public class TgTmCountAtomic implements TgTmCount {
     /**
      * increment commit count.
      */
+    @Override
     public void incrementCommitCount() {
         commitCount.incrementAndGet();
     }
@@ -74,6 +81,7 @@ public class TgTmCountAtomic implements TgTmCount {
     /**
      * increment rollback count.
      */
+    @Override
     public void incrementRollbackCount() {
         rollbackCount.incrementAndGet();
     }
@@ -81,6 +89,7 @@ public class TgTmCountAtomic implements TgTmCount {
     /**
      * increment success(commit) count.
      */
+    @Override
     public void incrementSuccessCommitCount() {
         successCommitCount.incrementAndGet();
     }
@@ -88,6 +97,7 @@ public class TgTmCountAtomic implements TgTmCount {
     /**
      * increment success(rollback) count.
      */
+    @Override
     public void incrementSuccessRollbackCount() {
         successRollbackCount.incrementAndGet();
     }
@@ -95,6 +105,7 @@ public class TgTmCountAtomic implements TgTmCount {
     /**
      * increment fail count.
      */
+    @Override
     public void incrementFailCount() {
         failCount.incrementAndGet();
     }
@@ -0,0 +1,65 @@
+package com.tsurugidb.iceaxe.transaction.manager.event.counter;
+
+/**
+ * {@link TgTmCount} which can be incremented.
+ *
+ * @see TgTmCountAtomic
+ * @see TgTmCountAdder
+ */
+public interface TgTmCountUpdater extends TgTmCount {
+
+    /**
+     * increment execute count.
+     */
+    void incrementExecuteCount();
+
+    /**
+     * increment transaction count.
+     */
+    void incrementTransactionCount();
+
+    /**
+     * increment exception count.
+     */
+    void incrementExceptionCount();
+
+    /**
+     * increment retry count.
+     */
+    void incrementRetryCount();
+
+    /**
+     * increment retry-over count.
+     */
+    void incrementRetryOverCount();
+
+    /**
+     * increment before-commit count.
+     */
+    void incrementBeforeCommitCount();
+
+    /**
+     * increment commit count.
+     */
+    void incrementCommitCount();
+
+    /**
+     * increment rollback count.
+     */
+    void incrementRollbackCount();
+
+    /**
+     * increment success(commit) count.
+     */
+    void incrementSuccessCommitCount();
+
+    /**
+     * increment success(rollback) count.
+     */
+    void incrementSuccessRollbackCount();
+
+    /**
+     * increment fail count.
+     */
+    void incrementFailCount();
+}
@@ -0,0 +1,111 @@
+package com.tsurugidb.iceaxe.transaction.manager.event.counter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * histogram of long values.
+ * <p>
+ * The values are counted in log-linear buckets (16 buckets per power of two), so the relative error of the percentile is less than 1/16.<br>
+ * The recording is lock-free, and the snapshot is not atomic.<br>
+ * A value is recorded to the bucket, the sum and the max one by one, and the snapshot reads (and resets) the buckets, the sum and the max one by one.
+ * So a value recorded concurrently with {@link #snapshot()} or {@link #snapshotAndReset()} may be included in only some of them
+ * (for example, in the bucket counts but not in the sum, or in the sum but not in the bucket counts).
+ * That is, within one snapshot, the count and the sum (and so the mean) can disagree by the values recorded concurrently.<br>
+ * No value is lost by {@link #snapshotAndReset()}: the parts of the value which are not included in a snapshot are included in the next one.
+ * </p>
+ */
+@ThreadSafe
+public class TgTmHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_SIZE = bucketIndex(Long.MAX_VALUE) + 1;
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (value < 0) ? 0 : (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subIndex = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subIndex;
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        int subIndex = index % SUB_BUCKET_COUNT;
+        return (long) (SUB_BUCKET_COUNT + subIndex) << shift;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        return bucketLowerBound(index) + (1L << shift) - 1;
+    }
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_SIZE);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * record value.
+     *
+     * @param value value (negative value is recorded as zero)
+     */
+    public void record(long value) {
+        long v = Math.max(value, 0);
+        buckets.incrementAndGet(bucketIndex(v));
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * get snapshot.
+     *
+     * @return snapshot
+     */
+    public TgTmHistogramSnapshot snapshot() {
+        var counts = new long[BUCKET_SIZE];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return new TgTmHistogramSnapshot(counts, sum.sum(), max.get());
+    }
+
+    /**
+     * get snapshot and reset.
+     * <p>
+     * This is not atomic. See the class description for the consistency of the snapshot.
+     * </p>
+     *
+     * @return snapshot
+     */
+    public TgTmHistogramSnapshot snapshotAndReset() {
+        var counts = new long[BUCKET_SIZE];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.getAndSet(i, 0);
+        }
+        return new TgTmHistogramSnapshot(counts, sum.sumThenReset(), max.getThenReset());
+    }
+
+    /**
+     * reset.
+     */
+    public void reset() {
+        snapshotAndReset();
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
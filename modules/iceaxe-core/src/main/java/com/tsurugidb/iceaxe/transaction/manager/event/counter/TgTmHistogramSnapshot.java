@@ -0,0 +1,98 @@
+package com.tsurugidb.iceaxe.transaction.manager.event.counter;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * snapshot of {@link TgTmHistogram}.
+ */
+@Immutable
+public class TgTmHistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    TgTmHistogramSnapshot(long[] counts, long sum, long max) {
+        this.counts = counts;
+        long n = 0;
+        for (long c : counts) {
+            n += c;
+        }
+        this.count = n;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * get number of recorded values.
+     *
+     * @return count
+     */
+    public long count() {
+        return this.count;
+    }
+
+    /**
+     * get sum of recorded values.
+     *
+     * @return sum
+     */
+    public long sum() {
+        return this.sum;
+    }
+
+    /**
+     * get maximum value.
+     *
+     * @return maximum value, 0 if no value is recorded
+     */
+    public long max() {
+        return this.max;
+    }
+
+    /**
+     * get mean value.
+     *
+     * @return mean value, 0 if no value is recorded
+     */
+    public double mean() {
+        if (this.count == 0) {
+            return 0;
+        }
+        return (double) sum / count;
+    }
+
+    /**
+     * get value at percentile.
+     * <p>
+     * Returns the upper bound of the bucket which contains the value (not exceeding the maximum value).
+     * </p>
+     *
+     * @param percentile percentile (0 - 100)
+     * @return value, 0 if no value is recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100. percentile=" + percentile);
+        }
+        if (this.count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max((long) Math.ceil(percentile / 100 * count), 1);
+        long n = 0;
+        for (int i = 0; i < counts.length; i++) {
+            n += counts[i];
+            if (n >= rank) {
+                return Math.min(TgTmHistogram.bucketUpperBound(i), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    @Override
+    public String toString() {
+        return "[count=" + count + ", mean=" + mean() + ", p50=" + valueAtPercentile(50) + ", p99=" + valueAtPercentile(99) + ", p999=" + valueAtPercentile(99.9) + ", max=" + max + "]";
+    }
+}
@@ -21,7 +21,8 @@ import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
 @ThreadSafe
 public class TgTmLabelCounter implements TsurugiTmEventListener {
 
-    private final Map<String, TgTmCountAtomic> counterMap = new ConcurrentHashMap<>();
+    private final Map<String, TgTmCountUpdater> counterMap = new ConcurrentHashMap<>();
+    private final boolean newTmCountAtomicOverridden = overridesNewTmCountAtomic(getClass());
 
     @Override
     public void executeStart(TsurugiTransactionManager tm, int iceaxeTmExecuteId, TgTxOption txOption) {
@@ -128,20 +129,54 @@ public class TgTmLabelCounter implements TsurugiTmEventListener {
      * @param label transaction label
      * @return count
      */
-    protected TgTmCountAtomic getOrCreate(String label) {
-        return counterMap.computeIfAbsent(label, this::newTmCountAtomic);
+    protected TgTmCountUpdater getOrCreate(String label) {
+        var count = counterMap.get(label);
+        if (count != null) {
+            return count;
+        }
+        return counterMap.computeIfAbsent(label, this::newTmCount);
     }
 
     /**
      * Creates a new count instance.
+     * <p>
+     * If the subclass overrides {@link #newTmCountAtomic(String)}, it is called.
+     * </p>
      *
      * @param label transaction label
      * @return count
      */
+    protected TgTmCountUpdater newTmCount(String label) {
+        if (this.newTmCountAtomicOverridden) {
+            return newTmCountAtomic(label);
+        }
+        return new TgTmCountAdder();
+    }
+
+    /**
+     * Creates a new count instance.
+     *
+     * @param label transaction label
+     * @return count
+     * @deprecated override {@link #newTmCount(String)} instead. this is called by {@link #newTmCount(String)} only if overridden
+     */
+    @Deprecated(since = "1.1.0")
     protected TgTmCountAtomic newTmCountAtomic(String label) {
         return new TgTmCountAtomic();
     }
 
+    private static boolean overridesNewTmCountAtomic(Class<?> clazz) {
+        for (Class<?> c = clazz; c != TgTmLabelCounter.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("newTmCountAtomic", String.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // find in super class
+            }
+        }
+        return false;
+    }
+
     /**
      * get count map.
      *
@@ -0,0 +1,203 @@
+package com.tsurugidb.iceaxe.transaction.manager.event.counter;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.OverridingMethodsMustInvokeSuper;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.tsurugidb.iceaxe.transaction.TgCommitType;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.event.TsurugiTransactionEventListener;
+import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
+import com.tsurugidb.iceaxe.transaction.manager.event.TsurugiTmEventListener;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * {@link TsurugiTransactionManager} label latency recorder.
+ * <p>
+ * Records execute time, transaction (one attempt) time, commit time and attempt count per execute for each transaction label.
+ * </p>
+ *
+ * @see TgTmLabelCounter
+ */
+@ThreadSafe
+public class TgTmLabelLatencyRecorder implements TsurugiTmEventListener {
+
+    private final Map<String, TgTmLatency> latencyMap = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> executeStartMap = new ConcurrentHashMap<>();
+
+    @Override
+    public void executeStart(TsurugiTransactionManager tm, int iceaxeTmExecuteId, TgTxOption txOption) {
+        executeStartMap.put(iceaxeTmExecuteId, nanoTime());
+    }
+
+    @Override
+    public void transactionStarted(TsurugiTransaction transaction) {
+        long transactionStart = nanoTime();
+        transaction.addEventListener(new TsurugiTransactionEventListener() {
+            private volatile long commitStart;
+
+            @Override
+            public void commitStart(TsurugiTransaction transaction, TgCommitType commitType) {
+                this.commitStart = nanoTime();
+            }
+
+            @Override
+            public void commitEnd(TsurugiTransaction transaction, TgCommitType commitType, Throwable occurred) {
+                if (occurred == null) {
+                    long time = nanoTime() - this.commitStart;
+                    getOrCreate(label(transaction)).commitTime().record(time);
+                }
+            }
+
+            @Override
+            public void closeTransaction(TsurugiTransaction transaction, Throwable occurred) {
+                long time = nanoTime() - transactionStart;
+                getOrCreate(label(transaction)).transactionTime().record(time);
+            }
+        });
+    }
+
+    @Override
+    public void executeEndSuccess(TsurugiTransaction transaction, boolean committed, Object returnValue) {
+        executeEnd(transaction.getIceaxeTmExecuteId(), label(transaction), transaction);
+    }
+
+    @Override
+    public void executeEndFail(TsurugiTransactionManager tm, int iceaxeTmExecuteId, TgTxOption txOption, TsurugiTransaction transaction, Throwable e) {
+        String label;
+        if (transaction != null) {
+            label = label(transaction);
+        } else {
+            label = label(txOption);
+        }
+        executeEnd(iceaxeTmExecuteId, label, transaction);
+    }
+
+    private void executeEnd(int iceaxeTmExecuteId, String label, @Nullable TsurugiTransaction transaction) {
+        var latency = getOrCreate(label);
+        Long start = executeStartMap.remove(iceaxeTmExecuteId);
+        if (start != null) {
+            latency.executeTime().record(nanoTime() - start);
+        }
+        if (transaction != null) {
+            latency.attemptCount().record(transaction.getAttempt() + 1);
+        }
+    }
+
+    /**
+     * get current time.
+     *
+     * @return nano time
+     */
+    protected long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * get transaction label.
+     *
+     * @param transaction transaction
+     * @return transaction label
+     */
+    protected String label(TsurugiTransaction transaction) {
+        return label(transaction.getTransactionOption());
+    }
+
+    /**
+     * get transaction label.
+     *
+     * @param txOption transaction option
+     * @return transaction label
+     */
+    protected String label(TgTxOption txOption) {
+        String label = txOption.label();
+        return (label != null) ? label : "";
+    }
+
+    /**
+     * get or create latency.
+     *
+     * @param label transaction label
+     * @return latency
+     */
+    protected TgTmLatency getOrCreate(String label) {
+        var latency = latencyMap.get(label);
+        if (latency != null) {
+            return latency;
+        }
+        return latencyMap.computeIfAbsent(label, this::newTmLatency);
+    }
+
+    /**
+     * Creates a new latency instance.
+     *
+     * @param label transaction label
+     * @return latency
+     */
+    protected TgTmLatency newTmLatency(String label) {
+        return new TgTmLatency();
+    }
+
+    /**
+     * get latency map.
+     *
+     * @return latency map
+     */
+    public Map<String, TgTmLatency> getLatencyMap() {
+        return this.latencyMap;
+    }
+
+    /**
+     * get latency.
+     *
+     * @param label label
+     * @return latency
+     */
+    public Optional<TgTmLatency> findLatency(String label) {
+        var latency = latencyMap.get(label);
+        return Optional.ofNullable(latency);
+    }
+
+    /**
+     * get snapshot of all labels.
+     *
+     * @return snapshot map (sorted by label)
+     */
+    public Map<String, TgTmLatencySnapshot> snapshot() {
+        var map = new TreeMap<String, TgTmLatencySnapshot>();
+        latencyMap.forEach((label, latency) -> map.put(label, latency.snapshot()));
+        return map;
+    }
+
+    /**
+     * get snapshot of all labels and reset.
+     * <p>
+     * The labels are kept, so the histograms are reused by the next period.
+     * </p>
+     *
+     * @return snapshot map (sorted by label)
+     */
+    public Map<String, TgTmLatencySnapshot> snapshotAndReset() {
+        var map = new TreeMap<String, TgTmLatencySnapshot>();
+        latencyMap.forEach((label, latency) -> map.put(label, latency.snapshotAndReset()));
+        return map;
+    }
+
+    /**
+     * reset latency.
+     */
+    @OverridingMethodsMustInvokeSuper
+    public void reset() {
+        latencyMap.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "TgTmLabelLatencyRecorder" + snapshot();
+    }
+}
@@ -0,0 +1,79 @@
+package com.tsurugidb.iceaxe.transaction.manager.event.counter;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
+
+/**
+ * latency histograms of processed {@link TsurugiTransactionManager}.
+ * <p>
+ * The times are recorded in nanoseconds.
+ * </p>
+ */
+@ThreadSafe
+public class TgTmLatency {
+
+    private final TgTmHistogram executeTime = new TgTmHistogram();
+    private final TgTmHistogram transactionTime = new TgTmHistogram();
+    private final TgTmHistogram commitTime = new TgTmHistogram();
+    private final TgTmHistogram attemptCount = new TgTmHistogram();
+
+    /**
+     * get histogram of execute time.
+     *
+     * @return histogram of execute time [ns]
+     */
+    public TgTmHistogram executeTime() {
+        return this.executeTime;
+    }
+
+    /**
+     * get histogram of transaction (one attempt) time.
+     *
+     * @return histogram of transaction time [ns]
+     */
+    public TgTmHistogram transactionTime() {
+        return this.transactionTime;
+    }
+
+    /**
+     * get histogram of commit time.
+     *
+     * @return histogram of commit time [ns]
+     */
+    public TgTmHistogram commitTime() {
+        return this.commitTime;
+    }
+
+    /**
+     * get histogram of attempt count per execute.
+     *
+     * @return histogram of attempt count
+     */
+    public TgTmHistogram attemptCount() {
+        return this.attemptCount;
+    }
+
+    /**
+     * get snapshot.
+     *
+     * @return snapshot
+     */
+    public TgTmLatencySnapshot snapshot() {
+        return new TgTmLatencySnapshot(executeTime.snapshot(), transactionTime.snapshot(), commitTime.snapshot(), attemptCount.snapshot());
+    }
+
+    /**
+     * get snapshot and reset.
+     *
+     * @return snapshot
+     */
+    public TgTmLatencySnapshot snapshotAndReset() {
+        return new TgTmLatencySnapshot(executeTime.snapshotAndReset(), transactionTime.snapshotAndReset(), commitTime.snapshotAndReset(), attemptCount.snapshotAndReset());
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.tsurugidb.iceaxe.transaction.manager.event.counter;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * snapshot of {@link TgTmLatency}.
+ */
+@Immutable
+public class TgTmLatencySnapshot {
+
+    private final TgTmHistogramSnapshot executeTime;
+    private final TgTmHistogramSnapshot transactionTime;
+    private final TgTmHistogramSnapshot commitTime;
+    private final TgTmHistogramSnapshot attemptCount;
+
+    TgTmLatencySnapshot(TgTmHistogramSnapshot executeTime, TgTmHistogramSnapshot transactionTime, TgTmHistogramSnapshot commitTime, TgTmHistogramSnapshot attemptCount) {
+        this.executeTime = executeTime;
+        this.transactionTime = transactionTime;
+        this.commitTime = commitTime;
+        this.attemptCount = attemptCount;
+    }
+
+    /**
+     * get execute time.
+     *
+     * @return execute time [ns]
+     */
+    public TgTmHistogramSnapshot executeTime() {
+        return this.executeTime;
+    }
+
+    /**
+     * get transaction (one attempt) time.
+     *
+     * @return transaction time [ns]
+     */
+    public TgTmHistogramSnapshot transactionTime() {
+        return this.transactionTime;
+    }
+
+    /**
+     * get commit time.
+     *
+     * @return commit time [ns]
+     */
+    public TgTmHistogramSnapshot commitTime() {
+        return this.commitTime;
+    }
+
+    /**
+     * get attempt count per execute.
+     *
+     * @return attempt count
+     */
+    public TgTmHistogramSnapshot attemptCount() {
+        return this.attemptCount;
+    }
+
+    @Override
+    public String toString() {
+        return "[executeTime=" + executeTime + ", transactionTime=" + transactionTime + ", commitTime=" + commitTime + ", attemptCount=" + attemptCount + "]";
+    }
+}
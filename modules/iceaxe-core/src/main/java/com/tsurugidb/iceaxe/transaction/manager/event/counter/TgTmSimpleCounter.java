@@ -16,7 +16,7 @@ import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
 @ThreadSafe
 public class TgTmSimpleCounter implements TsurugiTmEventListener {
 
-    private final TgTmCountAtomic counter = new TgTmCountAtomic();
+    private final TgTmCountAdder counter = new TgTmCountAdder();
 
     @Override
     public void executeStart(TsurugiTransactionManager tm, int iceaxeTmExecuteId, TgTxOption txOption) {
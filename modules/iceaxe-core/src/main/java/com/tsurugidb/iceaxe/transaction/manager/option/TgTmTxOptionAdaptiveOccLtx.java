@@ -0,0 +1,322 @@
+package com.tsurugidb.iceaxe.transaction.manager.option;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.event.TsurugiTmEventListener;
+import com.tsurugidb.iceaxe.transaction.manager.retry.TgTmRetryInstruction;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * {@link TgTxOption} OCC to LTX, which learns the abort rate of OCC.
+ * <p>
+ * The abort rate of OCC is tracked for each transaction label.<br>
+ * If the abort rate exceeds {@link #ltxThreshold(double)}, the execution starts with LTX (skips OCC).
+ * Even then, OCC is tried once per {@link #probeInterval(int)} executions, and if the abort rate falls below {@link #occThreshold(double)}, the execution starts with OCC again.
+ * </p>
+ * <p>
+ * The abort rate is computed from the recent OCC attempts: the counts are halved when the number of attempts reaches twice {@link #windowSize(int)}.<br>
+ * The successes are notified as {@link TsurugiTmEventListener} events, so this must be added to {@link TgTmSetting#addEventListener(TsurugiTmEventListener)}
+ * as well as set as the transaction option supplier. ({@link TgTmSetting#ofAdaptiveOccLtx(int, TgTxOption, int)} does both)
+ * </p>
+ *
+ * @see TgTmTxOptionOccLtx
+ */
+@ThreadSafe
+public class TgTmTxOptionAdaptiveOccLtx extends TgTmTxOptionOccLtx implements TsurugiTmEventListener {
+
+    /**
+     * create TgTmTxOptionAdaptiveOccLtx.
+     *
+     * @param occOption transaction option for OCC
+     * @param occSize   occ size
+     * @param ltxOption transaction option for LTX or RTX
+     * @param ltxSize   ltx size
+     * @return TgTmTxOptionAdaptiveOccLtx
+     */
+    public static TgTmTxOptionAdaptiveOccLtx of(TgTxOption occOption, int occSize, TgTxOption ltxOption, int ltxSize) {
+        return new TgTmTxOptionAdaptiveOccLtx(occOption, occSize, ltxOption, ltxSize);
+    }
+
+    /**
+     * abort statistics of transaction label.
+     */
+    @ThreadSafe
+    public static class TgTmAbortStatistics {
+        private int occAbortCount = 0;
+        private int occSuccessCount = 0;
+        private boolean ltxMode = false;
+        private int ltxStartCount = 0;
+
+        synchronized boolean startLtx(int probeInterval) {
+            if (!this.ltxMode) {
+                return false;
+            }
+            // probe OCC
+            if (++this.ltxStartCount >= probeInterval) {
+                this.ltxStartCount = 0;
+                return false;
+            }
+            return true;
+        }
+
+        synchronized void recordOcc(boolean abort, TgTmTxOptionAdaptiveOccLtx owner) {
+            if (abort) {
+                this.occAbortCount++;
+            } else {
+                this.occSuccessCount++;
+            }
+            int count = occAbortCount + occSuccessCount;
+            if (count >= owner.windowSize * 2) {
+                this.occAbortCount /= 2;
+                this.occSuccessCount /= 2;
+                count = occAbortCount + occSuccessCount;
+            }
+            if (count < owner.minAttemptCount) {
+                return;
+            }
+
+            double rate = getAbortRate();
+            if (this.ltxMode) {
+                if (rate < owner.occThreshold) {
+                    this.ltxMode = false;
+                }
+            } else {
+                if (rate >= owner.ltxThreshold) {
+                    this.ltxMode = true;
+                    this.ltxStartCount = 0;
+                }
+            }
+        }
+
+        /**
+         * get abort rate of OCC.
+         *
+         * @return abort rate
+         */
+        public synchronized double getAbortRate() {
+            int count = occAbortCount + occSuccessCount;
+            if (count == 0) {
+                return 0;
+            }
+            return (double) occAbortCount / count;
+        }
+
+        /**
+         * whether to start with LTX.
+         *
+         * @return {@code true} if start with LTX
+         */
+        public synchronized boolean isLtxMode() {
+            return this.ltxMode;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "[abortRate=" + getAbortRate() + ", ltxMode=" + ltxMode + "]";
+        }
+    }
+
+    static class TgTmTxOptionAdaptiveOccLtxExecuteInfo extends TgTmTxOptionOccLtxExecuteInfo {
+        final TgTmAbortStatistics statistics;
+
+        TgTmTxOptionAdaptiveOccLtxExecuteInfo(TgTmAbortStatistics statistics) {
+            this.statistics = statistics;
+        }
+    }
+
+    private final Map<String, TgTmAbortStatistics> statisticsMap = new ConcurrentHashMap<>();
+    private volatile double ltxThreshold = 0.5;
+    private volatile double occThreshold = 0.2;
+    private volatile int probeInterval = 10;
+    private volatile int windowSize = 20;
+    private volatile int minAttemptCount = 10;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param occOption transaction option for OCC
+     * @param occSize   occ size
+     * @param ltxOption transaction option for LTX or RTX
+     * @param ltxSize   ltx size
+     */
+    public TgTmTxOptionAdaptiveOccLtx(TgTxOption occOption, int occSize, TgTxOption ltxOption, int ltxSize) {
+        super(occOption, occSize, ltxOption, ltxSize);
+    }
+
+    /**
+     * set abort rate to start with LTX.
+     *
+     * @param threshold abort rate (between {@link #occThreshold(double)} and 1)
+     * @return this
+     */
+    public TgTmTxOptionAdaptiveOccLtx ltxThreshold(double threshold) {
+        checkThreshold(threshold);
+        if (threshold < this.occThreshold) {
+            throw new IllegalArgumentException("ltxThreshold < occThreshold (ltxThreshold=" + threshold + ", occThreshold=" + occThreshold + ")");
+        }
+        this.ltxThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * set abort rate to start with OCC again.
+     *
+     * @param threshold abort rate (between 0 and {@link #ltxThreshold(double)})
+     * @return this
+     */
+    public TgTmTxOptionAdaptiveOccLtx occThreshold(double threshold) {
+        checkThreshold(threshold);
+        if (threshold > this.ltxThreshold) {
+            throw new IllegalArgumentException("occThreshold > ltxThreshold (occThreshold=" + threshold + ", ltxThreshold=" + ltxThreshold + ")");
+        }
+        this.occThreshold = threshold;
+        return this;
+    }
+
+    private static void checkThreshold(double threshold) {
+        if (!(0 <= threshold && threshold <= 1)) {
+            throw new IllegalArgumentException("threshold out of range [0, 1] (threshold=" + threshold + ")");
+        }
+    }
+
+    /**
+     * set interval of trying OCC while starting with LTX.
+     *
+     * @param interval number of executions
+     * @return this
+     */
+    public TgTmTxOptionAdaptiveOccLtx probeInterval(int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("interval < 1 (interval=" + interval + ")");
+        }
+        this.probeInterval = interval;
+        return this;
+    }
+
+    /**
+     * set number of recent OCC attempts to compute the abort rate.
+     *
+     * @param size number of attempts
+     * @return this
+     */
+    public TgTmTxOptionAdaptiveOccLtx windowSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size < 1 (size=" + size + ")");
+        }
+        this.windowSize = size;
+        return this;
+    }
+
+    /**
+     * set minimum number of OCC attempts to switch the mode.
+     * <p>
+     * The number of attempts is counted after the counts are halved, so this should be less than twice {@link #windowSize(int)}.
+     * </p>
+     *
+     * @param count number of attempts
+     * @return this
+     */
+    public TgTmTxOptionAdaptiveOccLtx minAttemptCount(int count) {
+        this.minAttemptCount = count;
+        return this;
+    }
+
+    @Override
+    public Object createExecuteInfo(int iceaxeTmExecuteId) {
+        return createExecuteInfo(iceaxeTmExecuteId, null);
+    }
+
+    @Override
+    public Object createExecuteInfo(int iceaxeTmExecuteId, @Nullable String transactionLabel) {
+        return new TgTmTxOptionAdaptiveOccLtxExecuteInfo(getStatistics(statisticsLabel(transactionLabel)));
+    }
+
+    /**
+     * get label of abort statistics.
+     * <p>
+     * This is the label of the OCC transaction (see {@link TgTmSetting#getTransactionOption(Object, int, TsurugiTransaction, TsurugiTransactionException)}).
+     * </p>
+     *
+     * @param transactionLabel transaction label of the setting
+     * @return label
+     */
+    protected @Nullable String statisticsLabel(@Nullable String transactionLabel) {
+        String label = getOccOption().label();
+        if (label != null) {
+            return label;
+        }
+        return transactionLabel;
+    }
+
+    private static TgTmTxOptionAdaptiveOccLtxExecuteInfo info(Object executeInfo) {
+        return (TgTmTxOptionAdaptiveOccLtxExecuteInfo) executeInfo;
+    }
+
+    /**
+     * get abort statistics.
+     *
+     * @param label transaction label
+     * @return abort statistics
+     */
+    protected TgTmAbortStatistics getStatistics(@Nullable String label) {
+        if (label == null) {
+            label = "";
+        }
+        var statistics = statisticsMap.get(label);
+        if (statistics != null) {
+            return statistics;
+        }
+        return statisticsMap.computeIfAbsent(label, k -> new TgTmAbortStatistics());
+    }
+
+    /**
+     * get abort statistics.
+     *
+     * @return abort statistics map (key: transaction label)
+     */
+    public Map<String, TgTmAbortStatistics> getStatisticsMap() {
+        return this.statisticsMap;
+    }
+
+    @Override
+    protected TgTmTxOption computeFirstTmOption(Object executeInfo) {
+        var info = info(executeInfo);
+        var statistics = info.statistics;
+
+        if (statistics.startLtx(this.probeInterval)) {
+            info.isOcc = false;
+            return TgTmTxOption.execute(getLtxOption(), null);
+        }
+        return super.computeFirstTmOption(executeInfo);
+    }
+
+    @Override
+    protected TgTmTxOption computeRetryTmOption(Object executeInfo, int attempt, TsurugiTransactionException exception, TgTmRetryInstruction retryInstruction) {
+        var info = info(executeInfo);
+        if (info.isOcc) {
+            info.statistics.recordOcc(true, this);
+        }
+        return super.computeRetryTmOption(executeInfo, attempt, exception, retryInstruction);
+    }
+
+    @Override
+    public void executeEndSuccess(TsurugiTransaction transaction, boolean committed, Object returnValue) {
+        var txOption = transaction.getTransactionOption();
+        if (txOption.isOCC()) {
+            // the label of the setting is applied to the transaction only if the OCC option has no label
+            getStatistics(statisticsLabel(txOption.label())).recordOcc(false, this);
+        }
+    }
+
+    @Override
+    protected String getDefaultDescription() {
+        return "adaptive(" + super.getDefaultDescription() + ")";
+    }
+}
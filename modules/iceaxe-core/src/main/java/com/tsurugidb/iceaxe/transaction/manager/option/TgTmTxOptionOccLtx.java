@@ -58,6 +58,24 @@ public class TgTmTxOptionOccLtx extends TgTmTxOptionSupplier {
         this.ltxSize = ltxSize;
     }
 
+    /**
+     * get transaction option for OCC.
+     *
+     * @return transaction option
+     */
+    public TgTxOption getOccOption() {
+        return this.occOption;
+    }
+
+    /**
+     * get transaction option for LTX or RTX.
+     *
+     * @return transaction option
+     */
+    public TgTxOption getLtxOption() {
+        return this.ltxOption;
+    }
+
     static class TgTmTxOptionOccLtxExecuteInfo {
         boolean isOcc = true;
         int occCounter = 0;
@@ -7,6 +7,8 @@ import javax.annotation.Nullable;
 
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.event.TsurugiTmEventListener;
 import com.tsurugidb.iceaxe.transaction.manager.retry.TgTmRetryInstruction;
 import com.tsurugidb.iceaxe.transaction.manager.retry.TsurugiDefaultRetryPredicate;
 import com.tsurugidb.iceaxe.transaction.manager.retry.TsurugiTmRetryPredicate;
@@ -97,6 +99,20 @@ public abstract class TgTmTxOptionSupplier {
         return TgTmTxOptionOccLtx.of(occOption, occSize, ltxOption, ltxSize);
     }
 
+    /**
+     * create TgTmTxOptionSupplier.
+     *
+     * @param occSize   occ size
+     * @param ltxOption transaction option for LTX or RTX
+     * @param ltxSize   ltx size
+     * @return supplier (add it to {@link TgTmSetting#addEventListener(TsurugiTmEventListener)} too)
+     * @see TgTmTxOptionAdaptiveOccLtx
+     * @see TgTmSetting#ofAdaptiveOccLtx(int, TgTxOption, int)
+     */
+    public static TgTmTxOptionAdaptiveOccLtx ofAdaptiveOccLtx(int occSize, TgTxOption ltxOption, int ltxSize) {
+        return TgTmTxOptionAdaptiveOccLtx.of(TgTxOption.ofOCC(), occSize, ltxOption, ltxSize);
+    }
+
     /**
      * {@link TgTmTxOption} listener.
      */
@@ -172,6 +188,17 @@ public abstract class TgTmTxOptionSupplier {
         return null; // do override
     }
 
+    /**
+     * create execute information.
+     *
+     * @param iceaxeTmExecuteId iceaxe tm executeId
+     * @param transactionLabel  transaction label of {@link com.tsurugidb.iceaxe.transaction.manager.TgTmSetting TgTmSetting}
+     * @return execute information
+     */
+    public Object createExecuteInfo(int iceaxeTmExecuteId, @Nullable String transactionLabel) {
+        return createExecuteInfo(iceaxeTmExecuteId); // do override
+    }
+
     /**
      * get transaction option.
      *
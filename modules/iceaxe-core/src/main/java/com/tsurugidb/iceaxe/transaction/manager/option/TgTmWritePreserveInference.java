@@ -0,0 +1,217 @@
+package com.tsurugidb.iceaxe.transaction.manager.option;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.sql.TsurugiSql;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction.TgTxMethod;
+import com.tsurugidb.iceaxe.transaction.event.TsurugiTransactionEventListener;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.event.TsurugiTmEventListener;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOptionLtx;
+
+/**
+ * write preserve inference for LTX.
+ * <p>
+ * Records the tables written by the transactions (insert, update and delete statements) for each transaction label,
+ * and adds them to the write preserve of the LTX executed by the same label.<br>
+ * The tables are recorded when the statements are started, so a table written by an OCC attempt is preserved by the following LTX attempt.
+ * </p>
+ * <p>
+ * Until a transaction of the label succeeds or writes a table, the write tables of the label are unknown.
+ * Then the LTX without the configured write preserve is executed as OCC (with the same label), because LTX cannot write the table which is not preserved.
+ * If the OCC attempt is retried, the following LTX attempt preserves the tables written by the OCC attempt.
+ * </p>
+ * <p>
+ * The read area is not inferred, because a table missing from the inclusive read area makes the read fail.
+ * </p>
+ *
+ * @see TgTmSetting#writePreserveInference(TgTmWritePreserveInference)
+ */
+@ThreadSafe
+public class TgTmWritePreserveInference implements TsurugiTmEventListener {
+    private static final Logger LOG = LoggerFactory.getLogger(TgTmWritePreserveInference.class);
+
+    private static final String NAME = "(\"(?:[^\"]|\"\")+\"|[^\\s(;]+)";
+    private static final Pattern INSERT_PATTERN = Pattern.compile( //
+            "^\\s*(?:insert|upsert)\\s+(?:or\\s+(?:replace|ignore)\\s+)?(?:if\\s+not\\s+exists\\s+)?into\\s+" + NAME, Pattern.CASE_INSENSITIVE);
+    private static final Pattern UPDATE_PATTERN = Pattern.compile("^\\s*update\\s+" + NAME, Pattern.CASE_INSENSITIVE);
+    private static final Pattern DELETE_PATTERN = Pattern.compile("^\\s*delete\\s+from\\s+" + NAME, Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Creates a new instance.
+     *
+     * @return write preserve inference
+     */
+    public static TgTmWritePreserveInference of() {
+        return new TgTmWritePreserveInference();
+    }
+
+    private final Map<String, Set<String>> writeTableMap = new ConcurrentHashMap<>();
+    private final TsurugiTransactionEventListener transactionListener = new TsurugiTransactionEventListener() {
+        @Override
+        public void executeStart(TsurugiTransaction transaction, TgTxMethod method, int iceaxeTxExecuteId, TsurugiSql ps, Object parameter) {
+            recordWrite(label(transaction.getTransactionOption()), ps.getSql());
+        }
+    };
+
+    /**
+     * Creates a new instance.
+     */
+    public TgTmWritePreserveInference() {
+        // do nothing
+    }
+
+    @Override
+    public void transactionStarted(TsurugiTransaction transaction) {
+        transaction.addEventListener(transactionListener);
+    }
+
+    @Override
+    public void executeEndSuccess(TsurugiTransaction transaction, boolean committed, Object returnValue) {
+        // the write tables of the label are known (even if empty)
+        getWriteTableSet(label(transaction.getTransactionOption()));
+    }
+
+    private Set<String> getWriteTableSet(String label) {
+        var set = writeTableMap.get(label);
+        if (set != null) {
+            return set;
+        }
+        return writeTableMap.computeIfAbsent(label, k -> ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * record the table written by the SQL.
+     *
+     * @param label transaction label
+     * @param sql   SQL
+     */
+    protected void recordWrite(String label, @Nullable String sql) {
+        if (sql == null) {
+            return;
+        }
+        String tableName = findWriteTableName(sql);
+        if (tableName == null) {
+            return;
+        }
+
+        var set = getWriteTableSet(label);
+        if (set.add(tableName)) {
+            LOG.debug("write preserve inferred. label={}, table={}", label, tableName);
+        }
+    }
+
+    static @Nullable String findWriteTableName(String sql) {
+        var matcher = INSERT_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            matcher = UPDATE_PATTERN.matcher(sql);
+            if (!matcher.find()) {
+                matcher = DELETE_PATTERN.matcher(sql);
+                if (!matcher.find()) {
+                    return null;
+                }
+            }
+        }
+
+        String name = matcher.group(1);
+        if (name.startsWith("\"")) {
+            return name.substring(1, name.length() - 1).replace("\"\"", "\"");
+        }
+        return name;
+    }
+
+    /**
+     * get transaction label.
+     *
+     * @param txOption transaction option
+     * @return transaction label
+     */
+    protected String label(TgTxOption txOption) {
+        String label = txOption.label();
+        return (label != null) ? label : "";
+    }
+
+    /**
+     * get inferred write tables.
+     *
+     * @param label transaction label
+     * @return table names (sorted)
+     */
+    public Set<String> getWriteTables(String label) {
+        var set = writeTableMap.get(label);
+        if (set == null) {
+            return Set.of();
+        }
+        return new TreeSet<>(set);
+    }
+
+    /**
+     * whether the write tables of the label are known.
+     *
+     * @param label transaction label
+     * @return {@code true} if a transaction of the label has succeeded or written a table
+     */
+    public boolean isLearned(String label) {
+        return writeTableMap.containsKey(label);
+    }
+
+    /**
+     * apply the inferred write preserve to the transaction option.
+     *
+     * @param txOption transaction option
+     * @return transaction option (cloned if the write preserve is added, or OCC if the write tables are unknown)
+     */
+    public TgTxOption apply(TgTxOption txOption) {
+        if (!(txOption instanceof TgTxOptionLtx)) {
+            return txOption;
+        }
+        var ltxOption = (TgTxOptionLtx) txOption;
+        String label = label(txOption);
+        var set = writeTableMap.get(label);
+        if (set == null) {
+            if (!ltxOption.writePreserve().isEmpty()) {
+                return txOption;
+            }
+            LOG.debug("write preserve not inferred yet. execute as OCC. label={}", label);
+            var occOption = TgTxOption.ofOCC();
+            if (txOption.label() != null) {
+                occOption.label(txOption.label());
+            }
+            return occOption;
+        }
+        if (set.isEmpty()) {
+            return txOption;
+        }
+
+        var tables = new TreeSet<>(set);
+        tables.removeAll(ltxOption.writePreserve());
+        if (tables.isEmpty()) {
+            return txOption;
+        }
+        return ltxOption.clone().addWritePreserve(tables);
+    }
+
+    /**
+     * clear the inferred write preserve.
+     */
+    public void clear() {
+        writeTableMap.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "TgTmWritePreserveInference" + writeTableMap;
+    }
+}
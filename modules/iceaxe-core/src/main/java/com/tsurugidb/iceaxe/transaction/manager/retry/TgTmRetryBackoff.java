@@ -0,0 +1,116 @@
+package com.tsurugidb.iceaxe.transaction.manager.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
+import com.tsurugidb.iceaxe.util.TgTimeValue;
+
+/**
+ * Tsurugi TransactionManager retry backoff.
+ * <p>
+ * {@link TsurugiTransactionManager} waits for the delay before starting the retry transaction, so that the conflicting transactions do not retry at the same time.
+ * </p>
+ *
+ * @see TgTmSetting#retryBackoff(TgTmRetryBackoff)
+ */
+@FunctionalInterface
+public interface TgTmRetryBackoff {
+
+    /** no delay */
+    TgTmRetryBackoff NONE = (attempt, previousDelayNanos) -> 0;
+
+    /**
+     * Creates a new instance which waits for fixed time.
+     *
+     * @param delay delay
+     * @return retry backoff
+     */
+    static TgTmRetryBackoff ofFixed(TgTimeValue delay) {
+        long delayNanos = toNanos(delay);
+        return (attempt, previousDelayNanos) -> delayNanos;
+    }
+
+    /**
+     * Creates a new instance which waits for fixed time.
+     *
+     * @param time delay time
+     * @param unit delay unit
+     * @return retry backoff
+     */
+    static TgTmRetryBackoff ofFixed(long time, TimeUnit unit) {
+        return ofFixed(TgTimeValue.of(time, unit));
+    }
+
+    /**
+     * Creates a new instance which doubles the delay on each retry.
+     * <p>
+     * delay = min(max, initial * 2<sup>attempt-1</sup>)
+     * </p>
+     *
+     * @param initial first delay
+     * @param max     maximum delay
+     * @return retry backoff
+     */
+    static TgTmRetryBackoff ofExponential(TgTimeValue initial, TgTimeValue max) {
+        long initialNanos = toNanos(initial);
+        long maxNanos = toNanos(max);
+        return (attempt, previousDelayNanos) -> {
+            int shift = Math.max(attempt - 1, 0);
+            if (shift >= Long.numberOfLeadingZeros(initialNanos) - 1) {
+                return maxNanos;
+            }
+            return Math.min(initialNanos << shift, maxNanos);
+        };
+    }
+
+    /**
+     * Creates a new instance which randomizes the delay based on the previous delay (decorrelated jitter).
+     * <p>
+     * delay = min(max, random(base, previousDelay * 3))
+     * </p>
+     *
+     * @param base minimum delay
+     * @param max  maximum delay
+     * @return retry backoff
+     */
+    static TgTmRetryBackoff ofDecorrelatedJitter(TgTimeValue base, TgTimeValue max) {
+        long baseNanos = toNanos(base);
+        long maxNanos = toNanos(max);
+        return (attempt, previousDelayNanos) -> {
+            long upper = Math.max(previousDelayNanos, baseNanos);
+            upper = (upper > Long.MAX_VALUE / 3) ? Long.MAX_VALUE : upper * 3;
+            long delay = (upper > baseNanos) ? ThreadLocalRandom.current().nextLong(baseNanos, upper) : baseNanos;
+            return Math.min(delay, maxNanos);
+        };
+    }
+
+    private static long toNanos(TgTimeValue time) {
+        long nanos = time.unit().toNanos(time.value());
+        if (nanos < 0) {
+            throw new IllegalArgumentException("time must not be negative. time=" + time);
+        }
+        return nanos;
+    }
+
+    /**
+     * get delay before the retry.
+     *
+     * @param attempt            attempt number of the retry transaction (1 for the first retry)
+     * @param previousDelayNanos previous delay [ns] (0 for the first retry)
+     * @return delay [ns]
+     */
+    long getDelayNanos(int attempt, long previousDelayNanos);
+
+    /**
+     * Creates a new instance which limits the delay.
+     *
+     * @param max maximum delay
+     * @return retry backoff
+     */
+    default TgTmRetryBackoff capped(TgTimeValue max) {
+        long maxNanos = toNanos(max);
+        return (attempt, previousDelayNanos) -> Math.min(getDelayNanos(attempt, previousDelayNanos), maxNanos);
+    }
+}
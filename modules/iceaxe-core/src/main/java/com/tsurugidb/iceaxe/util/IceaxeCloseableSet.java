@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -23,14 +24,20 @@ public class IceaxeCloseableSet {
     private static final Logger LOG = LoggerFactory.getLogger(IceaxeCloseableSet.class);
 
     private final Set<AutoCloseable> closeableSet = new LinkedHashSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
 
     /**
      * add Closeable.
      *
      * @param closeable Closeable
      */
-    public synchronized void add(AutoCloseable closeable) {
-        closeableSet.add(closeable);
+    public void add(AutoCloseable closeable) {
+        lock.lock();
+        try {
+            closeableSet.add(closeable);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -38,8 +45,13 @@ public class IceaxeCloseableSet {
      *
      * @param closeable Closeable
      */
-    public synchronized void remove(AutoCloseable closeable) {
-        closeableSet.remove(closeable);
+    public void remove(AutoCloseable closeable) {
+        lock.lock();
+        try {
+            closeableSet.remove(closeable);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -47,23 +59,28 @@ public class IceaxeCloseableSet {
      *
      * @return Exception list if close error occurs
      */
-    public synchronized List<Throwable> close() {
-        List<Throwable> result = null;
-        for (var i = closeableSet.iterator(); i.hasNext();) {
-            var closeable = i.next();
-            i.remove();
-
-            try {
-                closeable.close();
-            } catch (Exception e) {
-                if (result == null) {
-                    result = new ArrayList<>();
+    public List<Throwable> close() {
+        lock.lock();
+        try {
+            List<Throwable> result = null;
+            for (var i = closeableSet.iterator(); i.hasNext();) {
+                var closeable = i.next();
+                i.remove();
+
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    if (result == null) {
+                        result = new ArrayList<>();
+                    }
+                    result.add(e);
                 }
-                result.add(e);
             }
-        }
 
-        return (result != null) ? result : List.of();
+            return (result != null) ? result : List.of();
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -73,15 +90,21 @@ public class IceaxeCloseableSet {
      * @throws InterruptedException        if interrupted while requesting cancel
      * @throws TsurugiTransactionException if server error occurs while disposing the resources
      */
-    public synchronized void closeInTransaction() throws IOException, InterruptedException, TsurugiTransactionException {
-        if (closeableSet.isEmpty()) {
-            return;
-        }
+    public void closeInTransaction() throws IOException, InterruptedException, TsurugiTransactionException {
+        List<Throwable> saveList;
+        lock.lock();
+        try {
+            if (closeableSet.isEmpty()) {
+                return;
+            }
 
-        LOG.trace("close start");
+            LOG.trace("close start");
+            saveList = close();
+        } finally {
+            lock.unlock();
+        }
 
         Throwable e = null;
-        var saveList = close();
         for (var save : saveList) {
             if (e == null) {
                 if (save instanceof IOException) {
@@ -122,6 +145,11 @@ public class IceaxeCloseableSet {
     }
 
     int size() {
-        return closeableSet.size();
+        lock.lock();
+        try {
+            return closeableSet.size();
+        } finally {
+            lock.unlock();
+        }
     }
 }
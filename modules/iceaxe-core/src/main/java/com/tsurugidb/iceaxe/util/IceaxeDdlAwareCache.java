@@ -0,0 +1,198 @@
+package com.tsurugidb.iceaxe.util;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.session.event.TsurugiSessionEventListener;
+import com.tsurugidb.iceaxe.sql.TsurugiSql;
+import com.tsurugidb.iceaxe.sql.result.TsurugiSqlResult;
+import com.tsurugidb.iceaxe.transaction.TgCommitType;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction.TgTxMethod;
+import com.tsurugidb.iceaxe.transaction.event.TsurugiTransactionEventListener;
+
+/**
+ * Iceaxe cache which is invalidated by DDL.
+ * <p>
+ * The entries expire after the time to live, and {@link #invalidateByDdl(String)} is called when DDL is executed by the watched session.<br>
+ * It is called again when the transaction which executed the DDL is committed or closed,
+ * because the value loaded before the commit may be the one before the DDL.
+ * </p>
+ * <p>
+ * The subclass guards its entries by {@code synchronized (this)}, and does not cache the value if the generation has changed while loading it.
+ * </p>
+ */
+@IceaxeInternal
+@ThreadSafe
+public abstract class IceaxeDdlAwareCache {
+
+    /**
+     * cache entry.
+     *
+     * @param <T> value type
+     */
+    protected static final class CacheEntry<T> {
+        private final T value;
+        private final long expireNanos;
+
+        CacheEntry(T value, long expireNanos) {
+            this.value = value;
+            this.expireNanos = expireNanos;
+        }
+
+        /**
+         * get value.
+         *
+         * @return value
+         */
+        public T value() {
+            return this.value;
+        }
+
+        /**
+         * whether the entry has expired.
+         *
+         * @param nanoTime current time
+         * @return {@code true} if expired
+         */
+        public boolean isExpired(long nanoTime) {
+            return this.expireNanos - nanoTime <= 0;
+        }
+    }
+
+    /** time to live (nanoseconds) */
+    protected final long timeToLiveNanos;
+    private long generation = 0;
+
+    private final TsurugiSessionEventListener sessionListener = new TsurugiSessionEventListener() {
+        @Override
+        public void createTransaction(TsurugiTransaction transaction) {
+            transaction.addEventListener(new DdlListener());
+        }
+    };
+
+    /**
+     * DDL listener for each transaction.
+     */
+    private class DdlListener implements TsurugiTransactionEventListener {
+        private final List<String> ddlList = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void executeEnd(TsurugiTransaction transaction, TgTxMethod method, int iceaxeTxExecuteId, TsurugiSql ps, Object parameter, TsurugiSqlResult result, Throwable occurred) {
+            if (ps == null) {
+                return;
+            }
+            String sql = ps.getSql();
+            if (isDdl(sql)) {
+                ddlList.add(sql);
+                invalidateByDdl(sql);
+            }
+        }
+
+        @Override
+        public void commitEnd(TsurugiTransaction transaction, TgCommitType commitType, Throwable occurred) {
+            invalidateDdlList();
+        }
+
+        @Override
+        public void closeTransaction(TsurugiTransaction transaction, Throwable occurred) {
+            invalidateDdlList();
+            ddlList.clear();
+        }
+
+        private void invalidateDdlList() {
+            for (String sql : ddlList) {
+                invalidateByDdl(sql);
+            }
+        }
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param timeToLive time to live ({@code null} if the entries do not expire)
+     */
+    protected IceaxeDdlAwareCache(@Nullable TgTimeValue timeToLive) {
+        this.timeToLiveNanos = (timeToLive != null) ? timeToLive.unit().toNanos(timeToLive.value()) : Long.MAX_VALUE;
+    }
+
+    /**
+     * watch DDL executed by the session.
+     *
+     * @param session tsurugi session
+     */
+    protected void watchDdl(TsurugiSession session) {
+        session.addEventListener(sessionListener);
+    }
+
+    /**
+     * get current time.
+     *
+     * @return nano time
+     */
+    protected long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * create cache entry.
+     *
+     * @param <T>   value type
+     * @param value value
+     * @return cache entry
+     */
+    protected <T> CacheEntry<T> newEntry(T value) {
+        return new CacheEntry<>(value, nanoTime() + timeToLiveNanos);
+    }
+
+    /**
+     * get generation.
+     * <p>
+     * call in {@code synchronized (this)}.
+     * </p>
+     *
+     * @return generation
+     */
+    protected final long getGeneration() {
+        assert Thread.holdsLock(this);
+        return this.generation;
+    }
+
+    /**
+     * advance generation, so that the value being loaded is not cached.
+     * <p>
+     * call in {@code synchronized (this)}.
+     * </p>
+     */
+    protected final void nextGeneration() {
+        assert Thread.holdsLock(this);
+        this.generation++;
+    }
+
+    /**
+     * invalidate the entries affected by the SQL.
+     * <p>
+     * If the SQL is not DDL, do nothing.
+     * </p>
+     *
+     * @param sql SQL
+     */
+    protected abstract void invalidateByDdl(@Nullable String sql);
+
+    private static final Pattern DDL_PATTERN = Pattern.compile("^\\s*(create|drop|alter)\\s", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * whether the SQL is DDL.
+     *
+     * @param sql SQL
+     * @return {@code true} if DDL
+     */
+    public static boolean isDdl(@Nullable String sql) {
+        return sql != null && DDL_PATTERN.matcher(sql).find();
+    }
+}
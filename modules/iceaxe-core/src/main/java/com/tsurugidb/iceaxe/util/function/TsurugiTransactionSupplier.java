@@ -0,0 +1,24 @@
+package com.tsurugidb.iceaxe.util.function;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+
+/**
+ * {@link Supplier} with IOException, TsurugiTransactionException.
+ *
+ * @param <T> the type of results supplied by this supplier
+ */
+@FunctionalInterface
+public interface TsurugiTransactionSupplier<T> {
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     * @throws IOException                 if an I/O error occurs while execute
+     * @throws InterruptedException        if interrupted while execute
+     * @throws TsurugiTransactionException if server error occurs while execute
+     */
+    T get() throws IOException, InterruptedException, TsurugiTransactionException;
+}
@@ -0,0 +1,169 @@
+package com.tsurugidb.iceaxe.metadata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock;
+import com.tsurugidb.iceaxe.transaction.TgCommitType;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.util.TgTimeValue;
+
+class TsurugiTableMetadataCacheTest {
+
+    private static class TestCache extends TsurugiTableMetadataCache {
+        long now = 0;
+
+        TestCache(int maxSize) {
+            super(TgTimeValue.of(10, TimeUnit.NANOSECONDS), maxSize);
+        }
+
+        @Override
+        protected long nanoTime() {
+            return this.now;
+        }
+    }
+
+    @Test
+    void testFindTableMetadata() throws Exception {
+        var target = new TestCache(2);
+        var count = new AtomicInteger(0);
+
+        for (int i = 0; i < 3; i++) {
+            var result = target.findTableMetadata("test", () -> {
+                count.incrementAndGet();
+                return Optional.empty();
+            });
+            assertEquals(Optional.empty(), result);
+        }
+        assertEquals(1, count.get());
+
+        target.now = 10;
+        target.findTableMetadata("test", () -> {
+            count.incrementAndGet();
+            return Optional.empty();
+        });
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    void testMaxSize() throws Exception {
+        var target = new TestCache(2);
+        target.findTableMetadata("t1", Optional::empty);
+        target.findTableMetadata("t2", Optional::empty);
+        target.findTableMetadata("t3", Optional::empty);
+        assertEquals(2, target.size());
+    }
+
+    @Test
+    void testGetTableList() throws Exception {
+        var target = new TestCache(2);
+        var list = new TgTableList(null);
+        var count = new AtomicInteger(0);
+
+        assertSame(list, target.getTableList(() -> {
+            count.incrementAndGet();
+            return list;
+        }));
+        assertSame(list, target.getTableList(() -> {
+            throw new AssertionError("not cached");
+        }));
+        assertEquals(1, count.get());
+
+        target.invalidate("t1");
+        assertSame(list, target.getTableList(() -> {
+            count.incrementAndGet();
+            return list;
+        }));
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    void testInvalidateByDdl() throws Exception {
+        var target = new TestCache(10);
+        target.findTableMetadata("Test1", Optional::empty);
+        target.findTableMetadata("test2", Optional::empty);
+        assertEquals(2, target.size());
+
+        target.invalidateByDdl("select * from test1");
+        assertEquals(2, target.size());
+
+        target.invalidateByDdl("drop table TEST1");
+        assertEquals(1, target.size());
+
+        target.invalidateByDdl("drop index idx1");
+        assertEquals(0, target.size());
+    }
+
+    @Test
+    void testInvalidateWhileLoading() throws Exception {
+        var target = new TestCache(10);
+        target.findTableMetadata("test", () -> {
+            target.invalidate("test");
+            return Optional.empty();
+        });
+        assertEquals(0, target.size());
+    }
+
+    @Test
+    void testInvalidateOnCommit() throws Exception {
+        var target = new TestCache(10);
+        try (var session = new TsurugiSessionTestMock()) {
+            target.install(session);
+            try (var transaction = session.createTransaction(TgTxOption.ofDDL())) {
+                target.findTableMetadata("test", Optional::empty);
+                transaction.executeDdl("drop table test");
+                assertEquals(0, target.size());
+
+                // loaded by another session before the commit
+                target.findTableMetadata("test", Optional::empty);
+                target.findTableMetadata("other", Optional::empty);
+                assertEquals(2, target.size());
+
+                transaction.commit(TgCommitType.DEFAULT);
+                assertEquals(1, target.size());
+            }
+        }
+    }
+
+    @Test
+    void testInvalidateOnClose() throws Exception {
+        var target = new TestCache(10);
+        try (var session = new TsurugiSessionTestMock()) {
+            target.install(session);
+            try (var transaction = session.createTransaction(TgTxOption.ofDDL())) {
+                transaction.executeDdl("create table test (foo int)");
+                target.findTableMetadata("test", Optional::empty);
+                assertEquals(1, target.size());
+
+                transaction.rollback();
+            }
+            assertEquals(0, target.size());
+
+            // the statement which is not DDL
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                target.findTableMetadata("test", Optional::empty);
+                transaction.executeDdl("update test set foo = 1");
+                transaction.commit(TgCommitType.DEFAULT);
+            }
+            assertEquals(1, target.size());
+        }
+    }
+
+    @Test
+    void testFindDdlTableName() {
+        assertEquals("test", TsurugiTableMetadataCache.findDdlTableName("create table test (foo int)"));
+        assertEquals("test", TsurugiTableMetadataCache.findDdlTableName("CREATE TABLE test(foo int)"));
+        assertEquals("test", TsurugiTableMetadataCache.findDdlTableName("drop table if exists test"));
+        assertEquals("test", TsurugiTableMetadataCache.findDdlTableName("create table if not exists test (foo int)"));
+        assertEquals("Te st", TsurugiTableMetadataCache.findDdlTableName("drop table \"Te st\""));
+        assertEquals("test", TsurugiTableMetadataCache.findDdlTableName("create index idx on test (foo)"));
+        assertNull(TsurugiTableMetadataCache.findDdlTableName("drop index idx"));
+    }
+}
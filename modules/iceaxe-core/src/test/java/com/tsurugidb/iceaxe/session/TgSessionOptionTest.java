@@ -1,6 +1,7 @@
 package com.tsurugidb.iceaxe.session;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.concurrent.TimeUnit;
 
@@ -34,12 +35,23 @@ class TgSessionOptionTest {
         assertEquals(TgCommitType.DEFAULT, sessionOption.getCommitType());
     }
 
+    @Test
+    void testPreparedStatementCacheSize() {
+        var sessionOption = TgSessionOption.of();
+        assertEquals(0, sessionOption.getPreparedStatementCacheSize());
+
+        sessionOption.setPreparedStatementCacheSize(16);
+        assertEquals(16, sessionOption.getPreparedStatementCacheSize());
+
+        assertThrows(IllegalArgumentException.class, () -> sessionOption.setPreparedStatementCacheSize(-1));
+    }
+
     @Test
     void testToString() {
         var empty = new TgSessionOption();
-        assertEquals("TgSessionOption{label=null, timeout={DEFAULT=9223372036854775807nanoseconds}, commitType=DEFAULT}", empty.toString());
+        assertEquals("TgSessionOption{label=null, timeout={DEFAULT=9223372036854775807nanoseconds}, commitType=DEFAULT, preparedStatementCacheSize=0}", empty.toString());
 
         var sessionOption = TgSessionOption.of().setLabel("test").setTimeout(TgTimeoutKey.DEFAULT, 123, TimeUnit.SECONDS).setCommitType(TgCommitType.STORED);
-        assertEquals("TgSessionOption{label=test, timeout={DEFAULT=123seconds}, commitType=STORED}", sessionOption.toString());
+        assertEquals("TgSessionOption{label=test, timeout={DEFAULT=123seconds}, commitType=STORED, preparedStatementCacheSize=0}", sessionOption.toString());
     }
 }
@@ -0,0 +1,54 @@
+package com.tsurugidb.iceaxe.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TgSessionPoolOptionTest {
+
+    @Test
+    void testOf() {
+        var poolOption = TgSessionPoolOption.of();
+        assertNull(poolOption.getCredential());
+        assertNull(poolOption.getSessionOption());
+        assertEquals(0, poolOption.getMinSize());
+        assertEquals(8, poolOption.getMaxSize());
+        assertEquals(Long.MAX_VALUE, poolOption.getBorrowTimeout().value());
+        assertEquals(TimeUnit.NANOSECONDS, poolOption.getBorrowTimeout().unit());
+        assertNull(poolOption.getIdleTimeout());
+        assertNull(poolOption.getEvictionInterval());
+        assertTrue(poolOption.isValidateOnBorrow());
+    }
+
+    @Test
+    void testOfSize() {
+        var poolOption = TgSessionPoolOption.of(2, 4);
+        assertEquals(2, poolOption.getMinSize());
+        assertEquals(4, poolOption.getMaxSize());
+    }
+
+    @Test
+    void testSize() {
+        var poolOption = new TgSessionPoolOption();
+        assertThrows(IllegalArgumentException.class, () -> poolOption.setMinSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> poolOption.setMaxSize(0));
+    }
+
+    @Test
+    void testTimeout() {
+        var poolOption = new TgSessionPoolOption().setBorrowTimeout(1, TimeUnit.SECONDS).setIdleTimeout(2, TimeUnit.MINUTES).setEvictionInterval(3, TimeUnit.SECONDS).setValidateOnBorrow(false);
+        assertEquals(1, poolOption.getBorrowTimeout().value());
+        assertEquals(TimeUnit.SECONDS, poolOption.getBorrowTimeout().unit());
+        assertEquals(2, poolOption.getIdleTimeout().value());
+        assertEquals(TimeUnit.MINUTES, poolOption.getIdleTimeout().unit());
+        assertEquals(3, poolOption.getEvictionInterval().value());
+        assertEquals(TimeUnit.SECONDS, poolOption.getEvictionInterval().unit());
+        assertFalse(poolOption.isValidateOnBorrow());
+    }
+}
@@ -0,0 +1,282 @@
+package com.tsurugidb.iceaxe.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.TsurugiConnector;
+import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
+import com.tsurugidb.iceaxe.exception.TsurugiIOException;
+import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+class TsurugiSessionPoolTest {
+
+    static class TestLowSession implements Session {
+        volatile boolean alive = true;
+        volatile boolean closed = false;
+
+        @Override
+        public boolean isAlive() {
+            return this.alive;
+        }
+
+        @Override
+        public void close() throws ServerException, IOException, InterruptedException {
+            this.closed = true;
+        }
+    }
+
+    static class TestFutureResponse implements FutureResponse<Session> {
+        private final Session value;
+        volatile boolean got = false;
+
+        TestFutureResponse(Session value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isDone() {
+            return true;
+        }
+
+        @Override
+        public Session get() throws IOException, ServerException, InterruptedException {
+            this.got = true;
+            return this.value;
+        }
+
+        @Override
+        public Session get(long timeout, TimeUnit unit) throws IOException, ServerException, InterruptedException {
+            return get();
+        }
+
+        @Override
+        public void close() throws IOException, ServerException, InterruptedException {
+            if (!this.got) {
+                value.close();
+            }
+        }
+    }
+
+    static class TestConnector extends TsurugiConnector {
+        final List<TestLowSession> lowSessionList = new CopyOnWriteArrayList<>();
+        final List<TestFutureResponse> futureList = new CopyOnWriteArrayList<>();
+
+        TestConnector() {
+            super(null, URI.create("tcp://localhost:12345"), null, TgSessionOption.of());
+        }
+
+        @Override
+        protected FutureResponse<? extends Session> createLowSession(@Nullable Credential credential, TgSessionOption sessionOption) throws IOException {
+            var lowSession = new TestLowSession();
+            lowSessionList.add(lowSession);
+            var future = new TestFutureResponse(lowSession);
+            futureList.add(future);
+            return future;
+        }
+    }
+
+    @Test
+    void borrowAndRelease() throws Exception {
+        var connector = new TestConnector();
+        try (var pool = connector.createSessionPool(TgSessionPoolOption.of(0, 2))) {
+            var session1 = pool.getSession();
+            var session2 = pool.getSession();
+            assertNotSame(session1, session2);
+            assertEquals(2, connector.lowSessionList.size());
+            assertEquals(2, pool.getStatistics().activeCount());
+            assertEquals(0, pool.getStatistics().idleCount());
+
+            session1.close();
+            assertTrue(session1.isClosed());
+            assertFalse(connector.lowSessionList.get(0).closed);
+            assertEquals(1, pool.getStatistics().activeCount());
+            assertEquals(1, pool.getStatistics().idleCount());
+
+            var session3 = pool.getSession();
+            assertSame(session1, session3);
+            assertFalse(session3.isClosed());
+            assertEquals(2, connector.lowSessionList.size());
+
+            session2.close();
+            session3.close();
+            var statistics = pool.getStatistics();
+            assertEquals(0, statistics.activeCount());
+            assertEquals(2, statistics.idleCount());
+            assertEquals(3, statistics.borrowCount());
+            assertEquals(2, statistics.createCount());
+            assertEquals(0, statistics.destroyCount());
+        }
+        for (var lowSession : connector.lowSessionList) {
+            assertTrue(lowSession.closed);
+        }
+    }
+
+    @Test
+    void borrowTimeout() throws Exception {
+        var connector = new TestConnector();
+        try (var pool = connector.createSessionPool(TgSessionPoolOption.of(0, 1))) {
+            var session = pool.getSession();
+
+            var e = assertThrows(TsurugiIOException.class, () -> pool.getSession(50, TimeUnit.MILLISECONDS));
+            assertEquals(IceaxeErrorCode.SESSION_POOL_BORROW_TIMEOUT, e.getDiagnosticCode());
+            assertEquals(1, pool.getStatistics().borrowTimeoutCount());
+
+            ExecutorService service = Executors.newSingleThreadExecutor();
+            try {
+                var future = service.submit(() -> pool.getSession(10, TimeUnit.SECONDS));
+                while (pool.getStatistics().waitingCount() == 0) {
+                    Thread.sleep(1);
+                }
+                session.close();
+                assertSame(session, future.get(10, TimeUnit.SECONDS));
+            } finally {
+                service.shutdownNow();
+            }
+            assertEquals(1, connector.lowSessionList.size());
+        }
+    }
+
+    @Test
+    void validateOnBorrow() throws Exception {
+        var connector = new TestConnector();
+        try (var pool = connector.createSessionPool(TgSessionPoolOption.of(0, 1))) {
+            var session1 = pool.getSession();
+            session1.close();
+            var lowSession1 = connector.lowSessionList.get(0);
+            lowSession1.alive = false;
+
+            var session2 = pool.getSession();
+            assertNotSame(session1, session2);
+            assertTrue(lowSession1.closed);
+            assertEquals(2, connector.lowSessionList.size());
+            assertEquals(1, pool.getStatistics().destroyCount());
+            session2.close();
+        }
+    }
+
+    @Test
+    void validateOnBorrowDisabled() throws Exception {
+        var connector = new TestConnector();
+        try (var pool = connector.createSessionPool(TgSessionPoolOption.of(0, 1).setValidateOnBorrow(false))) {
+            var session1 = pool.getSession();
+            session1.close();
+            connector.lowSessionList.get(0).alive = false;
+
+            var session2 = pool.getSession();
+            assertSame(session1, session2);
+            assertEquals(1, connector.lowSessionList.size());
+            session2.close();
+        }
+    }
+
+    @Test
+    void evict() throws Exception {
+        var connector = new TestConnector();
+        var poolOption = TgSessionPoolOption.of(1, 4).setIdleTimeout(1, TimeUnit.MILLISECONDS);
+        try (var pool = connector.createSessionPool(poolOption)) {
+            var session1 = pool.getSession();
+            var session2 = pool.getSession();
+            var session3 = pool.getSession();
+            session1.close();
+            session2.close();
+            session3.close();
+            assertEquals(3, pool.getStatistics().idleCount());
+
+            Thread.sleep(10);
+            pool.evict();
+
+            var statistics = pool.getStatistics();
+            assertEquals(1, statistics.idleCount());
+            assertEquals(2, statistics.destroyCount());
+            long closedCount = connector.lowSessionList.stream().filter(s -> s.closed).count();
+            assertEquals(2, closedCount);
+
+            // the most recently released session is kept
+            assertSame(session3, pool.getSession());
+        }
+    }
+
+    @Test
+    void evictNotExpired() throws Exception {
+        var connector = new TestConnector();
+        var poolOption = TgSessionPoolOption.of(0, 4).setIdleTimeout(1, TimeUnit.HOURS);
+        try (var pool = connector.createSessionPool(poolOption)) {
+            pool.getSession().close();
+            pool.evict();
+            assertEquals(1, pool.getStatistics().idleCount());
+            assertEquals(0, pool.getStatistics().destroyCount());
+        }
+    }
+
+    @Test
+    void closeConcurrently() throws Exception {
+        var connector = new TestConnector();
+        try (var pool = connector.createSessionPool(TgSessionPoolOption.of(0, 1))) {
+            ExecutorService service = Executors.newFixedThreadPool(4);
+            try {
+                for (int i = 0; i < 50; i++) {
+                    var session = pool.getSession();
+                    var start = new CountDownLatch(1);
+                    var futureList = new ArrayList<Future<?>>();
+                    for (int j = 0; j < 4; j++) {
+                        futureList.add(service.submit(() -> {
+                            start.await();
+                            session.close();
+                            return null;
+                        }));
+                    }
+                    start.countDown();
+                    for (var future : futureList) {
+                        future.get(10, TimeUnit.SECONDS);
+                    }
+
+                    var statistics = pool.getStatistics();
+                    assertEquals(0, statistics.activeCount());
+                    assertEquals(1, statistics.idleCount());
+                }
+            } finally {
+                service.shutdownNow();
+            }
+            assertEquals(1, connector.lowSessionList.size());
+        }
+    }
+
+    @Test
+    void warmUp() throws Exception {
+        var connector = new TestConnector();
+        try (var pool = connector.createSessionPool(TgSessionPoolOption.of(3, 4))) {
+            var statistics = pool.getStatistics();
+            assertEquals(3, statistics.idleCount());
+            assertEquals(3, statistics.createCount());
+            assertEquals(3, connector.futureList.size());
+            for (var future : connector.futureList) {
+                assertTrue(future.got);
+            }
+
+            pool.warmUp();
+            assertEquals(3, connector.lowSessionList.size());
+        }
+    }
+}
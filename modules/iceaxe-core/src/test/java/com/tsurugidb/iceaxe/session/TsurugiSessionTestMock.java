@@ -0,0 +1,321 @@
+package com.tsurugidb.iceaxe.session;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.tsurugidb.iceaxe.session.event.TsurugiSessionEventListener;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.sql.proto.SqlRequest.CommitStatus;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.SqlServiceException;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * session which creates transactions without server.
+ * <p>
+ * The calls to the low transactions are recorded in {@link #getLowCallList()}.
+ * </p>
+ */
+public class TsurugiSessionTestMock extends TsurugiSession {
+
+    @FunctionalInterface
+    public interface LowResultSupplier<V> {
+        V get() throws IOException, ServerException, InterruptedException;
+    }
+
+    /**
+     * FutureResponse which evaluates the supplier on get.
+     * <p>
+     * not synchronized, so that the tests on virtual threads are not pinned by this mock.
+     * </p>
+     *
+     * @param <V> result type
+     */
+    public static class FutureResponseTestMock<V> implements FutureResponse<V> {
+
+        public static <V> FutureResponseTestMock<V> of(V value) {
+            return new FutureResponseTestMock<>(() -> value);
+        }
+
+        private final LowResultSupplier<V> supplier;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile boolean done = false;
+        private V value;
+        private Throwable exception;
+
+        public FutureResponseTestMock(LowResultSupplier<V> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public boolean isDone() {
+            return this.done;
+        }
+
+        @Override
+        public V get() throws IOException, ServerException, InterruptedException {
+            lock.lock();
+            try {
+                if (!this.done) {
+                    try {
+                        this.value = supplier.get();
+                    } catch (Throwable e) {
+                        this.exception = e;
+                    }
+                    this.done = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (exception instanceof IOException) {
+                throw (IOException) exception;
+            }
+            if (exception instanceof ServerException) {
+                throw (ServerException) exception;
+            }
+            if (exception instanceof InterruptedException) {
+                throw (InterruptedException) exception;
+            }
+            if (exception instanceof RuntimeException) {
+                throw (RuntimeException) exception;
+            }
+            if (exception instanceof Error) {
+                throw (Error) exception;
+            }
+            return this.value;
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws IOException, ServerException, InterruptedException {
+            return get();
+        }
+
+        @Override
+        public void close() throws IOException, ServerException, InterruptedException {
+            // do nothing
+        }
+    }
+
+    /**
+     * prepared statement without server.
+     */
+    public static class LowPreparedStatementTestMock implements PreparedStatement {
+        private final String sql;
+
+        public LowPreparedStatementTestMock(String sql) {
+            this.sql = sql;
+        }
+
+        public String getSql() {
+            return this.sql;
+        }
+
+        @Override
+        public boolean hasResultRecords() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+    }
+
+    private static final AtomicInteger TRANSACTION_COUNT = new AtomicInteger(0);
+
+    /**
+     * transaction which records the calls.
+     */
+    public class LowTransactionTestMock implements Transaction {
+        private final String transactionId = "MOCK-" + TRANSACTION_COUNT.incrementAndGet();
+
+        @Override
+        public String getTransactionId() {
+            return this.transactionId;
+        }
+
+        @Override
+        public FutureResponse<ResultSet> executeQuery(String source) throws IOException {
+            lowCallList.add("executeQuery:" + source);
+            return queryResult.apply(source);
+        }
+
+        @Override
+        public FutureResponse<ResultSet> executeQuery(PreparedStatement ps, Collection<? extends Parameter> parameters) throws IOException {
+            String sql = ((LowPreparedStatementTestMock) ps).getSql();
+            lowCallList.add("executeQuery:" + sql);
+            return preparedQueryResult.apply(sql, parameters);
+        }
+
+        @Override
+        public FutureResponse<Void> executeStatement(String source) throws IOException {
+            lowCallList.add("executeStatement:" + source);
+            return statementResult.apply(source);
+        }
+
+        @Override
+        public FutureResponse<Void> batch(PreparedStatement ps, Collection<? extends Collection<? extends Parameter>> parameterTable) throws IOException {
+            lowCallList.add("batch:" + ((LowPreparedStatementTestMock) ps).getSql() + ":" + parameterTable.size());
+            return batchResult.apply(parameterTable);
+        }
+
+        @Override
+        public FutureResponse<Void> commit(CommitStatus status) throws IOException {
+            lowCallList.add("commit");
+            return commitResult.apply(this);
+        }
+
+        @Override
+        public FutureResponse<Void> rollback() throws IOException {
+            lowCallList.add("rollback");
+            return FutureResponseTestMock.of(null);
+        }
+
+        @Override
+        public FutureResponse<SqlServiceException> getSqlServiceException() throws IOException {
+            return FutureResponseTestMock.of(null);
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+    }
+
+    private final List<TsurugiSessionEventListener> eventListenerList = new CopyOnWriteArrayList<>();
+    private final List<String> lowCallList = new CopyOnWriteArrayList<>();
+    private Function<String, FutureResponse<ResultSet>> queryResult = sql -> {
+        throw new UnsupportedOperationException("do setQueryResult()");
+    };
+    private BiFunction<String, Collection<? extends Parameter>, FutureResponse<ResultSet>> preparedQueryResult = (sql, parameters) -> queryResult.apply(sql);
+    private Function<String, FutureResponse<Void>> statementResult = sql -> FutureResponseTestMock.of(null);
+    private Function<Collection<? extends Collection<? extends Parameter>>, FutureResponse<Void>> batchResult = parameterTable -> FutureResponseTestMock.of(null);
+    private Function<Transaction, FutureResponse<Void>> commitResult = tx -> FutureResponseTestMock.of(null);
+
+    public TsurugiSessionTestMock() {
+        super(null, TgSessionOption.of());
+    }
+
+    @Override
+    public TsurugiSession addEventListener(TsurugiSessionEventListener listener) {
+        eventListenerList.add(listener);
+        return super.addEventListener(listener);
+    }
+
+    /**
+     * set the result of executeQuery.
+     *
+     * @param function function (SQL to result)
+     */
+    public void setQueryResult(Function<String, FutureResponse<ResultSet>> function) {
+        this.queryResult = function;
+    }
+
+    /**
+     * set the result of executeQuery of prepared statement.
+     * <p>
+     * If not set, the result of {@link #setQueryResult(Function)} is used.
+     * </p>
+     *
+     * @param function function (SQL and parameters to result)
+     */
+    public void setPreparedQueryResult(BiFunction<String, Collection<? extends Parameter>, FutureResponse<ResultSet>> function) {
+        this.preparedQueryResult = function;
+    }
+
+    /**
+     * set the result of executeStatement.
+     *
+     * @param function function (SQL to result)
+     */
+    public void setStatementResult(Function<String, FutureResponse<Void>> function) {
+        this.statementResult = function;
+    }
+
+    /**
+     * set the result of batch.
+     *
+     * @param function function (parameter table to result)
+     */
+    public void setBatchResult(Function<Collection<? extends Collection<? extends Parameter>>, FutureResponse<Void>> function) {
+        this.batchResult = function;
+    }
+
+    /**
+     * set the result of commit.
+     *
+     * @param function function (low transaction to result)
+     */
+    public void setCommitResult(Function<Transaction, FutureResponse<Void>> function) {
+        this.commitResult = function;
+    }
+
+    /**
+     * get the calls to the low transactions.
+     *
+     * @return call list
+     */
+    public List<String> getLowCallList() {
+        return this.lowCallList;
+    }
+
+    /**
+     * create prepared statement without server.
+     *
+     * @param <P>              parameter type
+     * @param sql              SQL
+     * @param parameterMapping parameter mapping
+     * @return SQL definition
+     * @throws IOException if an I/O error occurs while creating the statement
+     */
+    public <P> TsurugiSqlPreparedStatement<P> createPreparedStatementTestMock(String sql, TgParameterMapping<P> parameterMapping) throws IOException {
+        checkClose();
+
+        var ps = new TsurugiSqlPreparedStatement<>(this, sql, FutureResponseTestMock.of(new LowPreparedStatementTestMock(sql)), parameterMapping);
+        addChild(ps);
+        return ps;
+    }
+
+    @Override
+    public <P, R> TsurugiSqlPreparedQuery<P, R> createQuery(String sql, TgParameterMapping<P> parameterMapping, TgResultMapping<R> resultMapping) throws IOException {
+        checkClose();
+
+        var ps = new TsurugiSqlPreparedQuery<>(this, sql, FutureResponseTestMock.of(new LowPreparedStatementTestMock(sql)), parameterMapping, resultMapping);
+        addChild(ps);
+        return ps;
+    }
+
+    @Override
+    public TsurugiTransaction createTransaction(@Nonnull TgTxOption txOption, @Nullable Consumer<TsurugiTransaction> initializer) throws IOException, InterruptedException {
+        checkClose();
+
+        var transaction = new TsurugiTransaction(this, FutureResponseTestMock.of(new LowTransactionTestMock()), txOption);
+        if (initializer != null) {
+            initializer.accept(transaction);
+        }
+        for (var listener : eventListenerList) {
+            listener.createTransaction(transaction);
+        }
+        return transaction;
+    }
+}
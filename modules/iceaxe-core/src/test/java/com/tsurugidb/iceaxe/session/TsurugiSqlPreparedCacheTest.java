@@ -0,0 +1,149 @@
+package com.tsurugidb.iceaxe.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+
+class TsurugiSqlPreparedCacheTest {
+
+    private static TsurugiSqlPreparedCache.TgCacheKey key(String sql, TgParameterMapping<?> parameterMapping) {
+        return new TsurugiSqlPreparedCache.TgCacheKey(sql, parameterMapping.toLowPlaceholderList(), parameterMapping, null);
+    }
+
+    private static TsurugiSqlPreparedCache.TgCacheKey key(String sql, TgParameterMapping<?> parameterMapping, TgResultMapping<?> resultMapping) {
+        return new TsurugiSqlPreparedCache.TgCacheKey(sql, parameterMapping.toLowPlaceholderList(), parameterMapping, resultMapping);
+    }
+
+    @Test
+    void testGet() throws Exception {
+        var mapping = TgParameterMapping.of(TgBindVariable.ofInt("foo"));
+        try (var session = new TsurugiSession(null, TgSessionOption.of())) {
+            var target = new TsurugiSqlPreparedCache(session, 2);
+
+            var ps1 = target.get(key("sql1", mapping), () -> new TsurugiSqlPreparedStatement<>(session, "sql1", null, mapping));
+            var ps2 = target.get(key("sql1", mapping), () -> {
+                throw new AssertionError("not cached");
+            });
+            assertSame(ps1, ps2);
+            assertTrue(ps1.isCached());
+            assertEquals(1, target.size());
+
+            ps1.close();
+            ps2.close();
+            assertFalse(ps1.isClosed());
+
+            // another mapping instance with the same placeholders does not share the SQL definition, because it may convert the parameter differently
+            var sameMapping = TgParameterMapping.of(TgBindVariable.ofInt("foo"));
+            var ps3 = target.get(key("sql1", sameMapping), () -> new TsurugiSqlPreparedStatement<>(session, "sql1", null, sameMapping));
+            assertNotSame(ps1, ps3);
+            assertEquals(2, target.size());
+
+            target.close();
+            assertTrue(ps1.isClosed());
+            assertTrue(ps3.isClosed());
+            assertFalse(ps1.isCached());
+        }
+    }
+
+    @Test
+    void testGetResultMapping() throws Exception {
+        var mapping = TgParameterMapping.of(TgBindVariable.ofInt("foo"));
+        var resultMapping1 = TgResultMapping.of(record -> record.getInt(0));
+        var resultMapping2 = TgResultMapping.of(record -> record.getLong(0));
+        try (var session = new TsurugiSession(null, TgSessionOption.of())) {
+            var target = new TsurugiSqlPreparedCache(session, 4);
+
+            var ps1 = target.get(key("sql1", mapping, resultMapping1), () -> new TsurugiSqlPreparedQuery<>(session, "sql1", null, mapping, resultMapping1));
+            var ps2 = target.get(key("sql1", mapping, resultMapping1), () -> {
+                throw new AssertionError("not cached");
+            });
+            assertSame(ps1, ps2);
+
+            // the result mapping of the same class but for another type
+            var ps3 = target.get(key("sql1", mapping, resultMapping2), () -> new TsurugiSqlPreparedQuery<>(session, "sql1", null, mapping, resultMapping2));
+            assertNotSame(ps1, ps3);
+            assertEquals(2, target.size());
+
+            target.close();
+        }
+    }
+
+    @Test
+    void testEvict() throws Exception {
+        var mapping = TgParameterMapping.of(List.of());
+        try (var session = new TsurugiSession(null, TgSessionOption.of())) {
+            var target = new TsurugiSqlPreparedCache(session, 1);
+
+            var ps1 = target.get(key("sql1", mapping), () -> new TsurugiSqlPreparedStatement<>(session, "sql1", null, mapping));
+            var ps2 = target.get(key("sql2", mapping), () -> new TsurugiSqlPreparedStatement<>(session, "sql2", null, mapping));
+            assertEquals(1, target.size());
+
+            // ps1 is evicted but still in use
+            assertFalse(ps1.isClosed());
+            ps1.close();
+            assertTrue(ps1.isClosed());
+
+            ps2.close();
+            assertFalse(ps2.isClosed());
+            var ps3 = target.get(key("sql3", mapping), () -> new TsurugiSqlPreparedStatement<>(session, "sql3", null, mapping));
+            assertTrue(ps2.isClosed());
+            assertFalse(ps3.isClosed());
+
+            target.close();
+            assertTrue(ps3.isClosed());
+        }
+    }
+
+    @Test
+    void testGetConcurrently() throws Exception {
+        var mapping = TgParameterMapping.of(List.of());
+        var service = Executors.newSingleThreadExecutor();
+        try (var session = new TsurugiSession(null, TgSessionOption.of())) {
+            var target = new TsurugiSqlPreparedCache(session, 2);
+
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            var duplicate = new AtomicReference<TsurugiSqlPreparedStatement<?>>();
+            var future = service.submit(() -> target.get(key("sql1", mapping), () -> {
+                started.countDown();
+                release.await();
+                var ps = new TsurugiSqlPreparedStatement<>(session, "sql1", null, mapping);
+                duplicate.set(ps);
+                return ps;
+            }));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            // the other key is not blocked while preparing
+            var ps2 = target.get(key("sql2", mapping), () -> new TsurugiSqlPreparedStatement<>(session, "sql2", null, mapping));
+            // the same key prepared concurrently: the first one is cached
+            var ps1 = target.get(key("sql1", mapping), () -> new TsurugiSqlPreparedStatement<>(session, "sql1", null, mapping));
+            release.countDown();
+            assertSame(ps1, future.get(10, TimeUnit.SECONDS));
+            assertTrue(duplicate.get().isClosed());
+            assertFalse(ps1.isClosed());
+            assertFalse(ps2.isClosed());
+            assertEquals(2, target.size());
+
+            target.close();
+            assertTrue(ps1.isClosed());
+        } finally {
+            service.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.tsurugidb.iceaxe.session.event.logging.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.iceaxe.session.event.logging.file.TsurugiSessionTxFileLogConfig.TgTxFileLogOverflowPolicy;
+
+class TsurugiSessionTxFileLogAsyncWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void write() throws Exception {
+        var config = TsurugiSessionTxFileLogConfig.of(tempDir).asyncQueueSize(16);
+        var queue = new TsurugiSessionTxFileLogAsyncQueue(config);
+        var file = tempDir.resolve("tx.log");
+        var writer = new TsurugiSessionTxFileLogAsyncWriter(config, file, queue);
+        for (int i = 0; i < 100; i++) {
+            writer.println("line %d", i);
+        }
+        writer.close();
+        queue.close();
+
+        var lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(100, lines.size());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(lines.get(i).endsWith(" line " + i), lines.get(i));
+        }
+        assertEquals(0, writer.getDroppedCount());
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    void snapshotArgs() throws Exception {
+        var config = TsurugiSessionTxFileLogConfig.of(tempDir).asyncQueueSize(16);
+        var queue = new TsurugiSessionTxFileLogAsyncQueue(config);
+        var file = tempDir.resolve("tx.log");
+        var writer = new TsurugiSessionTxFileLogAsyncWriter(config, file, queue);
+
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        assertTrue(queue.offer(writer, () -> {
+            started.countDown();
+            release.await();
+        }, false));
+        started.await();
+
+        var record = new StringBuilder("before");
+        writer.println("record=%s, count=%d", record, 123);
+        // changed before the writer thread formats it
+        record.setLength(0);
+        record.append("after");
+        release.countDown();
+        writer.close();
+        queue.close();
+
+        var lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith(" record=before, count=123"), lines.get(0));
+    }
+
+    @Test
+    void drop() throws Exception {
+        var config = TsurugiSessionTxFileLogConfig.of(tempDir).asyncQueueSize(1).asyncOverflowPolicy(TgTxFileLogOverflowPolicy.DROP);
+        var queue = new TsurugiSessionTxFileLogAsyncQueue(config);
+        var file = tempDir.resolve("tx.log");
+        var writer = new TsurugiSessionTxFileLogAsyncWriter(config, file, queue);
+
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        assertTrue(queue.offer(writer, () -> {
+            started.countDown();
+            release.await();
+        }, false));
+        started.await();
+
+        writer.println("line 0"); // enqueued
+        writer.println("line 1"); // dropped
+        writer.println("line 2"); // dropped
+        release.countDown();
+        writer.close();
+        queue.close();
+
+        assertEquals(2, writer.getDroppedCount());
+        assertEquals(2, queue.getDroppedCount());
+        var lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith(" line 0"));
+        assertTrue(lines.get(1).endsWith("dropped events=2"));
+    }
+
+    @Test
+    void writeAfterClose() throws IOException, InterruptedException {
+        var config = TsurugiSessionTxFileLogConfig.of(tempDir).asyncQueueSize(4);
+        var queue = new TsurugiSessionTxFileLogAsyncQueue(config);
+        queue.close();
+
+        var file = tempDir.resolve("tx.log");
+        var writer = new TsurugiSessionTxFileLogAsyncWriter(config, file, queue);
+        writer.println("line");
+        writer.close();
+
+        var lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        assertFalse(lines.get(0).contains("dropped"));
+    }
+}
@@ -0,0 +1,133 @@
+package com.tsurugidb.iceaxe.sql.explain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock;
+import com.tsurugidb.iceaxe.transaction.TgCommitType;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.util.TgTimeValue;
+import com.tsurugidb.tsubakuro.sql.Parameters;
+
+class TsurugiExplainCacheTest {
+
+    private static class TestCache extends TsurugiExplainCache {
+        long now = 0;
+
+        TestCache(int maxSize) {
+            super(TgTimeValue.of(10, TimeUnit.NANOSECONDS), maxSize);
+        }
+
+        @Override
+        protected long nanoTime() {
+            return this.now;
+        }
+    }
+
+    @Test
+    void testGetStatementMetadata() throws Exception {
+        var target = new TestCache(2);
+        var count = new AtomicInteger(0);
+
+        for (int i = 0; i < 3; i++) {
+            target.getStatementMetadata("select * from test", () -> {
+                count.incrementAndGet();
+                return null;
+            });
+        }
+        assertEquals(1, count.get());
+        assertEquals(2, target.getHitCount());
+        assertEquals(1, target.getMissCount());
+
+        target.now = 10;
+        target.getStatementMetadata("select * from test", () -> {
+            count.incrementAndGet();
+            return null;
+        });
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    void testMaxSize() throws Exception {
+        var target = TsurugiExplainCache.of(2);
+        target.getStatementMetadata("s1", () -> null);
+        target.getStatementMetadata("s2", () -> null);
+        target.getStatementMetadata("s3", () -> null);
+        assertEquals(2, target.size());
+    }
+
+    @Test
+    void testCreateKey() {
+        var target = TsurugiExplainCache.of(10);
+        var sql = "select * from test where foo=:foo";
+
+        assertEquals(sql, target.createKey(sql, null));
+        assertEquals(sql, target.createKey(sql, List.of()));
+
+        var key1 = target.createKey(sql, List.of(Parameters.of("foo", 1)));
+        var key2 = target.createKey(sql, List.of(Parameters.of("foo", 2)));
+        var key3 = target.createKey(sql, List.of(Parameters.of("foo", 1L)));
+        assertEquals(key1, key2);
+        assertNotEquals(key1, key3);
+    }
+
+    @Test
+    void testInvalidateByDdl() throws Exception {
+        var target = TsurugiExplainCache.of(10);
+        target.getStatementMetadata("s1", () -> null);
+        target.getStatementMetadata("s2", () -> null);
+
+        target.invalidateByDdl("insert into test values(1)");
+        assertEquals(2, target.size());
+
+        target.invalidateByDdl("create index idx on test(foo)");
+        assertEquals(0, target.size());
+    }
+
+    @Test
+    void testNoTimeToLive() throws Exception {
+        var target = TsurugiExplainCache.of(10);
+        var count = new AtomicInteger(0);
+        for (int i = 0; i < 2; i++) {
+            target.getStatementMetadata("s1", () -> {
+                count.incrementAndGet();
+                return null;
+            });
+        }
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void testInvalidateOnCommit() throws Exception {
+        var target = TsurugiExplainCache.of(10);
+        try (var session = new TsurugiSessionTestMock()) {
+            target.install(session);
+            try (var transaction = session.createTransaction(TgTxOption.ofDDL())) {
+                target.getStatementMetadata("s1", () -> null);
+                transaction.executeDdl("create index idx on test(foo)");
+                assertEquals(0, target.size());
+
+                // loaded by another session before the commit
+                target.getStatementMetadata("s1", () -> null);
+                assertEquals(1, target.size());
+
+                transaction.commit(TgCommitType.DEFAULT);
+                assertEquals(0, target.size());
+            }
+
+            // the statement which is not DDL
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                target.getStatementMetadata("s1", () -> null);
+                transaction.executeDdl("update test set foo = 1");
+                transaction.commit(TgCommitType.DEFAULT);
+            }
+            assertEquals(1, target.size());
+        }
+    }
+}
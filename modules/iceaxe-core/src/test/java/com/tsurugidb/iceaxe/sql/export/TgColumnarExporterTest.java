@@ -0,0 +1,125 @@
+package com.tsurugidb.iceaxe.sql.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.result.IceaxeResultSetTestMock;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.tsubakuro.sql.io.DateTimeInterval;
+
+class TgColumnarExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testExport() throws Exception {
+        var nameList = List.of("id", "name");
+        var typeList = List.of(TgDataType.INT, TgDataType.STRING);
+        var rowList = List.<List<Object>>of( //
+                Arrays.asList(1, "abc"), //
+                Arrays.asList(null, null), //
+                Arrays.asList(3, "あ"));
+        var lowResultSet = new IceaxeResultSetTestMock(nameList, typeList, rowList);
+        var file = tempDir.resolve("test.bin");
+
+        var target = TgColumnarExporter.of().batchSize(2);
+        var result = target.exportLow(lowResultSet, file);
+        assertEquals(3, result.getRowCount());
+        assertEquals(Files.size(file), result.getByteCount());
+
+        var buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        var magic = new byte[4];
+        buffer.get(magic);
+        assertEquals("ICXC", new String(magic, StandardCharsets.US_ASCII));
+        assertEquals(TgColumnarExporter.VERSION, buffer.getInt());
+        assertEquals(2, buffer.getInt());
+        assertEquals("id", getString(buffer, buffer.getInt()));
+        assertEquals(TgDataType.INT.getLowDataType().getNumber(), buffer.getInt());
+        assertEquals("name", getString(buffer, buffer.getInt()));
+        assertEquals(TgDataType.STRING.getLowDataType().getNumber(), buffer.getInt());
+
+        // batch 1
+        assertEquals(2, buffer.getInt());
+        assertEquals(0b10, buffer.get());
+        assertEquals(1, buffer.getInt());
+        assertEquals(0, buffer.getInt());
+        assertEquals(0b10, buffer.get());
+        assertEquals(0, buffer.getInt());
+        assertEquals(3, buffer.getInt());
+        assertEquals(3, buffer.getInt());
+        assertEquals("abc", getString(buffer, 3));
+
+        // batch 2
+        assertEquals(1, buffer.getInt());
+        assertEquals(0, buffer.get());
+        assertEquals(3, buffer.getInt());
+        assertEquals(0, buffer.get());
+        assertEquals(0, buffer.getInt());
+        assertEquals(3, buffer.getInt());
+        assertEquals("あ", getString(buffer, 3));
+
+        assertEquals(0, buffer.getInt());
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    void testExportDateTimeInterval() throws Exception {
+        var rowList = List.<List<Object>>of( //
+                Arrays.asList(new DateTimeInterval(1, -2, 3, 4_000_000_005L)), //
+                Arrays.asList((Object) null));
+        var lowResultSet = IceaxeResultSetTestMock.ofLow(List.of("interval"), List.of(AtomType.DATETIME_INTERVAL), rowList);
+        var file = tempDir.resolve("test.bin");
+
+        var result = TgColumnarExporter.of().exportLow(lowResultSet, file);
+        assertEquals(2, result.getRowCount());
+
+        var buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(4 + 4 + 4);
+        assertEquals("interval", getString(buffer, buffer.getInt()));
+        assertEquals(AtomType.DATETIME_INTERVAL.getNumber(), buffer.getInt());
+
+        assertEquals(2, buffer.getInt());
+        assertEquals(0b10, buffer.get());
+        assertEquals(1, buffer.getInt());
+        assertEquals(-2, buffer.getInt());
+        assertEquals(3, buffer.getInt());
+        assertEquals(4_000_000_005L, buffer.getLong());
+        assertEquals(0, buffer.getInt());
+        assertEquals(0, buffer.getInt());
+        assertEquals(0, buffer.getInt());
+        assertEquals(0, buffer.getLong());
+
+        assertEquals(0, buffer.getInt());
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    void testExportUnsupportedType() throws Exception {
+        var lowResultSet = IceaxeResultSetTestMock.ofLow(List.of("blob"), List.of(AtomType.BLOB), List.of());
+        var file = tempDir.resolve("test.bin");
+
+        var e = assertThrowsExactly(UnsupportedOperationException.class, () -> TgColumnarExporter.of().exportLow(lowResultSet, file));
+        assertEquals("unsupported type error. lowType=BLOB", e.getMessage());
+        assertFalse(Files.exists(file));
+    }
+
+    private static String getString(ByteBuffer buffer, int length) {
+        var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,114 @@
+package com.tsurugidb.iceaxe.sql.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock.FutureResponseTestMock;
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.result.IceaxeResultSetTestMock;
+import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
+import com.tsurugidb.iceaxe.sql.result.TsurugiResultEntity;
+import com.tsurugidb.iceaxe.sql.result.event.TsurugiQueryResultEventListener;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+class TgCsvExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testExport() throws Exception {
+        var nameList = List.of("id", "amount", "name", "price", "data", "date");
+        var typeList = List.of(TgDataType.INT, TgDataType.LONG, TgDataType.STRING, TgDataType.DECIMAL, TgDataType.BYTES, TgDataType.DATE);
+        var rowList = List.<List<Object>>of( //
+                Arrays.asList(1, Long.MIN_VALUE, "abc", new BigDecimal("1.50"), new byte[] { 0x0f, (byte) 0xa0 }, LocalDate.of(2023, 1, 2)), //
+                Arrays.asList(-20, 0L, "a,\"b\"\nc", null, null, null), //
+                Arrays.asList(300, 123456789012L, "あ😀", new BigDecimal("1E+3"), new byte[0], LocalDate.of(1, 12, 31)));
+        var lowResultSet = new IceaxeResultSetTestMock(nameList, typeList, rowList);
+        var file = tempDir.resolve("test.csv");
+
+        var target = TgCsvExporter.of().bufferSize(64).nullValue("NULL");
+        var result = target.exportLow(lowResultSet, file);
+
+        var expected = "id,amount,name,price,data,date\r\n" //
+                + "1,-9223372036854775808,abc,1.50,0fa0,2023-01-02\r\n" //
+                + "-20,0,\"a,\"\"b\"\"\nc\",NULL,NULL,NULL\r\n" //
+                + "300,123456789012,あ😀,1000,\"\",0001-12-31\r\n";
+        assertEquals(expected, Files.readString(file, StandardCharsets.UTF_8));
+        assertEquals(3, result.getRowCount());
+        assertEquals(Files.size(file), result.getByteCount());
+        assertEquals(file, result.getFile());
+    }
+
+    @Test
+    void testSeparator() throws Exception {
+        var lowResultSet = new IceaxeResultSetTestMock(List.of("foo", "bar"), List.of(TgDataType.INT, TgDataType.STRING), List.of(List.of(1, "a,b")));
+        var file = tempDir.resolve("test.tsv");
+
+        TgCsvExporter.of().header(false).separator('\t').lineSeparator("\n").exportLow(lowResultSet, file);
+        assertEquals("1\ta,b\n", Files.readString(file, StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> TgCsvExporter.of().separator('"'));
+        assertThrows(IllegalArgumentException.class, () -> TgCsvExporter.of().bufferSize(63));
+    }
+
+    @Test
+    void testEmptyString() throws Exception {
+        var rowList = List.<List<Object>>of( //
+                Arrays.asList("", null), //
+                Arrays.asList("NULL", "a"));
+        var lowResultSet = new IceaxeResultSetTestMock(List.of("foo", "bar"), List.of(TgDataType.STRING, TgDataType.STRING), rowList);
+        var file = tempDir.resolve("test.csv");
+
+        TgCsvExporter.of().header(false).lineSeparator("\n").exportLow(lowResultSet, file);
+        assertEquals("\"\",\nNULL,a\n", Files.readString(file, StandardCharsets.UTF_8));
+
+        lowResultSet = new IceaxeResultSetTestMock(List.of("foo", "bar"), List.of(TgDataType.STRING, TgDataType.STRING), rowList);
+        TgCsvExporter.of().header(false).nullValue("NULL").lineSeparator("\n").exportLow(lowResultSet, file);
+        assertEquals("\"\",NULL\n\"NULL\",a\n", Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExportResult() throws Exception {
+        var rowList = List.<List<Object>>of(List.of(1), List.of(2), List.of(3));
+        var eventList = new ArrayList<String>();
+        var file = tempDir.resolve("test.csv");
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setQueryResult(sql -> FutureResponseTestMock.of(new IceaxeResultSetTestMock(List.of("foo"), List.of(TgDataType.INT), rowList)));
+            try (var ps = session.createQuery("select foo from test"); //
+                    var transaction = session.createTransaction(TgTxOption.ofOCC()); //
+                    var result = ps.execute(transaction)) {
+                result.addEventListener(new TsurugiQueryResultEventListener<>() {
+                    @Override
+                    public void readRecord(TsurugiQueryResult<TsurugiResultEntity> result, TsurugiResultEntity record) {
+                        eventList.add("readRecord");
+                    }
+
+                    @Override
+                    public void endResult(TsurugiQueryResult<TsurugiResultEntity> result) {
+                        eventList.add("endResult");
+                    }
+                });
+
+                var exportResult = TgCsvExporter.of().header(false).lineSeparator("\n").export(result, file);
+                assertEquals(3, exportResult.getRowCount());
+                assertEquals(3, result.getReadCount());
+            }
+        }
+        assertEquals("1\n2\n3\n", Files.readString(file, StandardCharsets.UTF_8));
+        assertEquals(List.of("endResult"), eventList);
+    }
+}
@@ -0,0 +1,91 @@
+package com.tsurugidb.iceaxe.sql.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+
+class IceaxeCsvSegmentParserTest {
+
+    private static IceaxeCsvSegmentParser parser(String text, String nullValue, String[] names, TgDataType[] types) {
+        var buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        return new IceaxeCsvSegmentParser(buffer, ',', nullValue, names, types, 0);
+    }
+
+    @Test
+    void testParseRecord() {
+        var target = parser("a,\"b,\"\"c\"\"\",,\"\"\r\nあ,x\"y\n\nlast", "", null, null);
+        var list = new ArrayList<String>();
+
+        assertTrue(target.hasNext());
+        target.parseRecord(list);
+        assertEquals(Arrays.asList("a", "b,\"c\"", null, ""), list);
+
+        assertTrue(target.hasNext());
+        target.parseRecord(list);
+        assertEquals(Arrays.asList("あ", "x\"y"), list);
+
+        assertTrue(target.hasNext());
+        target.parseRecord(list);
+        assertEquals(Arrays.asList("last"), list);
+
+        assertFalse(target.hasNext());
+    }
+
+    @Test
+    void testNext() {
+        var names = new String[] { "c0", "c1", "c2", "c3" };
+        var types = new TgDataType[] { TgDataType.INT, TgDataType.DECIMAL, TgDataType.STRING, TgDataType.DATE };
+        var target = parser("1,1.50,abc,2023-01-02\n2,NULL,NULL,NULL\n", "NULL", names, types);
+
+        var expected1 = TgBindParameters.of().addInt("c0", 1).addDecimal("c1", new BigDecimal("1.50")).addString("c2", "abc").addDate("c3", LocalDate.of(2023, 1, 2));
+        assertEquals(expected1.toLowParameterList(), target.next().toLowParameterList());
+        var expected2 = TgBindParameters.of().addInt("c0", 2).addDecimal("c1", null).addString("c2", null).addDate("c3", null);
+        assertEquals(expected2.toLowParameterList(), target.next().toLowParameterList());
+        assertFalse(target.hasNext());
+        assertEquals(2, target.getRowCount());
+    }
+
+    @Test
+    void testError() {
+        var names = new String[] { "c0", "c1" };
+        var types = new TgDataType[] { TgDataType.INT, TgDataType.LONG };
+
+        var target1 = parser("1,x\n", "", names, types);
+        var e1 = assertThrows(IllegalArgumentException.class, () -> target1.next());
+        assertEquals("parse error. value=x. segment=0, record=1, column=1", e1.getMessage());
+
+        var target2 = parser("1\n", "", names, types);
+        var e2 = assertThrows(IllegalArgumentException.class, () -> target2.next());
+        assertEquals("column size mismatch. expected=2, actual=1. segment=0, record=1", e2.getMessage());
+    }
+
+    @Test
+    void testBoolean() {
+        var names = new String[] { "c0" };
+        var types = new TgDataType[] { TgDataType.BOOLEAN };
+
+        var target1 = parser("true\nTRUE\n1\nfalse\nFalse\n0\n", "", names, types);
+        for (boolean expected : new boolean[] { true, true, true, false, false, false }) {
+            assertEquals(TgBindParameters.of().addBoolean("c0", expected).toLowParameterList(), target1.next().toLowParameterList());
+        }
+        assertFalse(target1.hasNext());
+
+        var target2 = parser("true\nyes\n", "", names, types);
+        target2.next();
+        var e = assertThrows(IllegalArgumentException.class, () -> target2.next());
+        assertEquals("parse error. value=yes. segment=0, record=2, column=0", e.getMessage());
+    }
+}
@@ -0,0 +1,114 @@
+package com.tsurugidb.iceaxe.sql.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TgCsvLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSplitSegments() throws Exception {
+        var file = tempDir.resolve("test.csv");
+        Files.writeString(file, "id\n1\n22\n333\n4444\n5", StandardCharsets.UTF_8);
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            assertEquals(List.of(3L, 8L, 12L, 17L, size), TgCsvLoader.splitSegments(channel, 3, size, 3));
+            assertEquals(List.of(3L, size), TgCsvLoader.splitSegments(channel, 3, size, 100));
+            assertEquals(List.of(size), TgCsvLoader.splitSegments(channel, size, size, 3));
+        }
+    }
+
+    @Test
+    void testCheckpoint() throws Exception {
+        var file = tempDir.resolve("test.checkpoint");
+
+        try (var checkpoint = IceaxeLoadCheckpoint.open(file, "fileSize=100", 10)) {
+            assertFalse(checkpoint.isCompleted(1));
+            checkpoint.complete(1);
+            checkpoint.complete(3);
+            assertTrue(checkpoint.isCompleted(1));
+        }
+
+        var checkpoint = IceaxeLoadCheckpoint.open(file, "fileSize=100", 10);
+        assertFalse(checkpoint.isCompleted(0));
+        assertTrue(checkpoint.isCompleted(1));
+        assertTrue(checkpoint.isCompleted(3));
+        checkpoint.delete();
+        assertFalse(Files.exists(file));
+
+        Files.writeString(file, "iceaxe-load-checkpoint fileSize=200 segmentSize=10\n", StandardCharsets.UTF_8);
+        assertThrows(IllegalStateException.class, () -> IceaxeLoadCheckpoint.open(file, "fileSize=100", 10));
+    }
+
+    @Test
+    void testCheckpointInputKey() throws Exception {
+        var file = tempDir.resolve("test.csv");
+        var time = FileTime.fromMillis(1_700_000_000_000L);
+        Files.writeString(file, "1,abc\n2,def\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, time);
+        String key1 = inputKey(file);
+        assertEquals(key1, inputKey(file));
+
+        // same size and last modified time, but different content
+        Files.writeString(file, "1,abc\n2,xyz\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, time);
+        String key2 = inputKey(file);
+        assertFalse(key1.equals(key2));
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(time.toMillis() + 1000));
+        assertFalse(key2.equals(inputKey(file)));
+
+        // larger than the fingerprint
+        var large = new byte[200 * 1024];
+        Files.write(file, large);
+        String key3 = inputKey(file);
+        large[large.length - 1] = 1;
+        Files.write(file, large);
+        assertFalse(key3.equals(inputKey(file)));
+    }
+
+    private static String inputKey(Path file) throws Exception {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return IceaxeLoadCheckpoint.inputKey(file, channel);
+        }
+    }
+
+    @Test
+    void testBomSize() throws Exception {
+        var file = tempDir.resolve("test.csv");
+        Files.write(file, new byte[] { (byte) 0xef, (byte) 0xbb, (byte) 0xbf, '1', '\n' });
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertEquals(3, TgCsvLoader.bomSize(channel));
+        }
+
+        Files.writeString(file, "1\n", StandardCharsets.UTF_8);
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertEquals(0, TgCsvLoader.bomSize(channel));
+        }
+    }
+
+    @Test
+    void testSetting() {
+        var target = TgCsvLoader.of("test");
+        assertThrows(IllegalArgumentException.class, () -> target.separator('\n'));
+        assertThrows(IllegalArgumentException.class, () -> target.parallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> target.batch(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> target.segmentSize(0));
+    }
+}
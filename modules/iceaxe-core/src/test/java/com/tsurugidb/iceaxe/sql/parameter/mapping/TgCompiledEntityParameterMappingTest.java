@@ -0,0 +1,151 @@
+package com.tsurugidb.iceaxe.sql.parameter.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.tsubakuro.sql.Parameters;
+import com.tsurugidb.tsubakuro.sql.Placeholders;
+
+class TgCompiledEntityParameterMappingTest {
+
+    public static class TestEntity {
+        private final int fooBar;
+        private final Long amount;
+        private final String name;
+        private final BigDecimal price;
+        private final boolean flag;
+
+        TestEntity(int fooBar, Long amount, String name, BigDecimal price, boolean flag) {
+            this.fooBar = fooBar;
+            this.amount = amount;
+            this.name = name;
+            this.price = price;
+            this.flag = flag;
+        }
+
+        public int getFooBar() {
+            return this.fooBar;
+        }
+
+        public Long getAmount() {
+            return this.amount;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public BigDecimal getPrice() {
+            return this.price;
+        }
+
+        public boolean isFlag() {
+            return this.flag;
+        }
+    }
+
+    @Test
+    void testToLowParameterList() {
+        var target = TgCompiledEntityParameterMapping.of(TestEntity.class, //
+                TgBindVariable.ofInt("foo_bar"), //
+                TgBindVariable.ofLong("AMOUNT"), //
+                TgBindVariable.ofString("name"), //
+                TgBindVariable.ofDecimal("price", 1, RoundingMode.DOWN), //
+                TgBindVariable.ofBoolean("flag"));
+        assertEquals(TestEntity.class, target.getEntityClass());
+
+        var expectedPlaceholder = List.of( //
+                Placeholders.of("foo_bar", TgDataType.INT.getLowDataType()), //
+                Placeholders.of("AMOUNT", TgDataType.LONG.getLowDataType()), //
+                Placeholders.of("name", TgDataType.STRING.getLowDataType()), //
+                Placeholders.of("price", TgDataType.DECIMAL.getLowDataType()), //
+                Placeholders.of("flag", TgDataType.BOOLEAN.getLowDataType()));
+        assertEquals(expectedPlaceholder, target.toLowPlaceholderList());
+
+        var entity1 = new TestEntity(123, 456L, "abc", new BigDecimal("12.34"), true);
+        var expected1 = List.of( //
+                Parameters.of("foo_bar", 123), //
+                Parameters.of("AMOUNT", 456L), //
+                Parameters.of("name", "abc"), //
+                Parameters.of("price", new BigDecimal("12.3")), //
+                Parameters.of("flag", true));
+        assertEquals(expected1, target.toLowParameterList(entity1, IceaxeConvertUtil.INSTANCE));
+
+        var entity2 = new TestEntity(0, null, null, null, false);
+        var expected2 = List.of( //
+                Parameters.of("foo_bar", 0), //
+                Parameters.ofNull("AMOUNT"), //
+                Parameters.ofNull("name"), //
+                Parameters.ofNull("price"), //
+                Parameters.of("flag", false));
+        assertEquals(expected2, target.toLowParameterList(entity2, IceaxeConvertUtil.INSTANCE));
+    }
+
+    public static class ZonedEntity {
+        private final ZonedDateTime zoned;
+        private final OffsetDateTime offset;
+
+        ZonedEntity(ZonedDateTime zoned, OffsetDateTime offset) {
+            this.zoned = zoned;
+            this.offset = offset;
+        }
+
+        public ZonedDateTime getZoned() {
+            return this.zoned;
+        }
+
+        public OffsetDateTime getOffset() {
+            return this.offset;
+        }
+    }
+
+    @Test
+    void testZonedDateTime() {
+        var target = TgCompiledEntityParameterMapping.of(ZonedEntity.class, //
+                TgBindVariable.ofZonedDateTime("zoned"), //
+                TgBindVariable.ofZonedDateTime("offset"));
+
+        var zoned = ZonedDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneId.of("Asia/Tokyo"));
+        var offset = OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+        var expected = List.of( //
+                Parameters.of("zoned", zoned.toOffsetDateTime()), //
+                Parameters.of("offset", offset.atZoneSameInstant(ZoneId.systemDefault()).toOffsetDateTime()));
+        assertEquals(expected, target.toLowParameterList(new ZonedEntity(zoned, offset), IceaxeConvertUtil.INSTANCE));
+
+        var expectedNull = List.of( //
+                Parameters.ofNull("zoned"), //
+                Parameters.ofNull("offset"));
+        assertEquals(expectedNull, target.toLowParameterList(new ZonedEntity(null, null), IceaxeConvertUtil.INSTANCE));
+    }
+
+    @Test
+    void testConvertType() {
+        var variables = TgBindVariables.of().addLong("foo_bar").addString("amount");
+        var target = TgCompiledEntityParameterMapping.of(TestEntity.class, variables);
+
+        var entity = new TestEntity(123, 456L, "abc", null, false);
+        var expected = List.of( //
+                Parameters.of("foo_bar", 123L), //
+                Parameters.of("amount", "456"));
+        assertEquals(expected, target.toLowParameterList(entity, IceaxeConvertUtil.INSTANCE));
+    }
+
+    @Test
+    void testNotFoundGetter() {
+        assertThrows(IllegalArgumentException.class, () -> TgCompiledEntityParameterMapping.of(TestEntity.class, TgBindVariable.ofInt("unknown")));
+    }
+}
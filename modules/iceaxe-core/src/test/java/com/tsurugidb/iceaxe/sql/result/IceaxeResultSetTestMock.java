@@ -0,0 +1,189 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+import com.tsurugidb.tsubakuro.sql.io.DateTimeInterval;
+
+/**
+ * ResultSet mock for test.
+ */
+public class IceaxeResultSetTestMock implements ResultSet {
+
+    private final List<String> nameList;
+    private final List<AtomType> lowTypeList;
+    private final List<List<Object>> rowList;
+    private int rowIndex = -1;
+    private int index = -1;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param nameList column name list
+     * @param typeList column type list
+     * @param rowList  row list
+     */
+    public IceaxeResultSetTestMock(List<String> nameList, List<TgDataType> typeList, List<List<Object>> rowList) {
+        this(nameList, typeList.stream().map(TgDataType::getLowDataType).toArray(AtomType[]::new), rowList);
+    }
+
+    private IceaxeResultSetTestMock(List<String> nameList, AtomType[] lowTypes, List<List<Object>> rowList) {
+        this.nameList = nameList;
+        this.lowTypeList = List.of(lowTypes);
+        this.rowList = rowList;
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param nameList    column name list
+     * @param lowTypeList column low type list
+     * @param rowList     row list
+     * @return ResultSet mock
+     */
+    public static IceaxeResultSetTestMock ofLow(List<String> nameList, List<AtomType> lowTypeList, List<List<Object>> rowList) {
+        return new IceaxeResultSetTestMock(nameList, lowTypeList.toArray(AtomType[]::new), rowList);
+    }
+
+    @Override
+    public boolean nextRow() throws IOException, ServerException, InterruptedException {
+        this.index = -1;
+        return ++rowIndex < rowList.size();
+    }
+
+    @Override
+    public boolean nextColumn() throws IOException, ServerException, InterruptedException {
+        return ++index < lowTypeList.size();
+    }
+
+    private Object getValue() {
+        return rowList.get(rowIndex).get(index);
+    }
+
+    @Override
+    public boolean isNull() {
+        return getValue() == null;
+    }
+
+    @Override
+    public boolean fetchBooleanValue() throws IOException, ServerException, InterruptedException {
+        return (Boolean) getValue();
+    }
+
+    @Override
+    public int fetchInt4Value() throws IOException, ServerException, InterruptedException {
+        return (Integer) getValue();
+    }
+
+    @Override
+    public long fetchInt8Value() throws IOException, ServerException, InterruptedException {
+        return (Long) getValue();
+    }
+
+    @Override
+    public float fetchFloat4Value() throws IOException, ServerException, InterruptedException {
+        return (Float) getValue();
+    }
+
+    @Override
+    public double fetchFloat8Value() throws IOException, ServerException, InterruptedException {
+        return (Double) getValue();
+    }
+
+    @Override
+    public BigDecimal fetchDecimalValue() throws IOException, ServerException, InterruptedException {
+        return (BigDecimal) getValue();
+    }
+
+    @Override
+    public String fetchCharacterValue() throws IOException, ServerException, InterruptedException {
+        return (String) getValue();
+    }
+
+    @Override
+    public byte[] fetchOctetValue() throws IOException, ServerException, InterruptedException {
+        return (byte[]) getValue();
+    }
+
+    @Override
+    public boolean[] fetchBitValue() throws IOException, ServerException, InterruptedException {
+        return (boolean[]) getValue();
+    }
+
+    @Override
+    public LocalDate fetchDateValue() throws IOException, ServerException, InterruptedException {
+        return (LocalDate) getValue();
+    }
+
+    @Override
+    public LocalTime fetchTimeOfDayValue() throws IOException, ServerException, InterruptedException {
+        return (LocalTime) getValue();
+    }
+
+    @Override
+    public LocalDateTime fetchTimePointValue() throws IOException, ServerException, InterruptedException {
+        return (LocalDateTime) getValue();
+    }
+
+    @Override
+    public OffsetTime fetchTimeOfDayWithTimeZoneValue() throws IOException, ServerException, InterruptedException {
+        return (OffsetTime) getValue();
+    }
+
+    @Override
+    public OffsetDateTime fetchTimePointWithTimeZoneValue() throws IOException, ServerException, InterruptedException {
+        return (OffsetDateTime) getValue();
+    }
+
+    @Override
+    public DateTimeInterval fetchDateTimeIntervalValue() throws IOException, ServerException, InterruptedException {
+        return (DateTimeInterval) getValue();
+    }
+
+    @Override
+    public int beginArrayValue() throws IOException, ServerException, InterruptedException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void endArrayValue() throws IOException, ServerException, InterruptedException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int beginRowValue() throws IOException, ServerException, InterruptedException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void endRowValue() throws IOException, ServerException, InterruptedException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ResultSetMetadata getMetadata() throws IOException, ServerException, InterruptedException {
+        return new ResultSetMetadata() {
+            @Override
+            public List<? extends Column> getColumns() {
+                var columnList = new ArrayList<Column>();
+                for (int i = 0; i < lowTypeList.size(); i++) {
+                    columnList.add(Column.newBuilder().setName(nameList.get(i)).setAtomType(lowTypeList.get(i)).build());
+                }
+                return columnList;
+            }
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock.FutureResponseTestMock;
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.result.event.TsurugiQueryResultEventListener;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+
+class TgResultColumnBatchTest {
+
+    private static int fetch(TgResultColumnBatch batch, IceaxeResultSetTestMock lowResultSet, TsurugiResultRecord record) throws Exception {
+        batch.clear(record);
+        while (!batch.isFull() && lowResultSet.nextRow()) {
+            record.reset();
+            batch.read(record);
+        }
+        return batch.size();
+    }
+
+    @Test
+    void testRead() throws Exception {
+        var nameList = List.of("id", "amount", "price", "name");
+        var typeList = List.of(TgDataType.INT, TgDataType.LONG, TgDataType.DECIMAL, TgDataType.STRING);
+        var rowList = List.<List<Object>>of( //
+                Arrays.asList(1, 10L, BigDecimal.valueOf(1), "a"), //
+                Arrays.asList(2, null, null, null), //
+                Arrays.asList(3, 30L, BigDecimal.valueOf(3), "c"));
+        var lowResultSet = new IceaxeResultSetTestMock(nameList, typeList, rowList);
+        var record = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE) {
+        };
+
+        var target = TgResultColumnBatch.of(2);
+        assertEquals(2, fetch(target, lowResultSet, record));
+        assertEquals(nameList, target.getNameList());
+        assertEquals(4, target.getColumnSize());
+        assertEquals(TgDataType.LONG, target.getType(1));
+        assertArrayEquals(new int[] { 1, 2 }, Arrays.copyOf(target.getInts(0), 2));
+        assertArrayEquals(new long[] { 10, 0 }, Arrays.copyOf(target.getLongs(1), 2));
+        assertFalse(target.isNull(1, 0));
+        assertTrue(target.isNull(1, 1));
+        assertEquals(BigDecimal.valueOf(1), target.getValue(2, 0));
+        assertNull(target.getValue(3, 1));
+        assertThrows(IllegalStateException.class, () -> target.getLongs(0));
+        assertThrows(IllegalStateException.class, () -> target.getObjects(0));
+
+        var ints = target.getInts(0);
+        assertEquals(1, fetch(target, lowResultSet, record));
+        assertEquals(ints, target.getInts(0));
+        assertEquals(3, target.getInts(0)[0]);
+        assertFalse(target.isNull(1, 0));
+        assertEquals("c", target.getObjects(3)[0]);
+        assertThrows(IndexOutOfBoundsException.class, () -> target.isNull(0, 1));
+
+        assertEquals(0, fetch(target, lowResultSet, record));
+    }
+
+    @Test
+    void testFetchColumnBatchEvent() throws Exception {
+        var rowList = List.<List<Object>>of(List.of(1), List.of(2), List.of(3));
+        var eventList = new ArrayList<String>();
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setQueryResult(sql -> FutureResponseTestMock.of(new IceaxeResultSetTestMock(List.of("id"), List.of(TgDataType.INT), rowList)));
+            try (var ps = session.createQuery("select id from test"); //
+                    var transaction = session.createTransaction(TgTxOption.ofOCC()); //
+                    var result = ps.execute(transaction)) {
+                result.addEventListener(new TsurugiQueryResultEventListener<>() {
+                    @Override
+                    public void readRecord(TsurugiQueryResult<TsurugiResultEntity> result, TsurugiResultEntity record) {
+                        eventList.add("readRecord");
+                    }
+
+                    @Override
+                    public void readColumnBatch(TsurugiQueryResult<TsurugiResultEntity> result, TgResultColumnBatch batch) {
+                        eventList.add("readColumnBatch:" + batch.size());
+                    }
+                });
+
+                var batch = TgResultColumnBatch.of(2);
+                assertEquals(2, result.fetchColumnBatch(batch));
+                assertEquals(1, result.fetchColumnBatch(batch));
+                assertEquals(0, result.fetchColumnBatch(batch));
+                assertEquals(3, result.getReadCount());
+            }
+        }
+        assertEquals(List.of("readColumnBatch:2", "readColumnBatch:1"), eventList);
+    }
+
+    @Test
+    void testCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> TgResultColumnBatch.of(0));
+    }
+}
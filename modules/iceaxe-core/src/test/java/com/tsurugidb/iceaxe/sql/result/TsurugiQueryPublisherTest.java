@@ -0,0 +1,103 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+class TsurugiQueryPublisherTest {
+
+    private static class TestSubscriber implements Flow.Subscriber<Object> {
+        Flow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Object item) {
+            throw new AssertionError("unexpected onNext");
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+
+    private static TsurugiQueryPublisher<Object> createPublisher(AtomicInteger executeCount) {
+        var session = new TsurugiSession(null, TgSessionOption.of());
+        return new TsurugiQueryPublisher<>(null, session, TgTxOption.ofOCC(), tx -> {
+            executeCount.incrementAndGet();
+            throw new IOException("test");
+        }, Runnable::run);
+    }
+
+    @Test
+    void lazyExecute() {
+        var executeCount = new AtomicInteger();
+        var target = createPublisher(executeCount);
+        var subscriber = new TestSubscriber();
+        target.subscribe(subscriber);
+        assertNotNull(subscriber.subscription);
+        assertEquals(0, executeCount.get());
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void requestNotPositive() {
+        var executeCount = new AtomicInteger();
+        var target = createPublisher(executeCount);
+        var subscriber = new TestSubscriber();
+        target.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertFalse(subscriber.completed);
+        assertEquals(0, executeCount.get());
+    }
+
+    @Test
+    void cancelBeforeRequest() {
+        var executeCount = new AtomicInteger();
+        var target = createPublisher(executeCount);
+        var subscriber = new TestSubscriber();
+        target.subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+        assertNull(subscriber.error);
+        assertFalse(subscriber.completed);
+        assertEquals(0, executeCount.get());
+    }
+
+    @Test
+    void subscribeTwice() {
+        var target = createPublisher(new AtomicInteger());
+        target.subscribe(new TestSubscriber());
+
+        var subscriber = new TestSubscriber();
+        target.subscribe(subscriber);
+        assertNotNull(subscriber.subscription);
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+    }
+}
@@ -0,0 +1,198 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock.FutureResponseTestMock;
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.result.event.TsurugiQueryResultEventListener;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+class TsurugiQueryResultParallelConvertTest {
+
+    private static final String SQL = "select foo from test";
+
+    private ExecutorService service;
+
+    @BeforeEach
+    void beforeEach() {
+        this.service = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void afterEach() {
+        service.shutdownNow();
+    }
+
+    private static TsurugiSessionTestMock createSession(int size) {
+        var rowList = new ArrayList<List<Object>>(size);
+        for (int i = 0; i < size; i++) {
+            rowList.add(List.of(i));
+        }
+        var session = new TsurugiSessionTestMock();
+        session.setQueryResult(sql -> FutureResponseTestMock.of(new IceaxeResultSetTestMock(List.of("foo"), List.of(TgDataType.INT), rowList)));
+        return session;
+    }
+
+    @Test
+    void order() throws Exception {
+        int size = 1000;
+        var resultMapping = TgResultMapping.of(record -> {
+            int value = record.getInt(0);
+            if (value % 13 == 0) {
+                Thread.sleep(1);
+            }
+            return value;
+        });
+        try (var session = createSession(size); //
+                var ps = session.createQuery(SQL, resultMapping); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            try (var result = ps.execute(transaction)) {
+                result.setParallelConvert(7, 4, service);
+                var list = result.getRecordList();
+                assertEquals(size, list.size());
+                for (int i = 0; i < size; i++) {
+                    assertEquals(i, list.get(i));
+                }
+                assertEquals(size, result.getReadCount());
+            }
+        }
+    }
+
+    @Test
+    void eventOrder() throws Exception {
+        int size = 25;
+        var eventList = new CopyOnWriteArrayList<String>();
+        try (var session = createSession(size); //
+                var ps = session.createQuery(SQL, TgResultMapping.of(record -> record.getInt(0))); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            try (var result = ps.execute(transaction)) {
+                result.addEventListener(new TsurugiQueryResultEventListener<Integer>() {
+                    @Override
+                    public void readRecord(TsurugiQueryResult<Integer> result, Integer record) {
+                        eventList.add("read:" + record);
+                    }
+
+                    @Override
+                    public void endResult(TsurugiQueryResult<Integer> result) {
+                        eventList.add("end");
+                    }
+                });
+                result.setParallelConvert(7, 4, service);
+                result.getRecordList();
+            }
+        }
+
+        // endResult is called after the records of all chunks are read
+        var expected = new ArrayList<String>();
+        for (int i = 0; i < size; i++) {
+            expected.add("read:" + i);
+        }
+        expected.add("end");
+        assertEquals(expected, eventList);
+    }
+
+    @Test
+    void parallelism() throws Exception {
+        int chunkSize = 3;
+        int parallelism = 2;
+        var submitCount = new AtomicInteger();
+        var consumeCount = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        Executor executor = task -> {
+            int inFlight = submitCount.incrementAndGet() - consumeCount.get() / chunkSize;
+            maxInFlight.accumulateAndGet(inFlight, Math::max);
+            service.execute(task);
+        };
+
+        try (var session = createSession(10); //
+                var ps = session.createQuery(SQL, TgResultMapping.of(record -> record.getInt(0))); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            try (var result = ps.execute(transaction)) {
+                result.setParallelConvert(chunkSize, parallelism, executor);
+                var list = new ArrayList<Integer>();
+                result.whileEach(value -> {
+                    list.add(value);
+                    consumeCount.incrementAndGet();
+                });
+                assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), list);
+            }
+        }
+        assertEquals(4, submitCount.get());
+        assertEquals(parallelism, maxInFlight.get());
+    }
+
+    @Test
+    void convertError() throws Exception {
+        var convertCount = new AtomicInteger();
+        var resultMapping = TgResultMapping.of(record -> {
+            convertCount.incrementAndGet();
+            int value = record.getInt(0);
+            if (value == 5) {
+                throw new IllegalStateException("test error");
+            }
+            Thread.sleep(1);
+            return value;
+        });
+        var singleService = Executors.newSingleThreadExecutor();
+        try (var session = createSession(1000); //
+                var ps = session.createQuery(SQL, resultMapping); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            var result = ps.execute(transaction);
+            result.setParallelConvert(10, 4, singleService);
+            var list = new ArrayList<Integer>();
+            var e = assertThrows(IllegalStateException.class, () -> result.whileEach(list::add));
+            assertEquals("test error", e.getMessage());
+            assertEquals(List.of(), list);
+
+            // the pending chunks are not converted
+            singleService.shutdown();
+            assertTrue(singleService.awaitTermination(10, TimeUnit.SECONDS));
+            assertTrue(convertCount.get() < 20, "convertCount=" + convertCount.get());
+        } finally {
+            singleService.shutdownNow();
+        }
+    }
+
+    @Test
+    void actionError() throws Exception {
+        var convertCount = new AtomicInteger();
+        var resultMapping = TgResultMapping.of(record -> {
+            convertCount.incrementAndGet();
+            Thread.sleep(1);
+            return record.getInt(0);
+        });
+        var singleService = Executors.newSingleThreadExecutor();
+        try (var session = createSession(1000); //
+                var ps = session.createQuery(SQL, resultMapping); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            var result = ps.execute(transaction);
+            result.setParallelConvert(10, 4, singleService);
+            var e = assertThrows(IllegalStateException.class, () -> result.whileEach(value -> {
+                throw new IllegalStateException("action error");
+            }));
+            assertEquals("action error", e.getMessage());
+
+            singleService.shutdown();
+            assertTrue(singleService.awaitTermination(10, TimeUnit.SECONDS));
+            assertTrue(convertCount.get() < 30, "convertCount=" + convertCount.get());
+        } finally {
+            singleService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock.FutureResponseTestMock;
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+
+class TsurugiQueryResultPrefetchSpliteratorTest {
+
+    private static final String SQL = "select foo from test";
+
+    private static class TestResultSet extends IceaxeResultSetTestMock {
+        private final int errorRow;
+        private final AtomicInteger readCount;
+
+        TestResultSet(int size, int errorRow, AtomicInteger readCount) {
+            super(List.of("foo"), List.of(TgDataType.INT), createRowList(size));
+            this.errorRow = errorRow;
+            this.readCount = readCount;
+        }
+
+        private static List<List<Object>> createRowList(int size) {
+            var list = new ArrayList<List<Object>>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(List.of(i));
+            }
+            return list;
+        }
+
+        @Override
+        public boolean nextRow() throws IOException, ServerException, InterruptedException {
+            if (readCount.get() == errorRow) {
+                throw new IOException("test error");
+            }
+            boolean exists = super.nextRow();
+            if (exists) {
+                readCount.incrementAndGet();
+            }
+            return exists;
+        }
+    }
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void beforeEach() {
+        this.executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdownNow();
+    }
+
+    private static TsurugiSessionTestMock createSession(int size, int errorRow, AtomicInteger readCount) {
+        var session = new TsurugiSessionTestMock();
+        session.setQueryResult(sql -> FutureResponseTestMock.of(new TestResultSet(size, errorRow, readCount)));
+        return session;
+    }
+
+    @Test
+    void stream() throws Exception {
+        var readCount = new AtomicInteger();
+        try (var session = createSession(25, -1, readCount); //
+                var ps = session.createQuery(SQL, TgResultMapping.of(record -> record.getInt(0))); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            var result = ps.execute(transaction);
+            List<Integer> list;
+            try (var stream = result.stream(10, executor)) {
+                list = stream.collect(Collectors.toList());
+            }
+            assertEquals(25, list.size());
+            for (int i = 0; i < list.size(); i++) {
+                assertEquals(i, list.get(i));
+            }
+        }
+        assertEquals(25, readCount.get());
+    }
+
+    @Test
+    void streamEmpty() throws Exception {
+        try (var session = createSession(0, -1, new AtomicInteger()); //
+                var ps = session.createQuery(SQL, TgResultMapping.of(record -> record.getInt(0))); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            var result = ps.execute(transaction);
+            try (var stream = result.stream(10, executor)) {
+                assertEquals(0, stream.count());
+            }
+        }
+    }
+
+    @Test
+    void closeEarly() throws Exception {
+        var readCount = new AtomicInteger();
+        try (var session = createSession(1000, -1, readCount); //
+                var ps = session.createQuery(SQL, TgResultMapping.of(record -> record.getInt(0))); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            var result = ps.execute(transaction);
+            try (var stream = result.stream(10, executor)) {
+                var list = stream.limit(5).collect(Collectors.toList());
+                assertEquals(List.of(0, 1, 2, 3, 4), list);
+            }
+
+            // the producer has stopped: at most three batches (and the look-ahead row) were read
+            assertTrue(readCount.get() <= 31, "readCount=" + readCount.get());
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void abandon() throws Exception {
+        var readCount = new AtomicInteger();
+        try (var session = createSession(1000, -1, readCount); //
+                var ps = session.createQuery(SQL, TgResultMapping.of(record -> record.getInt(0))); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            var result = ps.execute(transaction);
+            // the stream is not closed
+            var iterator = result.stream(10, executor).iterator();
+            assertEquals(0, iterator.next());
+            iterator = null;
+
+            executor.shutdown();
+            for (int i = 0; i < 100 && !executor.isTerminated(); i++) {
+                System.gc();
+                executor.awaitTermination(100, TimeUnit.MILLISECONDS);
+            }
+            assertTrue(executor.isTerminated());
+            assertTrue(readCount.get() <= 31, "readCount=" + readCount.get());
+        }
+    }
+
+    @Test
+    void producerError() throws Exception {
+        try (var session = createSession(100, 15, new AtomicInteger()); //
+                var ps = session.createQuery(SQL, TgResultMapping.of(record -> record.getInt(0))); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            var result = ps.execute(transaction);
+            var list = new ArrayList<Integer>();
+            try (var stream = result.stream(10, executor)) {
+                var e = assertThrows(UncheckedIOException.class, () -> stream.forEach(list::add));
+                assertEquals("test error", e.getCause().getMessage());
+            }
+            // the first batch is consumed before the error
+            assertEquals(10, list.size());
+        }
+    }
+}
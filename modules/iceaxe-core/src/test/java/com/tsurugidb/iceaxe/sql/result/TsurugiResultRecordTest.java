@@ -0,0 +1,67 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+
+class TsurugiResultRecordTest {
+
+    @Test
+    void testGetByIndex() throws Exception {
+        var nameList = List.of("c0", "c1", "c2", "c3", "c4", "c5", "c6", "c7");
+        var typeList = List.of(TgDataType.BOOLEAN, TgDataType.INT, TgDataType.LONG, TgDataType.FLOAT, TgDataType.DOUBLE, TgDataType.DECIMAL, TgDataType.STRING, TgDataType.INT);
+        var row = Arrays.<Object>asList(true, 123, 456L, 1.5f, 2.5d, BigDecimal.valueOf(789), "abc", null);
+        var lowResultSet = new IceaxeResultSetTestMock(nameList, typeList, List.of(row));
+        lowResultSet.nextRow();
+        var record = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE);
+
+        assertEquals("abc", record.getStringOrNull(6));
+        assertTrue(record.getBoolean(0));
+        assertEquals(123, record.getInt(1));
+        assertEquals(123L, record.getLong(1));
+        assertEquals(456L, record.getLong(2));
+        assertEquals(1.5f, record.getFloat(3));
+        assertEquals(2.5d, record.getDouble(4));
+        assertEquals(2, record.getInt(4));
+        assertEquals(789, record.getInt(5));
+        assertEquals(BigDecimal.valueOf(789), record.getDecimalOrNull(5));
+        assertEquals(TgDataType.DECIMAL, record.getType(5));
+        assertEquals(456L, record.getValue(2));
+
+        assertFalse(record.isNull(1));
+        assertTrue(record.isNull(7));
+        assertNull(record.getValue(7));
+        var e = assertThrows(NullPointerException.class, () -> record.getInt(7));
+        assertEquals("TsurugiResultRecord.getInt(7) is null", e.getMessage());
+        assertThrows(IndexOutOfBoundsException.class, () -> record.getInt(8));
+    }
+
+    @Test
+    void testGetByIndexNextRow() throws Exception {
+        var nameList = List.of("c0", "c1");
+        var typeList = List.of(TgDataType.INT, TgDataType.INT);
+        var rowList = List.<List<Object>>of(List.of(1, 2), List.of(3, 4));
+        var lowResultSet = new IceaxeResultSetTestMock(nameList, typeList, rowList);
+        var record = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE);
+
+        lowResultSet.nextRow();
+        assertEquals(2, record.getInt(1));
+        assertEquals(1, record.getInt(0));
+
+        lowResultSet.nextRow();
+        record.reset();
+        assertEquals(3, record.getInt(0));
+        assertEquals(4, record.getInt(1));
+    }
+}
@@ -0,0 +1,147 @@
+package com.tsurugidb.iceaxe.sql.result;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.tsubakuro.sql.io.DateTimeInterval;
+
+class TsurugiResultSpillListTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCodec() {
+        var values = new Object[] { null, true, false, 123, 456L, 1.5f, 2.5d, new BigDecimal("-12.34"), "あいう", new byte[] { 1, 2 }, new boolean[] { true, false, true }, //
+                LocalDate.of(2023, 1, 2), LocalTime.of(12, 34, 56, 789), LocalDateTime.of(2023, 1, 2, 3, 4, 5, 6), //
+                OffsetTime.of(1, 2, 3, 4, ZoneOffset.ofHours(9)), OffsetDateTime.of(2023, 1, 2, 3, 4, 5, 6, ZoneOffset.ofHours(-3)), //
+                new DateTimeInterval(1, -2, 3, -4_000_000_005L) };
+
+        var codec = new IceaxeSpillRowCodec();
+        var buffer = codec.encode(values);
+        int size = buffer.remaining();
+        var actual = IceaxeSpillRowCodec.decode(buffer.duplicate(), values.length);
+        assertEquals(values.length, actual.length);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof byte[]) {
+                assertArrayEquals((byte[]) values[i], (byte[]) actual[i]);
+            } else if (values[i] instanceof boolean[]) {
+                assertArrayEquals((boolean[]) values[i], (boolean[]) actual[i]);
+            } else if (values[i] instanceof DateTimeInterval) {
+                var expected = (DateTimeInterval) values[i];
+                var interval = (DateTimeInterval) actual[i];
+                assertEquals(expected.getYear(), interval.getYear());
+                assertEquals(expected.getMonth(), interval.getMonth());
+                assertEquals(expected.getDay(), interval.getDay());
+                assertEquals(expected.getNanoseconds(), interval.getNanoseconds());
+            } else {
+                assertEquals(values[i], actual[i]);
+            }
+        }
+
+        IceaxeSpillRowCodec.skip(buffer);
+        assertEquals(size, buffer.position());
+    }
+
+    @Test
+    void testSpill() throws Exception {
+        var nameList = List.of("foo", "bar", "zzz");
+        var typeList = List.of(TgDataType.INT, TgDataType.DECIMAL, TgDataType.STRING);
+        var rowList = new ArrayList<List<Object>>();
+        for (int i = 0; i < 200; i++) {
+            rowList.add(Arrays.asList(i, (i % 3 == 0) ? null : BigDecimal.valueOf(i, 1), "z" + i));
+        }
+        var lowResultSet = new IceaxeResultSetTestMock(nameList, typeList, rowList);
+
+        var target = new TsurugiResultSpillList<>(null, lowResultSet.getMetadata(), TgResultMapping.DEFAULT, IceaxeConvertUtil.INSTANCE, 1000, tempDir);
+        int heapCount = 0;
+        for (var row : rowList) {
+            if (target.addRow(row.toArray()) != null) {
+                heapCount++;
+            }
+        }
+        target.endRow();
+
+        assertEquals(200, target.size());
+        assertEquals(heapCount, target.getHeapSize());
+        assertTrue(heapCount > 0);
+        assertEquals(200 - heapCount, target.getSpillSize());
+        assertTrue(target.getSpillBytes() > 0);
+        assertTrue(countFiles() <= 1); // DELETE_ON_CLOSE may unlink the file on open (e.g. Linux)
+
+        // sequential
+        int i = 0;
+        for (var entity : target) {
+            assertEntity(i++, entity);
+        }
+        assertEquals(200, i);
+
+        // random
+        for (int j : new int[] { 199, 150, 70, heapCount, 0, 71, 128, 127 }) {
+            assertEntity(j, target.get(j));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> target.get(200));
+
+        target.close();
+        assertEquals(0, countFiles());
+        assertEntity(0, target.get(0));
+        assertThrows(IllegalStateException.class, () -> target.get(199));
+    }
+
+    @Test
+    void testHeapOnly() throws Exception {
+        var lowResultSet = new IceaxeResultSetTestMock(List.of("foo"), List.of(TgDataType.INT), List.of());
+        try (var target = new TsurugiResultSpillList<>(null, lowResultSet.getMetadata(), TgResultMapping.DEFAULT, IceaxeConvertUtil.INSTANCE, Long.MAX_VALUE, tempDir)) {
+            assertEquals(123, target.addRow(new Object[] { 123 }).getInt("foo"));
+            target.endRow();
+
+            assertEquals(1, target.size());
+            assertEquals(0, target.getSpillSize());
+            assertEquals(0, countFiles());
+        }
+    }
+
+    private static void assertEntity(int i, TsurugiResultEntity entity) {
+        assertEquals(i, entity.getInt("foo"));
+        if (i % 3 == 0) {
+            assertNull(entity.getDecimalOrNull("bar"));
+        } else {
+            assertEquals(BigDecimal.valueOf(i, 1), entity.getDecimalOrNull("bar"));
+        }
+        assertEquals("z" + i, entity.getString("zzz"));
+    }
+
+    private long countFiles() throws Exception {
+        try (var stream = Files.list(tempDir)) {
+            return stream.count();
+        }
+    }
+
+    @Test
+    void testUnsupportedType() {
+        var codec = new IceaxeSpillRowCodec();
+        assertThrows(UnsupportedOperationException.class, () -> codec.encode(new Object[] { new Object() }));
+        assertEquals(Integer.BYTES, codec.encode(new Object[] {}).remaining());
+    }
+}
@@ -0,0 +1,235 @@
+package com.tsurugidb.iceaxe.sql.result.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.result.IceaxeResultSetTestMock;
+import com.tsurugidb.iceaxe.sql.result.TsurugiResultRecord;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+
+class TgCompiledEntityResultMappingTest {
+
+    static class TestEntity {
+        private int fooBar = -1;
+        private Long amount;
+        private String name;
+        private BigDecimal price;
+        private boolean flag;
+
+        public void setFooBar(int fooBar) {
+            this.fooBar = fooBar;
+        }
+
+        public void setAmount(Long amount) {
+            this.amount = amount;
+        }
+
+        public TestEntity setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+
+        public void setFlag(boolean flag) {
+            this.flag = flag;
+        }
+    }
+
+    static class NoConstructorEntity {
+        NoConstructorEntity(int value) {
+            // do nothing
+        }
+    }
+
+    @Test
+    void testConvert() throws Exception {
+        var nameList = List.of("foo_bar", "AMOUNT", "unknown", "name", "price", "flag");
+        var typeList = List.of(TgDataType.INT, TgDataType.LONG, TgDataType.INT, TgDataType.STRING, TgDataType.DECIMAL, TgDataType.BOOLEAN);
+        var rowList = List.<List<Object>>of( //
+                Arrays.asList(123, 456L, 9, "abc", BigDecimal.valueOf(12.3), true), //
+                Arrays.asList(null, null, null, null, null, null));
+        var lowResultSet = new IceaxeResultSetTestMock(nameList, typeList, rowList);
+        var record = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE) {
+        };
+
+        var target = TgCompiledEntityResultMapping.of(TestEntity.class);
+        assertEquals(TestEntity.class, target.getEntityClass());
+
+        lowResultSet.nextRow();
+        var entity1 = target.convert(record);
+        assertEquals(123, entity1.fooBar);
+        assertEquals(456L, entity1.amount);
+        assertEquals("abc", entity1.name);
+        assertEquals(BigDecimal.valueOf(12.3), entity1.price);
+        assertEquals(true, entity1.flag);
+
+        lowResultSet.nextRow();
+        var record2 = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE) {
+        };
+        var entity2 = target.convert(record2);
+        assertEquals(-1, entity2.fooBar);
+        assertNull(entity2.amount);
+        assertNull(entity2.name);
+        assertNull(entity2.price);
+        assertEquals(false, entity2.flag);
+    }
+
+    static class OverloadEntity {
+        private Object value;
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public void setValue(int value) {
+            this.value = value;
+        }
+    }
+
+    @Test
+    void testConvertLayout() throws Exception {
+        var lowResultSet1 = new IceaxeResultSetTestMock(List.of("name", "foo_bar"), List.of(TgDataType.STRING, TgDataType.INT), List.of(List.of("abc", 1), List.of("def", 2)));
+        var record1 = new TsurugiResultRecord(null, lowResultSet1, IceaxeConvertUtil.INSTANCE) {
+        };
+        var lowResultSet2 = new IceaxeResultSetTestMock(List.of("foo_bar", "amount"), List.of(TgDataType.INT, TgDataType.LONG), List.of(List.of(10, 100L), List.of(20, 200L)));
+        var record2 = new TsurugiResultRecord(null, lowResultSet2, IceaxeConvertUtil.INSTANCE) {
+        };
+        var lowResultSet3 = new IceaxeResultSetTestMock(List.of("name", "foo_bar"), List.of(TgDataType.STRING, TgDataType.INT), List.of(List.of("ghi", 3)));
+        var record3 = new TsurugiResultRecord(null, lowResultSet3, IceaxeConvertUtil.INSTANCE) {
+        };
+
+        var target = TgCompiledEntityResultMapping.of(TestEntity.class);
+
+        // records of different layouts are converted alternately
+        lowResultSet1.nextRow();
+        lowResultSet2.nextRow();
+        var entity1 = target.convert(record1);
+        var entity2 = target.convert(record2);
+        assertEquals("abc", entity1.name);
+        assertEquals(1, entity1.fooBar);
+        assertNull(entity1.amount);
+        assertNull(entity2.name);
+        assertEquals(10, entity2.fooBar);
+        assertEquals(100L, entity2.amount);
+
+        // new records of the same layouts
+        lowResultSet1.nextRow();
+        lowResultSet2.nextRow();
+        var record1b = new TsurugiResultRecord(null, lowResultSet1, IceaxeConvertUtil.INSTANCE) {
+        };
+        var record2b = new TsurugiResultRecord(null, lowResultSet2, IceaxeConvertUtil.INSTANCE) {
+        };
+        assertEquals(2, target.convert(record1b).fooBar);
+        assertEquals(200L, target.convert(record2b).amount);
+
+        lowResultSet3.nextRow();
+        var entity3 = target.convert(record3);
+        assertEquals("ghi", entity3.name);
+        assertEquals(3, entity3.fooBar);
+    }
+
+    @Test
+    void testConvertOverload() throws Exception {
+        var target = TgCompiledEntityResultMapping.of(OverloadEntity.class);
+        {
+            var lowResultSet = new IceaxeResultSetTestMock(List.of("value"), List.of(TgDataType.STRING), List.of(List.of("abc")));
+            var record = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE) {
+            };
+            lowResultSet.nextRow();
+            assertEquals("abc", target.convert(record).value);
+        }
+        {
+            var lowResultSet = new IceaxeResultSetTestMock(List.of("value"), List.of(TgDataType.INT), List.of(List.of(123)));
+            var record = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE) {
+            };
+            lowResultSet.nextRow();
+            assertEquals(123, target.convert(record).value);
+        }
+        {
+            var lowResultSet = new IceaxeResultSetTestMock(List.of("value"), List.of(TgDataType.LONG), List.of(List.of(123L)));
+            var record = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE) {
+            };
+            lowResultSet.nextRow();
+            var e = assertThrows(IllegalArgumentException.class, () -> target.convert(record));
+            assertTrue(e.getMessage().startsWith("ambiguous setter. column=value, type=LONG"), e.getMessage());
+        }
+    }
+
+    static class ZonedEntity {
+        private ZonedDateTime zoned;
+        private OffsetTime time;
+
+        public void setZoned(ZonedDateTime zoned) {
+            this.zoned = zoned;
+        }
+
+        public void setTime(OffsetTime time) {
+            this.time = time;
+        }
+    }
+
+    @Test
+    void testConvertZonedDateTime() throws Exception {
+        var value = OffsetDateTime.of(2023, 4, 5, 6, 7, 8, 0, ZoneOffset.ofHours(9));
+        var time = OffsetTime.of(6, 7, 8, 0, ZoneOffset.ofHours(9));
+        var lowResultSet = new IceaxeResultSetTestMock(List.of("zoned", "time"), List.of(TgDataType.OFFSET_DATE_TIME, TgDataType.OFFSET_TIME), //
+                List.of(List.of(value, time), Arrays.asList(null, null)));
+        var target = TgCompiledEntityResultMapping.of(ZonedEntity.class);
+
+        lowResultSet.nextRow();
+        var entity1 = target.convert(new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE) {
+        });
+        assertEquals(value.atZoneSameInstant(ZoneId.systemDefault()), entity1.zoned);
+        assertEquals(time, entity1.time);
+
+        lowResultSet.nextRow();
+        var entity2 = target.convert(new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE) {
+        });
+        assertNull(entity2.zoned);
+        assertNull(entity2.time);
+    }
+
+    static class UnsupportedEntity {
+        public void setValue(StringBuilder value) {
+            // do nothing
+        }
+
+        public void setOther(StringBuilder other) {
+            // do nothing
+        }
+    }
+
+    @Test
+    void testConvertUnsupportedSetter() throws Exception {
+        var target = TgCompiledEntityResultMapping.of(UnsupportedEntity.class);
+
+        var lowResultSet = new IceaxeResultSetTestMock(List.of("value"), List.of(TgDataType.STRING), List.of(List.of("abc")));
+        lowResultSet.nextRow();
+        var record = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE) {
+        };
+        var e = assertThrows(IllegalArgumentException.class, () -> target.convert(record));
+        assertTrue(e.getMessage().startsWith("unsupported setter type. column=value"), e.getMessage());
+    }
+
+    @Test
+    void testOfNoConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> TgCompiledEntityResultMapping.of(NoConstructorEntity.class));
+    }
+}
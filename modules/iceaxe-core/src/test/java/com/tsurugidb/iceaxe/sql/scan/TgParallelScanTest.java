@@ -0,0 +1,259 @@
+package com.tsurugidb.iceaxe.sql.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.exception.IceaxeServerExceptionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock.FutureResponseTestMock;
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.result.IceaxeResultSetTestMock;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOptionSupplier;
+import com.tsurugidb.iceaxe.transaction.manager.retry.TgTmRetryInstruction;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+class TgParallelScanTest {
+
+    private static final String SQL = "select id from test where {range} order by id";
+
+    private static List<Long> range(long start, long end) {
+        return LongStream.range(start, end).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * result of the partition (rows of [0, size) in the range of the parameters).
+     */
+    private static FutureResponse<ResultSet> partitionResult(long size, Collection<? extends Parameter> parameters) {
+        long lower = 0;
+        long upper = size;
+        for (var parameter : parameters) {
+            if (parameter.getName().equals("id_lower")) {
+                lower = parameter.getInt8Value();
+            } else if (parameter.getName().equals("id_upper")) {
+                upper = parameter.getInt8Value();
+            }
+        }
+        var rowList = new ArrayList<List<Object>>();
+        for (long id = lower; id < upper; id++) {
+            rowList.add(List.of(id));
+        }
+        return FutureResponseTestMock.of(new IceaxeResultSetTestMock(List.of("id"), List.of(TgDataType.LONG), rowList));
+    }
+
+    private static List<TsurugiSession> createSessions(int count, BiFunction<String, Collection<? extends Parameter>, FutureResponse<ResultSet>> result) {
+        var list = new ArrayList<TsurugiSession>(count);
+        for (int i = 0; i < count; i++) {
+            var session = new TsurugiSessionTestMock();
+            session.setPreparedQueryResult(result);
+            list.add(session);
+        }
+        return list;
+    }
+
+    private static void closeSessions(List<TsurugiSession> sessionList) throws IOException, InterruptedException {
+        for (var session : sessionList) {
+            session.close();
+        }
+    }
+
+    private static int countQuery(List<TsurugiSession> sessionList) {
+        int count = 0;
+        for (var session : sessionList) {
+            count += ((TsurugiSessionTestMock) session).getLowCallList().stream().filter(call -> call.startsWith("executeQuery:")).count();
+        }
+        return count;
+    }
+
+    private static TgParallelScan<Long, Long> createScan() {
+        return TgParallelScan.of(SQL, TgBindVariable.ofLong("id"), TgResultMapping.of(record -> record.getLong(0)));
+    }
+
+    @Test
+    void scanOrdered() throws Exception {
+        var sessionList = createSessions(3, (sql, parameters) -> {
+            if (!sql.contains(":id_lower")) {
+                // the first partition is the slowest
+                return new FutureResponseTestMock<>(() -> {
+                    Thread.sleep(50);
+                    return partitionResult(100, parameters).get();
+                });
+            }
+            return partitionResult(100, parameters);
+        });
+        try {
+            var scan = createScan().bounds(List.of(25L, 50L, 75L)).ordered(true).buffer(7, 2);
+            var list = new ArrayList<Long>();
+            var result = scan.scan(sessionList, list::add);
+            assertEquals(range(0, 100), list);
+            assertEquals(100, result.getRowCount());
+            assertEquals(4, countQuery(sessionList));
+        } finally {
+            closeSessions(sessionList);
+        }
+    }
+
+    @Test
+    void scanUnordered() throws Exception {
+        var sessionList = createSessions(2, (sql, parameters) -> partitionResult(100, parameters));
+        try {
+            var scan = createScan().bounds(List.of(10L, 20L, 30L, 60L)).buffer(3, 1);
+            var list = Collections.synchronizedList(new ArrayList<Long>());
+            scan.scan(sessionList, list::add);
+            var sorted = new ArrayList<>(list);
+            Collections.sort(sorted);
+            assertEquals(range(0, 100), sorted);
+        } finally {
+            closeSessions(sessionList);
+        }
+    }
+
+    @Test
+    void workerFailure() throws Exception {
+        var sessionList = createSessions(2, (sql, parameters) -> {
+            for (var parameter : parameters) {
+                if (parameter.getName().equals("id_lower") && parameter.getInt8Value() == 50) {
+                    return new FutureResponseTestMock<>(() -> {
+                        throw new IceaxeServerExceptionTestMock("test", 123);
+                    });
+                }
+            }
+            return partitionResult(100, parameters);
+        });
+        try {
+            var scan = createScan().bounds(List.of(25L, 50L, 75L)).ordered(true).buffer(5, 1);
+            var list = new ArrayList<Long>();
+            assertThrows(IOException.class, () -> scan.scan(sessionList, list::add));
+            assertTrue(list.size() <= 50, "size=" + list.size());
+        } finally {
+            closeSessions(sessionList);
+        }
+    }
+
+    @Test
+    void consumerFailure() throws Exception {
+        var sessionList = createSessions(2, (sql, parameters) -> partitionResult(1000, parameters));
+        try {
+            var bounds = new ArrayList<Long>();
+            for (long i = 10; i < 1000; i += 10) {
+                bounds.add(i);
+            }
+            var scan = createScan().bounds(bounds).buffer(1, 1);
+            var count = new AtomicInteger();
+            var e = assertThrows(IllegalStateException.class, () -> scan.scan(sessionList, row -> {
+                if (count.incrementAndGet() == 5) {
+                    throw new IllegalStateException("consumer error");
+                }
+            }));
+            assertEquals("consumer error", e.getMessage());
+
+            // the workers are cancelled without scanning the remaining partitions
+            int queryCount = countQuery(sessionList);
+            assertTrue(queryCount < bounds.size() + 1, "queryCount=" + queryCount);
+        } finally {
+            closeSessions(sessionList);
+        }
+    }
+
+    @Test
+    void retryBeforeSend() throws Exception {
+        var attempt = new AtomicInteger();
+        var sessionList = createSessions(1, (sql, parameters) -> {
+            if (attempt.incrementAndGet() == 1) {
+                return new FutureResponseTestMock<>(() -> {
+                    throw new IceaxeServerExceptionTestMock("test", 123);
+                });
+            }
+            return partitionResult(10, parameters);
+        });
+        try {
+            var scan = createScan().tmSetting(retrySetting()).buffer(3, 10);
+            var list = new ArrayList<Long>();
+            scan.scan(sessionList, list::add);
+            assertEquals(range(0, 10), list);
+            assertEquals(2, attempt.get());
+        } finally {
+            closeSessions(sessionList);
+        }
+    }
+
+    @Test
+    void retryAfterSend() throws Exception {
+        var sessionList = createSessions(1, (sql, parameters) -> partitionResult(10, parameters));
+        var commitCount = new AtomicInteger();
+        ((TsurugiSessionTestMock) sessionList.get(0)).setCommitResult(tx -> new FutureResponseTestMock<>(() -> {
+            if (commitCount.incrementAndGet() == 1) {
+                throw new IceaxeServerExceptionTestMock("test", 123);
+            }
+            return null;
+        }));
+        try {
+            var scan = createScan().tmSetting(retrySetting()).buffer(3, 10);
+            var list = new ArrayList<Long>();
+            var e = assertThrows(IllegalStateException.class, () -> scan.scan(sessionList, list::add));
+            assertTrue(e.getMessage().startsWith("partition retried"), e.getMessage());
+            // the rows are not passed twice
+            assertTrue(list.size() <= 10, "size=" + list.size());
+            assertEquals(1, countQuery(sessionList));
+        } finally {
+            closeSessions(sessionList);
+        }
+    }
+
+    private static TgTmSetting retrySetting() {
+        var supplier = TgTmTxOptionSupplier.ofAlways(TgTxOption.ofRTX(), 3);
+        supplier.setRetryPredicate((transaction, exception) -> TgTmRetryInstruction.ofRetryable("test"));
+        return TgTmSetting.of(supplier);
+    }
+
+    @Test
+    void splitPoints() {
+        assertEquals(List.of(), TgParallelScan.splitPoints(1, 100, 1));
+        assertEquals(List.of(26L, 51L, 76L), TgParallelScan.splitPoints(1, 100, 4));
+        assertEquals(List.of(-5L, 0L, 5L), TgParallelScan.splitPoints(-10, 9, 4));
+        assertEquals(List.of(1L, 2L), TgParallelScan.splitPoints(0, 2, 8));
+        assertEquals(List.of(), TgParallelScan.splitPoints(5, 5, 4));
+        assertEquals(List.of(0L), TgParallelScan.splitPoints(Long.MIN_VALUE, Long.MAX_VALUE, 2));
+    }
+
+    @Test
+    void expandSql() {
+        var template = "select * from foo where {range} order by id";
+        var lower = TgBindVariable.ofLong("id_lower");
+        var upper = TgBindVariable.ofLong("id_upper");
+        assertEquals("select * from foo where (id >= :id_lower and id < :id_upper) order by id", TgParallelScan.expandSql(template, "id", lower, upper));
+        assertEquals("select * from foo where id >= :id_lower order by id", TgParallelScan.expandSql(template, "id", lower, null));
+        assertEquals("select * from foo where id < :id_upper order by id", TgParallelScan.expandSql(template, "id", null, upper));
+        assertEquals("select * from foo where id is not null order by id", TgParallelScan.expandSql(template, "id", null, null));
+    }
+
+    @Test
+    void settings() {
+        assertThrows(IllegalArgumentException.class, () -> TgParallelScan.of("select * from foo", TgBindVariable.ofLong("id")));
+
+        var scan = TgParallelScan.of("select * from foo where {range}", TgBindVariable.ofString("name"));
+        assertThrows(IllegalStateException.class, () -> scan.sample("foo", 4));
+        assertThrows(IllegalArgumentException.class, () -> scan.sessions(0));
+        assertThrows(IllegalArgumentException.class, () -> scan.buffer(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> scan.buffer(1, 0));
+    }
+}
@@ -0,0 +1,245 @@
+package com.tsurugidb.iceaxe.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.exception.IceaxeServerExceptionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock.FutureResponseTestMock;
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.result.IceaxeResultSetTestMock;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction.TgTxMethod;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+
+class TsurugiTransactionAsyncTest {
+
+    private static final String SQL = "update test set foo = 1";
+    private static final String QUERY_SQL = "select foo from test";
+
+    /**
+     * ResultSet which blocks before reading the row.
+     */
+    private static class BlockingResultSet extends IceaxeResultSetTestMock {
+        private final int blockRow;
+        private final CountDownLatch reached;
+        private final CountDownLatch release;
+        private int readCount = 0;
+
+        BlockingResultSet(int size, int blockRow, CountDownLatch reached, CountDownLatch release) {
+            super(List.of("foo"), List.of(TgDataType.INT), createRowList(size));
+            this.blockRow = blockRow;
+            this.reached = reached;
+            this.release = release;
+        }
+
+        private static List<List<Object>> createRowList(int size) {
+            var list = new ArrayList<List<Object>>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(List.of(i));
+            }
+            return list;
+        }
+
+        @Override
+        public boolean nextRow() throws IOException, ServerException, InterruptedException {
+            if (readCount++ == blockRow) {
+                reached.countDown();
+                release.await();
+            }
+            return super.nextRow();
+        }
+    }
+
+    @Test
+    void executeStatementAsync() throws Exception {
+        var threadName = new AtomicReference<String>();
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setStatementResult(sql -> new FutureResponseTestMock<>(() -> {
+                threadName.set(Thread.currentThread().getName());
+                return null;
+            }));
+            var ps = session.createStatement(SQL);
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var future = transaction.executeStatementAsync(ps);
+                assertEquals(-1, future.get(10, TimeUnit.SECONDS));
+            }
+        }
+        assertTrue(threadName.get().startsWith("iceaxe-async-"), threadName.get());
+    }
+
+    @Test
+    void executeStatementAsyncExecutor() throws Exception {
+        var service = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "test-executor"));
+        var threadName = new AtomicReference<String>();
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setAsyncExecutor(service);
+            session.setStatementResult(sql -> new FutureResponseTestMock<>(() -> {
+                threadName.set(Thread.currentThread().getName());
+                return null;
+            }));
+            var ps = session.createStatement(SQL);
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                transaction.executeStatementAsync(ps).get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            service.shutdownNow();
+        }
+        assertEquals("test-executor", threadName.get());
+    }
+
+    @Test
+    void executeStatementAsyncError() throws Exception {
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setStatementResult(sql -> new FutureResponseTestMock<>(() -> {
+                throw new IceaxeServerExceptionTestMock("test", 123);
+            }));
+            var ps = session.createStatement(SQL);
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var future = transaction.executeStatementAsync(ps);
+                var e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+                var cause = assertInstanceOf(TsurugiTransactionException.class, e.getCause());
+                assertEquals(TgTxMethod.EXECUTE_STATEMENT_ASYNC, cause.getTxMethod());
+                assertTrue(future.isCompletedExceptionally());
+            }
+        }
+    }
+
+    @Test
+    void commitAsyncAfterStatement() throws Exception {
+        var latch = new CountDownLatch(1);
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setStatementResult(sql -> new FutureResponseTestMock<>(() -> {
+                latch.await();
+                session.getLowCallList().add("executeStatement end");
+                return null;
+            }));
+            var ps = session.createStatement(SQL);
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var statementFuture = transaction.executeStatementAsync(ps);
+                var commitFuture = transaction.commitAsync(TgCommitType.DEFAULT);
+
+                Thread.sleep(50);
+                assertFalse(statementFuture.isDone());
+                assertFalse(commitFuture.isDone());
+                assertFalse(session.getLowCallList().contains("commit"));
+
+                latch.countDown();
+                commitFuture.get(10, TimeUnit.SECONDS);
+                assertEquals(-1, statementFuture.get(10, TimeUnit.SECONDS));
+                assertTrue(transaction.isCommitted());
+            }
+            assertEquals(List.of("executeStatement:" + SQL, "executeStatement end", "commit"), session.getLowCallList());
+        }
+    }
+
+    @Test
+    void commitWhileQueryAsync() throws Exception {
+        var reached = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var service = Executors.newSingleThreadExecutor();
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setQueryResult(sql -> FutureResponseTestMock.of(new BlockingResultSet(10, 5, reached, release)));
+            var ps = session.createQuery(QUERY_SQL, TgResultMapping.of(record -> record.getInt(0)));
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var queryFuture = transaction.executeQueryAsync(ps);
+                assertTrue(reached.await(10, TimeUnit.SECONDS));
+
+                // commit waits for the query which is reading the records
+                var commitFuture = service.submit(() -> {
+                    transaction.commit(TgCommitType.DEFAULT);
+                    return null;
+                });
+                Thread.sleep(50);
+                assertFalse(commitFuture.isDone());
+                assertFalse(session.getLowCallList().contains("commit"));
+
+                release.countDown();
+                commitFuture.get(10, TimeUnit.SECONDS);
+                assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), queryFuture.get(10, TimeUnit.SECONDS));
+                assertTrue(transaction.isCommitted());
+            }
+            assertEquals(List.of("executeQuery:" + QUERY_SQL, "commit"), session.getLowCallList());
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    @Test
+    void commitRunsQueuedAsync() throws Exception {
+        var block = new CountDownLatch(1);
+        var service = Executors.newSingleThreadExecutor();
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setAsyncExecutor(service);
+            service.execute(() -> {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            session.setQueryResult(sql -> FutureResponseTestMock.of(new BlockingResultSet(3, -1, null, null)));
+            var ps = session.createQuery(QUERY_SQL, TgResultMapping.of(record -> record.getInt(0)));
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var queryFuture = transaction.executeQueryAsync(ps);
+
+                // the executor is busy, so the query is executed by commit
+                transaction.commit(TgCommitType.DEFAULT);
+                assertEquals(List.of(0, 1, 2), queryFuture.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            block.countDown();
+            service.shutdownNow();
+        }
+    }
+
+    @Test
+    void commitAfterStatementAsyncError() throws Exception {
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setStatementResult(sql -> new FutureResponseTestMock<>(() -> {
+                throw new IceaxeServerExceptionTestMock("test", 123);
+            }));
+            var ps = session.createStatement(SQL);
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var future = transaction.executeStatementAsync(ps);
+                var e = assertThrows(TsurugiTransactionException.class, () -> transaction.commit(TgCommitType.DEFAULT));
+                assertEquals(TgTxMethod.EXECUTE_STATEMENT_ASYNC, e.getTxMethod());
+                assertFalse(transaction.isCommitted());
+                assertTrue(future.isCompletedExceptionally());
+            }
+            assertFalse(session.getLowCallList().contains("commit"));
+        }
+    }
+
+    @Test
+    void commitAsyncError() throws Exception {
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setCommitResult(tx -> new FutureResponseTestMock<>(() -> {
+                throw new IceaxeServerExceptionTestMock("test", 456);
+            }));
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var future = transaction.commitAsync(TgCommitType.DEFAULT);
+                var e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+                var cause = assertInstanceOf(TsurugiTransactionException.class, e.getCause());
+                assertEquals(TgTxMethod.COMMIT, cause.getTxMethod());
+                assertFalse(transaction.isCommitted());
+            }
+        }
+    }
+}
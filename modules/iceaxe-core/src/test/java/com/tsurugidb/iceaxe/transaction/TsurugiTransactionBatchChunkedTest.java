@@ -0,0 +1,165 @@
+package com.tsurugidb.iceaxe.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.exception.IceaxeServerExceptionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock.FutureResponseTestMock;
+import com.tsurugidb.iceaxe.sql.TsurugiSql;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TsurugiSqlResult;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction.TgTxMethod;
+import com.tsurugidb.iceaxe.transaction.event.TsurugiTransactionEventListener;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+class TsurugiTransactionBatchChunkedTest {
+
+    private static final String SQL = "insert into test values(:foo)";
+
+    private static class CountIterator implements Iterator<Integer> {
+        private final int size;
+        private int readCount = 0;
+
+        CountIterator(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return readCount < size;
+        }
+
+        @Override
+        public Integer next() {
+            return readCount++;
+        }
+    }
+
+    @Test
+    void chunk() throws Exception {
+        var parameterList = new ArrayList<Object>();
+        var endOccurred = new AtomicReference<Throwable>();
+        try (var session = new TsurugiSessionTestMock()) {
+            var ps = session.createPreparedStatementTestMock(SQL, TgParameterMapping.ofSingle("foo", int.class));
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                transaction.addEventListener(new TsurugiTransactionEventListener() {
+                    @Override
+                    public void executeStart(TsurugiTransaction transaction, TgTxMethod method, int iceaxeTxExecuteId, TsurugiSql ps, @Nullable Object parameter) {
+                        parameterList.add(parameter);
+                    }
+
+                    @Override
+                    public void executeEnd(TsurugiTransaction transaction, TgTxMethod method, int iceaxeTxExecuteId, TsurugiSql ps, @Nullable Object parameter, @Nullable TsurugiSqlResult result,
+                            @Nullable Throwable occurred) {
+                        parameterList.add(parameter);
+                        endOccurred.set(occurred);
+                    }
+                });
+
+                long count = transaction.executeBatchChunked(ps, IntStream.range(0, 25).boxed(), 10, 2);
+                assertEquals(-1, count); // the server does not report the row count of batch
+            }
+            assertEquals(List.of("batch:" + SQL + ":10", "batch:" + SQL + ":10", "batch:" + SQL + ":5"), session.getLowCallList());
+        }
+
+        assertEquals(2, parameterList.size());
+        assertSame(parameterList.get(0), parameterList.get(1));
+        var summary = assertInstanceOf(TgBatchChunkSummary.class, parameterList.get(0));
+        assertEquals(10, summary.getChunkSize());
+        assertEquals(2, summary.getMaxPendingChunks());
+        assertEquals(3, summary.getChunkCount());
+        assertEquals(25, summary.getParameterCount());
+        assertEquals(null, endOccurred.get());
+    }
+
+    @Test
+    void pendingChunks() throws Exception {
+        int maxPendingChunks = 3;
+        var sendCount = new AtomicInteger();
+        var completeCount = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setBatchResult(parameterTable -> {
+                int inFlight = sendCount.incrementAndGet() - completeCount.get();
+                maxInFlight.accumulateAndGet(inFlight, Math::max);
+                return new FutureResponseTestMock<>(() -> {
+                    completeCount.incrementAndGet();
+                    return null;
+                });
+            });
+            var ps = session.createPreparedStatementTestMock(SQL, TgParameterMapping.ofSingle("foo", int.class));
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var parameters = new CountIterator(100);
+                transaction.executeBatchChunked(ps, parameters, 7, maxPendingChunks);
+                assertEquals(100, parameters.readCount);
+            }
+        }
+        assertEquals(15, sendCount.get());
+        assertEquals(15, completeCount.get());
+        assertEquals(maxPendingChunks, maxInFlight.get());
+    }
+
+    @Test
+    void chunkError() throws Exception {
+        var sendCount = new AtomicInteger();
+        var endOccurred = new AtomicReference<Throwable>();
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setBatchResult(parameterTable -> {
+                int n = sendCount.incrementAndGet();
+                return new FutureResponseTestMock<>(() -> {
+                    if (n == 2) {
+                        throw new IceaxeServerExceptionTestMock("test", 123);
+                    }
+                    return null;
+                });
+            });
+            var ps = session.createPreparedStatementTestMock(SQL, TgParameterMapping.ofSingle("foo", int.class));
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                transaction.addEventListener(new TsurugiTransactionEventListener() {
+                    @Override
+                    public void executeEnd(TsurugiTransaction transaction, TgTxMethod method, int iceaxeTxExecuteId, TsurugiSql ps, @Nullable Object parameter, @Nullable TsurugiSqlResult result,
+                            @Nullable Throwable occurred) {
+                        endOccurred.set(occurred);
+                    }
+                });
+
+                var parameters = new CountIterator(100);
+                var e = assertThrows(TsurugiTransactionException.class, () -> transaction.executeBatchChunked(ps, parameters, 10, 2));
+                assertEquals(TgTxMethod.EXECUTE_BATCH_CHUNKED, e.getTxMethod());
+                assertSame(e, endOccurred.get());
+
+                // the parameters are not read after the failed chunk
+                assertEquals(40, parameters.readCount);
+                assertEquals(3, sendCount.get());
+            }
+        }
+    }
+
+    @Test
+    void illegalArgument() throws Exception {
+        try (var session = new TsurugiSessionTestMock()) {
+            var ps = session.createPreparedStatementTestMock(SQL, TgParameterMapping.ofSingle("foo", int.class));
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                assertThrows(IllegalArgumentException.class, () -> transaction.executeBatchChunked(ps, new CountIterator(1), 0, 1));
+                assertThrows(IllegalArgumentException.class, () -> transaction.executeBatchChunked(ps, new CountIterator(1), 1, 0));
+            }
+            assertTrue(session.getLowCallList().isEmpty());
+        }
+    }
+}
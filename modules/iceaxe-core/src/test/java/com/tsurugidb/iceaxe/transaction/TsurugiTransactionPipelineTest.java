@@ -0,0 +1,196 @@
+package com.tsurugidb.iceaxe.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.exception.IceaxeServerExceptionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock;
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock.FutureResponseTestMock;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction.TgTxMethod;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransactionPipeline.TgPipelineResult;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+class TsurugiTransactionPipelineTest {
+
+    private static final String SQL1 = "update test set foo = 1";
+    private static final String SQL2 = "update test set foo = 2";
+
+    @Test
+    void testResult() throws Exception {
+        var count = new AtomicInteger(0);
+        var target = new TgPipelineResult<>(1, () -> count.incrementAndGet());
+        assertEquals(1, target.getIceaxeTxExecuteId());
+        assertFalse(target.isDone());
+
+        assertEquals(1, target.get());
+        assertTrue(target.isDone());
+        assertEquals(1, target.get());
+        assertEquals(1, count.get());
+        assertNull(target.getException());
+    }
+
+    @Test
+    void testResultError() throws Exception {
+        var count = new AtomicInteger(0);
+        var target = new TgPipelineResult<Integer>(2, () -> {
+            count.incrementAndGet();
+            throw new IOException("test");
+        });
+
+        var e1 = assertThrows(IOException.class, () -> target.get());
+        assertEquals("test", e1.getMessage());
+        assertTrue(target.isDone());
+        assertSame(e1, target.getException());
+
+        var e2 = assertThrows(IOException.class, () -> target.get());
+        assertSame(e1, e2);
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void testExecute() throws Exception {
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setStatementResult(sql -> new FutureResponseTestMock<>(() -> {
+                session.getLowCallList().add("end:" + sql);
+                return null;
+            }));
+            var ps1 = session.createStatement(SQL1);
+            var ps2 = session.createStatement(SQL2);
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                try (var pipeline = transaction.createPipeline()) {
+                    var result1 = pipeline.executeStatement(ps1);
+                    var result2 = pipeline.executeStatement(ps2);
+                    assertEquals(2, pipeline.getPendingSize());
+                    // sent without waiting for the result of the previous one
+                    assertEquals(List.of("executeStatement:" + SQL1, "executeStatement:" + SQL2), session.getLowCallList());
+
+                    pipeline.await();
+                    assertEquals(0, pipeline.getPendingSize());
+                    assertTrue(result1.isDone());
+                    assertTrue(result2.isDone());
+                    assertEquals(-1, result1.get());
+                }
+            }
+            assertEquals(List.of("executeStatement:" + SQL1, "executeStatement:" + SQL2, "end:" + SQL1, "end:" + SQL2), session.getLowCallList());
+        }
+    }
+
+    @Test
+    void testAwaitOnCommit() throws Exception {
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setStatementResult(sql -> new FutureResponseTestMock<>(() -> {
+                session.getLowCallList().add("end:" + sql);
+                return null;
+            }));
+            var ps1 = session.createStatement(SQL1);
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var pipeline = transaction.createPipeline();
+                var result1 = pipeline.executeStatement(ps1);
+                assertFalse(result1.isDone());
+
+                transaction.commit(TgCommitType.DEFAULT);
+                assertTrue(result1.isDone());
+                assertTrue(transaction.isCommitted());
+                pipeline.close();
+            }
+            assertEquals(List.of("executeStatement:" + SQL1, "end:" + SQL1, "commit"), session.getLowCallList());
+        }
+    }
+
+    @Test
+    void testAwaitOnCommitAsync() throws Exception {
+        var latch = new CountDownLatch(1);
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setStatementResult(sql -> new FutureResponseTestMock<>(() -> {
+                latch.await();
+                session.getLowCallList().add("end:" + sql);
+                return null;
+            }));
+            var ps1 = session.createStatement(SQL1);
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var pipeline = transaction.createPipeline();
+                var result1 = pipeline.executeStatement(ps1);
+
+                // the pending result is resolved by the thread of commitAsync
+                var future = transaction.commitAsync(TgCommitType.DEFAULT);
+                Thread.sleep(50);
+                assertFalse(future.isDone());
+                assertFalse(result1.isDone());
+
+                latch.countDown();
+                future.get(10, TimeUnit.SECONDS);
+                assertTrue(result1.isDone());
+                assertEquals(-1, result1.get());
+                assertEquals(0, pipeline.getPendingSize());
+                pipeline.close();
+            }
+            assertEquals(List.of("executeStatement:" + SQL1, "end:" + SQL1, "commit"), session.getLowCallList());
+        }
+    }
+
+    @Test
+    void testCommitError() throws Exception {
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setStatementResult(sql -> new FutureResponseTestMock<>(() -> {
+                if (sql.equals(SQL1)) {
+                    throw new IceaxeServerExceptionTestMock("test", 123);
+                }
+                return null;
+            }));
+            var ps1 = session.createStatement(SQL1);
+            var ps2 = session.createStatement(SQL2);
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var pipeline = transaction.createPipeline();
+                var result1 = pipeline.executeStatement(ps1);
+                var result2 = pipeline.executeStatement(ps2);
+
+                var e = assertThrows(TsurugiTransactionException.class, () -> transaction.commit(TgCommitType.DEFAULT));
+                assertEquals(TgTxMethod.EXECUTE_PIPELINE, e.getTxMethod());
+                assertEquals(result1.getIceaxeTxExecuteId(), e.getIceaxeTxExecuteId());
+                assertSame(e, result1.getException());
+                // the following result is resolved even if the previous one fails
+                assertTrue(result2.isDone());
+                assertNull(result2.getException());
+                assertFalse(transaction.isCommitted());
+                pipeline.close();
+            }
+            assertFalse(session.getLowCallList().contains("commit"));
+        }
+    }
+
+    @Test
+    void testCommitAsyncError() throws Exception {
+        try (var session = new TsurugiSessionTestMock()) {
+            session.setStatementResult(sql -> new FutureResponseTestMock<>(() -> {
+                throw new IceaxeServerExceptionTestMock("test", 123);
+            }));
+            var ps1 = session.createStatement(SQL1);
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var pipeline = transaction.createPipeline();
+                pipeline.executeStatement(ps1);
+
+                var future = transaction.commitAsync(TgCommitType.DEFAULT);
+                var e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+                var cause = assertInstanceOf(TsurugiTransactionException.class, e.getCause());
+                assertEquals(TgTxMethod.EXECUTE_PIPELINE, cause.getTxMethod());
+                pipeline.close();
+            }
+            assertFalse(session.getLowCallList().contains("commit"));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.tsurugidb.iceaxe.transaction.manager.event.counter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TgTmHistogramTest {
+
+    @Test
+    void bucketIndex() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = TgTmHistogram.bucketIndex(value);
+            assertTrue(TgTmHistogram.bucketLowerBound(index) <= value, "value=" + value);
+            assertTrue(value <= TgTmHistogram.bucketUpperBound(index), "value=" + value);
+        }
+        for (int i = 0; i < 16; i++) {
+            assertEquals(i, TgTmHistogram.bucketIndex(i));
+        }
+        assertEquals(0, TgTmHistogram.bucketIndex(-1));
+
+        int last = TgTmHistogram.bucketIndex(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, TgTmHistogram.bucketUpperBound(last));
+        assertEquals(last, TgTmHistogram.bucketIndex(TgTmHistogram.bucketLowerBound(last)));
+    }
+
+    @Test
+    void empty() {
+        var snapshot = new TgTmHistogram().snapshot();
+        assertEquals(0, snapshot.count());
+        assertEquals(0, snapshot.sum());
+        assertEquals(0, snapshot.max());
+        assertEquals(0.0, snapshot.mean());
+        assertEquals(0, snapshot.valueAtPercentile(50));
+    }
+
+    @Test
+    void valueAtPercentile() {
+        var histogram = new TgTmHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        var snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count());
+        assertEquals(500500 * 1000L, snapshot.sum());
+        assertEquals(1000_000, snapshot.max());
+        assertPercentile(500_000, snapshot.valueAtPercentile(50));
+        assertPercentile(990_000, snapshot.valueAtPercentile(99));
+        assertPercentile(999_000, snapshot.valueAtPercentile(99.9));
+        assertEquals(1000_000, snapshot.valueAtPercentile(100));
+        assertPercentile(1000, snapshot.valueAtPercentile(0));
+
+        assertThrows(IllegalArgumentException.class, () -> snapshot.valueAtPercentile(101));
+    }
+
+    private static void assertPercentile(long expected, long actual) {
+        assertTrue(expected <= actual && actual <= expected + expected / 16, "expected=" + expected + ", actual=" + actual);
+    }
+
+    @Test
+    void snapshotAndReset() {
+        var histogram = new TgTmHistogram();
+        histogram.record(10);
+        histogram.record(20);
+
+        var snapshot1 = histogram.snapshotAndReset();
+        assertEquals(2, snapshot1.count());
+        assertEquals(30, snapshot1.sum());
+        assertEquals(20, snapshot1.max());
+
+        histogram.record(5);
+        var snapshot2 = histogram.snapshot();
+        assertEquals(1, snapshot2.count());
+        assertEquals(5, snapshot2.sum());
+        assertEquals(5, snapshot2.max());
+    }
+}
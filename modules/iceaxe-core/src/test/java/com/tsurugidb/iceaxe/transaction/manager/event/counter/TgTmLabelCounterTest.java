@@ -0,0 +1,44 @@
+package com.tsurugidb.iceaxe.transaction.manager.event.counter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class TgTmLabelCounterTest {
+
+    @Test
+    void newTmCount() {
+        var target = new TgTmLabelCounter();
+        var count = target.getOrCreate("test");
+        assertInstanceOf(TgTmCountAdder.class, count);
+        assertSame(count, target.getOrCreate("test"));
+    }
+
+    static class TestCount extends TgTmCountAtomic {
+    }
+
+    @SuppressWarnings("deprecation")
+    static class AtomicLabelCounter extends TgTmLabelCounter {
+        @Override
+        protected TgTmCountAtomic newTmCountAtomic(String label) {
+            return new TestCount();
+        }
+    }
+
+    static class SubAtomicLabelCounter extends AtomicLabelCounter {
+    }
+
+    @Test
+    void newTmCountAtomicOverridden() {
+        var target = new AtomicLabelCounter();
+        var count = target.getOrCreate("test");
+        assertInstanceOf(TestCount.class, count);
+
+        count.incrementExecuteCount();
+        assertEquals(1, target.getCountMap().get("test").executeCount());
+
+        assertInstanceOf(TestCount.class, new SubAtomicLabelCounter().getOrCreate("test"));
+    }
+}
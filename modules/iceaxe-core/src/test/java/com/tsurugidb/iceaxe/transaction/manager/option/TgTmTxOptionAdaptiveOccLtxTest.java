@@ -0,0 +1,159 @@
+package com.tsurugidb.iceaxe.transaction.manager.option;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TsurugiSessionTestMock;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
+import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOptionAdaptiveOccLtx.TgTmTxOptionAdaptiveOccLtxExecuteInfo;
+import com.tsurugidb.iceaxe.transaction.manager.retry.TgTmRetryInstruction;
+import com.tsurugidb.iceaxe.transaction.manager.retry.TgTmRetryStandardCode;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+class TgTmTxOptionAdaptiveOccLtxTest {
+
+    private final TgTmRetryInstruction retry = TgTmRetryInstruction.of(TgTmRetryStandardCode.RETRYABLE, "test");
+
+    private static TgTmTxOptionAdaptiveOccLtx createTarget() {
+        return TgTmTxOptionAdaptiveOccLtx.of(TgTxOption.ofOCC(), 2, TgTxOption.ofLTX(), 2) //
+                .ltxThreshold(0.5).occThreshold(0.2).probeInterval(3).windowSize(10).minAttemptCount(4);
+    }
+
+    @Test
+    void label() {
+        var target = createTarget();
+        var info1 = (TgTmTxOptionAdaptiveOccLtxExecuteInfo) target.createExecuteInfo(1, "label1");
+        var info2 = (TgTmTxOptionAdaptiveOccLtxExecuteInfo) target.createExecuteInfo(2, "label1");
+        var info3 = (TgTmTxOptionAdaptiveOccLtxExecuteInfo) target.createExecuteInfo(3, "label2");
+        assertSame(info1.statistics, info2.statistics);
+        assertFalse(info1.statistics == info3.statistics);
+        assertEquals(2, target.getStatisticsMap().size());
+
+        var labeled = TgTmTxOptionAdaptiveOccLtx.of(TgTxOption.ofOCC().label("occ"), 2, TgTxOption.ofLTX(), 2);
+        labeled.createExecuteInfo(1, "setting");
+        assertTrue(labeled.getStatisticsMap().containsKey("occ"));
+    }
+
+    @Test
+    void adaptive() {
+        var target = createTarget();
+
+        // OCC aborts always
+        for (int i = 0; i < 2; i++) {
+            var info = target.createExecuteInfo(i, "test");
+            int a = 0;
+            assertEqualsOcc(target.computeFirstTmOption(info).getTransactionOption());
+            assertEqualsOcc(target.computeRetryTmOption(info, ++a, null, retry).getTransactionOption());
+            assertEqualsLtx(target.computeRetryTmOption(info, ++a, null, retry).getTransactionOption());
+        }
+        var statistics = target.getStatisticsMap().get("test");
+        assertTrue(statistics.isLtxMode());
+        assertEquals(1.0, statistics.getAbortRate());
+
+        // start with LTX, and probe OCC once per 3 executions
+        assertEqualsLtx(target.computeFirstTmOption(target.createExecuteInfo(10, "test")).getTransactionOption());
+        assertEqualsLtx(target.computeFirstTmOption(target.createExecuteInfo(11, "test")).getTransactionOption());
+        {
+            var info = target.createExecuteInfo(12, "test");
+            assertEqualsOcc(target.computeFirstTmOption(info).getTransactionOption());
+            int a = 0;
+            assertEqualsOcc(target.computeRetryTmOption(info, ++a, null, retry).getTransactionOption());
+            assertEqualsLtx(target.computeRetryTmOption(info, ++a, null, retry).getTransactionOption());
+            assertEqualsLtx(target.computeRetryTmOption(info, ++a, null, retry).getTransactionOption());
+            assertTrue(target.computeRetryTmOption(info, ++a, null, retry).isRetryOver());
+        }
+        assertEqualsLtx(target.computeFirstTmOption(target.createExecuteInfo(13, "test")).getTransactionOption());
+
+        // OCC succeeds
+        for (int i = 0; i < 40 && statistics.isLtxMode(); i++) {
+            statistics.recordOcc(false, target);
+        }
+        assertFalse(statistics.isLtxMode());
+        assertTrue(statistics.getAbortRate() < 0.2);
+        assertEqualsOcc(target.computeFirstTmOption(target.createExecuteInfo(20, "test")).getTransactionOption());
+    }
+
+    @Test
+    void minAttemptCountAfterDecay() {
+        var target = TgTmTxOptionAdaptiveOccLtx.of(TgTxOption.ofOCC(), 2, TgTxOption.ofLTX(), 2) //
+                .ltxThreshold(0.5).windowSize(2).minAttemptCount(3);
+        var statistics = target.getStatistics("test");
+
+        statistics.recordOcc(false, target);
+        statistics.recordOcc(false, target);
+        statistics.recordOcc(true, target);
+        assertFalse(statistics.isLtxMode());
+
+        // halved to 2 attempts (abort rate 0.5), which is less than minAttemptCount
+        statistics.recordOcc(true, target);
+        assertEquals(0.5, statistics.getAbortRate());
+        assertFalse(statistics.isLtxMode());
+
+        statistics.recordOcc(true, target);
+        assertTrue(statistics.isLtxMode());
+    }
+
+    @Test
+    void executeEndSuccess() throws IOException, InterruptedException {
+        executeEndSuccess(TgTxOption.ofOCC(), "setting", "setting");
+        executeEndSuccess(TgTxOption.ofOCC().label("occ"), "setting", "occ");
+        executeEndSuccess(TgTxOption.ofOCC(), null, "");
+    }
+
+    private void executeEndSuccess(TgTxOption occOption, String transactionLabel, String expectedLabel) throws IOException, InterruptedException {
+        var target = TgTmTxOptionAdaptiveOccLtx.of(occOption, 2, TgTxOption.ofLTX(), 2);
+        var setting = TgTmSetting.of(target).transactionLabel(transactionLabel);
+        setting.addEventListener(target);
+
+        // the abort and the success are recorded in the same statistics
+        var info = target.createExecuteInfo(1, transactionLabel);
+        target.computeRetryTmOption(info, 1, null, retry);
+        try (var session = new TsurugiSessionTestMock()) {
+            var tm = new TsurugiTransactionManager(session, setting);
+            tm.execute(transaction -> {
+            });
+        }
+        assertEquals(Set.of(expectedLabel), target.getStatisticsMap().keySet());
+        assertEquals(0.5, target.getStatisticsMap().get(expectedLabel).getAbortRate());
+    }
+
+    @Test
+    void threshold() {
+        var target = createTarget();
+        assertThrowsExactly(IllegalArgumentException.class, () -> target.ltxThreshold(1.1));
+        assertThrowsExactly(IllegalArgumentException.class, () -> target.ltxThreshold(Double.NaN));
+        assertThrowsExactly(IllegalArgumentException.class, () -> target.occThreshold(-0.1));
+        var e1 = assertThrowsExactly(IllegalArgumentException.class, () -> target.ltxThreshold(0.1));
+        assertEquals("ltxThreshold < occThreshold (ltxThreshold=0.1, occThreshold=0.2)", e1.getMessage());
+        var e2 = assertThrowsExactly(IllegalArgumentException.class, () -> target.occThreshold(0.6));
+        assertEquals("occThreshold > ltxThreshold (occThreshold=0.6, ltxThreshold=0.5)", e2.getMessage());
+
+        target.occThreshold(0).ltxThreshold(1);
+        target.occThreshold(1);
+    }
+
+    @Test
+    void setting() {
+        var setting = TgTmSetting.ofAdaptiveOccLtx(2, TgTxOption.ofLTX(), 2);
+        var supplier = setting.getTransactionOptionSupplier();
+        assertTrue(supplier instanceof TgTmTxOptionAdaptiveOccLtx);
+        assertTrue(setting.getEventListener().contains(supplier));
+    }
+
+    private static void assertEqualsOcc(TgTxOption actual) {
+        assertEquals("OCC", actual.typeName());
+    }
+
+    private static void assertEqualsLtx(TgTxOption actual) {
+        assertEquals("LTX", actual.typeName());
+    }
+}
@@ -0,0 +1,79 @@
+package com.tsurugidb.iceaxe.transaction.manager.option;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOptionLtx;
+
+class TgTmWritePreserveInferenceTest {
+
+    @Test
+    void findWriteTableName() {
+        assertEquals("test", TgTmWritePreserveInference.findWriteTableName("insert into test values(1)"));
+        assertEquals("test", TgTmWritePreserveInference.findWriteTableName("INSERT INTO test(foo) VALUES(:foo)"));
+        assertEquals("test", TgTmWritePreserveInference.findWriteTableName("insert or replace into test values(1)"));
+        assertEquals("test", TgTmWritePreserveInference.findWriteTableName("insert if not exists into test values(1)"));
+        assertEquals("test", TgTmWritePreserveInference.findWriteTableName(" update test set foo=1"));
+        assertEquals("test", TgTmWritePreserveInference.findWriteTableName("delete from test where foo=1"));
+        assertEquals("a\"b", TgTmWritePreserveInference.findWriteTableName("delete from \"a\"\"b\""));
+
+        assertNull(TgTmWritePreserveInference.findWriteTableName("select * from test"));
+        assertNull(TgTmWritePreserveInference.findWriteTableName("create table test(foo int)"));
+    }
+
+    @Test
+    void apply() {
+        var target = TgTmWritePreserveInference.of();
+        target.recordWrite("label1", "insert into test1 values(1)");
+        target.recordWrite("label1", "update test2 set foo=1");
+        target.recordWrite("label1", "select * from test3");
+        target.recordWrite("label2", "delete from test4");
+        assertEquals(Set.of("test1", "test2"), target.getWriteTables("label1"));
+        assertEquals(Set.of("test4"), target.getWriteTables("label2"));
+        assertEquals(Set.of(), target.getWriteTables("label3"));
+
+        var ltx = TgTxOption.ofLTX("test1").label("label1");
+        var actual = (TgTxOptionLtx) target.apply(ltx);
+        assertEquals(List.of("test1", "test2"), actual.writePreserve());
+        assertEquals(List.of("test1"), ltx.writePreserve());
+
+        var ltx2 = TgTxOption.ofLTX("test1", "test2").label("label1");
+        assertSame(ltx2, target.apply(ltx2));
+
+        var occ = TgTxOption.ofOCC().label("label1");
+        assertSame(occ, target.apply(occ));
+
+        target.clear();
+        assertEquals(Set.of(), target.getWriteTables("label1"));
+    }
+
+    @Test
+    void applyNotLearned() {
+        var target = TgTmWritePreserveInference.of();
+        assertFalse(target.isLearned("label1"));
+
+        // executed as OCC until the write tables are known
+        var ltx = TgTxOption.ofLTX().label("label1");
+        var actual = target.apply(ltx);
+        assertTrue(actual.isOCC());
+        assertEquals("label1", actual.label());
+
+        // the configured write preserve is used as is
+        var configured = TgTxOption.ofLTX("test1").label("label1");
+        assertSame(configured, target.apply(configured));
+
+        // written by the OCC attempt
+        target.recordWrite("label1", "insert into test2 values(1)");
+        assertTrue(target.isLearned("label1"));
+        assertEquals(List.of("test2"), ((TgTxOptionLtx) target.apply(ltx)).writePreserve());
+    }
+}
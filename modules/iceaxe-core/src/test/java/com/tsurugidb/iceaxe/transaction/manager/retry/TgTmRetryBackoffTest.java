@@ -0,0 +1,60 @@
+package com.tsurugidb.iceaxe.transaction.manager.retry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.util.TgTimeValue;
+
+class TgTmRetryBackoffTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void none() {
+        assertEquals(0, TgTmRetryBackoff.NONE.getDelayNanos(1, 0));
+        assertEquals(0, TgTmRetryBackoff.NONE.getDelayNanos(10, 123));
+    }
+
+    @Test
+    void ofFixed() {
+        var backoff = TgTmRetryBackoff.ofFixed(5, TimeUnit.MILLISECONDS);
+        assertEquals(5 * MS, backoff.getDelayNanos(1, 0));
+        assertEquals(5 * MS, backoff.getDelayNanos(3, 5 * MS));
+
+        assertThrows(IllegalArgumentException.class, () -> TgTmRetryBackoff.ofFixed(-1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void ofExponential() {
+        var backoff = TgTmRetryBackoff.ofExponential(TgTimeValue.of(1, TimeUnit.MILLISECONDS), TgTimeValue.of(10, TimeUnit.MILLISECONDS));
+        assertEquals(1 * MS, backoff.getDelayNanos(1, 0));
+        assertEquals(2 * MS, backoff.getDelayNanos(2, 0));
+        assertEquals(4 * MS, backoff.getDelayNanos(3, 0));
+        assertEquals(8 * MS, backoff.getDelayNanos(4, 0));
+        assertEquals(10 * MS, backoff.getDelayNanos(5, 0));
+        assertEquals(10 * MS, backoff.getDelayNanos(100, 0));
+    }
+
+    @Test
+    void ofDecorrelatedJitter() {
+        var backoff = TgTmRetryBackoff.ofDecorrelatedJitter(TgTimeValue.of(1, TimeUnit.MILLISECONDS), TgTimeValue.of(100, TimeUnit.MILLISECONDS));
+        long previous = 0;
+        for (int attempt = 1; attempt <= 100; attempt++) {
+            long delay = backoff.getDelayNanos(attempt, previous);
+            assertTrue(1 * MS <= delay && delay <= 100 * MS, "delay=" + delay);
+            assertTrue(delay <= Math.max(previous, 1 * MS) * 3, "delay=" + delay + ", previous=" + previous);
+            previous = delay;
+        }
+    }
+
+    @Test
+    void capped() {
+        var backoff = TgTmRetryBackoff.ofFixed(5, TimeUnit.MILLISECONDS).capped(TgTimeValue.of(3, TimeUnit.MILLISECONDS));
+        assertEquals(3 * MS, backoff.getDelayNanos(1, 0));
+    }
+}